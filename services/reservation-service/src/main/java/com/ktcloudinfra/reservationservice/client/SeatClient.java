@@ -12,6 +12,12 @@ public interface SeatClient {
     @GetMapping("/api/v1/seats")
     List<SeatDTO> getSeatsByTrain(@RequestParam Long trainId);
 
+    @GetMapping("/api/v1/seats/lookup")
+    SeatDTO getSeat(@RequestParam Long trainId, @RequestParam String seatNumber);
+
+    @GetMapping("/api/v1/seats/lookup/bulk")
+    List<SeatDTO> getSeats(@RequestParam Long trainId, @RequestParam List<String> seatNumbers);
+
     @PostMapping("/api/v1/seats/{seatId}/reserve")
     String reserveSeat(@PathVariable Long seatId);
 
@@ -0,0 +1,72 @@
+package com.ktcloudinfra.reservationservice.client;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ktcloudinfra.reservationservice.client.dto.TrainDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * train-service 열차 메타데이터(이름, 가격, 구간, 시각)의 인스턴스 로컬 캐시.
+ * 잔여 좌석 수는 TrainDTO에 포함하지 않으므로 캐시에서 오래된 값이 제공되지 않는다.
+ */
+@Component
+public class TrainCache {
+
+    public static final String CACHE_NAME = "trains";
+
+    private final LoadingCache<Long, TrainDTO> cache;
+
+    public TrainCache(TrainClient trainClient,
+                      MeterRegistry meterRegistry,
+                      @Value("${reservation.train-cache.maximum-size:10000}") long maximumSize,
+                      @Value("${reservation.train-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public TrainDTO load(Long trainId) {
+                        return trainClient.getTrain(trainId);
+                    }
+
+                    @Override
+                    public Map<Long, TrainDTO> loadAll(Set<? extends Long> trainIds) {
+                        return trainClient.getTrains(new ArrayList<>(trainIds)).stream()
+                                .collect(Collectors.toMap(TrainDTO::getId, Function.identity(), (a, b) -> a));
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 열차가 없으면 null (캐시하지 않음)
+    public TrainDTO getTrain(Long trainId) {
+        return cache.get(trainId);
+    }
+
+    // 캐시에 없는 열차만 일괄 조회, 존재하지 않는 열차는 결과에서 제외
+    public Map<Long, TrainDTO> getTrains(Collection<Long> trainIds) {
+        return cache.getAll(trainIds);
+    }
+
+    public void evict(Long trainId) {
+        cache.invalidate(trainId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -7,12 +7,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
+
 @FeignClient(name = "train-service", url = "${train-service.url}")
 public interface TrainClient {
 
     @GetMapping("/api/v1/trains/{trainId}")
     TrainDTO getTrain(@PathVariable Long trainId);
 
+    @GetMapping("/api/v1/trains/bulk")
+    List<TrainDTO> getTrains(@RequestParam List<Long> ids);
+
     @PutMapping("/api/v1/trains/{trainId}/seats")
     String updateAvailableSeats(@PathVariable Long trainId, @RequestParam int availableSeats);
 }
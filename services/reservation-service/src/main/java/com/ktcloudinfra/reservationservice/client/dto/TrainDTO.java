@@ -19,5 +19,4 @@ public class TrainDTO {
     private String departureStation;
     private LocalDateTime arrivalTime;
     private LocalDateTime departureTime;
-    private int availableSeats;
 }
@@ -0,0 +1,32 @@
+package com.ktcloudinfra.reservationservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class LookupExecutorConfig {
+
+    public static final String RESERVATION_LOOKUP_EXECUTOR = "reservationLookupExecutor";
+
+    @Bean(name = RESERVATION_LOOKUP_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService reservationLookupExecutor(
+            @Value("${reservation.lookup.pool-size:64}") int poolSize,
+            @Value("${reservation.lookup.queue-capacity:1024}") int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("reservation-lookup-"),
+                // 포화 시 요청 스레드에서 직접 실행 (순차 조회로 후퇴)
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ktcloudinfra.reservationservice.config;
 
+import org.springframework.amqp.core.AnonymousQueue;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
@@ -14,6 +15,12 @@ public class RabbitMQConfig {
     public static final String RESERVATION_EXCHANGE = "reservation.exchange";
     public static final String RESERVATION_REQUESTED_QUEUE = "reservation.requested.queue";
     public static final String RESERVATION_CANCELLED_QUEUE = "reservation.cancelled.queue";
+    public static final String RESERVATION_GROUP_REQUESTED_QUEUE = "reservation.group-requested.queue";
+    public static final String TRAIN_EXCHANGE = "train.exchange";
+    public static final String TRAIN_UPDATED_QUEUE = "reservation.train-updated.queue";
+    public static final String SEAT_EXCHANGE = "seat.exchange";
+    public static final String SEAT_RESERVED_QUEUE = "reservation.seat-reserved.queue";
+    public static final String SEAT_REJECTED_QUEUE = "reservation.seat-rejected.queue";
 
     @Bean
     public DirectExchange reservationExchange() {
@@ -42,6 +49,74 @@ public class RabbitMQConfig {
             .to(reservationExchange()).with("reservation.cancelled");
     }
 
+    @Bean
+    public Queue reservationGroupRequestedQueue() {
+        return new Queue(RESERVATION_GROUP_REQUESTED_QUEUE, true);
+    }
+
+    @Bean
+    public Binding groupRequestedBinding() {
+        return BindingBuilder.bind(reservationGroupRequestedQueue())
+            .to(reservationExchange()).with("reservation.group-requested");
+    }
+
+    @Bean
+    public DirectExchange trainExchange() {
+        return new DirectExchange(TRAIN_EXCHANGE);
+    }
+
+    // 예약 조회 프로젝션 갱신용 (인스턴스 간 공유)
+    @Bean
+    public Queue trainUpdatedQueue() {
+        return new Queue(TRAIN_UPDATED_QUEUE, true);
+    }
+
+    // 열차 캐시 무효화용 (인스턴스마다 하나씩)
+    @Bean
+    public AnonymousQueue trainCacheEvictionQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding trainUpdatedBinding() {
+        return BindingBuilder.bind(trainUpdatedQueue())
+            .to(trainExchange()).with("train.updated");
+    }
+
+    @Bean
+    public Binding trainCacheEvictionBinding() {
+        return BindingBuilder.bind(trainCacheEvictionQueue())
+            .to(trainExchange()).with("train.updated");
+    }
+
+    // 좌석 예약 결과 수신용 (예약 상태 PENDING -> CONFIRMED/CANCELLED)
+    @Bean
+    public DirectExchange seatExchange() {
+        return new DirectExchange(SEAT_EXCHANGE);
+    }
+
+    @Bean
+    public Queue seatReservedQueue() {
+        return new Queue(SEAT_RESERVED_QUEUE, true);
+    }
+
+    @Bean
+    public Queue seatRejectedQueue() {
+        return new Queue(SEAT_REJECTED_QUEUE, true);
+    }
+
+    @Bean
+    public Binding seatReservedBinding() {
+        return BindingBuilder.bind(seatReservedQueue())
+            .to(seatExchange()).with("seat.reserved");
+    }
+
+    @Bean
+    public Binding seatRejectedBinding() {
+        return BindingBuilder.bind(seatRejectedQueue())
+            .to(seatExchange()).with("seat.rejected");
+    }
+
     @Bean
     public Jackson2JsonMessageConverter messageConverter() {
         return new Jackson2JsonMessageConverter();
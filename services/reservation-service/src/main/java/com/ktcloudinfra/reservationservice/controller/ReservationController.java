@@ -1,11 +1,17 @@
 package com.ktcloudinfra.reservationservice.controller;
 
+import com.ktcloudinfra.reservationservice.dto.request.GroupReservationRequestDTO;
 import com.ktcloudinfra.reservationservice.dto.request.ReservationRequestDTO;
+import com.ktcloudinfra.reservationservice.dto.response.ReservationPageResponseDTO;
 import com.ktcloudinfra.reservationservice.dto.response.ReservationResponseDTO;
+import com.ktcloudinfra.reservationservice.dto.response.ReservationStatusResponseDTO;
+import com.ktcloudinfra.reservationservice.entity.ReservationStatus;
 import com.ktcloudinfra.reservationservice.service.ReservationService;
+import com.ktcloudinfra.reservationservice.service.ReservationStatusNotifier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.List;
 
@@ -14,27 +20,55 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ReservationController {
 
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final ReservationService reservationService;
+    private final ReservationStatusNotifier reservationStatusNotifier;
 
     @PostMapping
     public ResponseEntity<java.util.Map<String, Object>> reserve(
             @RequestParam Long userId,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @RequestBody ReservationRequestDTO request) {
-        Long reservationId = reservationService.reserve(userId, request);
+        Long reservationId = reservationService.reserve(userId, request, idempotencyKey);
         java.util.Map<String, Object> response = new java.util.HashMap<>();
         response.put("reservationId", reservationId);
         response.put("message", "예약이 완료되었습니다.");
         return ResponseEntity.status(org.springframework.http.HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/group")
+    public ResponseEntity<java.util.Map<String, Object>> reserveGroup(
+            @RequestParam Long userId,
+            @RequestBody GroupReservationRequestDTO request) {
+        List<Long> reservationIds = reservationService.reserveGroup(userId, request);
+        java.util.Map<String, Object> response = new java.util.HashMap<>();
+        response.put("reservationIds", reservationIds);
+        response.put("message", "예약이 완료되었습니다.");
+        return ResponseEntity.status(org.springframework.http.HttpStatus.CREATED).body(response);
+    }
+
     @GetMapping("/{reservationId}")
     public ResponseEntity<ReservationResponseDTO> getReservation(@PathVariable Long reservationId) {
         return ResponseEntity.ok(reservationService.getReservation(reservationId));
     }
 
+    // 롱폴링: PENDING이면 확정/취소되거나 waitMs(최대 30초)가 지날 때까지 응답을 보류
+    @GetMapping("/{reservationId}/status")
+    public DeferredResult<ReservationStatusResponseDTO> getReservationStatus(
+            @PathVariable Long reservationId,
+            @RequestParam(defaultValue = "25000") long waitMs) {
+        ReservationStatusResponseDTO current = reservationService.getReservationStatus(reservationId);
+        return reservationStatusNotifier.await(current, waitMs);
+    }
+
     @GetMapping
-    public ResponseEntity<List<ReservationResponseDTO>> getMyReservations(@RequestParam Long userId) {
-        return ResponseEntity.ok(reservationService.getReservationsByUser(userId));
+    public ResponseEntity<ReservationPageResponseDTO> getMyReservations(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) ReservationStatus status) {
+        return ResponseEntity.ok(reservationService.getReservationsByUser(userId, cursor, size, status));
     }
 
     @DeleteMapping("/{reservationId}")
@@ -0,0 +1,27 @@
+package com.ktcloudinfra.reservationservice.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 단체 예약 (같은 열차의 여러 좌석을 하나의 이벤트로 전달)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationGroupRequestedEvent implements Serializable {
+    private Long trainId;
+    private List<GroupSeat> seats;
+    private LocalDateTime timestamp;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GroupSeat implements Serializable {
+        private Long reservationId;
+        private String seatNumber;
+    }
+}
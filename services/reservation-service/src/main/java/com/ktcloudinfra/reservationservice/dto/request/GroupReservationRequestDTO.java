@@ -0,0 +1,11 @@
+package com.ktcloudinfra.reservationservice.dto.request;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class GroupReservationRequestDTO {
+    private Long trainId;
+    private List<String> seatNumbers;
+}
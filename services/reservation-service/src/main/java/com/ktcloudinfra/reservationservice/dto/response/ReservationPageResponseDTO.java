@@ -0,0 +1,14 @@
+package com.ktcloudinfra.reservationservice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ReservationPageResponseDTO {
+    private List<ReservationResponseDTO> reservations;
+    private String nextCursor;
+    private boolean hasNext;
+}
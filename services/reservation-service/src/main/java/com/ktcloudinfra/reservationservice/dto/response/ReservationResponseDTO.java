@@ -13,6 +13,7 @@ public class ReservationResponseDTO {
     private int price;
     private String departureStation;
     private String arrivalStation;
+    private LocalDateTime departureTime;
     private String seatNumber;
     private LocalDateTime reservedAt;
 }
@@ -0,0 +1,12 @@
+package com.ktcloudinfra.reservationservice.dto.response;
+
+import com.ktcloudinfra.reservationservice.entity.ReservationStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ReservationStatusResponseDTO {
+    private Long reservationId;
+    private ReservationStatus status;
+}
@@ -0,0 +1,50 @@
+package com.ktcloudinfra.reservationservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 예약 트랜잭션과 함께 기록되는 발행 대기 이벤트 (트랜잭셔널 아웃박스)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "reservation_outbox", indexes = {
+        @Index(name = "idx_reservation_outbox_sent_at_id", columnList = "sent_at, id")
+})
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false, length = 100)
+    private String routingKey;
+
+    @Column(name = "type_id")
+    private String typeId;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Builder
+    public OutboxEvent(String exchange, String routingKey, String typeId, String payload, LocalDateTime createdAt) {
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.typeId = typeId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+}
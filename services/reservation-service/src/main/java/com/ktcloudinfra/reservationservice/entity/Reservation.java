@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "reservations")
+@Table(name = "reservations", indexes = {
+        @Index(name = "idx_reservations_user_id_reserved_at", columnList = "user_id, reserved_at"),
+        @Index(name = "idx_reservations_user_id_status_reserved_at", columnList = "user_id, status, reserved_at")
+})
 public class Reservation {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
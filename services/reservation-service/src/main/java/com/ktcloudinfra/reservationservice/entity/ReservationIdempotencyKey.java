@@ -0,0 +1,56 @@
+package com.ktcloudinfra.reservationservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 예약 생성 요청의 Idempotency-Key 중복 제거 기록
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "reservation_idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reservation_idempotency_keys_user_id_key",
+                columnNames = {"user_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_reservation_idempotency_keys_expires_at", columnList = "expires_at"))
+public class ReservationIdempotencyKey {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "reservation_id")
+    private Long reservationId;
+
+    // 처음 요청의 지문 (마이그레이션 이전에 기록된 키는 null)
+    @Column(name = "request_fingerprint", length = 64)
+    private String requestFingerprint;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public ReservationIdempotencyKey(Long userId, String idempotencyKey, String requestFingerprint,
+                                     LocalDateTime expiresAt) {
+        this.userId = userId;
+        this.idempotencyKey = idempotencyKey;
+        this.requestFingerprint = requestFingerprint;
+        this.expiresAt = expiresAt;
+    }
+
+    public void complete(Long reservationId) {
+        this.reservationId = reservationId;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
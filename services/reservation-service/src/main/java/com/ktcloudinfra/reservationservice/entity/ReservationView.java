@@ -0,0 +1,65 @@
+package com.ktcloudinfra.reservationservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 예약 조회 전용 프로젝션 (예약 시점의 열차/좌석 정보를 복제)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "reservation_views", indexes = {
+        @Index(name = "idx_reservation_views_train_id", columnList = "train_id")
+})
+public class ReservationView {
+    @Id
+    @Column(name = "reservation_id")
+    private Long reservationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "train_id", nullable = false)
+    private Long trainId;
+
+    @Column(name = "train_name", nullable = false)
+    private String trainName;
+
+    @Column(name = "price", nullable = false)
+    private int price;
+
+    @Column(name = "departure_station", nullable = false)
+    private String departureStation;
+
+    @Column(name = "arrival_station", nullable = false)
+    private String arrivalStation;
+
+    @Column(name = "departure_time")
+    private LocalDateTime departureTime;
+
+    @Column(name = "seat_number", nullable = false)
+    private String seatNumber;
+
+    @Column(name = "reserved_at", nullable = false)
+    private LocalDateTime reservedAt;
+
+    @Builder
+    public ReservationView(Long reservationId, Long userId, Long trainId, String trainName, int price,
+                           String departureStation, String arrivalStation, LocalDateTime departureTime,
+                           String seatNumber, LocalDateTime reservedAt) {
+        this.reservationId = reservationId;
+        this.userId = userId;
+        this.trainId = trainId;
+        this.trainName = trainName;
+        this.price = price;
+        this.departureStation = departureStation;
+        this.arrivalStation = arrivalStation;
+        this.departureTime = departureTime;
+        this.seatNumber = seatNumber;
+        this.reservedAt = reservedAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ktcloudinfra.reservationservice.global.exception;
+
+import org.springframework.http.HttpStatus;
+
+// Idempotency-Key를 재사용할 수 없는 요청 (다른 요청 본문: 422, 원래 예약이 사라짐: 409)
+public class IdempotencyKeyException extends ApiException {
+
+    private final HttpStatus status;
+
+    public IdempotencyKeyException(String message, HttpStatus status) {
+        super(message);
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,31 @@
+package com.ktcloudinfra.reservationservice.listener;
+
+import com.ktcloudinfra.reservationservice.config.RabbitMQConfig;
+import com.ktcloudinfra.reservationservice.dto.event.SeatRejectedEvent;
+import com.ktcloudinfra.reservationservice.dto.event.SeatReservedEvent;
+import com.ktcloudinfra.reservationservice.service.ReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatEventListener {
+
+    private final ReservationService reservationService;
+
+    @RabbitListener(queues = RabbitMQConfig.SEAT_RESERVED_QUEUE)
+    public void handleSeatReserved(SeatReservedEvent event) {
+        log.info("좌석 예약 완료 이벤트 수신: reservationId={}", event.getReservationId());
+        reservationService.confirmReservation(event.getReservationId());
+    }
+
+    @RabbitListener(queues = RabbitMQConfig.SEAT_REJECTED_QUEUE)
+    public void handleSeatRejected(SeatRejectedEvent event) {
+        log.warn("좌석 예약 거절 이벤트 수신: reservationId={}, reason={}",
+                event.getReservationId(), event.getReason());
+        reservationService.rejectReservation(event.getReservationId());
+    }
+}
@@ -0,0 +1,32 @@
+package com.ktcloudinfra.reservationservice.listener;
+
+import com.ktcloudinfra.reservationservice.client.TrainCache;
+import com.ktcloudinfra.reservationservice.config.RabbitMQConfig;
+import com.ktcloudinfra.reservationservice.dto.event.TrainUpdatedEvent;
+import com.ktcloudinfra.reservationservice.service.ReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrainEventListener {
+
+    private final ReservationService reservationService;
+    private final TrainCache trainCache;
+
+    @RabbitListener(queues = RabbitMQConfig.TRAIN_UPDATED_QUEUE)
+    public void handleTrainUpdated(TrainUpdatedEvent event) {
+        log.info("열차 정보 변경 이벤트 수신: trainId={}", event.getTrainId());
+        reservationService.updateTrainDetails(event);
+        log.info("예약 조회 정보 갱신 완료: trainId={}", event.getTrainId());
+    }
+
+    @RabbitListener(queues = "#{trainCacheEvictionQueue.name}")
+    public void evictTrainCache(TrainUpdatedEvent event) {
+        trainCache.evict(event.getTrainId());
+        log.info("열차 캐시 무효화: trainId={}", event.getTrainId());
+    }
+}
@@ -0,0 +1,18 @@
+package com.ktcloudinfra.reservationservice.repository;
+
+import com.ktcloudinfra.reservationservice.entity.ReservationIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface ReservationIdempotencyKeyRepository extends JpaRepository<ReservationIdempotencyKey, Long> {
+    Optional<ReservationIdempotencyKey> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    @Modifying
+    @Query("delete from ReservationIdempotencyKey k where k.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,10 +1,38 @@
 package com.ktcloudinfra.reservationservice.repository;
 
 import com.ktcloudinfra.reservationservice.entity.Reservation;
+import com.ktcloudinfra.reservationservice.entity.ReservationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
     List<Reservation> findByUserId(Long userId);
+
+    // 키셋 페이지네이션: (reserved_at, id) 내림차순, 커서 이후 행만 조회
+    List<Reservation> findByUserIdOrderByReservedAtDescIdDesc(Long userId, Pageable pageable);
+
+    List<Reservation> findByUserIdAndStatusOrderByReservedAtDescIdDesc(
+            Long userId, ReservationStatus status, Pageable pageable);
+
+    @Query("SELECT r FROM Reservation r WHERE r.userId = :userId " +
+            "AND (r.reservedAt < :reservedAt OR (r.reservedAt = :reservedAt AND r.id < :id)) " +
+            "ORDER BY r.reservedAt DESC, r.id DESC")
+    List<Reservation> findPageAfter(@Param("userId") Long userId,
+                                    @Param("reservedAt") LocalDateTime reservedAt,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
+
+    @Query("SELECT r FROM Reservation r WHERE r.userId = :userId AND r.status = :status " +
+            "AND (r.reservedAt < :reservedAt OR (r.reservedAt = :reservedAt AND r.id < :id)) " +
+            "ORDER BY r.reservedAt DESC, r.id DESC")
+    List<Reservation> findPageAfterWithStatus(@Param("userId") Long userId,
+                                              @Param("status") ReservationStatus status,
+                                              @Param("reservedAt") LocalDateTime reservedAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
 }
@@ -0,0 +1,23 @@
+package com.ktcloudinfra.reservationservice.repository;
+
+import com.ktcloudinfra.reservationservice.entity.ReservationView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ReservationViewRepository extends JpaRepository<ReservationView, Long> {
+
+    @Modifying(clearAutomatically = true)
+    @Query("update ReservationView v set v.trainName = :trainName, v.price = :price, "
+            + "v.departureStation = :departureStation, v.arrivalStation = :arrivalStation, "
+            + "v.departureTime = :departureTime where v.trainId = :trainId")
+    int updateTrainDetails(@Param("trainId") Long trainId,
+                           @Param("trainName") String trainName,
+                           @Param("price") int price,
+                           @Param("departureStation") String departureStation,
+                           @Param("arrivalStation") String arrivalStation,
+                           @Param("departureTime") LocalDateTime departureTime);
+}
@@ -0,0 +1,37 @@
+package com.ktcloudinfra.reservationservice.service;
+
+import com.ktcloudinfra.reservationservice.entity.OutboxEvent;
+import com.ktcloudinfra.reservationservice.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트를 브로커로 바로 보내지 않고 호출한 트랜잭션 안에서 아웃박스 테이블에 기록한다.
+ * 실제 발행은 {@link OutboxRelay}가 커밋된 행만 읽어 수행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final MessageConverter messageConverter;
+
+    public void append(String exchange, String routingKey, Object event) {
+        // RabbitTemplate.convertAndSend와 같은 컨버터로 직렬화해 소비자 입장에서 메시지 형태가 동일
+        Message message = messageConverter.toMessage(event, new MessageProperties());
+        outboxEventRepository.save(OutboxEvent.builder()
+                .exchange(exchange)
+                .routingKey(routingKey)
+                .typeId(message.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME))
+                .payload(new String(message.getBody(), StandardCharsets.UTF_8))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
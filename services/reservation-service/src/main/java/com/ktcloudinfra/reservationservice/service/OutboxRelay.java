@@ -0,0 +1,137 @@
+package com.ktcloudinfra.reservationservice.service;
+
+import com.ktcloudinfra.reservationservice.entity.OutboxEvent;
+import com.ktcloudinfra.reservationservice.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 아웃박스에 쌓인 이벤트를 배치로 발행하고, 퍼블리셔 컨펌(ack)을 받은 행만 발행 완료로 표시한다.
+ * spring.rabbitmq.publisher-confirm-type=correlated 설정이 필요하며, 전달은 최소 1회(at-least-once)이다.
+ * 다시 발행해도 message id는 아웃박스 행 id로 같으므로, 소비자(열차/좌석 서비스)는 이 id로 중복 배달을 거른다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration confirmTimeout;
+    private final Duration retention;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       RabbitTemplate rabbitTemplate,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${reservation.outbox.batch-size:200}") int batchSize,
+                       @Value("${reservation.outbox.confirm-timeout:5s}") Duration confirmTimeout,
+                       @Value("${reservation.outbox.retention:1d}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.confirmTimeout = confirmTimeout;
+        this.retention = retention;
+    }
+
+    // 배치가 가득 차 있는 동안 계속 비움
+    @Scheduled(fixedDelayString = "${reservation.outbox.relay-interval:200ms}")
+    public void relay() {
+        while (relayBatch() == batchSize) {
+            // 다음 배치
+        }
+    }
+
+    // 한 배치를 발행하고 ack 받은 행 수를 반환 (nack/타임아웃 행은 다음 주기에 재발행)
+    int relayBatch() {
+        Integer sent = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxEventRepository.findUnsentForRelay(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            List<CorrelationData> confirms = batch.stream().map(this::publish).toList();
+            List<Long> acked = awaitConfirms(batch, confirms);
+            if (!acked.isEmpty()) {
+                outboxEventRepository.markSent(acked, LocalDateTime.now());
+            }
+            return acked.size();
+        });
+        return sent == null ? 0 : sent;
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.outbox.purge-interval:10m}")
+    public void purgeSent() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteSentBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("발행 완료된 아웃박스 이벤트 삭제: {}건", deleted);
+        }
+    }
+
+    private CorrelationData publish(OutboxEvent event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setMessageId(String.valueOf(event.getId()));
+        if (event.getTypeId() != null) {
+            properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getTypeId());
+        }
+        Message message = new Message(event.getPayload().getBytes(StandardCharsets.UTF_8), properties);
+
+        CorrelationData correlation = new CorrelationData(String.valueOf(event.getId()));
+        try {
+            rabbitTemplate.send(event.getExchange(), event.getRoutingKey(), message, correlation);
+        } catch (AmqpException e) {
+            correlation.getFuture().completeExceptionally(e);
+        }
+        return correlation;
+    }
+
+    // 배치 전체에 하나의 마감 시간을 적용해 ack를 기다림
+    private List<Long> awaitConfirms(List<OutboxEvent> batch, List<CorrelationData> confirms) {
+        long deadline = System.nanoTime() + confirmTimeout.toNanos();
+        List<Long> acked = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Long eventId = batch.get(i).getId();
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                CorrelationData.Confirm confirm = confirms.get(i).getFuture().get(remaining, TimeUnit.NANOSECONDS);
+                if (confirm.isAck()) {
+                    acked.add(eventId);
+                } else {
+                    log.warn("아웃박스 이벤트 발행 거부(nack): id={}, reason={}", eventId, confirm.getReason());
+                }
+            } catch (TimeoutException e) {
+                log.warn("아웃박스 이벤트 발행 확인 시간 초과: id={}", eventId);
+            } catch (ExecutionException e) {
+                log.warn("아웃박스 이벤트 발행 실패: id={}", eventId, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return acked;
+    }
+}
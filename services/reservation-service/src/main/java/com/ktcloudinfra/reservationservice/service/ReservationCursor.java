@@ -0,0 +1,41 @@
+package com.ktcloudinfra.reservationservice.service;
+
+import com.ktcloudinfra.reservationservice.entity.Reservation;
+import com.ktcloudinfra.reservationservice.global.exception.ApiException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 예약 목록 키셋 페이지네이션 커서. 마지막으로 반환한 행의 (reservedAt, id)를 불투명 토큰으로 인코딩한다.
+ */
+record ReservationCursor(LocalDateTime reservedAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    static ReservationCursor of(Reservation reservation) {
+        return new ReservationCursor(reservation.getReservedAt(), reservation.getId());
+    }
+
+    static ReservationCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = decoded.indexOf(DELIMITER);
+            if (index < 0) {
+                throw new ApiException("잘못된 커서입니다.");
+            }
+            return new ReservationCursor(
+                    LocalDateTime.parse(decoded.substring(0, index)),
+                    Long.parseLong(decoded.substring(index + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ApiException("잘못된 커서입니다.");
+        }
+    }
+
+    String encode() {
+        String raw = reservedAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
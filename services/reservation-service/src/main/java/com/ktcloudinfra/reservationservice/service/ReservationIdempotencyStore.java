@@ -0,0 +1,147 @@
+package com.ktcloudinfra.reservationservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktcloudinfra.reservationservice.entity.ReservationIdempotencyKey;
+import com.ktcloudinfra.reservationservice.global.exception.ApiException;
+import com.ktcloudinfra.reservationservice.global.exception.IdempotencyKeyException;
+import com.ktcloudinfra.reservationservice.repository.ReservationIdempotencyKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 중복 제거 저장소. 유니크 제약이 걸린 테이블이 기준이고,
+ * 커밋된 결과만 인스턴스 로컬 캐시에 올려 재시도 요청을 DB 조회 없이 응답한다.
+ * 같은 키가 다른 요청 본문으로 재사용되면 원래 예약을 돌려주지 않고 거절한다.
+ */
+@Slf4j
+@Component
+public class ReservationIdempotencyStore {
+
+    static final int MAX_KEY_LENGTH = 100;
+
+    private final ReservationIdempotencyKeyRepository repository;
+    private final Duration ttl;
+    private final Cache<String, Completed> cache;
+
+    public ReservationIdempotencyStore(ReservationIdempotencyKeyRepository repository,
+                                       @Value("${reservation.idempotency.ttl:24h}") Duration ttl,
+                                       @Value("${reservation.idempotency.cache-maximum-size:100000}") long cacheMaximumSize) {
+        this.repository = repository;
+        this.ttl = ttl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // 이미 처리된 키면 원래 예약 ID 반환 (다른 요청 본문으로 재사용된 키면 예외)
+    public Optional<Long> find(Long userId, String idempotencyKey, String fingerprint) {
+        validate(idempotencyKey);
+        Completed cached = cache.getIfPresent(cacheKey(userId, idempotencyKey));
+        if (cached != null) {
+            return Optional.of(replay(cached, fingerprint));
+        }
+
+        Optional<ReservationIdempotencyKey> record = repository.findByUserIdAndIdempotencyKey(userId, idempotencyKey);
+        if (record.isEmpty()) {
+            return Optional.empty();
+        }
+        if (record.get().isExpired(LocalDateTime.now())) {
+            // 만료된 키는 같은 키로 다시 선점할 수 있도록 제거
+            repository.delete(record.get());
+            repository.flush();
+            return Optional.empty();
+        }
+
+        Completed completed = new Completed(record.get().getReservationId(), record.get().getRequestFingerprint());
+        cache.put(cacheKey(userId, idempotencyKey), completed);
+        return Optional.of(replay(completed, fingerprint));
+    }
+
+    // 유니크 제약으로 키를 선점 (동시 요청은 먼저 들어온 트랜잭션이 끝날 때까지 대기 후 실패)
+    public ReservationIdempotencyKey claim(Long userId, String idempotencyKey, String fingerprint) {
+        validate(idempotencyKey);
+        try {
+            return repository.saveAndFlush(ReservationIdempotencyKey.builder()
+                    .userId(userId)
+                    .idempotencyKey(idempotencyKey)
+                    .requestFingerprint(fingerprint)
+                    .expiresAt(LocalDateTime.now().plus(ttl))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            throw new ApiException("동일한 Idempotency-Key로 처리된 요청이 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    public void complete(ReservationIdempotencyKey claimed, Long reservationId) {
+        claimed.complete(reservationId);
+        String cacheKey = cacheKey(claimed.getUserId(), claimed.getIdempotencyKey());
+        Completed completed = new Completed(reservationId, claimed.getRequestFingerprint());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.put(cacheKey, completed);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.put(cacheKey, completed);
+            }
+        });
+    }
+
+    // 요청 본문을 정규화한 문자열의 SHA-256
+    public static String fingerprint(String canonicalRequest) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonicalRequest.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.idempotency.purge-interval:10m}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = repository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 Idempotency-Key 삭제: {}건", deleted);
+        }
+    }
+
+    private void validate(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new ApiException("Idempotency-Key는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+    }
+
+    private String cacheKey(Long userId, String idempotencyKey) {
+        return userId + ":" + idempotencyKey;
+    }
+
+    private Long replay(Completed completed, String fingerprint) {
+        if (completed.fingerprint() != null && !completed.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyException(
+                    "이미 다른 요청에 사용된 Idempotency-Key입니다.", HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+        return completed.reservationId();
+    }
+
+    private record Completed(Long reservationId, String fingerprint) {
+    }
+}
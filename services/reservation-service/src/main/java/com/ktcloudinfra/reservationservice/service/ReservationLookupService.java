@@ -0,0 +1,157 @@
+package com.ktcloudinfra.reservationservice.service;
+
+import com.ktcloudinfra.reservationservice.client.SeatClient;
+import com.ktcloudinfra.reservationservice.client.TrainCache;
+import com.ktcloudinfra.reservationservice.client.UserClient;
+import com.ktcloudinfra.reservationservice.client.dto.SeatDTO;
+import com.ktcloudinfra.reservationservice.client.dto.TrainDTO;
+import com.ktcloudinfra.reservationservice.client.dto.UserDTO;
+import com.ktcloudinfra.reservationservice.config.LookupExecutorConfig;
+import com.ktcloudinfra.reservationservice.global.exception.ApiException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 전 사용자/열차/좌석 검증 조회를 동시에 실행한다.
+ * 전체 조회는 하나의 제한 시간을 공유하며, 하나라도 실패하면 나머지 조회는 즉시 취소된다.
+ */
+@Service
+public class ReservationLookupService {
+
+    private final UserClient userClient;
+    private final TrainCache trainCache;
+    private final SeatClient seatClient;
+    private final ExecutorService executor;
+    private final long timeoutMillis;
+
+    public ReservationLookupService(UserClient userClient,
+                                    TrainCache trainCache,
+                                    SeatClient seatClient,
+                                    @Qualifier(LookupExecutorConfig.RESERVATION_LOOKUP_EXECUTOR) ExecutorService executor,
+                                    @Value("${reservation.lookup.timeout-ms:5000}") long timeoutMillis) {
+        this.userClient = userClient;
+        this.trainCache = trainCache;
+        this.seatClient = seatClient;
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public Lookup lookup(Long userId, Long trainId, String seatNumber) {
+        List<Future<Object>> futures = lookupAll(userId, trainId, () -> {
+            SeatDTO seat = seatClient.getSeat(trainId, seatNumber);
+            if (seat == null) {
+                throw new ApiException("해당 좌석이 존재하지 않습니다.");
+            }
+            if (seat.isReserved()) {
+                throw new ApiException("이미 예약된 좌석입니다.");
+            }
+            return seat;
+        });
+
+        return new Lookup(
+                completedValue(futures.get(0), UserDTO.class),
+                completedValue(futures.get(1), TrainDTO.class),
+                completedValue(futures.get(2), SeatDTO.class));
+    }
+
+    // 단체 예약: 좌석은 한 번의 일괄 조회로 모두 검증
+    public GroupLookup lookupGroup(Long userId, Long trainId, List<String> seatNumbers) {
+        List<Future<Object>> futures = lookupAll(userId, trainId, () -> {
+            List<SeatDTO> seats = seatClient.getSeats(trainId, seatNumbers);
+            if (seats == null || seats.size() != seatNumbers.size()) {
+                throw new ApiException("해당 좌석이 존재하지 않습니다.");
+            }
+            if (seats.stream().anyMatch(SeatDTO::isReserved)) {
+                throw new ApiException("이미 예약된 좌석입니다.");
+            }
+            return seats;
+        });
+
+        @SuppressWarnings("unchecked")
+        List<SeatDTO> seats = completedValue(futures.get(2), List.class);
+        return new GroupLookup(
+                completedValue(futures.get(0), UserDTO.class),
+                completedValue(futures.get(1), TrainDTO.class),
+                seats);
+    }
+
+    // 사용자/열차/좌석 조회를 동시에 실행하고 (user, train, seat) 순서의 Future 반환
+    private List<Future<Object>> lookupAll(Long userId, Long trainId, Callable<Object> seatLookup) {
+        CompletionService<Object> completionService = new ExecutorCompletionService<>(executor);
+
+        Future<Object> userFuture = completionService.submit(() -> {
+            UserDTO user = userClient.getUser(userId);
+            if (user == null) {
+                throw new ApiException("유저가 존재하지 않습니다.");
+            }
+            return user;
+        });
+        Future<Object> trainFuture = completionService.submit(() -> {
+            TrainDTO train = trainCache.getTrain(trainId);
+            if (train == null) {
+                throw new ApiException("열차가 존재하지 않습니다.");
+            }
+            return train;
+        });
+        Future<Object> seatFuture = completionService.submit(seatLookup);
+
+        List<Future<Object>> futures = List.of(userFuture, trainFuture, seatFuture);
+        awaitAll(completionService, futures);
+        return futures;
+    }
+
+    // 완료되는 순서대로 결과를 확인하여 첫 실패 또는 제한 시간 초과 시 남은 조회를 취소
+    private void awaitAll(CompletionService<Object> completionService, List<Future<Object>> futures) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                Future<Object> done = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    throw new ApiException("예약 정보 조회 시간이 초과되었습니다.");
+                }
+                done.get();
+            }
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ApiException("예약 정보 조회에 실패했습니다.");
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new ApiException("예약 정보 조회가 중단되었습니다.");
+        } catch (RuntimeException e) {
+            cancelAll(futures);
+            throw e;
+        }
+    }
+
+    private <T> T completedValue(Future<Object> future, Class<T> type) {
+        try {
+            return type.cast(future.get());
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException("완료되지 않은 조회 결과입니다.", e);
+        }
+    }
+
+    private void cancelAll(List<Future<Object>> futures) {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    public record Lookup(UserDTO user, TrainDTO train, SeatDTO seat) {
+    }
+
+    public record GroupLookup(UserDTO user, TrainDTO train, List<SeatDTO> seats) {
+    }
+}
@@ -1,16 +1,32 @@
 package com.ktcloudinfra.reservationservice.service;
 
+import com.ktcloudinfra.reservationservice.dto.event.TrainUpdatedEvent;
+import com.ktcloudinfra.reservationservice.dto.request.GroupReservationRequestDTO;
 import com.ktcloudinfra.reservationservice.dto.request.ReservationRequestDTO;
+import com.ktcloudinfra.reservationservice.dto.response.ReservationPageResponseDTO;
 import com.ktcloudinfra.reservationservice.dto.response.ReservationResponseDTO;
+import com.ktcloudinfra.reservationservice.dto.response.ReservationStatusResponseDTO;
+import com.ktcloudinfra.reservationservice.entity.ReservationStatus;
 
 import java.util.List;
 
 public interface ReservationService {
-    Long reserve(Long userId, ReservationRequestDTO request);
+    Long reserve(Long userId, ReservationRequestDTO request, String idempotencyKey);
 
-    List<ReservationResponseDTO> getReservationsByUser(Long userId);
+    List<Long> reserveGroup(Long userId, GroupReservationRequestDTO request);
+
+    ReservationPageResponseDTO getReservationsByUser(Long userId, String cursor, int size, ReservationStatus status);
 
     ReservationResponseDTO getReservation(Long reservationId);
 
+    ReservationStatusResponseDTO getReservationStatus(Long reservationId);
+
     void cancelReservation(Long reservationId);
+
+    // Event-based methods
+    void updateTrainDetails(TrainUpdatedEvent event);
+
+    void confirmReservation(Long reservationId);
+
+    void rejectReservation(Long reservationId);
 }
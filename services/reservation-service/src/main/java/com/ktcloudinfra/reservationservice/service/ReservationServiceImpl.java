@@ -1,61 +1,79 @@
 package com.ktcloudinfra.reservationservice.service;
 
-import com.ktcloudinfra.reservationservice.client.SeatClient;
-import com.ktcloudinfra.reservationservice.client.TrainClient;
-import com.ktcloudinfra.reservationservice.client.UserClient;
 import com.ktcloudinfra.reservationservice.client.dto.SeatDTO;
-import com.ktcloudinfra.reservationservice.client.dto.TrainDTO;
-import com.ktcloudinfra.reservationservice.client.dto.UserDTO;
 import com.ktcloudinfra.reservationservice.config.RabbitMQConfig;
 import com.ktcloudinfra.reservationservice.dto.event.ReservationCancelledEvent;
+import com.ktcloudinfra.reservationservice.dto.event.ReservationGroupRequestedEvent;
 import com.ktcloudinfra.reservationservice.dto.event.ReservationRequestedEvent;
+import com.ktcloudinfra.reservationservice.dto.event.TrainUpdatedEvent;
+import com.ktcloudinfra.reservationservice.dto.request.GroupReservationRequestDTO;
 import com.ktcloudinfra.reservationservice.dto.request.ReservationRequestDTO;
+import com.ktcloudinfra.reservationservice.dto.response.ReservationPageResponseDTO;
 import com.ktcloudinfra.reservationservice.dto.response.ReservationResponseDTO;
+import com.ktcloudinfra.reservationservice.dto.response.ReservationStatusResponseDTO;
 import com.ktcloudinfra.reservationservice.entity.Reservation;
+import com.ktcloudinfra.reservationservice.entity.ReservationIdempotencyKey;
 import com.ktcloudinfra.reservationservice.entity.ReservationStatus;
+import com.ktcloudinfra.reservationservice.entity.ReservationView;
 import com.ktcloudinfra.reservationservice.repository.ReservationRepository;
+import com.ktcloudinfra.reservationservice.repository.ReservationViewRepository;
 import com.ktcloudinfra.reservationservice.global.exception.ApiException;
+import com.ktcloudinfra.reservationservice.global.exception.IdempotencyKeyException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ReservationServiceImpl implements ReservationService {
 
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_GROUP_SIZE = 6;
+
     private final ReservationRepository reservationRepository;
-    private final UserClient userClient;
-    private final TrainClient trainClient;
-    private final SeatClient seatClient;
-    private final RabbitTemplate rabbitTemplate;
+    private final ReservationViewRepository reservationViewRepository;
+    private final ReservationLookupService reservationLookupService;
+    private final ReservationViewAssembler reservationViewAssembler;
+    private final ReservationIdempotencyStore reservationIdempotencyStore;
+    private final OutboxEventWriter outboxEventWriter;
+    private final ReservationStatusNotifier reservationStatusNotifier;
 
     @Override
     @Transactional
-    public Long reserve(Long userId, ReservationRequestDTO request) {
-        // 1. 조회는 Feign 사용 (동기)
-        UserDTO user = userClient.getUser(userId);
-        if (user == null) {
-            throw new ApiException("유저가 존재하지 않습니다.");
-        }
-
-        TrainDTO train = trainClient.getTrain(request.getTrainId());
-        if (train == null) {
-            throw new ApiException("열차가 존재하지 않습니다.");
+    public Long reserve(Long userId, ReservationRequestDTO request, String idempotencyKey) {
+        // 0. 재시도 요청이면 원격 조회/이벤트 발행 없이 기존 예약 반환
+        ReservationIdempotencyKey claimedKey = null;
+        if (idempotencyKey != null) {
+            String fingerprint = ReservationIdempotencyStore.fingerprint(
+                    request.getTrainId() + ":" + request.getSeatNumber());
+            Optional<Long> replayed = reservationIdempotencyStore.find(userId, idempotencyKey, fingerprint);
+            if (replayed.isPresent()) {
+                // 취소 등으로 삭제된 예약의 ID는 돌려주지 않음
+                if (!reservationRepository.existsById(replayed.get())) {
+                    throw new IdempotencyKeyException(
+                            "Idempotency-Key로 생성된 예약이 더 이상 존재하지 않습니다. 새 키로 요청해주세요.",
+                            HttpStatus.CONFLICT);
+                }
+                return replayed.get();
+            }
+            claimedKey = reservationIdempotencyStore.claim(userId, idempotencyKey, fingerprint);
         }
 
-        List<SeatDTO> seats = seatClient.getSeatsByTrain(request.getTrainId());
-        SeatDTO targetSeat = seats.stream()
-                .filter(seat -> seat.getSeatNumber().equals(request.getSeatNumber()))
-                .findFirst()
-                .orElseThrow(() -> new ApiException("해당 좌석이 존재하지 않습니다."));
-
-        if (targetSeat.isReserved()) {
-            throw new ApiException("이미 예약된 좌석입니다.");
-        }
+        // 1. 조회는 Feign 사용 (사용자/열차/좌석 동시 조회)
+        ReservationLookupService.Lookup lookup = reservationLookupService.lookup(
+                userId, request.getTrainId(), request.getSeatNumber());
+        SeatDTO targetSeat = lookup.seat();
 
         // 2. 예약 생성 (PENDING 상태)
         Reservation reservation = Reservation.builder()
@@ -68,73 +86,127 @@ public class ReservationServiceImpl implements ReservationService {
                 .build();
         reservation = reservationRepository.save(reservation);
 
-        // 3. 이벤트 발행 (비동기)
+        // 3. 조회용 프로젝션 저장 (조회 시 원격 호출 불필요)
+        reservationViewRepository.save(reservationViewAssembler.toView(reservation, lookup.train()));
+
+        // 4. 이벤트는 같은 트랜잭션에서 아웃박스에 기록 (발행은 OutboxRelay가 커밋 이후 수행)
         ReservationRequestedEvent event = new ReservationRequestedEvent(
                 reservation.getId(),
                 request.getTrainId(),
                 request.getSeatNumber(),
                 LocalDateTime.now()
         );
-        rabbitTemplate.convertAndSend(
+        outboxEventWriter.append(
                 RabbitMQConfig.RESERVATION_EXCHANGE,
                 "reservation.requested",
                 event
         );
 
+        if (claimedKey != null) {
+            reservationIdempotencyStore.complete(claimedKey, reservation.getId());
+        }
+
         return reservation.getId();
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<ReservationResponseDTO> getReservationsByUser(Long userId) {
-        List<Reservation> reservations = reservationRepository.findByUserId(userId);
-        if (reservations.isEmpty()) {
+    @Transactional
+    public List<Long> reserveGroup(Long userId, GroupReservationRequestDTO request) {
+        List<String> seatNumbers = request.getSeatNumbers();
+        if (seatNumbers == null || seatNumbers.isEmpty() || seatNumbers.size() > MAX_GROUP_SIZE) {
+            throw new ApiException("단체 예약은 1~" + MAX_GROUP_SIZE + "석까지 가능합니다.");
+        }
+        if (new HashSet<>(seatNumbers).size() != seatNumbers.size()) {
+            throw new ApiException("중복된 좌석 번호가 있습니다.");
+        }
+
+        // 1. 사용자/열차/좌석 전체를 한 번에 검증
+        ReservationLookupService.GroupLookup lookup = reservationLookupService.lookupGroup(
+                userId, request.getTrainId(), seatNumbers);
+        Map<String, Long> seatIds = lookup.seats().stream()
+                .collect(Collectors.toMap(SeatDTO::getSeatNumber, SeatDTO::getId));
+
+        // 2. 예약 일괄 생성 (PENDING 상태)
+        LocalDateTime now = LocalDateTime.now();
+        List<Reservation> reservations = reservationRepository.saveAll(seatNumbers.stream()
+                .map(seatNumber -> Reservation.builder()
+                        .userId(userId)
+                        .trainId(request.getTrainId())
+                        .seatId(seatIds.get(seatNumber))
+                        .seatNumber(seatNumber)
+                        .status(ReservationStatus.PENDING)
+                        .reservedAt(now)
+                        .build())
+                .toList());
+
+        // 3. 조회용 프로젝션 일괄 저장
+        reservationViewRepository.saveAll(reservations.stream()
+                .map(reservation -> reservationViewAssembler.toView(reservation, lookup.train()))
+                .toList());
+
+        // 4. 좌석 전체를 하나의 이벤트로 기록 (좌석 서비스는 전부 예약하거나 전부 거절)
+        ReservationGroupRequestedEvent event = new ReservationGroupRequestedEvent(
+                request.getTrainId(),
+                reservations.stream()
+                        .map(reservation -> new ReservationGroupRequestedEvent.GroupSeat(
+                                reservation.getId(), reservation.getSeatNumber()))
+                        .toList(),
+                now
+        );
+        outboxEventWriter.append(
+                RabbitMQConfig.RESERVATION_EXCHANGE,
+                "reservation.group-requested",
+                event
+        );
+
+        return reservations.stream().map(Reservation::getId).toList();
+    }
+
+    @Override
+    @Transactional
+    public ReservationPageResponseDTO getReservationsByUser(Long userId, String cursor, int size, ReservationStatus status) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        ReservationCursor after = cursor == null || cursor.isBlank() ? null : ReservationCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Reservation> reservations = findPage(userId, status, after, PageRequest.of(0, pageSize + 1));
+        if (after == null && reservations.isEmpty()) {
             throw new ApiException("예매 내역이 없습니다.");
         }
 
-        return reservations.stream()
-                .map(reservation -> {
-                    TrainDTO train = trainClient.getTrain(reservation.getTrainId());
-                    List<SeatDTO> seats = seatClient.getSeatsByTrain(reservation.getTrainId());
-                    SeatDTO seat = seats.stream()
-                            .filter(s -> s.getId().equals(reservation.getSeatId()))
-                            .findFirst()
-                            .orElseThrow(() -> new ApiException("좌석 정보를 찾을 수 없습니다."));
-
-                    return ReservationResponseDTO.builder()
-                            .reservationId(reservation.getId())
-                            .trainName(train.getName())
-                            .price(train.getPrice())
-                            .departureStation(train.getDepartureStation())
-                            .arrivalStation(train.getArrivalStation())
-                            .seatNumber(seat.getSeatNumber())
-                            .reservedAt(reservation.getReservedAt())
-                            .build();
-                })
-                .toList();
+        boolean hasNext = reservations.size() > pageSize;
+        List<Reservation> page = hasNext ? reservations.subList(0, pageSize) : reservations;
+
+        return ReservationPageResponseDTO.builder()
+                .reservations(page.isEmpty() ? List.of() : toResponses(page))
+                .nextCursor(hasNext ? ReservationCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public ReservationResponseDTO getReservation(Long reservationId) {
+        ReservationView view = reservationViewRepository.findById(reservationId).orElse(null);
+        if (view != null) {
+            return toResponse(view);
+        }
+
         Reservation reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new ApiException("예약이 존재하지 않습니다."));
 
-        TrainDTO train = trainClient.getTrain(reservation.getTrainId());
-        List<SeatDTO> seats = seatClient.getSeatsByTrain(reservation.getTrainId());
-        SeatDTO seat = seats.stream()
-                .filter(s -> s.getId().equals(reservation.getSeatId()))
-                .findFirst()
-                .orElseThrow(() -> new ApiException("좌석 정보를 찾을 수 없습니다."));
+        return toResponses(List.of(reservation)).get(0);
+    }
 
-        return ReservationResponseDTO.builder()
+    @Override
+    @Transactional(readOnly = true)
+    public ReservationStatusResponseDTO getReservationStatus(Long reservationId) {
+        Reservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new ApiException("예약이 존재하지 않습니다."));
+
+        return ReservationStatusResponseDTO.builder()
                 .reservationId(reservation.getId())
-                .trainName(train.getName())
-                .price(train.getPrice())
-                .departureStation(train.getDepartureStation())
-                .arrivalStation(train.getArrivalStation())
-                .seatNumber(seat.getSeatNumber())
-                .reservedAt(reservation.getReservedAt())
+                .status(reservation.getStatus())
                 .build();
     }
 
@@ -144,20 +216,110 @@ public class ReservationServiceImpl implements ReservationService {
         Reservation reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new ApiException("예약이 존재하지 않습니다."));
 
-        // 이벤트 발행
-        ReservationCancelledEvent event = new ReservationCancelledEvent(
-                reservation.getId(),
-                reservation.getTrainId(),
-                reservation.getSeatNumber(),
-                LocalDateTime.now()
-        );
-        rabbitTemplate.convertAndSend(
-                RabbitMQConfig.RESERVATION_EXCHANGE,
-                "reservation.cancelled",
-                event
-        );
+        // 좌석 결과가 오기 전 취소는 거절: 좌석 서비스는 열차+좌석 번호로 취소하므로, 거절될 요청이었다면
+        // 다른 사용자가 확보한 좌석을 풀고 열차 잔여 좌석도 두 번 늘리게 됨
+        if (reservation.getStatus() == ReservationStatus.PENDING) {
+            throw new ApiException("좌석 확정 전인 예약은 취소할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        // 좌석 확보에 실패해 이미 취소된 예약은 되돌릴 좌석이 없으므로 이벤트 없이 삭제
+        if (reservation.getStatus() != ReservationStatus.CANCELLED) {
+            // 이벤트는 아웃박스에 기록
+            ReservationCancelledEvent event = new ReservationCancelledEvent(
+                    reservation.getId(),
+                    reservation.getTrainId(),
+                    reservation.getSeatNumber(),
+                    LocalDateTime.now()
+            );
+            outboxEventWriter.append(
+                    RabbitMQConfig.RESERVATION_EXCHANGE,
+                    "reservation.cancelled",
+                    event
+            );
+        }
 
         // Delete reservation
+        reservationViewRepository.deleteById(reservation.getId());
         reservationRepository.delete(reservation);
+        reservationStatusNotifier.notifyAfterCommit(reservation.getId(), ReservationStatus.CANCELLED);
+    }
+
+    @Override
+    @Transactional
+    public void updateTrainDetails(TrainUpdatedEvent event) {
+        reservationViewRepository.updateTrainDetails(
+                event.getTrainId(),
+                event.getName(),
+                event.getPrice(),
+                event.getDepartureStation(),
+                event.getArrivalStation(),
+                event.getDepartureTime()
+        );
+    }
+
+    private List<Reservation> findPage(Long userId, ReservationStatus status, ReservationCursor after, Pageable limit) {
+        if (after == null) {
+            return status == null
+                    ? reservationRepository.findByUserIdOrderByReservedAtDescIdDesc(userId, limit)
+                    : reservationRepository.findByUserIdAndStatusOrderByReservedAtDescIdDesc(userId, status, limit);
+        }
+        return status == null
+                ? reservationRepository.findPageAfter(userId, after.reservedAt(), after.id(), limit)
+                : reservationRepository.findPageAfterWithStatus(userId, status, after.reservedAt(), after.id(), limit);
+    }
+
+    @Override
+    @Transactional
+    public void confirmReservation(Long reservationId) {
+        completeReservation(reservationId, ReservationStatus.CONFIRMED);
+    }
+
+    @Override
+    @Transactional
+    public void rejectReservation(Long reservationId) {
+        completeReservation(reservationId, ReservationStatus.CANCELLED);
+    }
+
+    // 좌석 처리 결과는 PENDING 예약에만 반영 (중복 수신, 이미 삭제된 예약은 무시)
+    private void completeReservation(Long reservationId, ReservationStatus status) {
+        Reservation reservation = reservationRepository.findById(reservationId).orElse(null);
+        if (reservation == null || reservation.getStatus() != ReservationStatus.PENDING) {
+            return;
+        }
+
+        reservation.updateStatus(status);
+        reservationStatusNotifier.notifyAfterCommit(reservationId, status);
+    }
+
+    // 프로젝션이 없는 예약만 열차 정보를 조회해 채워 넣은 뒤 로컬 데이터로 응답
+    private List<ReservationResponseDTO> toResponses(List<Reservation> reservations) {
+        List<Long> reservationIds = reservations.stream().map(Reservation::getId).toList();
+        Map<Long, ReservationView> views = reservationViewRepository.findAllById(reservationIds).stream()
+                .collect(Collectors.toMap(ReservationView::getReservationId, Function.identity()));
+
+        List<Reservation> missing = reservations.stream()
+                .filter(reservation -> !views.containsKey(reservation.getId()))
+                .toList();
+        if (!missing.isEmpty()) {
+            reservationViewRepository.saveAll(reservationViewAssembler.assemble(missing))
+                    .forEach(view -> views.put(view.getReservationId(), view));
+        }
+
+        return reservations.stream()
+                .map(reservation -> toResponse(views.get(reservation.getId())))
+                .toList();
+    }
+
+    private ReservationResponseDTO toResponse(ReservationView view) {
+        return ReservationResponseDTO.builder()
+                .reservationId(view.getReservationId())
+                .trainName(view.getTrainName())
+                .price(view.getPrice())
+                .departureStation(view.getDepartureStation())
+                .arrivalStation(view.getArrivalStation())
+                .departureTime(view.getDepartureTime())
+                .seatNumber(view.getSeatNumber())
+                .reservedAt(view.getReservedAt())
+                .build();
     }
 }
@@ -0,0 +1,100 @@
+package com.ktcloudinfra.reservationservice.service;
+
+import com.ktcloudinfra.reservationservice.dto.response.ReservationStatusResponseDTO;
+import com.ktcloudinfra.reservationservice.entity.Reservation;
+import com.ktcloudinfra.reservationservice.entity.ReservationStatus;
+import com.ktcloudinfra.reservationservice.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 상태 롱폴링 대기자 관리. 이 인스턴스에서 처리한 상태 변경은 커밋 직후 바로 응답하고,
+ * 다른 인스턴스에서 처리된 변경과 타임아웃 정리는 주기적인 일괄 조회(sweep)로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationStatusNotifier {
+
+    static final long MAX_WAIT_MS = 30_000;
+
+    private final ReservationRepository reservationRepository;
+    private final ConcurrentMap<Long, Set<DeferredResult<ReservationStatusResponseDTO>>> waiters = new ConcurrentHashMap<>();
+
+    // 이미 확정/취소된 예약은 즉시, PENDING이면 상태가 바뀌거나 대기 시간이 끝날 때 응답
+    public DeferredResult<ReservationStatusResponseDTO> await(ReservationStatusResponseDTO current, long waitMs) {
+        long timeout = Math.min(waitMs, MAX_WAIT_MS);
+        if (current.getStatus() != ReservationStatus.PENDING || timeout <= 0) {
+            DeferredResult<ReservationStatusResponseDTO> result = new DeferredResult<>();
+            result.setResult(current);
+            return result;
+        }
+
+        Long reservationId = current.getReservationId();
+        DeferredResult<ReservationStatusResponseDTO> result = new DeferredResult<>(timeout, current);
+        waiters.computeIfAbsent(reservationId, id -> ConcurrentHashMap.newKeySet()).add(result);
+        return result;
+    }
+
+    public void notify(Long reservationId, ReservationStatus status) {
+        Set<DeferredResult<ReservationStatusResponseDTO>> results = waiters.remove(reservationId);
+        if (results == null) {
+            return;
+        }
+        ReservationStatusResponseDTO response = ReservationStatusResponseDTO.builder()
+                .reservationId(reservationId)
+                .status(status)
+                .build();
+        results.forEach(result -> result.setResult(response));
+    }
+
+    public void notifyAfterCommit(Long reservationId, ReservationStatus status) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notify(reservationId, status);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReservationStatusNotifier.this.notify(reservationId, status);
+            }
+        });
+    }
+
+    // 타임아웃된 대기자를 정리한 뒤 남은 예약만 한 번에 조회, 삭제된 예약은 취소로 응답
+    @Scheduled(fixedDelayString = "${reservation.status.sweep-interval:500ms}")
+    public void sweep() {
+        for (Long reservationId : waiters.keySet()) {
+            waiters.computeIfPresent(reservationId, (id, results) -> {
+                results.removeIf(DeferredResult::isSetOrExpired);
+                return results.isEmpty() ? null : results;
+            });
+        }
+        if (waiters.isEmpty()) {
+            return;
+        }
+        Set<Long> reservationIds = new HashSet<>(waiters.keySet());
+        Map<Long, ReservationStatus> statuses = reservationRepository.findAllById(reservationIds).stream()
+                .collect(Collectors.toMap(Reservation::getId, Reservation::getStatus));
+        for (Long reservationId : reservationIds) {
+            ReservationStatus status = statuses.getOrDefault(reservationId, ReservationStatus.CANCELLED);
+            if (status != ReservationStatus.PENDING) {
+                notify(reservationId, status);
+            }
+        }
+    }
+
+    int waitingCount() {
+        return waiters.size();
+    }
+}
@@ -0,0 +1,57 @@
+package com.ktcloudinfra.reservationservice.service;
+
+import com.ktcloudinfra.reservationservice.client.TrainCache;
+import com.ktcloudinfra.reservationservice.client.dto.TrainDTO;
+import com.ktcloudinfra.reservationservice.entity.Reservation;
+import com.ktcloudinfra.reservationservice.entity.ReservationView;
+import com.ktcloudinfra.reservationservice.global.exception.ApiException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회 프로젝션이 없는 예약(프로젝션 도입 이전 데이터)의 ReservationView를 만든다.
+ * 필요한 열차 정보는 중복 없이 한 번에 조회한 뒤 메모리에서 조합한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationViewAssembler {
+
+    private final TrainCache trainCache;
+
+    public List<ReservationView> assemble(List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> trainIds = reservations.stream().map(Reservation::getTrainId).distinct().toList();
+        Map<Long, TrainDTO> trains = trainCache.getTrains(trainIds);
+
+        return reservations.stream()
+                .map(reservation -> {
+                    TrainDTO train = trains.get(reservation.getTrainId());
+                    if (train == null) {
+                        throw new ApiException("열차 정보를 찾을 수 없습니다.");
+                    }
+                    return toView(reservation, train);
+                })
+                .toList();
+    }
+
+    public ReservationView toView(Reservation reservation, TrainDTO train) {
+        return ReservationView.builder()
+                .reservationId(reservation.getId())
+                .userId(reservation.getUserId())
+                .trainId(reservation.getTrainId())
+                .trainName(train.getName())
+                .price(train.getPrice())
+                .departureStation(train.getDepartureStation())
+                .arrivalStation(train.getArrivalStation())
+                .departureTime(train.getDepartureTime())
+                .seatNumber(reservation.getSeatNumber())
+                .reservedAt(reservation.getReservedAt())
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+-- 초기 스키마 (ddl-auto: update로 만들어지던 스키마와 동일)
+CREATE TABLE reservations (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id     BIGINT       NOT NULL,
+    train_id    BIGINT       NOT NULL,
+    seat_id     BIGINT       NOT NULL,
+    seat_number VARCHAR(255) NOT NULL,
+    status      ENUM ('PENDING', 'CONFIRMED', 'CANCELLED') NOT NULL,
+    reserved_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_reservations_user_id_reserved_at ON reservations (user_id, reserved_at);
+
+CREATE TABLE reservation_idempotency_keys (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT       NOT NULL,
+    idempotency_key VARCHAR(100) NOT NULL,
+    reservation_id  BIGINT,
+    expires_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_reservation_idempotency_keys_user_id_key UNIQUE (user_id, idempotency_key)
+);
+
+CREATE INDEX idx_reservation_idempotency_keys_expires_at ON reservation_idempotency_keys (expires_at);
+
+CREATE TABLE reservation_views (
+    reservation_id    BIGINT       NOT NULL,
+    user_id           BIGINT       NOT NULL,
+    train_id          BIGINT       NOT NULL,
+    train_name        VARCHAR(255) NOT NULL,
+    price             INTEGER      NOT NULL,
+    departure_station VARCHAR(255) NOT NULL,
+    arrival_station   VARCHAR(255) NOT NULL,
+    departure_time    DATETIME(6),
+    seat_number       VARCHAR(255) NOT NULL,
+    reserved_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (reservation_id)
+);
+
+CREATE INDEX idx_reservation_views_train_id ON reservation_views (train_id);
+
+CREATE TABLE reservation_outbox (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    exchange    VARCHAR(100) NOT NULL,
+    routing_key VARCHAR(100) NOT NULL,
+    type_id     VARCHAR(255),
+    payload     ${text_type} NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    sent_at     DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_reservation_outbox_sent_at_id ON reservation_outbox (sent_at, id);
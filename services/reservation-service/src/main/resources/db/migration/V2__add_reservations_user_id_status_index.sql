@@ -0,0 +1,2 @@
+-- 상태별 예약 목록(user_id, status, reserved_at DESC)이 다른 상태의 예약을 건너뛰며 읽지 않도록
+CREATE INDEX idx_reservations_user_id_status_reserved_at ON reservations (user_id, status, reserved_at);
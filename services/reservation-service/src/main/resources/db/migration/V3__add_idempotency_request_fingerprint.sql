@@ -0,0 +1,2 @@
+-- 같은 Idempotency-Key가 다른 요청 본문으로 재사용되는지 확인하기 위한 요청 지문 (SHA-256 hex, 기존 행은 NULL)
+ALTER TABLE reservation_idempotency_keys ADD COLUMN request_fingerprint VARCHAR(64);
@@ -0,0 +1,190 @@
+package com.ktcloudinfra.reservationservice.benchmark;
+
+import com.ktcloudinfra.reservationservice.config.RabbitMQConfig;
+import com.ktcloudinfra.reservationservice.dto.event.ReservationRequestedEvent;
+import com.ktcloudinfra.reservationservice.entity.Reservation;
+import com.ktcloudinfra.reservationservice.entity.ReservationStatus;
+import com.ktcloudinfra.reservationservice.repository.OutboxEventRepository;
+import com.ktcloudinfra.reservationservice.repository.ReservationRepository;
+import com.ktcloudinfra.reservationservice.service.OutboxEventWriter;
+import com.ktcloudinfra.reservationservice.service.OutboxRelay;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 브로커(발행당 50ms) 환경에서 트랜잭션 내 직접 발행과 아웃박스 기록 + 배치 릴레이의 처리량 비교.
+ * {@code gradle benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class OutboxRelayBenchmarkTest {
+
+    private static final long BROKER_LATENCY_MS = 50;
+    private static final int WARMUP = 300;
+    private static final int REQUESTS = 500;
+    private static final int THREADS = 4;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final SlowBroker broker = new SlowBroker();
+
+    @AfterEach
+    void tearDown() {
+        broker.shutdown();
+        outboxEventRepository.deleteAllInBatch();
+        reservationRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("느린 브로커: 트랜잭션 내 직접 발행 vs 아웃박스 + 배치 릴레이")
+    void inlinePublishVersusOutbox() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        OutboxEventWriter writer = new OutboxEventWriter(outboxEventRepository, new Jackson2JsonMessageConverter());
+        OutboxRelay relay = new OutboxRelay(outboxEventRepository, broker, transactionManager,
+                200, Duration.ofSeconds(5), Duration.ofDays(1));
+
+        Runnable write = () -> tx.executeWithoutResult(status -> {
+            Reservation reservation = saveReservation();
+            writer.append(RabbitMQConfig.RESERVATION_EXCHANGE, "reservation.requested", event(reservation));
+        });
+        for (int i = 0; i < WARMUP; i++) {
+            write.run();
+        }
+        relay.relay();
+        broker.published.set(0);
+
+        Result inline = run(() -> tx.executeWithoutResult(status -> {
+            Reservation reservation = saveReservation();
+            broker.convertAndSend(RabbitMQConfig.RESERVATION_EXCHANGE, "reservation.requested", event(reservation));
+        }));
+
+        Result outbox = run(write);
+
+        long relayStart = System.nanoTime();
+        relay.relay();
+        long relayMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - relayStart);
+
+        System.out.printf("[outbox] requests=%,d threads=%d brokerLatency=%dms%n", REQUESTS, THREADS, BROKER_LATENCY_MS);
+        System.out.printf("[outbox] inline publish  throughput=%,.0f req/s p99=%,d us%n", inline.throughput(), inline.p99Micros());
+        System.out.printf("[outbox] outbox write    throughput=%,.0f req/s p99=%,d us%n", outbox.throughput(), outbox.p99Micros());
+        System.out.printf("[outbox] relay drained %,d events in %,d ms (%,.0f events/s)%n",
+                REQUESTS, relayMs, REQUESTS * 1000.0 / Math.max(relayMs, 1));
+
+        assertThat(broker.published.get()).isEqualTo(REQUESTS * 2);
+        assertThat(outboxEventRepository.findAll()).allMatch(event -> event.getSentAt() != null);
+        assertThat(outbox.throughput()).isGreaterThan(inline.throughput() * 2);
+    }
+
+    private Result run(Runnable request) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            long start = System.nanoTime();
+            List<Future<Long>> futures = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(pool.submit(() -> {
+                    long begin = System.nanoTime();
+                    request.run();
+                    return System.nanoTime() - begin;
+                }));
+            }
+            long[] latencies = new long[REQUESTS];
+            for (int i = 0; i < REQUESTS; i++) {
+                latencies[i] = futures.get(i).get();
+            }
+            long elapsed = System.nanoTime() - start;
+            Arrays.sort(latencies);
+            return new Result(REQUESTS * 1_000_000_000.0 / elapsed,
+                    TimeUnit.NANOSECONDS.toMicros(latencies[(int) Math.ceil(REQUESTS * 0.99) - 1]));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Reservation saveReservation() {
+        return reservationRepository.save(Reservation.builder()
+                .userId(1L)
+                .trainId(100L)
+                .seatId(10L)
+                .seatNumber("1A")
+                .status(ReservationStatus.PENDING)
+                .reservedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private ReservationRequestedEvent event(Reservation reservation) {
+        return new ReservationRequestedEvent(reservation.getId(), reservation.getTrainId(),
+                reservation.getSeatNumber(), LocalDateTime.now());
+    }
+
+    private record Result(double throughput, long p99Micros) {
+    }
+
+    // 발행마다 BROKER_LATENCY_MS 지연되는 브로커 대역. 직접 발행은 호출 스레드가, 컨펌은 비동기로 지연된다.
+    private static class SlowBroker extends RabbitTemplate {
+
+        private final ScheduledExecutorService confirms = Executors.newSingleThreadScheduledExecutor();
+        private final AtomicInteger published = new AtomicInteger();
+
+        @Override
+        public void convertAndSend(String exchange, String routingKey, Object object) {
+            try {
+                Thread.sleep(BROKER_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            published.incrementAndGet();
+        }
+
+        @Override
+        public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+            published.incrementAndGet();
+            confirms.schedule(() -> correlationData.getFuture().complete(new CorrelationData.Confirm(true, null)),
+                    BROKER_LATENCY_MS, TimeUnit.MILLISECONDS);
+        }
+
+        void shutdown() {
+            confirms.shutdownNow();
+        }
+    }
+}
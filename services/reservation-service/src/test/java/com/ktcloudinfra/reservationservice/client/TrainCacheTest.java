@@ -0,0 +1,115 @@
+package com.ktcloudinfra.reservationservice.client;
+
+import com.ktcloudinfra.reservationservice.client.dto.TrainDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrainCacheTest {
+
+    @Mock
+    private TrainClient trainClient;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TrainCache trainCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        trainCache = new TrainCache(trainClient, meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("같은 열차를 반복 조회하면 train-service는 한 번만 호출")
+    void getTrain_CachesRemoteResult() {
+        // Given
+        when(trainClient.getTrain(100L)).thenReturn(createTrainDTO(100L, "KTX-101"));
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThat(trainCache.getTrain(100L).getName()).isEqualTo("KTX-101");
+        }
+
+        // Then
+        verify(trainClient, times(1)).getTrain(100L);
+        assertThat(trainCache.stats().hitCount()).isEqualTo(9);
+        assertThat(trainCache.stats().missCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", TrainCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 열차는 캐시하지 않음")
+    void getTrain_NotFound_NotCached() {
+        // Given
+        when(trainClient.getTrain(999L)).thenReturn(null);
+
+        // When
+        assertThat(trainCache.getTrain(999L)).isNull();
+        assertThat(trainCache.getTrain(999L)).isNull();
+
+        // Then
+        verify(trainClient, times(2)).getTrain(999L);
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 캐시에 없는 열차만 train-service에서 가져옴")
+    void getTrains_LoadsOnlyMissing() {
+        // Given
+        when(trainClient.getTrain(100L)).thenReturn(createTrainDTO(100L, "KTX-101"));
+        when(trainClient.getTrains(List.of(101L))).thenReturn(List.of(createTrainDTO(101L, "KTX-102")));
+        trainCache.getTrain(100L);
+
+        // When
+        Map<Long, TrainDTO> trains = trainCache.getTrains(List.of(100L, 101L));
+
+        // Then
+        assertThat(trains).containsOnlyKeys(100L, 101L);
+        assertThat(trains.get(101L).getName()).isEqualTo("KTX-102");
+        verify(trainClient, times(1)).getTrains(anyList());
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회 시 다시 가져옴")
+    void evict_ReloadsOnNextGet() {
+        // Given
+        when(trainClient.getTrain(100L))
+                .thenReturn(createTrainDTO(100L, "KTX-101"))
+                .thenReturn(createTrainDTO(100L, "KTX-101-변경"));
+        trainCache.getTrain(100L);
+
+        // When
+        trainCache.evict(100L);
+
+        // Then
+        assertThat(trainCache.getTrain(100L).getName()).isEqualTo("KTX-101-변경");
+        verify(trainClient, times(2)).getTrain(100L);
+    }
+
+    private TrainDTO createTrainDTO(Long id, String name) {
+        return TrainDTO.builder()
+                .id(id)
+                .name(name)
+                .price(50000)
+                .departureStation("서울")
+                .arrivalStation("부산")
+                .departureTime(LocalDateTime.now())
+                .arrivalTime(LocalDateTime.now().plusHours(3))
+                .build();
+    }
+}
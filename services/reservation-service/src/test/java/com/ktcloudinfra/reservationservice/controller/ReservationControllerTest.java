@@ -1,20 +1,28 @@
 package com.ktcloudinfra.reservationservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktcloudinfra.reservationservice.dto.request.GroupReservationRequestDTO;
 import com.ktcloudinfra.reservationservice.dto.request.ReservationRequestDTO;
+import com.ktcloudinfra.reservationservice.dto.response.ReservationPageResponseDTO;
 import com.ktcloudinfra.reservationservice.dto.response.ReservationResponseDTO;
+import com.ktcloudinfra.reservationservice.dto.response.ReservationStatusResponseDTO;
 import com.ktcloudinfra.reservationservice.entity.ReservationStatus;
 import com.ktcloudinfra.reservationservice.global.exception.ApiException;
+import com.ktcloudinfra.reservationservice.global.exception.IdempotencyKeyException;
 import com.ktcloudinfra.reservationservice.service.ReservationService;
+import com.ktcloudinfra.reservationservice.service.ReservationStatusNotifier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -22,6 +30,8 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -39,6 +49,9 @@ class ReservationControllerTest {
     @MockBean
     private ReservationService reservationService;
 
+    @MockBean
+    private ReservationStatusNotifier reservationStatusNotifier;
+
     @Test
     @DisplayName("POST /api/v1/reservations?userId=1 - 예약 생성 성공")
     void createReservation_Success() throws Exception {
@@ -48,7 +61,7 @@ class ReservationControllerTest {
         ReflectionTestUtils.setField(request, "trainId", 100L);
         ReflectionTestUtils.setField(request, "seatNumber", "1A");
 
-        when(reservationService.reserve(anyLong(), any(ReservationRequestDTO.class))).thenReturn(1L);
+        when(reservationService.reserve(anyLong(), any(ReservationRequestDTO.class), isNull())).thenReturn(1L);
 
         // When & Then
         mockMvc.perform(post("/api/v1/reservations")
@@ -59,7 +72,92 @@ class ReservationControllerTest {
                 .andExpect(jsonPath("$.reservationId").value(1))
                 .andExpect(jsonPath("$.message").value("예약이 완료되었습니다."));
 
-        verify(reservationService).reserve(anyLong(), any(ReservationRequestDTO.class));
+        verify(reservationService).reserve(anyLong(), any(ReservationRequestDTO.class), isNull());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/reservations - Idempotency-Key 헤더 전달")
+    void createReservation_WithIdempotencyKey() throws Exception {
+        // Given
+        ReservationRequestDTO request = new ReservationRequestDTO();
+        ReflectionTestUtils.setField(request, "trainId", 100L);
+        ReflectionTestUtils.setField(request, "seatNumber", "1A");
+
+        when(reservationService.reserve(eq(1L), any(ReservationRequestDTO.class), eq("retry-key"))).thenReturn(7L);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/reservations")
+                        .param("userId", "1")
+                        .header(ReservationController.IDEMPOTENCY_KEY_HEADER, "retry-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.reservationId").value(7));
+
+        verify(reservationService).reserve(eq(1L), any(ReservationRequestDTO.class), eq("retry-key"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/reservations - 다른 요청 본문으로 재사용된 Idempotency-Key는 422")
+    void createReservation_IdempotencyKeyReused() throws Exception {
+        // Given
+        ReservationRequestDTO request = new ReservationRequestDTO();
+        ReflectionTestUtils.setField(request, "trainId", 100L);
+        ReflectionTestUtils.setField(request, "seatNumber", "1B");
+
+        when(reservationService.reserve(eq(1L), any(ReservationRequestDTO.class), eq("retry-key")))
+                .thenThrow(new IdempotencyKeyException("이미 다른 요청에 사용된 Idempotency-Key입니다.",
+                        HttpStatus.UNPROCESSABLE_ENTITY));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/reservations")
+                        .param("userId", "1")
+                        .header(ReservationController.IDEMPOTENCY_KEY_HEADER, "retry-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(content().string("이미 다른 요청에 사용된 Idempotency-Key입니다."));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/reservations/group - 단체 예약 성공")
+    void createGroupReservation_Success() throws Exception {
+        // Given
+        GroupReservationRequestDTO request = new GroupReservationRequestDTO();
+        ReflectionTestUtils.setField(request, "trainId", 100L);
+        ReflectionTestUtils.setField(request, "seatNumbers", List.of("1A", "1B"));
+
+        when(reservationService.reserveGroup(eq(1L), any(GroupReservationRequestDTO.class))).thenReturn(List.of(1L, 2L));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/reservations/group")
+                        .param("userId", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.reservationIds.length()").value(2))
+                .andExpect(jsonPath("$.reservationIds[0]").value(1))
+                .andExpect(jsonPath("$.message").value("예약이 완료되었습니다."));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/reservations/group - 단체 예약 실패")
+    void createGroupReservation_Fail() throws Exception {
+        // Given
+        GroupReservationRequestDTO request = new GroupReservationRequestDTO();
+        ReflectionTestUtils.setField(request, "trainId", 100L);
+        ReflectionTestUtils.setField(request, "seatNumbers", List.of("1A", "1B"));
+
+        when(reservationService.reserveGroup(eq(1L), any(GroupReservationRequestDTO.class)))
+                .thenThrow(new ApiException("이미 예약된 좌석입니다."));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/reservations/group")
+                        .param("userId", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("이미 예약된 좌석입니다."));
     }
 
     @Test
@@ -71,7 +169,7 @@ class ReservationControllerTest {
         ReflectionTestUtils.setField(request, "trainId", 100L);
         ReflectionTestUtils.setField(request, "seatNumber", "1A");
 
-        when(reservationService.reserve(anyLong(), any(ReservationRequestDTO.class)))
+        when(reservationService.reserve(anyLong(), any(ReservationRequestDTO.class), isNull()))
                 .thenThrow(new ApiException("사용자가 존재하지 않습니다."));
 
         // When & Then
@@ -81,7 +179,7 @@ class ReservationControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
 
-        verify(reservationService).reserve(anyLong(), any(ReservationRequestDTO.class));
+        verify(reservationService).reserve(anyLong(), any(ReservationRequestDTO.class), isNull());
     }
 
     @Test
@@ -94,18 +192,52 @@ class ReservationControllerTest {
                 createReservationResponse(2L, "KTX-102", "2B", "서울", "대전", 30000)
         );
 
-        when(reservationService.getReservationsByUser(userId)).thenReturn(reservations);
+        ReservationPageResponseDTO page = ReservationPageResponseDTO.builder()
+                .reservations(reservations)
+                .nextCursor(null)
+                .hasNext(false)
+                .build();
+
+        when(reservationService.getReservationsByUser(userId, null, 20, null)).thenReturn(page);
 
         // When & Then
         mockMvc.perform(get("/api/v1/reservations")
                         .param("userId", userId.toString()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(2))
-                .andExpect(jsonPath("$[0].reservationId").value(1))
-                .andExpect(jsonPath("$[0].trainName").value("KTX-101"))
-                .andExpect(jsonPath("$[1].reservationId").value(2));
+                .andExpect(jsonPath("$.reservations.length()").value(2))
+                .andExpect(jsonPath("$.reservations[0].reservationId").value(1))
+                .andExpect(jsonPath("$.reservations[0].trainName").value("KTX-101"))
+                .andExpect(jsonPath("$.reservations[1].reservationId").value(2))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        verify(reservationService).getReservationsByUser(userId, null, 20, null);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/reservations - 커서, 페이지 크기, 상태 필터 전달")
+    void getReservationsByUser_WithCursor() throws Exception {
+        // Given
+        Long userId = 1L;
+        ReservationPageResponseDTO page = ReservationPageResponseDTO.builder()
+                .reservations(List.of(createReservationResponse(3L, "KTX-101", "1A", "서울", "부산", 50000)))
+                .nextCursor("next-token")
+                .hasNext(true)
+                .build();
+
+        when(reservationService.getReservationsByUser(userId, "token", 1, ReservationStatus.PENDING)).thenReturn(page);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/reservations")
+                        .param("userId", userId.toString())
+                        .param("cursor", "token")
+                        .param("size", "1")
+                        .param("status", "PENDING"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reservations.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.hasNext").value(true));
 
-        verify(reservationService).getReservationsByUser(userId);
+        verify(reservationService).getReservationsByUser(userId, "token", 1, ReservationStatus.PENDING);
     }
 
     @Test
@@ -130,6 +262,48 @@ class ReservationControllerTest {
         verify(reservationService).getReservation(reservationId);
     }
 
+    @Test
+    @DisplayName("GET /api/v1/reservations/{reservationId}/status - 롱폴링 상태 조회")
+    void getReservationStatus_LongPoll() throws Exception {
+        // Given
+        ReservationStatusResponseDTO pending = ReservationStatusResponseDTO.builder()
+                .reservationId(1L)
+                .status(ReservationStatus.PENDING)
+                .build();
+        DeferredResult<ReservationStatusResponseDTO> deferred = new DeferredResult<>();
+        when(reservationService.getReservationStatus(1L)).thenReturn(pending);
+        when(reservationStatusNotifier.await(pending, 10_000L)).thenReturn(deferred);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/reservations/{reservationId}/status", 1L)
+                        .param("waitMs", "10000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        deferred.setResult(ReservationStatusResponseDTO.builder()
+                .reservationId(1L)
+                .status(ReservationStatus.CONFIRMED)
+                .build());
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reservationId").value(1))
+                .andExpect(jsonPath("$.status").value("CONFIRMED"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/reservations/{reservationId}/status - 존재하지 않는 예약")
+    void getReservationStatus_Fail_NotFound() throws Exception {
+        // Given
+        when(reservationService.getReservationStatus(999L)).thenThrow(new ApiException("예약이 존재하지 않습니다."));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/reservations/{reservationId}/status", 999L))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(reservationStatusNotifier);
+    }
+
     @Test
     @DisplayName("GET /api/v1/reservations/{reservationId} - 예약 조회 실패")
     void getReservation_Fail_NotFound() throws Exception {
@@ -0,0 +1,51 @@
+package com.ktcloudinfra.reservationservice.listener;
+
+import com.ktcloudinfra.reservationservice.dto.event.SeatRejectedEvent;
+import com.ktcloudinfra.reservationservice.dto.event.SeatReservedEvent;
+import com.ktcloudinfra.reservationservice.service.ReservationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatEventListenerTest {
+
+    @Mock
+    private ReservationService reservationService;
+
+    @InjectMocks
+    private SeatEventListener seatEventListener;
+
+    @Test
+    @DisplayName("좌석 예약 완료 이벤트 처리 - 예약 확정")
+    void handleSeatReserved() {
+        // Given
+        SeatReservedEvent event = new SeatReservedEvent(1L, 100L, "1A", LocalDateTime.now());
+
+        // When
+        seatEventListener.handleSeatReserved(event);
+
+        // Then
+        verify(reservationService).confirmReservation(1L);
+    }
+
+    @Test
+    @DisplayName("좌석 예약 거절 이벤트 처리 - 예약 취소 상태로 전환")
+    void handleSeatRejected() {
+        // Given
+        SeatRejectedEvent event = new SeatRejectedEvent(1L, 100L, "1A", "이미 예약된 좌석입니다.", LocalDateTime.now());
+
+        // When
+        seatEventListener.handleSeatRejected(event);
+
+        // Then
+        verify(reservationService).rejectReservation(1L);
+    }
+}
@@ -0,0 +1,62 @@
+package com.ktcloudinfra.reservationservice.listener;
+
+import com.ktcloudinfra.reservationservice.client.TrainCache;
+import com.ktcloudinfra.reservationservice.dto.event.TrainUpdatedEvent;
+import com.ktcloudinfra.reservationservice.service.ReservationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrainEventListenerTest {
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Mock
+    private TrainCache trainCache;
+
+    @InjectMocks
+    private TrainEventListener trainEventListener;
+
+    @Test
+    @DisplayName("열차 정보 변경 이벤트 처리 - 예약 조회 프로젝션 갱신")
+    void handleTrainUpdated() {
+        // Given
+        TrainUpdatedEvent event = createEvent(100L);
+
+        // When
+        trainEventListener.handleTrainUpdated(event);
+
+        // Then
+        verify(reservationService).updateTrainDetails(event);
+        verifyNoInteractions(trainCache);
+    }
+
+    @Test
+    @DisplayName("열차 정보 변경 이벤트 처리 - 열차 캐시 무효화")
+    void evictTrainCache() {
+        // Given
+        TrainUpdatedEvent event = createEvent(100L);
+
+        // When
+        trainEventListener.evictTrainCache(event);
+
+        // Then
+        verify(trainCache).evict(100L);
+        verifyNoInteractions(reservationService);
+    }
+
+    private TrainUpdatedEvent createEvent(Long trainId) {
+        LocalDateTime departureTime = LocalDateTime.now().plusDays(1);
+        return new TrainUpdatedEvent(trainId, "KTX-101", 52000, "서울", "부산",
+                departureTime, departureTime.plusHours(3), LocalDateTime.now());
+    }
+}
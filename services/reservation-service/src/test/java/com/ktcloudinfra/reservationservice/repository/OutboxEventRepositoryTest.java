@@ -0,0 +1,95 @@
+package com.ktcloudinfra.reservationservice.repository;
+
+import com.ktcloudinfra.reservationservice.entity.OutboxEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class OutboxEventRepositoryTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("미발행 이벤트를 ID 순으로 배치 크기만큼 조회")
+    void findUnsentForRelay() {
+        // Given
+        OutboxEvent first = entityManager.persist(createEvent());
+        OutboxEvent second = entityManager.persist(createEvent());
+        OutboxEvent third = entityManager.persist(createEvent());
+        outboxEventRepository.markSent(List.of(first.getId()), LocalDateTime.now());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<OutboxEvent> batch = outboxEventRepository.findUnsentForRelay(PageRequest.of(0, 1));
+        List<OutboxEvent> all = outboxEventRepository.findUnsentForRelay(PageRequest.of(0, 10));
+
+        // Then
+        assertThat(batch).extracting(OutboxEvent::getId).containsExactly(second.getId());
+        assertThat(all).extracting(OutboxEvent::getId).containsExactly(second.getId(), third.getId());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 발행 완료 이벤트만 삭제")
+    void deleteSentBefore() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent old = entityManager.persist(createEvent());
+        OutboxEvent recent = entityManager.persist(createEvent());
+        OutboxEvent unsent = entityManager.persist(createEvent());
+        outboxEventRepository.markSent(List.of(old.getId()), now.minusDays(2));
+        outboxEventRepository.markSent(List.of(recent.getId()), now);
+        entityManager.clear();
+
+        // When
+        int deleted = outboxEventRepository.deleteSentBefore(now.minusDays(1));
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(outboxEventRepository.findAll()).extracting(OutboxEvent::getId)
+                .containsExactlyInAnyOrder(recent.getId(), unsent.getId());
+    }
+
+    @Test
+    @DisplayName("실행 계획 - 릴레이 조회는 (sent_at, id) 인덱스로 미발행 이벤트만 ID 순으로 읽음")
+    void findUnsentForRelay_UsesIndex() {
+        // When
+        String plan = explain("SELECT * FROM reservation_outbox WHERE sent_at IS NULL ORDER BY id LIMIT 100");
+
+        // Then
+        assertThat(plan).contains("IDX_RESERVATION_OUTBOX_SENT_AT_ID").doesNotContain("tableScan");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+
+    private OutboxEvent createEvent() {
+        return OutboxEvent.builder()
+                .exchange("reservation.exchange")
+                .routingKey("reservation.requested")
+                .typeId("event.Type")
+                .payload("{}")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
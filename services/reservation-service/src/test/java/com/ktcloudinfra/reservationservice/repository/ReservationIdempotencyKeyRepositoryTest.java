@@ -0,0 +1,96 @@
+package com.ktcloudinfra.reservationservice.repository;
+
+import com.ktcloudinfra.reservationservice.entity.ReservationIdempotencyKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ReservationIdempotencyKeyRepositoryTest {
+
+    @Autowired
+    private ReservationIdempotencyKeyRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 사용자의 같은 키는 유니크 제약으로 거부")
+    void uniqueUserIdAndKey() {
+        // Given
+        repository.saveAndFlush(createKey(1L, "key", LocalDateTime.now().plusHours(1)));
+        repository.saveAndFlush(createKey(2L, "key", LocalDateTime.now().plusHours(1)));
+
+        // When & Then
+        assertThatThrownBy(() -> repository.saveAndFlush(createKey(1L, "key", LocalDateTime.now().plusHours(1))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("사용자 ID와 키로 조회")
+    void findByUserIdAndIdempotencyKey() {
+        // Given
+        ReservationIdempotencyKey saved = entityManager.persist(createKey(1L, "key", LocalDateTime.now().plusHours(1)));
+        saved.complete(7L);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When & Then
+        assertThat(repository.findByUserIdAndIdempotencyKey(1L, "key"))
+                .hasValueSatisfying(key -> assertThat(key.getReservationId()).isEqualTo(7L));
+        assertThat(repository.findByUserIdAndIdempotencyKey(2L, "key")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 키만 삭제")
+    void deleteExpired() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.persist(createKey(1L, "old", now.minusMinutes(1)));
+        entityManager.persist(createKey(1L, "new", now.plusHours(1)));
+        entityManager.flush();
+
+        // When
+        int deleted = repository.deleteExpired(now);
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(repository.findByUserIdAndIdempotencyKey(1L, "new")).isPresent();
+    }
+
+    @Test
+    @DisplayName("실행 계획 - 키 조회는 (user_id, idempotency_key) 유니크 인덱스, 만료 삭제는 expires_at 인덱스 사용")
+    void queries_UseIndex() {
+        // When & Then
+        assertThat(explain("SELECT * FROM reservation_idempotency_keys WHERE user_id = 1 AND idempotency_key = 'key'"))
+                .contains("UK_RESERVATION_IDEMPOTENCY_KEYS_USER_ID_KEY").doesNotContain("tableScan");
+        assertThat(explain("DELETE FROM reservation_idempotency_keys WHERE expires_at <= CURRENT_TIMESTAMP"))
+                .contains("IDX_RESERVATION_IDEMPOTENCY_KEYS_EXPIRES_AT").doesNotContain("tableScan");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+
+    private ReservationIdempotencyKey createKey(Long userId, String key, LocalDateTime expiresAt) {
+        return ReservationIdempotencyKey.builder()
+                .userId(userId)
+                .idempotencyKey(key)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -7,6 +7,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
@@ -25,6 +27,9 @@ class ReservationRepositoryTest {
     @Autowired
     private TestEntityManager entityManager;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("예약 저장 및 ID로 조회")
     void saveAndFindById() {
@@ -104,6 +109,50 @@ class ReservationRepositoryTest {
         assertThat(reservations).isEmpty();
     }
 
+    @Test
+    @DisplayName("키셋 페이지네이션 - 예약 시각 내림차순, 같은 시각은 ID로 구분")
+    void findPageAfter() {
+        // Given
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+        Reservation oldest = entityManager.persist(createReservation(1L, "1A", ReservationStatus.PENDING, base));
+        Reservation tied1 = entityManager.persist(createReservation(1L, "1B", ReservationStatus.PENDING, base.plusMinutes(1)));
+        Reservation tied2 = entityManager.persist(createReservation(1L, "1C", ReservationStatus.PENDING, base.plusMinutes(1)));
+        Reservation newest = entityManager.persist(createReservation(1L, "1D", ReservationStatus.PENDING, base.plusMinutes(2)));
+        entityManager.persist(createReservation(2L, "2A", ReservationStatus.PENDING, base.plusMinutes(3)));
+        entityManager.flush();
+
+        // When
+        List<Reservation> first = reservationRepository.findByUserIdOrderByReservedAtDescIdDesc(1L, PageRequest.of(0, 2));
+        Reservation last = first.get(first.size() - 1);
+        List<Reservation> second = reservationRepository.findPageAfter(
+                1L, last.getReservedAt(), last.getId(), PageRequest.of(0, 2));
+
+        // Then
+        assertThat(first).extracting(Reservation::getId).containsExactly(newest.getId(), tied2.getId());
+        assertThat(second).extracting(Reservation::getId).containsExactly(tied1.getId(), oldest.getId());
+    }
+
+    @Test
+    @DisplayName("키셋 페이지네이션 - 상태 필터")
+    void findPageAfterWithStatus() {
+        // Given
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+        Reservation confirmed1 = entityManager.persist(createReservation(1L, "1A", ReservationStatus.CONFIRMED, base));
+        entityManager.persist(createReservation(1L, "1B", ReservationStatus.PENDING, base.plusMinutes(1)));
+        Reservation confirmed2 = entityManager.persist(createReservation(1L, "1C", ReservationStatus.CONFIRMED, base.plusMinutes(2)));
+        entityManager.flush();
+
+        // When
+        List<Reservation> first = reservationRepository.findByUserIdAndStatusOrderByReservedAtDescIdDesc(
+                1L, ReservationStatus.CONFIRMED, PageRequest.of(0, 1));
+        List<Reservation> second = reservationRepository.findPageAfterWithStatus(
+                1L, ReservationStatus.CONFIRMED, confirmed2.getReservedAt(), confirmed2.getId(), PageRequest.of(0, 1));
+
+        // Then
+        assertThat(first).extracting(Reservation::getId).containsExactly(confirmed2.getId());
+        assertThat(second).extracting(Reservation::getId).containsExactly(confirmed1.getId());
+    }
+
     @Test
     @DisplayName("예약 상태 업데이트")
     void updateStatus() {
@@ -150,4 +199,40 @@ class ReservationRepositoryTest {
         Optional<Reservation> deleted = reservationRepository.findById(saved.getId());
         assertThat(deleted).isEmpty();
     }
+
+    @Test
+    @DisplayName("실행 계획 - 사용자별 예약 목록은 (user_id, reserved_at) 인덱스 사용")
+    void findByUserId_UsesIndex() {
+        // When
+        String plan = explain("SELECT * FROM reservations WHERE user_id = 1 ORDER BY reserved_at DESC, id DESC");
+
+        // Then
+        assertThat(plan).contains("IDX_RESERVATIONS_USER_ID_RESERVED_AT").doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("실행 계획 - 상태별 예약 목록은 (user_id, status, reserved_at) 인덱스 사용")
+    void findByUserIdAndStatus_UsesIndex() {
+        // When
+        String plan = explain("SELECT * FROM reservations WHERE user_id = 1 AND status = 'CONFIRMED' "
+                + "ORDER BY reserved_at DESC, id DESC");
+
+        // Then
+        assertThat(plan).contains("IDX_RESERVATIONS_USER_ID_STATUS_RESERVED_AT").doesNotContain("tableScan");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+
+    private Reservation createReservation(Long userId, String seatNumber, ReservationStatus status, LocalDateTime reservedAt) {
+        return Reservation.builder()
+                .userId(userId)
+                .trainId(100L)
+                .seatId(10L)
+                .seatNumber(seatNumber)
+                .status(status)
+                .reservedAt(reservedAt)
+                .build();
+    }
 }
@@ -0,0 +1,62 @@
+package com.ktcloudinfra.reservationservice.repository;
+
+import com.ktcloudinfra.reservationservice.entity.ReservationView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ReservationViewRepositoryTest {
+
+    @Autowired
+    private ReservationViewRepository reservationViewRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("열차 ID로 예약 조회 프로젝션의 열차 정보 일괄 갱신")
+    void updateTrainDetails() {
+        // Given
+        entityManager.persist(createView(1L, 100L, "1A"));
+        entityManager.persist(createView(2L, 100L, "1B"));
+        entityManager.persist(createView(3L, 200L, "1A"));
+        entityManager.flush();
+        LocalDateTime newDepartureTime = LocalDateTime.of(2026, 1, 1, 9, 30);
+
+        // When
+        int updated = reservationViewRepository.updateTrainDetails(
+                100L, "KTX-101", 52000, "서울", "부산", newDepartureTime);
+
+        // Then
+        assertThat(updated).isEqualTo(2);
+        ReservationView view = reservationViewRepository.findById(1L).orElseThrow();
+        assertThat(view.getPrice()).isEqualTo(52000);
+        assertThat(view.getDepartureTime()).isEqualTo(newDepartureTime);
+        assertThat(view.getSeatNumber()).isEqualTo("1A");
+        assertThat(reservationViewRepository.findById(3L).orElseThrow().getPrice()).isEqualTo(50000);
+    }
+
+    private ReservationView createView(Long reservationId, Long trainId, String seatNumber) {
+        return ReservationView.builder()
+                .reservationId(reservationId)
+                .userId(1L)
+                .trainId(trainId)
+                .trainName("KTX-101")
+                .price(50000)
+                .departureStation("서울")
+                .arrivalStation("부산")
+                .departureTime(LocalDateTime.of(2026, 1, 1, 9, 0))
+                .seatNumber(seatNumber)
+                .reservedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.ktcloudinfra.reservationservice.service;
+
+import com.ktcloudinfra.reservationservice.dto.event.ReservationRequestedEvent;
+import com.ktcloudinfra.reservationservice.entity.OutboxEvent;
+import com.ktcloudinfra.reservationservice.repository.OutboxEventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventWriterTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private final Jackson2JsonMessageConverter messageConverter = new Jackson2JsonMessageConverter();
+
+    @Test
+    @DisplayName("이벤트를 메시지 컨버터로 직렬화해 아웃박스에 기록")
+    void append() {
+        // Given
+        OutboxEventWriter writer = new OutboxEventWriter(outboxEventRepository, messageConverter);
+        ReservationRequestedEvent event = new ReservationRequestedEvent(1L, 100L, "1A", LocalDateTime.now());
+
+        // When
+        writer.append("reservation.exchange", "reservation.requested", event);
+
+        // Then
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        OutboxEvent saved = captor.getValue();
+        assertThat(saved.getExchange()).isEqualTo("reservation.exchange");
+        assertThat(saved.getRoutingKey()).isEqualTo("reservation.requested");
+        assertThat(saved.getTypeId()).isEqualTo(ReservationRequestedEvent.class.getName());
+        assertThat(saved.getSentAt()).isNull();
+
+        // 릴레이가 보낼 메시지를 컨버터가 그대로 역직렬화할 수 있어야 함
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setHeader("__TypeId__", saved.getTypeId());
+        Object restored = messageConverter.fromMessage(
+                new Message(saved.getPayload().getBytes(StandardCharsets.UTF_8), properties));
+        assertThat(restored).isEqualTo(event);
+    }
+}
@@ -0,0 +1,198 @@
+package com.ktcloudinfra.reservationservice.service;
+
+import com.ktcloudinfra.reservationservice.entity.OutboxEvent;
+import com.ktcloudinfra.reservationservice.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxEventRepository, rabbitTemplate, transactionManager,
+                2, Duration.ofMillis(100), Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("가득 찬 배치는 계속 비우고 ack 받은 행을 발행 완료로 표시")
+    void relay_DrainsFullBatches() {
+        // Given
+        when(outboxEventRepository.findUnsentForRelay(any(Pageable.class)))
+                .thenReturn(List.of(createEvent(1L), createEvent(2L)))
+                .thenReturn(List.of(createEvent(3L)))
+                .thenReturn(List.of());
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(outboxEventRepository).markSent(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(outboxEventRepository).markSent(eq(List.of(3L)), any(LocalDateTime.class));
+        verify(outboxEventRepository, times(2)).findUnsentForRelay(any(Pageable.class));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("발행 메시지에 타입 헤더와 메시지 ID 설정")
+    void relayBatch_MessageProperties() {
+        // Given
+        when(outboxEventRepository.findUnsentForRelay(any(Pageable.class))).thenReturn(List.of(createEvent(1L)));
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        // When
+        int sent = relay.relayBatch();
+
+        // Then
+        assertThat(sent).isEqualTo(1);
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq("reservation.exchange"), eq("reservation.requested"), captor.capture(), any(CorrelationData.class));
+        Message message = captor.getValue();
+        assertThat(new String(message.getBody())).isEqualTo("{\"reservationId\":1}");
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo("application/json");
+        assertThat(message.getMessageProperties().getMessageId()).isEqualTo("1");
+        assertThat((String) message.getMessageProperties().getHeader("__TypeId__")).isEqualTo("event.Type");
+    }
+
+    @Test
+    @DisplayName("nack, 확인 시간 초과, 전송 실패한 행은 발행 완료로 표시하지 않음")
+    void relayBatch_OnlyAckedRowsMarked() {
+        // Given
+        relay = new OutboxRelay(outboxEventRepository, rabbitTemplate, transactionManager,
+                4, Duration.ofMillis(100), Duration.ofDays(1));
+        when(outboxEventRepository.findUnsentForRelay(any(Pageable.class)))
+                .thenReturn(List.of(createEvent(1L), createEvent(2L), createEvent(3L), createEvent(4L)));
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            switch (correlation.getId()) {
+                case "1" -> correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+                case "2" -> correlation.getFuture().complete(new CorrelationData.Confirm(false, "rejected"));
+                case "3" -> { } // 확인이 오지 않음
+                default -> throw new AmqpConnectException(new RuntimeException("broker down"));
+            }
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(outboxEventRepository).markSent(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(outboxEventRepository, times(1)).findUnsentForRelay(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("ack 받은 행이 없으면 발행 완료 처리 생략")
+    void relayBatch_NoAck() {
+        // Given
+        when(outboxEventRepository.findUnsentForRelay(any(Pageable.class))).thenReturn(List.of(createEvent(1L)));
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(false, "rejected"));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        // When
+        int sent = relay.relayBatch();
+
+        // Then
+        assertThat(sent).isZero();
+        verify(outboxEventRepository, never()).markSent(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("대기 중인 이벤트가 없으면 발행하지 않음")
+    void relayBatch_Empty() {
+        // Given
+        when(outboxEventRepository.findUnsentForRelay(any(Pageable.class))).thenReturn(List.of());
+
+        // When
+        int sent = relay.relayBatch();
+
+        // Then
+        assertThat(sent).isZero();
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    @DisplayName("확인 대기 중 인터럽트되면 대기를 중단하고 인터럽트 상태 유지")
+    void relayBatch_Interrupted() {
+        // Given
+        when(outboxEventRepository.findUnsentForRelay(any(Pageable.class))).thenReturn(List.of(createEvent(1L)));
+
+        // When
+        Thread.currentThread().interrupt();
+        int sent = relay.relayBatch();
+
+        // Then
+        assertThat(Thread.interrupted()).isTrue();
+        assertThat(sent).isZero();
+        verify(outboxEventRepository, never()).markSent(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 발행 완료 이벤트 삭제")
+    void purgeSent() {
+        // Given
+        when(outboxEventRepository.deleteSentBefore(any(LocalDateTime.class))).thenReturn(3, 0);
+
+        // When
+        relay.purgeSent();
+        relay.purgeSent();
+
+        // Then
+        verify(outboxEventRepository, times(2)).deleteSentBefore(any(LocalDateTime.class));
+    }
+
+    private OutboxEvent createEvent(Long id) {
+        OutboxEvent event = OutboxEvent.builder()
+                .exchange("reservation.exchange")
+                .routingKey("reservation.requested")
+                .typeId("event.Type")
+                .payload("{\"reservationId\":" + id + "}")
+                .createdAt(LocalDateTime.now())
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
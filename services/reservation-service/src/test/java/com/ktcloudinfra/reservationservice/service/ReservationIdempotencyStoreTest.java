@@ -0,0 +1,225 @@
+package com.ktcloudinfra.reservationservice.service;
+
+import com.ktcloudinfra.reservationservice.entity.ReservationIdempotencyKey;
+import com.ktcloudinfra.reservationservice.global.exception.ApiException;
+import com.ktcloudinfra.reservationservice.global.exception.IdempotencyKeyException;
+import com.ktcloudinfra.reservationservice.repository.ReservationIdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationIdempotencyStoreTest {
+
+    private static final String FINGERPRINT = ReservationIdempotencyStore.fingerprint("100:1A");
+
+    @Mock
+    private ReservationIdempotencyKeyRepository repository;
+
+    private ReservationIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ReservationIdempotencyStore(repository, Duration.ofHours(24), 1000);
+    }
+
+    @Test
+    @DisplayName("처리된 키는 DB에서 찾은 뒤 캐시에서 응답")
+    void find_FromDatabaseThenCache() {
+        // Given
+        when(repository.findByUserIdAndIdempotencyKey(1L, "key"))
+                .thenReturn(Optional.of(createRecord(LocalDateTime.now().plusHours(1), 7L)));
+
+        // When
+        Optional<Long> first = store.find(1L, "key", FINGERPRINT);
+        Optional<Long> second = store.find(1L, "key", FINGERPRINT);
+
+        // Then
+        assertThat(first).contains(7L);
+        assertThat(second).contains(7L);
+        verify(repository, times(1)).findByUserIdAndIdempotencyKey(1L, "key");
+    }
+
+    @Test
+    @DisplayName("다른 요청 본문으로 재사용된 키는 422 (DB, 캐시 모두)")
+    void find_Fail_FingerprintMismatch() {
+        // Given
+        when(repository.findByUserIdAndIdempotencyKey(1L, "key"))
+                .thenReturn(Optional.of(createRecord(LocalDateTime.now().plusHours(1), 7L)));
+        String other = ReservationIdempotencyStore.fingerprint("100:1B");
+
+        // When & Then
+        assertThatThrownBy(() -> store.find(1L, "key", other))
+                .isInstanceOf(IdempotencyKeyException.class)
+                .satisfies(e -> assertThat(((IdempotencyKeyException) e).getStatus())
+                        .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY));
+        assertThatThrownBy(() -> store.find(1L, "key", other))
+                .isInstanceOf(IdempotencyKeyException.class);
+        assertThat(store.find(1L, "key", FINGERPRINT)).contains(7L);
+        verify(repository, times(1)).findByUserIdAndIdempotencyKey(1L, "key");
+    }
+
+    @Test
+    @DisplayName("지문 없이 기록된 기존 키는 본문 확인 없이 원래 예약 반환")
+    void find_LegacyRecordWithoutFingerprint() {
+        // Given
+        ReservationIdempotencyKey legacy = createRecord(LocalDateTime.now().plusHours(1), 7L);
+        ReflectionTestUtils.setField(legacy, "requestFingerprint", null);
+        when(repository.findByUserIdAndIdempotencyKey(1L, "key")).thenReturn(Optional.of(legacy));
+
+        // When & Then
+        assertThat(store.find(1L, "key", ReservationIdempotencyStore.fingerprint("100:1B"))).contains(7L);
+    }
+
+    @Test
+    @DisplayName("요청 지문은 같은 본문이면 같고 다르면 다른 SHA-256 hex")
+    void fingerprint() {
+        assertThat(ReservationIdempotencyStore.fingerprint("100:1A"))
+                .hasSize(64)
+                .isEqualTo(FINGERPRINT)
+                .isNotEqualTo(ReservationIdempotencyStore.fingerprint("100:1B"));
+    }
+
+    @Test
+    @DisplayName("처음 보는 키는 빈 결과")
+    void find_Unknown() {
+        // Given
+        when(repository.findByUserIdAndIdempotencyKey(1L, "key")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThat(store.find(1L, "key", FINGERPRINT)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 키는 삭제 후 빈 결과")
+    void find_Expired() {
+        // Given
+        ReservationIdempotencyKey expired = createRecord(LocalDateTime.now().minusMinutes(1), 7L);
+        when(repository.findByUserIdAndIdempotencyKey(1L, "key")).thenReturn(Optional.of(expired));
+
+        // When
+        Optional<Long> result = store.find(1L, "key", FINGERPRINT);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(repository).delete(expired);
+        verify(repository).flush();
+    }
+
+    @Test
+    @DisplayName("키 길이 검증")
+    void find_Fail_InvalidKey() {
+        assertThatThrownBy(() -> store.find(1L, " ", FINGERPRINT))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> store.claim(1L, "k".repeat(ReservationIdempotencyStore.MAX_KEY_LENGTH + 1), FINGERPRINT))
+                .isInstanceOf(ApiException.class);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("키 선점 성공 - TTL 만큼의 만료 시각 기록")
+    void claim_Success() {
+        // Given
+        when(repository.saveAndFlush(any(ReservationIdempotencyKey.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ReservationIdempotencyKey claimed = store.claim(1L, "key", FINGERPRINT);
+
+        // Then
+        assertThat(claimed.getUserId()).isEqualTo(1L);
+        assertThat(claimed.getIdempotencyKey()).isEqualTo("key");
+        assertThat(claimed.getRequestFingerprint()).isEqualTo(FINGERPRINT);
+        assertThat(claimed.getReservationId()).isNull();
+        assertThat(claimed.getExpiresAt()).isAfter(LocalDateTime.now().plusHours(23));
+    }
+
+    @Test
+    @DisplayName("키 선점 실패 - 유니크 제약 위반")
+    void claim_Fail_Duplicate() {
+        // Given
+        when(repository.saveAndFlush(any(ReservationIdempotencyKey.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        // When & Then
+        assertThatThrownBy(() -> store.claim(1L, "key", FINGERPRINT))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("Idempotency-Key");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 완료하면 즉시 캐시에 기록")
+    void complete_WithoutTransaction() {
+        // Given
+        ReservationIdempotencyKey claimed = createRecord(LocalDateTime.now().plusHours(1), null);
+
+        // When
+        store.complete(claimed, 7L);
+
+        // Then
+        assertThat(claimed.getReservationId()).isEqualTo(7L);
+        assertThat(store.find(1L, "key", FINGERPRINT)).contains(7L);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 완료하면 커밋 후에만 캐시에 기록")
+    void complete_AfterCommit() {
+        // Given
+        ReservationIdempotencyKey claimed = createRecord(LocalDateTime.now().plusHours(1), null);
+        when(repository.findByUserIdAndIdempotencyKey(1L, "key")).thenReturn(Optional.empty());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            store.complete(claimed, 7L);
+
+            // Then
+            assertThat(store.find(1L, "key", FINGERPRINT)).isEmpty();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(store.find(1L, "key", FINGERPRINT)).contains(7L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("만료된 키 일괄 삭제")
+    void purgeExpired() {
+        // Given
+        when(repository.deleteExpired(any(LocalDateTime.class))).thenReturn(3, 0);
+
+        // When
+        store.purgeExpired();
+        store.purgeExpired();
+
+        // Then
+        verify(repository, times(2)).deleteExpired(any(LocalDateTime.class));
+    }
+
+    private ReservationIdempotencyKey createRecord(LocalDateTime expiresAt, Long reservationId) {
+        ReservationIdempotencyKey record = ReservationIdempotencyKey.builder()
+                .userId(1L)
+                .idempotencyKey("key")
+                .requestFingerprint(FINGERPRINT)
+                .expiresAt(expiresAt)
+                .build();
+        ReflectionTestUtils.setField(record, "reservationId", reservationId);
+        return record;
+    }
+}
@@ -0,0 +1,329 @@
+package com.ktcloudinfra.reservationservice.service;
+
+import com.ktcloudinfra.reservationservice.client.SeatClient;
+import com.ktcloudinfra.reservationservice.client.TrainCache;
+import com.ktcloudinfra.reservationservice.client.UserClient;
+import com.ktcloudinfra.reservationservice.client.dto.SeatDTO;
+import com.ktcloudinfra.reservationservice.client.dto.TrainDTO;
+import com.ktcloudinfra.reservationservice.client.dto.UserDTO;
+import com.ktcloudinfra.reservationservice.global.exception.ApiException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationLookupServiceTest {
+
+    private static final long DELAY_MILLIS = 300;
+
+    @Mock
+    private UserClient userClient;
+
+    @Mock
+    private TrainCache trainCache;
+
+    @Mock
+    private SeatClient seatClient;
+
+    private ExecutorService executor;
+
+    private ReservationLookupService lookupService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(6);
+        lookupService = new ReservationLookupService(userClient, trainCache, seatClient, executor, 5_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("사용자/열차/좌석 조회 성공")
+    void lookup_Success() {
+        // Given
+        when(userClient.getUser(1L)).thenReturn(createUserDTO(1L));
+        when(trainCache.getTrain(100L)).thenReturn(createTrainDTO(100L));
+        when(seatClient.getSeat(100L, "1A")).thenReturn(createSeatDTO(10L, "1A", false));
+
+        // When
+        ReservationLookupService.Lookup lookup = lookupService.lookup(1L, 100L, "1A");
+
+        // Then
+        assertThat(lookup.user().getId()).isEqualTo(1L);
+        assertThat(lookup.train().getId()).isEqualTo(100L);
+        assertThat(lookup.seat().getId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("세 조회를 동시에 실행하여 지연 시간이 합이 아닌 최댓값에 수렴")
+    void lookup_RunsConcurrently() {
+        // Given - 각 조회가 300ms 소요
+        when(userClient.getUser(1L)).thenAnswer(delayed(createUserDTO(1L), DELAY_MILLIS));
+        when(trainCache.getTrain(100L)).thenAnswer(delayed(createTrainDTO(100L), DELAY_MILLIS));
+        when(seatClient.getSeat(100L, "1A")).thenAnswer(delayed(createSeatDTO(10L, "1A", false), DELAY_MILLIS));
+
+        // When
+        long start = System.nanoTime();
+        lookupService.lookup(1L, 100L, "1A");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then - 순차 실행이면 900ms 이상
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(DELAY_MILLIS);
+        assertThat(elapsedMillis).isLessThan(DELAY_MILLIS * 2);
+    }
+
+    @Test
+    @DisplayName("하나가 실패하면 느린 조회를 기다리지 않고 즉시 실패하며 나머지를 취소")
+    void lookup_FailFast_CancelsOthers() throws Exception {
+        // Given
+        CountDownLatch trainStarted = new CountDownLatch(1);
+        CountDownLatch trainInterrupted = new CountDownLatch(1);
+        when(userClient.getUser(999L)).thenAnswer(invocation -> {
+            trainStarted.await(1, TimeUnit.SECONDS);
+            return null;
+        });
+        when(trainCache.getTrain(100L)).thenAnswer(invocation -> {
+            trainStarted.countDown();
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                trainInterrupted.countDown();
+            }
+            return createTrainDTO(100L);
+        });
+        lenient().when(seatClient.getSeat(100L, "1A")).thenReturn(createSeatDTO(10L, "1A", false));
+
+        // When
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> lookupService.lookup(999L, 100L, "1A"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("유저가 존재하지 않습니다.");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(trainInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("전체 제한 시간 초과 시 예외")
+    void lookup_Fail_Timeout() {
+        // Given
+        lookupService = new ReservationLookupService(userClient, trainCache, seatClient, executor, 100);
+        lenient().when(userClient.getUser(1L)).thenReturn(createUserDTO(1L));
+        lenient().when(trainCache.getTrain(100L)).thenReturn(createTrainDTO(100L));
+        when(seatClient.getSeat(100L, "1A")).thenAnswer(delayed(createSeatDTO(10L, "1A", false), 2_000));
+
+        // When & Then
+        assertThatThrownBy(() -> lookupService.lookup(1L, 100L, "1A"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("예약 정보 조회 시간이 초과되었습니다.");
+    }
+
+    @Test
+    @DisplayName("열차가 없으면 예외")
+    void lookup_Fail_TrainNotFound() {
+        // Given
+        lenient().when(userClient.getUser(1L)).thenReturn(createUserDTO(1L));
+        when(trainCache.getTrain(999L)).thenReturn(null);
+        lenient().when(seatClient.getSeat(999L, "1A")).thenReturn(createSeatDTO(10L, "1A", false));
+
+        // When & Then
+        assertThatThrownBy(() -> lookupService.lookup(1L, 999L, "1A"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("열차가 존재하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("좌석이 없으면 예외")
+    void lookup_Fail_SeatNotFound() {
+        // Given
+        lenient().when(userClient.getUser(1L)).thenReturn(createUserDTO(1L));
+        lenient().when(trainCache.getTrain(100L)).thenReturn(createTrainDTO(100L));
+        when(seatClient.getSeat(100L, "99Z")).thenReturn(null);
+
+        // When & Then
+        assertThatThrownBy(() -> lookupService.lookup(1L, 100L, "99Z"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("해당 좌석이 존재하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("이미 예약된 좌석이면 예외")
+    void lookup_Fail_SeatAlreadyReserved() {
+        // Given
+        lenient().when(userClient.getUser(1L)).thenReturn(createUserDTO(1L));
+        lenient().when(trainCache.getTrain(100L)).thenReturn(createTrainDTO(100L));
+        when(seatClient.getSeat(100L, "1A")).thenReturn(createSeatDTO(10L, "1A", true));
+
+        // When & Then
+        assertThatThrownBy(() -> lookupService.lookup(1L, 100L, "1A"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("이미 예약된 좌석입니다.");
+    }
+
+    @Test
+    @DisplayName("단체 예약 조회 성공 - 좌석은 한 번에 일괄 조회")
+    void lookupGroup_Success() {
+        // Given
+        when(userClient.getUser(1L)).thenReturn(createUserDTO(1L));
+        when(trainCache.getTrain(100L)).thenReturn(createTrainDTO(100L));
+        when(seatClient.getSeats(100L, List.of("1A", "1B")))
+                .thenReturn(List.of(createSeatDTO(10L, "1A", false), createSeatDTO(11L, "1B", false)));
+
+        // When
+        ReservationLookupService.GroupLookup lookup = lookupService.lookupGroup(1L, 100L, List.of("1A", "1B"));
+
+        // Then
+        assertThat(lookup.user().getId()).isEqualTo(1L);
+        assertThat(lookup.train().getId()).isEqualTo(100L);
+        assertThat(lookup.seats()).extracting(SeatDTO::getId).containsExactly(10L, 11L);
+        verify(seatClient, never()).getSeat(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("단체 예약 조회 - 일부 좌석이 없으면 예외")
+    void lookupGroup_Fail_SeatNotFound() {
+        // Given
+        lenient().when(userClient.getUser(1L)).thenReturn(createUserDTO(1L));
+        lenient().when(trainCache.getTrain(100L)).thenReturn(createTrainDTO(100L));
+        when(seatClient.getSeats(100L, List.of("1A", "99Z"))).thenReturn(List.of(createSeatDTO(10L, "1A", false)));
+
+        // When & Then
+        assertThatThrownBy(() -> lookupService.lookupGroup(1L, 100L, List.of("1A", "99Z")))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("해당 좌석이 존재하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("단체 예약 조회 - 좌석 조회 결과가 없으면 예외")
+    void lookupGroup_Fail_NullSeats() {
+        // Given
+        lenient().when(userClient.getUser(1L)).thenReturn(createUserDTO(1L));
+        lenient().when(trainCache.getTrain(100L)).thenReturn(createTrainDTO(100L));
+        when(seatClient.getSeats(100L, List.of("1A"))).thenReturn(null);
+
+        // When & Then
+        assertThatThrownBy(() -> lookupService.lookupGroup(1L, 100L, List.of("1A")))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("해당 좌석이 존재하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("단체 예약 조회 - 하나라도 예약된 좌석이 있으면 예외")
+    void lookupGroup_Fail_SeatAlreadyReserved() {
+        // Given
+        lenient().when(userClient.getUser(1L)).thenReturn(createUserDTO(1L));
+        lenient().when(trainCache.getTrain(100L)).thenReturn(createTrainDTO(100L));
+        when(seatClient.getSeats(100L, List.of("1A", "1B")))
+                .thenReturn(List.of(createSeatDTO(10L, "1A", false), createSeatDTO(11L, "1B", true)));
+
+        // When & Then
+        assertThatThrownBy(() -> lookupService.lookupGroup(1L, 100L, List.of("1A", "1B")))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("이미 예약된 좌석입니다.");
+    }
+
+    @Test
+    @DisplayName("원격 호출 예외는 그대로 전파")
+    void lookup_Fail_PropagatesClientException() {
+        // Given
+        when(userClient.getUser(1L)).thenThrow(new IllegalStateException("user-service unavailable"));
+        lenient().when(trainCache.getTrain(100L)).thenReturn(createTrainDTO(100L));
+        lenient().when(seatClient.getSeat(100L, "1A")).thenReturn(createSeatDTO(10L, "1A", false));
+
+        // When & Then
+        assertThatThrownBy(() -> lookupService.lookup(1L, 100L, "1A"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("user-service unavailable");
+    }
+
+    @Test
+    @DisplayName("검사 예외는 ApiException으로 변환")
+    void lookup_Fail_CheckedException() {
+        // Given
+        when(userClient.getUser(1L)).thenAnswer(invocation -> {
+            throw new IOException("connection reset");
+        });
+        lenient().when(trainCache.getTrain(100L)).thenReturn(createTrainDTO(100L));
+        lenient().when(seatClient.getSeat(100L, "1A")).thenReturn(createSeatDTO(10L, "1A", false));
+
+        // When & Then
+        assertThatThrownBy(() -> lookupService.lookup(1L, 100L, "1A"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("예약 정보 조회에 실패했습니다.");
+    }
+
+    @Test
+    @DisplayName("요청 스레드가 인터럽트되면 조회를 중단")
+    void lookup_Fail_Interrupted() {
+        // Given
+        lenient().when(userClient.getUser(1L)).thenAnswer(delayed(createUserDTO(1L), DELAY_MILLIS));
+        lenient().when(trainCache.getTrain(100L)).thenAnswer(delayed(createTrainDTO(100L), DELAY_MILLIS));
+        lenient().when(seatClient.getSeat(100L, "1A")).thenAnswer(delayed(createSeatDTO(10L, "1A", false), DELAY_MILLIS));
+
+        // When & Then
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> lookupService.lookup(1L, 100L, "1A"))
+                    .isInstanceOf(ApiException.class)
+                    .hasMessage("예약 정보 조회가 중단되었습니다.");
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private <T> Answer<T> delayed(T value, long delayMillis) {
+        return invocation -> {
+            Thread.sleep(delayMillis);
+            return value;
+        };
+    }
+
+    private UserDTO createUserDTO(Long id) {
+        return new UserDTO(id, "testuser", "홍길동", "test@example.com");
+    }
+
+    private TrainDTO createTrainDTO(Long id) {
+        return TrainDTO.builder()
+                .id(id)
+                .name("KTX-101")
+                .price(50000)
+                .departureStation("서울")
+                .arrivalStation("부산")
+                .departureTime(LocalDateTime.now())
+                .arrivalTime(LocalDateTime.now().plusHours(3))
+                .build();
+    }
+
+    private SeatDTO createSeatDTO(Long id, String seatNumber, boolean reserved) {
+        return SeatDTO.builder()
+                .id(id)
+                .seatNumber(seatNumber)
+                .reserved(reserved)
+                .build();
+    }
+}
@@ -1,17 +1,26 @@
 package com.ktcloudinfra.reservationservice.service;
 
-import com.ktcloudinfra.reservationservice.client.SeatClient;
-import com.ktcloudinfra.reservationservice.client.TrainClient;
-import com.ktcloudinfra.reservationservice.client.UserClient;
 import com.ktcloudinfra.reservationservice.client.dto.SeatDTO;
 import com.ktcloudinfra.reservationservice.client.dto.TrainDTO;
 import com.ktcloudinfra.reservationservice.client.dto.UserDTO;
+import com.ktcloudinfra.reservationservice.config.RabbitMQConfig;
+import com.ktcloudinfra.reservationservice.dto.event.ReservationCancelledEvent;
+import com.ktcloudinfra.reservationservice.dto.event.ReservationGroupRequestedEvent;
+import com.ktcloudinfra.reservationservice.dto.event.ReservationRequestedEvent;
+import com.ktcloudinfra.reservationservice.dto.event.TrainUpdatedEvent;
+import com.ktcloudinfra.reservationservice.dto.request.GroupReservationRequestDTO;
 import com.ktcloudinfra.reservationservice.dto.request.ReservationRequestDTO;
+import com.ktcloudinfra.reservationservice.dto.response.ReservationPageResponseDTO;
 import com.ktcloudinfra.reservationservice.dto.response.ReservationResponseDTO;
+import com.ktcloudinfra.reservationservice.dto.response.ReservationStatusResponseDTO;
 import com.ktcloudinfra.reservationservice.entity.Reservation;
+import com.ktcloudinfra.reservationservice.entity.ReservationIdempotencyKey;
 import com.ktcloudinfra.reservationservice.entity.ReservationStatus;
+import com.ktcloudinfra.reservationservice.entity.ReservationView;
 import com.ktcloudinfra.reservationservice.global.exception.ApiException;
+import com.ktcloudinfra.reservationservice.global.exception.IdempotencyKeyException;
 import com.ktcloudinfra.reservationservice.repository.ReservationRepository;
+import com.ktcloudinfra.reservationservice.repository.ReservationViewRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,18 +28,25 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,16 +56,22 @@ class ReservationServiceImplTest {
     private ReservationRepository reservationRepository;
 
     @Mock
-    private UserClient userClient;
+    private ReservationViewRepository reservationViewRepository;
 
     @Mock
-    private TrainClient trainClient;
+    private ReservationLookupService reservationLookupService;
 
     @Mock
-    private SeatClient seatClient;
+    private ReservationViewAssembler reservationViewAssembler;
 
     @Mock
-    private RabbitTemplate rabbitTemplate;
+    private ReservationIdempotencyStore reservationIdempotencyStore;
+
+    @Mock
+    private OutboxEventWriter outboxEventWriter;
+
+    @Mock
+    private ReservationStatusNotifier reservationStatusNotifier;
 
     @InjectMocks
     private ReservationServiceImpl reservationService;
@@ -63,16 +85,10 @@ class ReservationServiceImplTest {
         ReflectionTestUtils.setField(request, "trainId", 100L);
         ReflectionTestUtils.setField(request, "seatNumber", "1A");
 
-        UserDTO userDTO = new UserDTO(userId, "testuser", "홍길동", "test@example.com");
-        TrainDTO trainDTO = createTrainDTO(100L, "KTX-101");
-        List<SeatDTO> seatDTOs = Arrays.asList(
-                createSeatDTO(10L, "1A", 100L, false),
-                createSeatDTO(11L, "1B", 100L, false)
-        );
-
-        when(userClient.getUser(userId)).thenReturn(userDTO);
-        when(trainClient.getTrain(100L)).thenReturn(trainDTO);
-        when(seatClient.getSeatsByTrain(100L)).thenReturn(seatDTOs);
+        ReservationLookupService.Lookup lookup = createLookup(userId, 10L, "1A");
+        when(reservationLookupService.lookup(userId, 100L, "1A")).thenReturn(lookup);
+        when(reservationViewAssembler.toView(any(Reservation.class), eq(lookup.train())))
+                .thenReturn(createView(1L, userId, "KTX-101", "1A"));
         when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> {
             Reservation res = invocation.getArgument(0);
             ReflectionTestUtils.setField(res, "id", 1L);
@@ -80,15 +96,172 @@ class ReservationServiceImplTest {
         });
 
         // When
-        Long reservationId = reservationService.reserve(userId, request);
+        Long reservationId = reservationService.reserve(userId, request, null);
 
         // Then
         assertThat(reservationId).isEqualTo(1L);
-        verify(userClient).getUser(userId);
-        verify(trainClient).getTrain(100L);
-        verify(seatClient).getSeatsByTrain(100L);
+        verify(reservationLookupService).lookup(userId, 100L, "1A");
         verify(reservationRepository).save(any(Reservation.class));
-        verify(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+        verify(reservationViewRepository).save(any(ReservationView.class));
+        verify(outboxEventWriter).append(eq(RabbitMQConfig.RESERVATION_EXCHANGE), eq("reservation.requested"), any(ReservationRequestedEvent.class));
+        verifyNoInteractions(reservationIdempotencyStore);
+    }
+
+    @Test
+    @DisplayName("예약 생성 - Idempotency-Key 선점 후 예약 ID 기록")
+    void reserve_WithIdempotencyKey_ClaimsAndCompletes() {
+        // Given
+        Long userId = 1L;
+        ReservationRequestDTO request = new ReservationRequestDTO();
+        ReflectionTestUtils.setField(request, "trainId", 100L);
+        ReflectionTestUtils.setField(request, "seatNumber", "1A");
+
+        ReservationIdempotencyKey claimed = ReservationIdempotencyKey.builder()
+                .userId(userId)
+                .idempotencyKey("retry-key")
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build();
+        ReservationLookupService.Lookup lookup = createLookup(userId, 10L, "1A");
+        String fingerprint = ReservationIdempotencyStore.fingerprint("100:1A");
+        when(reservationIdempotencyStore.find(userId, "retry-key", fingerprint)).thenReturn(Optional.empty());
+        when(reservationIdempotencyStore.claim(userId, "retry-key", fingerprint)).thenReturn(claimed);
+        when(reservationLookupService.lookup(userId, 100L, "1A")).thenReturn(lookup);
+        when(reservationViewAssembler.toView(any(Reservation.class), eq(lookup.train())))
+                .thenReturn(createView(1L, userId, "KTX-101", "1A"));
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> {
+            Reservation res = invocation.getArgument(0);
+            ReflectionTestUtils.setField(res, "id", 1L);
+            return res;
+        });
+
+        // When
+        Long reservationId = reservationService.reserve(userId, request, "retry-key");
+
+        // Then
+        assertThat(reservationId).isEqualTo(1L);
+        verify(reservationIdempotencyStore).complete(claimed, 1L);
+    }
+
+    @Test
+    @DisplayName("예약 생성 - 재시도된 Idempotency-Key는 조회/저장/발행 없이 기존 예약 반환")
+    void reserve_WithIdempotencyKey_Replay() {
+        // Given
+        Long userId = 1L;
+        ReservationRequestDTO request = new ReservationRequestDTO();
+        ReflectionTestUtils.setField(request, "trainId", 100L);
+        ReflectionTestUtils.setField(request, "seatNumber", "1A");
+        when(reservationIdempotencyStore.find(userId, "retry-key", ReservationIdempotencyStore.fingerprint("100:1A")))
+                .thenReturn(Optional.of(7L));
+        when(reservationRepository.existsById(7L)).thenReturn(true);
+
+        // When
+        Long reservationId = reservationService.reserve(userId, request, "retry-key");
+
+        // Then
+        assertThat(reservationId).isEqualTo(7L);
+        verify(reservationIdempotencyStore, never()).claim(anyLong(), anyString(), anyString());
+        verify(reservationRepository, never()).save(any());
+        verifyNoInteractions(reservationLookupService, reservationViewRepository, outboxEventWriter);
+    }
+
+    @Test
+    @DisplayName("예약 생성 - 재시도된 Idempotency-Key의 예약이 삭제되었으면 409")
+    void reserve_WithIdempotencyKey_Replay_ReservationDeleted() {
+        // Given
+        Long userId = 1L;
+        ReservationRequestDTO request = new ReservationRequestDTO();
+        ReflectionTestUtils.setField(request, "trainId", 100L);
+        ReflectionTestUtils.setField(request, "seatNumber", "1A");
+        when(reservationIdempotencyStore.find(userId, "retry-key", ReservationIdempotencyStore.fingerprint("100:1A")))
+                .thenReturn(Optional.of(7L));
+        when(reservationRepository.existsById(7L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> reservationService.reserve(userId, request, "retry-key"))
+                .isInstanceOf(IdempotencyKeyException.class)
+                .satisfies(e -> assertThat(((IdempotencyKeyException) e).getStatus()).isEqualTo(HttpStatus.CONFLICT));
+        verify(reservationIdempotencyStore, never()).claim(anyLong(), anyString(), anyString());
+        verifyNoInteractions(reservationLookupService, outboxEventWriter);
+    }
+
+    @Test
+    @DisplayName("단체 예약 성공 - 한 번 검증하고 일괄 저장 후 하나의 이벤트 기록")
+    void reserveGroup_Success() {
+        // Given
+        Long userId = 1L;
+        GroupReservationRequestDTO request = new GroupReservationRequestDTO();
+        ReflectionTestUtils.setField(request, "trainId", 100L);
+        ReflectionTestUtils.setField(request, "seatNumbers", List.of("1A", "1B", "1C"));
+
+        TrainDTO train = createTrainDTO(100L, "KTX-101");
+        when(reservationLookupService.lookupGroup(userId, 100L, List.of("1A", "1B", "1C")))
+                .thenReturn(new ReservationLookupService.GroupLookup(
+                        new UserDTO(userId, "testuser", "홍길동", "test@example.com"),
+                        train,
+                        List.of(createSeatDTO(12L, "1C", 100L, false),
+                                createSeatDTO(10L, "1A", 100L, false),
+                                createSeatDTO(11L, "1B", 100L, false))));
+        AtomicLong ids = new AtomicLong();
+        when(reservationRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Reservation> reservations = invocation.getArgument(0);
+            reservations.forEach(res -> ReflectionTestUtils.setField(res, "id", ids.incrementAndGet()));
+            return reservations;
+        });
+        when(reservationViewAssembler.toView(any(Reservation.class), eq(train)))
+                .thenAnswer(invocation -> createView(((Reservation) invocation.getArgument(0)).getId(), userId, "KTX-101", "1A"));
+
+        // When
+        List<Long> reservationIds = reservationService.reserveGroup(userId, request);
+
+        // Then
+        assertThat(reservationIds).containsExactly(1L, 2L, 3L);
+        ArgumentCaptor<List<Reservation>> reservationsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(reservationRepository).saveAll(reservationsCaptor.capture());
+        assertThat(reservationsCaptor.getValue()).extracting(Reservation::getSeatId).containsExactly(10L, 11L, 12L);
+        verify(reservationViewRepository).saveAll(anyList());
+        verify(reservationLookupService, never()).lookup(anyLong(), anyLong(), anyString());
+
+        ArgumentCaptor<ReservationGroupRequestedEvent> eventCaptor = ArgumentCaptor.forClass(ReservationGroupRequestedEvent.class);
+        verify(outboxEventWriter).append(eq(RabbitMQConfig.RESERVATION_EXCHANGE), eq("reservation.group-requested"), eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getTrainId()).isEqualTo(100L);
+        assertThat(eventCaptor.getValue().getSeats())
+                .extracting(ReservationGroupRequestedEvent.GroupSeat::getReservationId, ReservationGroupRequestedEvent.GroupSeat::getSeatNumber)
+                .containsExactly(tuple(1L, "1A"), tuple(2L, "1B"), tuple(3L, "1C"));
+    }
+
+    @Test
+    @DisplayName("단체 예약 실패 - 좌석 수 제한")
+    void reserveGroup_Fail_Size() {
+        GroupReservationRequestDTO empty = new GroupReservationRequestDTO();
+        ReflectionTestUtils.setField(empty, "trainId", 100L);
+        ReflectionTestUtils.setField(empty, "seatNumbers", List.of());
+        GroupReservationRequestDTO tooMany = new GroupReservationRequestDTO();
+        ReflectionTestUtils.setField(tooMany, "trainId", 100L);
+        ReflectionTestUtils.setField(tooMany, "seatNumbers", List.of("1A", "1B", "1C", "1D", "2A", "2B", "2C"));
+        GroupReservationRequestDTO missing = new GroupReservationRequestDTO();
+        ReflectionTestUtils.setField(missing, "trainId", 100L);
+
+        for (GroupReservationRequestDTO request : List.of(empty, tooMany, missing)) {
+            assertThatThrownBy(() -> reservationService.reserveGroup(1L, request))
+                    .isInstanceOf(ApiException.class)
+                    .hasMessage("단체 예약은 1~6석까지 가능합니다.");
+        }
+        verifyNoInteractions(reservationLookupService, reservationRepository, outboxEventWriter);
+    }
+
+    @Test
+    @DisplayName("단체 예약 실패 - 중복 좌석")
+    void reserveGroup_Fail_DuplicateSeat() {
+        // Given
+        GroupReservationRequestDTO request = new GroupReservationRequestDTO();
+        ReflectionTestUtils.setField(request, "trainId", 100L);
+        ReflectionTestUtils.setField(request, "seatNumbers", List.of("1A", "1A"));
+
+        // When & Then
+        assertThatThrownBy(() -> reservationService.reserveGroup(1L, request))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("중복된 좌석 번호가 있습니다.");
+        verifyNoInteractions(reservationLookupService, reservationRepository, outboxEventWriter);
     }
 
     @Test
@@ -100,72 +273,110 @@ class ReservationServiceImplTest {
         ReflectionTestUtils.setField(request, "trainId", 100L);
         ReflectionTestUtils.setField(request, "seatNumber", "1A");
 
-        when(userClient.getUser(userId)).thenThrow(new ApiException("사용자가 존재하지 않습니다."));
+        when(reservationLookupService.lookup(userId, 100L, "1A"))
+                .thenThrow(new ApiException("유저가 존재하지 않습니다."));
 
         // When & Then
-        assertThatThrownBy(() -> reservationService.reserve(userId, request))
-                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> reservationService.reserve(userId, request, null))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("유저가 존재하지 않습니다.");
 
-        verify(userClient).getUser(userId);
-        verify(trainClient, never()).getTrain(anyLong());
         verify(reservationRepository, never()).save(any());
+        verify(outboxEventWriter, never()).append(anyString(), anyString(), any());
     }
 
     @Test
-    @DisplayName("사용자별 예약 목록 조회 성공")
+    @DisplayName("사용자별 예약 목록 조회 성공 - 프로젝션에서 원격 호출 없이 조회")
     void getReservationsByUser_Success() {
         // Given
         Long userId = 1L;
         Reservation res1 = createReservation(1L, userId, 100L, 10L, "1A");
         Reservation res2 = createReservation(2L, userId, 101L, 11L, "2B");
 
-        TrainDTO train1 = createTrainDTO(100L, "KTX-101");
-        TrainDTO train2 = createTrainDTO(101L, "KTX-102");
-        List<SeatDTO> seats1 = Arrays.asList(createSeatDTO(10L, "1A", 100L, true));
-        List<SeatDTO> seats2 = Arrays.asList(createSeatDTO(11L, "2B", 101L, true));
+        when(reservationRepository.findByUserIdOrderByReservedAtDescIdDesc(userId, PageRequest.of(0, 21)))
+                .thenReturn(Arrays.asList(res1, res2));
+        when(reservationViewRepository.findAllById(List.of(1L, 2L))).thenReturn(Arrays.asList(
+                createView(2L, userId, "KTX-102", "2B"),
+                createView(1L, userId, "KTX-101", "1A")
+        ));
+
+        // When
+        ReservationPageResponseDTO page = reservationService.getReservationsByUser(userId, null, 20, null);
+
+        // Then
+        assertThat(page.getReservations()).extracting(ReservationResponseDTO::getReservationId).containsExactly(1L, 2L);
+        assertThat(page.getReservations()).extracting(ReservationResponseDTO::getTrainName).containsExactly("KTX-101", "KTX-102");
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        verifyNoInteractions(reservationViewAssembler, reservationLookupService);
+    }
+
+    @Test
+    @DisplayName("사용자별 예약 목록 조회 - 프로젝션이 없는 예약은 채워 넣음")
+    void getReservationsByUser_BackfillsMissingViews() {
+        // Given
+        Long userId = 1L;
+        Reservation res1 = createReservation(1L, userId, 100L, 10L, "1A");
+        Reservation res2 = createReservation(2L, userId, 101L, 11L, "2B");
+        ReservationView backfilled = createView(2L, userId, "KTX-102", "2B");
 
-        when(reservationRepository.findByUserId(userId)).thenReturn(Arrays.asList(res1, res2));
-        when(trainClient.getTrain(100L)).thenReturn(train1);
-        when(trainClient.getTrain(101L)).thenReturn(train2);
-        when(seatClient.getSeatsByTrain(100L)).thenReturn(seats1);
-        when(seatClient.getSeatsByTrain(101L)).thenReturn(seats2);
+        when(reservationRepository.findByUserIdOrderByReservedAtDescIdDesc(userId, PageRequest.of(0, 21)))
+                .thenReturn(Arrays.asList(res1, res2));
+        when(reservationViewRepository.findAllById(List.of(1L, 2L)))
+                .thenReturn(List.of(createView(1L, userId, "KTX-101", "1A")));
+        when(reservationViewAssembler.assemble(List.of(res2))).thenReturn(List.of(backfilled));
+        when(reservationViewRepository.saveAll(List.of(backfilled))).thenReturn(List.of(backfilled));
 
         // When
-        List<ReservationResponseDTO> reservations = reservationService.getReservationsByUser(userId);
+        ReservationPageResponseDTO page = reservationService.getReservationsByUser(userId, null, 20, null);
 
         // Then
-        assertThat(reservations).hasSize(2);
-        verify(reservationRepository).findByUserId(userId);
-        verify(trainClient).getTrain(100L);
-        verify(trainClient).getTrain(101L);
-        verify(seatClient).getSeatsByTrain(100L);
-        verify(seatClient).getSeatsByTrain(101L);
+        assertThat(page.getReservations()).extracting(ReservationResponseDTO::getTrainName).containsExactly("KTX-101", "KTX-102");
+        verify(reservationViewAssembler).assemble(List.of(res2));
+        verify(reservationViewRepository).saveAll(List.of(backfilled));
     }
 
     @Test
-    @DisplayName("예약 조회 성공")
+    @DisplayName("예약 조회 성공 - 프로젝션에서 조회")
     void getReservation_Success() {
         // Given
         Long reservationId = 1L;
-        Long userId = 1L;
-        Reservation reservation = createReservation(reservationId, userId, 100L, 10L, "1A");
+        when(reservationViewRepository.findById(reservationId))
+                .thenReturn(Optional.of(createView(reservationId, 1L, "KTX-101", "1A")));
+
+        // When
+        ReservationResponseDTO response = reservationService.getReservation(reservationId);
+
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(response.getReservationId()).isEqualTo(reservationId);
+        assertThat(response.getTrainName()).isEqualTo("KTX-101");
+        assertThat(response.getSeatNumber()).isEqualTo("1A");
+        verify(reservationRepository, never()).findById(anyLong());
+        verifyNoInteractions(reservationViewAssembler, reservationLookupService);
+    }
 
-        TrainDTO trainDTO = createTrainDTO(100L, "KTX-101");
-        List<SeatDTO> seatDTOs = Arrays.asList(createSeatDTO(10L, "1A", 100L, true));
+    @Test
+    @DisplayName("예약 조회 - 프로젝션이 없으면 채워 넣음")
+    void getReservation_BackfillsMissingView() {
+        // Given
+        Long reservationId = 1L;
+        Reservation reservation = createReservation(reservationId, 1L, 100L, 10L, "1A");
+        ReservationView backfilled = createView(reservationId, 1L, "KTX-101", "1A");
 
+        when(reservationViewRepository.findById(reservationId)).thenReturn(Optional.empty());
         when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
-        when(trainClient.getTrain(100L)).thenReturn(trainDTO);
-        when(seatClient.getSeatsByTrain(100L)).thenReturn(seatDTOs);
+        when(reservationViewRepository.findAllById(List.of(reservationId))).thenReturn(List.of());
+        when(reservationViewAssembler.assemble(List.of(reservation))).thenReturn(List.of(backfilled));
+        when(reservationViewRepository.saveAll(List.of(backfilled))).thenReturn(List.of(backfilled));
 
         // When
         ReservationResponseDTO response = reservationService.getReservation(reservationId);
 
         // Then
-        assertThat(response).isNotNull();
         assertThat(response.getReservationId()).isEqualTo(reservationId);
-        verify(reservationRepository).findById(reservationId);
-        verify(trainClient).getTrain(100L);
-        verify(seatClient).getSeatsByTrain(100L);
+        assertThat(response.getTrainName()).isEqualTo("KTX-101");
+        verify(reservationViewRepository).saveAll(List.of(backfilled));
     }
 
     @Test
@@ -173,6 +384,7 @@ class ReservationServiceImplTest {
     void getReservation_Fail_NotFound() {
         // Given
         Long reservationId = 999L;
+        when(reservationViewRepository.findById(reservationId)).thenReturn(Optional.empty());
         when(reservationRepository.findById(reservationId)).thenReturn(Optional.empty());
 
         // When & Then
@@ -187,6 +399,7 @@ class ReservationServiceImplTest {
         // Given
         Long reservationId = 1L;
         Reservation reservation = createReservation(reservationId, 1L, 100L, 10L, "1A");
+        reservation.updateStatus(ReservationStatus.CONFIRMED);
 
         when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
         doNothing().when(reservationRepository).delete(reservation);
@@ -197,101 +410,147 @@ class ReservationServiceImplTest {
         // Then
         verify(reservationRepository).findById(reservationId);
         verify(reservationRepository).delete(reservation);
-        verify(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+        verify(reservationViewRepository).deleteById(reservationId);
+        verify(outboxEventWriter).append(eq(RabbitMQConfig.RESERVATION_EXCHANGE), eq("reservation.cancelled"), any(ReservationCancelledEvent.class));
+        verify(reservationStatusNotifier).notifyAfterCommit(reservationId, ReservationStatus.CANCELLED);
     }
 
     @Test
-    @DisplayName("예약 취소 실패 - 존재하지 않음")
-    void cancelReservation_Fail_NotFound() {
+    @DisplayName("예약 취소 실패 - 좌석 결과가 오기 전(PENDING)에는 취소 이벤트 없이 거절")
+    void cancelReservation_Fail_Pending() {
         // Given
-        Long reservationId = 999L;
-        when(reservationRepository.findById(reservationId)).thenReturn(Optional.empty());
+        Reservation reservation = createReservation(1L, 1L, 100L, 10L, "1A");
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(reservation));
 
         // When & Then
-        assertThatThrownBy(() -> reservationService.cancelReservation(reservationId))
+        assertThatThrownBy(() -> reservationService.cancelReservation(1L))
                 .isInstanceOf(ApiException.class)
-                .hasMessage("예약이 존재하지 않습니다.");
-
-        verify(reservationRepository).findById(reservationId);
+                .hasMessage("좌석 확정 전인 예약은 취소할 수 없습니다. 잠시 후 다시 시도해주세요.");
         verify(reservationRepository, never()).delete(any());
+        verifyNoInteractions(outboxEventWriter, reservationViewRepository, reservationStatusNotifier);
     }
 
     @Test
-    @DisplayName("예약 생성 실패 - 열차 없음")
-    void reserve_Fail_TrainNotFound() {
+    @DisplayName("예약 취소 - 좌석 확보에 실패한 예약은 취소 이벤트 없이 삭제")
+    void cancelReservation_AlreadyRejected() {
         // Given
-        Long userId = 1L;
-        ReservationRequestDTO request = new ReservationRequestDTO();
-        ReflectionTestUtils.setField(request, "trainId", 999L);
-        ReflectionTestUtils.setField(request, "seatNumber", "1A");
+        Long reservationId = 1L;
+        Reservation reservation = createReservation(reservationId, 1L, 100L, 10L, "1A");
+        reservation.updateStatus(ReservationStatus.CANCELLED);
+        when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
+
+        // When
+        reservationService.cancelReservation(reservationId);
+
+        // Then
+        verify(reservationRepository).delete(reservation);
+        verifyNoInteractions(outboxEventWriter);
+    }
 
-        UserDTO userDTO = new UserDTO(userId, "testuser", "홍길동", "test@example.com");
-        when(userClient.getUser(userId)).thenReturn(userDTO);
-        when(trainClient.getTrain(999L)).thenReturn(null);
+    @Test
+    @DisplayName("예약 상태 조회 성공")
+    void getReservationStatus_Success() {
+        // Given
+        Reservation reservation = createReservation(1L, 1L, 100L, 10L, "1A");
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(reservation));
+
+        // When
+        ReservationStatusResponseDTO response = reservationService.getReservationStatus(1L);
+
+        // Then
+        assertThat(response.getReservationId()).isEqualTo(1L);
+        assertThat(response.getStatus()).isEqualTo(ReservationStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("예약 상태 조회 실패 - 존재하지 않음")
+    void getReservationStatus_Fail_NotFound() {
+        // Given
+        when(reservationRepository.findById(999L)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> reservationService.reserve(userId, request))
+        assertThatThrownBy(() -> reservationService.getReservationStatus(999L))
                 .isInstanceOf(ApiException.class)
-                .hasMessage("열차가 존재하지 않습니다.");
+                .hasMessage("예약이 존재하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("좌석 예약 완료 이벤트 - PENDING 예약을 확정하고 대기자에게 알림")
+    void confirmReservation() {
+        // Given
+        Reservation reservation = createReservation(1L, 1L, 100L, 10L, "1A");
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(reservation));
 
-        verify(userClient).getUser(userId);
-        verify(trainClient).getTrain(999L);
+        // When
+        reservationService.confirmReservation(1L);
+
+        // Then
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        verify(reservationStatusNotifier).notifyAfterCommit(1L, ReservationStatus.CONFIRMED);
     }
 
     @Test
-    @DisplayName("예약 생성 실패 - 좌석 없음")
-    void reserve_Fail_SeatNotFound() {
+    @DisplayName("좌석 예약 거절 이벤트 - PENDING 예약을 취소 상태로 전환")
+    void rejectReservation() {
         // Given
-        Long userId = 1L;
-        ReservationRequestDTO request = new ReservationRequestDTO();
-        ReflectionTestUtils.setField(request, "trainId", 100L);
-        ReflectionTestUtils.setField(request, "seatNumber", "99Z");
+        Reservation reservation = createReservation(1L, 1L, 100L, 10L, "1A");
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(reservation));
 
-        UserDTO userDTO = new UserDTO(userId, "testuser", "홍길동", "test@example.com");
-        TrainDTO trainDTO = createTrainDTO(100L, "KTX-101");
-        List<SeatDTO> seatDTOs = Arrays.asList(
-                createSeatDTO(10L, "1A", 100L, false),
-                createSeatDTO(11L, "1B", 100L, false)
-        );
+        // When
+        reservationService.rejectReservation(1L);
+
+        // Then
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        verify(reservationStatusNotifier).notifyAfterCommit(1L, ReservationStatus.CANCELLED);
+    }
 
-        when(userClient.getUser(userId)).thenReturn(userDTO);
-        when(trainClient.getTrain(100L)).thenReturn(trainDTO);
-        when(seatClient.getSeatsByTrain(100L)).thenReturn(seatDTOs);
+    @Test
+    @DisplayName("좌석 처리 결과 이벤트 - 이미 처리됐거나 삭제된 예약은 무시")
+    void completeReservation_IgnoresNonPending() {
+        // Given
+        Reservation confirmed = createReservation(1L, 1L, 100L, 10L, "1A");
+        confirmed.updateStatus(ReservationStatus.CONFIRMED);
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(confirmed));
+        when(reservationRepository.findById(2L)).thenReturn(Optional.empty());
 
-        // When & Then
-        assertThatThrownBy(() -> reservationService.reserve(userId, request))
-                .isInstanceOf(ApiException.class)
-                .hasMessage("해당 좌석이 존재하지 않습니다.");
+        // When
+        reservationService.rejectReservation(1L);
+        reservationService.confirmReservation(2L);
 
-        verify(seatClient).getSeatsByTrain(100L);
+        // Then
+        assertThat(confirmed.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        verifyNoInteractions(reservationStatusNotifier);
     }
 
     @Test
-    @DisplayName("예약 생성 실패 - 이미 예약된 좌석")
-    void reserve_Fail_SeatAlreadyReserved() {
+    @DisplayName("열차 정보 변경 이벤트 - 예약 조회 프로젝션 갱신")
+    void updateTrainDetails() {
         // Given
-        Long userId = 1L;
-        ReservationRequestDTO request = new ReservationRequestDTO();
-        ReflectionTestUtils.setField(request, "trainId", 100L);
-        ReflectionTestUtils.setField(request, "seatNumber", "1A");
+        LocalDateTime departureTime = LocalDateTime.now().plusDays(1);
+        TrainUpdatedEvent event = new TrainUpdatedEvent(100L, "KTX-101", 52000, "서울", "부산",
+                departureTime, departureTime.plusHours(3), LocalDateTime.now());
+
+        // When
+        reservationService.updateTrainDetails(event);
 
-        UserDTO userDTO = new UserDTO(userId, "testuser", "홍길동", "test@example.com");
-        TrainDTO trainDTO = createTrainDTO(100L, "KTX-101");
-        List<SeatDTO> seatDTOs = Arrays.asList(
-                createSeatDTO(10L, "1A", 100L, true), // Already reserved
-                createSeatDTO(11L, "1B", 100L, false)
-        );
+        // Then
+        verify(reservationViewRepository).updateTrainDetails(100L, "KTX-101", 52000, "서울", "부산", departureTime);
+    }
 
-        when(userClient.getUser(userId)).thenReturn(userDTO);
-        when(trainClient.getTrain(100L)).thenReturn(trainDTO);
-        when(seatClient.getSeatsByTrain(100L)).thenReturn(seatDTOs);
+    @Test
+    @DisplayName("예약 취소 실패 - 존재하지 않음")
+    void cancelReservation_Fail_NotFound() {
+        // Given
+        Long reservationId = 999L;
+        when(reservationRepository.findById(reservationId)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> reservationService.reserve(userId, request))
+        assertThatThrownBy(() -> reservationService.cancelReservation(reservationId))
                 .isInstanceOf(ApiException.class)
-                .hasMessage("이미 예약된 좌석입니다.");
+                .hasMessage("예약이 존재하지 않습니다.");
 
-        verify(seatClient).getSeatsByTrain(100L);
+        verify(reservationRepository).findById(reservationId);
+        verify(reservationRepository, never()).delete(any());
     }
 
     @Test
@@ -299,14 +558,100 @@ class ReservationServiceImplTest {
     void getReservationsByUser_Fail_NoReservations() {
         // Given
         Long userId = 1L;
-        when(reservationRepository.findByUserId(userId)).thenReturn(Arrays.asList());
+        when(reservationRepository.findByUserIdOrderByReservedAtDescIdDesc(userId, PageRequest.of(0, 21)))
+                .thenReturn(Arrays.asList());
 
         // When & Then
-        assertThatThrownBy(() -> reservationService.getReservationsByUser(userId))
+        assertThatThrownBy(() -> reservationService.getReservationsByUser(userId, null, 20, null))
                 .isInstanceOf(ApiException.class)
                 .hasMessage("예매 내역이 없습니다.");
+    }
+
+    @Test
+    @DisplayName("사용자별 예약 목록 조회 - 다음 페이지가 있으면 마지막 행 기준 커서 반환")
+    void getReservationsByUser_ReturnsNextCursor() {
+        // Given
+        Long userId = 1L;
+        Reservation res1 = createReservation(3L, userId, 100L, 10L, "1A");
+        Reservation res2 = createReservation(2L, userId, 100L, 11L, "1B");
+        Reservation res3 = createReservation(1L, userId, 100L, 12L, "1C");
+        when(reservationRepository.findByUserIdAndStatusOrderByReservedAtDescIdDesc(
+                userId, ReservationStatus.PENDING, PageRequest.of(0, 3)))
+                .thenReturn(Arrays.asList(res1, res2, res3));
+        when(reservationViewRepository.findAllById(List.of(3L, 2L))).thenReturn(Arrays.asList(
+                createView(3L, userId, "KTX-101", "1A"),
+                createView(2L, userId, "KTX-101", "1B")
+        ));
+
+        // When
+        ReservationPageResponseDTO page = reservationService.getReservationsByUser(
+                userId, null, 2, ReservationStatus.PENDING);
+
+        // Then
+        assertThat(page.getReservations()).extracting(ReservationResponseDTO::getReservationId).containsExactly(3L, 2L);
+        assertThat(page.isHasNext()).isTrue();
+        ReservationCursor cursor = ReservationCursor.decode(page.getNextCursor());
+        assertThat(cursor.id()).isEqualTo(2L);
+        assertThat(cursor.reservedAt()).isEqualTo(res2.getReservedAt());
+    }
+
+    @Test
+    @DisplayName("사용자별 예약 목록 조회 - 커서 이후 페이지 조회")
+    void getReservationsByUser_WithCursor() {
+        // Given
+        Long userId = 1L;
+        Reservation last = createReservation(5L, userId, 100L, 10L, "1A");
+        Reservation next = createReservation(4L, userId, 100L, 11L, "1B");
+        String cursor = ReservationCursor.of(last).encode();
+        when(reservationRepository.findPageAfter(userId, last.getReservedAt(), 5L, PageRequest.of(0, 11)))
+                .thenReturn(List.of(next));
+        when(reservationViewRepository.findAllById(List.of(4L)))
+                .thenReturn(List.of(createView(4L, userId, "KTX-101", "1B")));
 
-        verify(reservationRepository).findByUserId(userId);
+        // When
+        ReservationPageResponseDTO page = reservationService.getReservationsByUser(userId, cursor, 10, null);
+
+        // Then
+        assertThat(page.getReservations()).extracting(ReservationResponseDTO::getReservationId).containsExactly(4L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("사용자별 예약 목록 조회 - 상태 필터와 커서, 최대 페이지 크기 제한")
+    void getReservationsByUser_WithCursorAndStatus_CapsPageSize() {
+        // Given
+        Long userId = 1L;
+        Reservation last = createReservation(5L, userId, 100L, 10L, "1A");
+        String cursor = ReservationCursor.of(last).encode();
+        when(reservationRepository.findPageAfterWithStatus(userId, ReservationStatus.CONFIRMED,
+                last.getReservedAt(), 5L, PageRequest.of(0, ReservationServiceImpl.MAX_PAGE_SIZE + 1)))
+                .thenReturn(List.of());
+
+        // When
+        ReservationPageResponseDTO page = reservationService.getReservationsByUser(
+                userId, cursor, 10_000, ReservationStatus.CONFIRMED);
+
+        // Then
+        assertThat(page.getReservations()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+        verifyNoInteractions(reservationViewRepository);
+    }
+
+    @Test
+    @DisplayName("사용자별 예약 목록 조회 실패 - 잘못된 커서")
+    void getReservationsByUser_Fail_InvalidCursor() {
+        String notBase64 = "!!!";
+        String noDelimiter = Base64.getUrlEncoder().encodeToString("garbage".getBytes(StandardCharsets.UTF_8));
+        String badDate = Base64.getUrlEncoder().encodeToString("yesterday|1".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().encodeToString("2026-01-01T09:00|x".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : List.of(notBase64, noDelimiter, badDate, badId)) {
+            assertThatThrownBy(() -> reservationService.getReservationsByUser(1L, cursor, 20, null))
+                    .isInstanceOf(ApiException.class)
+                    .hasMessage("잘못된 커서입니다.");
+        }
+        verifyNoInteractions(reservationRepository);
     }
 
     private Reservation createReservation(Long id, Long userId, Long trainId, Long seatId, String seatNumber) {
@@ -322,6 +667,28 @@ class ReservationServiceImplTest {
         return reservation;
     }
 
+    private ReservationLookupService.Lookup createLookup(Long userId, Long seatId, String seatNumber) {
+        return new ReservationLookupService.Lookup(
+                new UserDTO(userId, "testuser", "홍길동", "test@example.com"),
+                createTrainDTO(100L, "KTX-101"),
+                createSeatDTO(seatId, seatNumber, 100L, false));
+    }
+
+    private ReservationView createView(Long reservationId, Long userId, String trainName, String seatNumber) {
+        return ReservationView.builder()
+                .reservationId(reservationId)
+                .userId(userId)
+                .trainId(100L)
+                .trainName(trainName)
+                .price(50000)
+                .departureStation("서울")
+                .arrivalStation("부산")
+                .departureTime(LocalDateTime.now().plusDays(1))
+                .seatNumber(seatNumber)
+                .reservedAt(LocalDateTime.now())
+                .build();
+    }
+
     private TrainDTO createTrainDTO(Long id, String name) {
         return TrainDTO.builder()
                 .id(id)
@@ -331,7 +698,6 @@ class ReservationServiceImplTest {
                 .arrivalStation("부산")
                 .departureTime(LocalDateTime.now())
                 .arrivalTime(LocalDateTime.now().plusHours(3))
-                .availableSeats(100)
                 .build();
     }
 
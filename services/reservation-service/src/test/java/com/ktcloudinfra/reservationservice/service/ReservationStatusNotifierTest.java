@@ -0,0 +1,173 @@
+package com.ktcloudinfra.reservationservice.service;
+
+import com.ktcloudinfra.reservationservice.dto.response.ReservationStatusResponseDTO;
+import com.ktcloudinfra.reservationservice.entity.Reservation;
+import com.ktcloudinfra.reservationservice.entity.ReservationStatus;
+import com.ktcloudinfra.reservationservice.repository.ReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationStatusNotifierTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @InjectMocks
+    private ReservationStatusNotifier notifier;
+
+    @Test
+    @DisplayName("이미 확정된 예약은 대기 없이 즉시 응답")
+    void await_AlreadyCompleted() {
+        // When
+        DeferredResult<ReservationStatusResponseDTO> result = notifier.await(status(1L, ReservationStatus.CONFIRMED), 10_000);
+
+        // Then
+        assertThat(result.hasResult()).isTrue();
+        assertThat(notifier.waitingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 시간이 0이면 PENDING 상태를 즉시 응답")
+    void await_NoWait() {
+        // When
+        DeferredResult<ReservationStatusResponseDTO> result = notifier.await(status(1L, ReservationStatus.PENDING), 0);
+
+        // Then
+        assertThat(((ReservationStatusResponseDTO) result.getResult()).getStatus()).isEqualTo(ReservationStatus.PENDING);
+        assertThat(notifier.waitingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("PENDING 예약은 상태 변경 알림을 받을 때 응답")
+    void await_NotifiedOnChange() {
+        // Given
+        DeferredResult<ReservationStatusResponseDTO> first = notifier.await(status(1L, ReservationStatus.PENDING), 10_000);
+        DeferredResult<ReservationStatusResponseDTO> second = notifier.await(status(1L, ReservationStatus.PENDING), 60_000);
+        DeferredResult<ReservationStatusResponseDTO> other = notifier.await(status(2L, ReservationStatus.PENDING), 10_000);
+
+        // When
+        notifier.notify(1L, ReservationStatus.CONFIRMED);
+        notifier.notify(3L, ReservationStatus.CONFIRMED);
+
+        // Then
+        assertThat(((ReservationStatusResponseDTO) first.getResult()).getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(((ReservationStatusResponseDTO) second.getResult()).getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(other.hasResult()).isFalse();
+        assertThat(notifier.waitingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 이후에 알림")
+    void notifyAfterCommit() {
+        // Given
+        DeferredResult<ReservationStatusResponseDTO> result = notifier.await(status(1L, ReservationStatus.PENDING), 10_000);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            notifier.notifyAfterCommit(1L, ReservationStatus.CANCELLED);
+
+            // Then
+            assertThat(result.hasResult()).isFalse();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(((ReservationStatusResponseDTO) result.getResult()).getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 즉시 알림")
+    void notifyAfterCommit_WithoutTransaction() {
+        // Given
+        DeferredResult<ReservationStatusResponseDTO> result = notifier.await(status(1L, ReservationStatus.PENDING), 10_000);
+
+        // When
+        notifier.notifyAfterCommit(1L, ReservationStatus.CONFIRMED);
+
+        // Then
+        assertThat(result.hasResult()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 변경된 상태는 일괄 조회로 감지 (삭제된 예약은 취소)")
+    void sweep() {
+        // Given
+        DeferredResult<ReservationStatusResponseDTO> confirmed = notifier.await(status(1L, ReservationStatus.PENDING), 10_000);
+        DeferredResult<ReservationStatusResponseDTO> pending = notifier.await(status(2L, ReservationStatus.PENDING), 10_000);
+        DeferredResult<ReservationStatusResponseDTO> deleted = notifier.await(status(3L, ReservationStatus.PENDING), 10_000);
+        when(reservationRepository.findAllById(Set.of(1L, 2L, 3L))).thenReturn(List.of(
+                reservation(1L, ReservationStatus.CONFIRMED),
+                reservation(2L, ReservationStatus.PENDING)
+        ));
+
+        // When
+        notifier.sweep();
+
+        // Then
+        assertThat(((ReservationStatusResponseDTO) confirmed.getResult()).getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(pending.hasResult()).isFalse();
+        assertThat(((ReservationStatusResponseDTO) deleted.getResult()).getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(notifier.waitingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 응답이 끝난 대기자는 정리하고 조회하지 않음")
+    void sweep_PrunesCompletedWaiters() {
+        // Given
+        DeferredResult<ReservationStatusResponseDTO> result = notifier.await(status(1L, ReservationStatus.PENDING), 10_000);
+        result.setResult(status(1L, ReservationStatus.PENDING));
+
+        // When
+        notifier.sweep();
+
+        // Then
+        assertThat(notifier.waitingCount()).isZero();
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    @DisplayName("대기자가 없으면 조회하지 않음")
+    void sweep_NoWaiters() {
+        // When
+        notifier.sweep();
+
+        // Then
+        verifyNoInteractions(reservationRepository);
+    }
+
+    private ReservationStatusResponseDTO status(Long reservationId, ReservationStatus status) {
+        return ReservationStatusResponseDTO.builder()
+                .reservationId(reservationId)
+                .status(status)
+                .build();
+    }
+
+    private Reservation reservation(Long id, ReservationStatus status) {
+        Reservation reservation = Reservation.builder()
+                .userId(1L)
+                .trainId(100L)
+                .seatId(10L)
+                .seatNumber("1A")
+                .status(status)
+                .reservedAt(LocalDateTime.now())
+                .build();
+        ReflectionTestUtils.setField(reservation, "id", id);
+        return reservation;
+    }
+}
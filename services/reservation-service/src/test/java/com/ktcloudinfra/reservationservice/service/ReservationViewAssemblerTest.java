@@ -0,0 +1,129 @@
+package com.ktcloudinfra.reservationservice.service;
+
+import com.ktcloudinfra.reservationservice.client.TrainCache;
+import com.ktcloudinfra.reservationservice.client.dto.TrainDTO;
+import com.ktcloudinfra.reservationservice.entity.Reservation;
+import com.ktcloudinfra.reservationservice.entity.ReservationStatus;
+import com.ktcloudinfra.reservationservice.entity.ReservationView;
+import com.ktcloudinfra.reservationservice.global.exception.ApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationViewAssemblerTest {
+
+    @Mock
+    private TrainCache trainCache;
+
+    @InjectMocks
+    private ReservationViewAssembler assembler;
+
+    @Test
+    @DisplayName("예약 건수와 무관하게 열차 정보를 한 번에 조회")
+    void assemble_FetchesTrainsOnce() {
+        // Given - 40건의 예약이 2개 열차에 걸쳐 있음
+        List<Reservation> reservations = new ArrayList<>();
+        for (long i = 1; i <= 40; i++) {
+            long trainId = i % 2 == 0 ? 100L : 101L;
+            reservations.add(createReservation(i, trainId, i + "A"));
+        }
+
+        when(trainCache.getTrains(List.of(101L, 100L)))
+                .thenReturn(Map.of(100L, createTrainDTO(100L, "KTX-101"), 101L, createTrainDTO(101L, "KTX-102")));
+
+        // When
+        List<ReservationView> views = assembler.assemble(reservations);
+
+        // Then
+        assertThat(views).hasSize(40);
+        assertThat(views.get(0).getTrainName()).isEqualTo("KTX-102");
+        assertThat(views.get(1).getTrainName()).isEqualTo("KTX-101");
+        assertThat(views.get(39).getSeatNumber()).isEqualTo("40A");
+        assertThat(views.get(39).getReservationId()).isEqualTo(40L);
+        verify(trainCache, times(1)).getTrains(anyList());
+        verify(trainCache, never()).getTrain(anyLong());
+    }
+
+    @Test
+    @DisplayName("예약이 없으면 조회 없이 빈 목록 반환")
+    void assemble_Empty() {
+        // When
+        List<ReservationView> views = assembler.assemble(List.of());
+
+        // Then
+        assertThat(views).isEmpty();
+        verifyNoInteractions(trainCache);
+    }
+
+    @Test
+    @DisplayName("열차 정보가 없으면 예외")
+    void assemble_Fail_TrainMissing() {
+        // Given
+        Reservation reservation = createReservation(1L, 100L, "1A");
+        when(trainCache.getTrains(List.of(100L))).thenReturn(Map.of());
+
+        // When & Then
+        assertThatThrownBy(() -> assembler.assemble(List.of(reservation)))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("열차 정보를 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("예약과 열차 정보로 프로젝션 생성")
+    void toView() {
+        // Given
+        Reservation reservation = createReservation(1L, 100L, "1A");
+        TrainDTO train = createTrainDTO(100L, "KTX-101");
+
+        // When
+        ReservationView view = assembler.toView(reservation, train);
+
+        // Then
+        assertThat(view.getReservationId()).isEqualTo(1L);
+        assertThat(view.getUserId()).isEqualTo(1L);
+        assertThat(view.getTrainName()).isEqualTo("KTX-101");
+        assertThat(view.getPrice()).isEqualTo(50000);
+        assertThat(view.getDepartureTime()).isEqualTo(train.getDepartureTime());
+        assertThat(view.getSeatNumber()).isEqualTo("1A");
+        assertThat(view.getReservedAt()).isEqualTo(reservation.getReservedAt());
+    }
+
+    private Reservation createReservation(Long id, Long trainId, String seatNumber) {
+        Reservation reservation = Reservation.builder()
+                .userId(1L)
+                .trainId(trainId)
+                .seatId(1000L + id)
+                .seatNumber(seatNumber)
+                .status(ReservationStatus.PENDING)
+                .reservedAt(LocalDateTime.now())
+                .build();
+        ReflectionTestUtils.setField(reservation, "id", id);
+        return reservation;
+    }
+
+    private TrainDTO createTrainDTO(Long id, String name) {
+        return TrainDTO.builder()
+                .id(id)
+                .name(name)
+                .price(50000)
+                .departureStation("서울")
+                .arrivalStation("부산")
+                .departureTime(LocalDateTime.now())
+                .arrivalTime(LocalDateTime.now().plusHours(3))
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.ktcloudinfra.seatservice.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ktcloudinfra.seatservice.client.dto.TrainDTO;
+import com.ktcloudinfra.seatservice.client.dto.TrainSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 열차 요약(이름)의 인스턴스 로컬 프로젝션. train.updated 이벤트로 갱신하고,
+ * 없는 열차만 train-service에서 지연 조회한다. 조회에 실패하면 열차명 없이 응답하도록 null을 반환한다.
+ */
+@Slf4j
+@Component
+public class TrainSummaryCache {
+
+    private final TrainClient trainClient;
+    private final Cache<Long, TrainSummary> cache;
+
+    public TrainSummaryCache(TrainClient trainClient,
+                             @Value("${seat.train-cache.maximum-size:10000}") long maximumSize,
+                             @Value("${seat.train-cache.expire-after-write:1h}") Duration expireAfterWrite) {
+        this.trainClient = trainClient;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    // 열차가 없거나 train-service 장애 시 null (캐시하지 않음)
+    public TrainSummary getTrain(Long trainId) {
+        return cache.get(trainId, this::load);
+    }
+
+    public void put(Long trainId, String name) {
+        cache.put(trainId, new TrainSummary(trainId, name));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private TrainSummary load(Long trainId) {
+        try {
+            TrainDTO train = trainClient.getTrain(trainId);
+            return train == null ? null : new TrainSummary(train.getId(), train.getName());
+        } catch (RuntimeException e) {
+            log.warn("열차 정보 조회 실패, 열차명 없이 응답: trainId={}, {}", trainId, e.getMessage());
+            return null;
+        }
+    }
+}
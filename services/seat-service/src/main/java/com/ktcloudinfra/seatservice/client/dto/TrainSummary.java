@@ -0,0 +1,12 @@
+package com.ktcloudinfra.seatservice.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 좌석 응답에 필요한 열차 정보만 담은 로컬 프로젝션
+@Getter
+@AllArgsConstructor
+public class TrainSummary {
+    private Long id;
+    private String name;
+}
@@ -1,10 +1,17 @@
 package com.ktcloudinfra.seatservice.config;
 
+import com.ktcloudinfra.seatservice.global.exception.ApiException;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.AnonymousQueue;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.retry.ImmediateRequeueMessageRecoverer;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,6 +21,10 @@ public class RabbitMQConfig {
     public static final String RESERVATION_EXCHANGE = "reservation.exchange";
     public static final String RESERVATION_REQUESTED_QUEUE = "reservation.requested.queue";
     public static final String RESERVATION_CANCELLED_QUEUE = "reservation.cancelled.queue";
+    public static final String RESERVATION_GROUP_REQUESTED_QUEUE = "reservation.group-requested.queue";
+    public static final String SEAT_EXCHANGE = "seat.exchange";
+    public static final String TRAIN_EXCHANGE = "train.exchange";
+    public static final String SEAT_INVENTORY_EXCHANGE = "seat.inventory.exchange";
 
     @Bean
     public DirectExchange reservationExchange() {
@@ -30,6 +41,11 @@ public class RabbitMQConfig {
         return new Queue(RESERVATION_CANCELLED_QUEUE, true);
     }
 
+    @Bean
+    public Queue reservationGroupRequestedQueue() {
+        return new Queue(RESERVATION_GROUP_REQUESTED_QUEUE, true);
+    }
+
     @Bean
     public Binding requestedBinding() {
         return BindingBuilder.bind(reservationRequestedQueue())
@@ -42,8 +58,70 @@ public class RabbitMQConfig {
             .to(reservationExchange()).with("reservation.cancelled");
     }
 
+    @Bean
+    public Binding groupRequestedBinding() {
+        return BindingBuilder.bind(reservationGroupRequestedQueue())
+            .to(reservationExchange()).with("reservation.group-requested");
+    }
+
+    // 좌석 예약 결과(seat.reserved / seat.rejected) 발행용
+    @Bean
+    public DirectExchange seatExchange() {
+        return new DirectExchange(SEAT_EXCHANGE);
+    }
+
+    @Bean
+    public DirectExchange trainExchange() {
+        return new DirectExchange(TRAIN_EXCHANGE);
+    }
+
+    // 열차 요약 프로젝션 갱신용 (인스턴스마다 하나씩)
+    @Bean
+    public AnonymousQueue trainUpdatedQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding trainUpdatedBinding() {
+        return BindingBuilder.bind(trainUpdatedQueue())
+            .to(trainExchange()).with("train.updated");
+    }
+
+    // 인스턴스 간 좌석 비트맵 동기화용 (인스턴스마다 하나씩)
+    @Bean
+    public FanoutExchange seatInventoryExchange() {
+        return new FanoutExchange(SEAT_INVENTORY_EXCHANGE);
+    }
+
+    @Bean
+    public AnonymousQueue seatInventoryQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding seatInventoryBinding() {
+        return BindingBuilder.bind(seatInventoryQueue()).to(seatInventoryExchange());
+    }
+
     @Bean
     public Jackson2JsonMessageConverter messageConverter() {
         return new Jackson2JsonMessageConverter();
     }
+
+    // 리스너 재시도(spring.rabbitmq.listener.simple.retry)가 끝난 메시지: 변환할 수 없는 메시지와
+    // 업무 예외(ApiException, 다시 배달해도 같은 결과)로 실패한 메시지는 버리고,
+    // 일시적 장애(DB/브로커)로 실패한 메시지는 다시 큐에 넣음
+    @Bean
+    public MessageRecoverer messageRecoverer() {
+        MessageRecoverer requeue = new ImmediateRequeueMessageRecoverer();
+        return (message, cause) -> {
+            if (cause.getCause() instanceof MessageConversionException) {
+                throw new AmqpRejectAndDontRequeueException("변환할 수 없는 메시지", cause);
+            }
+            if (cause.getCause() instanceof ApiException) {
+                throw new AmqpRejectAndDontRequeueException("처리할 수 없는 메시지: " + cause.getCause().getMessage(), cause);
+            }
+            requeue.recover(message, cause);
+        };
+    }
 }
@@ -1,11 +1,27 @@
 package com.ktcloudinfra.seatservice.controller;
 
+import com.ktcloudinfra.seatservice.dto.request.LayoutTemplateRequestDTO;
+import com.ktcloudinfra.seatservice.dto.request.SeatProvisionRequestDTO;
+import com.ktcloudinfra.seatservice.dto.response.LayoutTemplateResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatAssignmentResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatHoldResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatProvisionResponseDTO;
 import com.ktcloudinfra.seatservice.dto.response.SeatResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatSearchResponseDTO;
+import com.ktcloudinfra.seatservice.entity.SeatAttribute;
+import com.ktcloudinfra.seatservice.service.SeatMapCache;
 import com.ktcloudinfra.seatservice.service.SeatService;
+import com.ktcloudinfra.seatservice.service.SeatStreamHub;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -14,12 +30,115 @@ import java.util.List;
 public class SeatController {
 
     private final SeatService seatService;
+    private final SeatMapCache seatMapCache;
+    private final SeatStreamHub seatStreamHub;
+
+    @Value("${seat.summary.max-age:5s}")
+    private Duration summaryMaxAge;
 
     @GetMapping
     public ResponseEntity<List<SeatResponseDTO>> getSeatsByTrain(@RequestParam Long trainId) {
         return ResponseEntity.ok(seatService.getSeatsByTrain(trainId));
     }
 
+    // 좌석 맵: 좌석 배치 순서의 예약 비트열, ETag가 같으면 304
+    @GetMapping("/map")
+    public ResponseEntity<byte[]> getSeatMap(@RequestParam Long trainId, WebRequest request) {
+        return serialized(seatMapCache.seatMap(trainId), request);
+    }
+
+    // 좌석 상태 스트림 (SSE): 처음에 "map", 이후 변경분 "seats"
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSeats(@RequestParam Long trainId) {
+        return seatStreamHub.subscribe(trainId);
+    }
+
+    // 빈 좌석 요약 (전체/호차별/등급별): 수 초 단위로 캐시해도 되는 안내용 수치, ETag가 같으면 304
+    @GetMapping("/summary")
+    public ResponseEntity<byte[]> getSeatSummary(@RequestParam Long trainId, WebRequest request) {
+        return serialized(seatMapCache.summary(trainId), request, CacheControl.maxAge(summaryMaxAge).cachePublic());
+    }
+
+    @GetMapping("/layout")
+    public ResponseEntity<byte[]> getSeatLayout(@RequestParam Long trainId, WebRequest request) {
+        return serialized(seatMapCache.layout(trainId), request);
+    }
+
+    // 좌석 속성 검색: 예) 3~5호차의 빈 창측 좌석 ?trainId=1&attributes=WINDOW&carFrom=3&carTo=5
+    @GetMapping("/search")
+    public ResponseEntity<SeatSearchResponseDTO> searchSeats(
+            @RequestParam Long trainId,
+            @RequestParam(required = false) List<SeatAttribute> attributes,
+            @RequestParam(required = false) Integer carFrom,
+            @RequestParam(required = false) Integer carTo,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(seatService.searchSeats(trainId, attributes, carFrom, carTo, limit));
+    }
+
+    @GetMapping("/lookup")
+    public ResponseEntity<SeatResponseDTO> getSeat(
+            @RequestParam Long trainId,
+            @RequestParam String seatNumber) {
+        return ResponseEntity.ok(seatService.getSeat(trainId, seatNumber));
+    }
+
+    @GetMapping("/lookup/bulk")
+    public ResponseEntity<List<SeatResponseDTO>> getSeats(
+            @RequestParam Long trainId,
+            @RequestParam List<String> seatNumbers) {
+        return ResponseEntity.ok(seatService.getSeats(trainId, seatNumbers));
+    }
+
+    // 열차 좌석 일괄 생성 (재요청 시 없는 좌석만 생성)
+    @PostMapping("/provision")
+    public ResponseEntity<SeatProvisionResponseDTO> provisionSeats(@RequestBody SeatProvisionRequestDTO request) {
+        return ResponseEntity.ok(seatService.provisionSeats(request));
+    }
+
+    // 좌석 배치 템플릿 생성: 같은 편성의 열차가 공유하는 호차/열/좌석 열/객실 등급 구성
+    @PostMapping("/layout-templates")
+    public ResponseEntity<LayoutTemplateResponseDTO> createLayoutTemplate(@RequestBody LayoutTemplateRequestDTO request) {
+        return ResponseEntity.ok(seatService.createLayoutTemplate(request));
+    }
+
+    // 열차에 템플릿 지정: 좌석 행 없이 템플릿으로 좌석 맵을 만들고, 예약/선점된 좌석만 좌석 행으로 저장
+    @PostMapping("/layout-templates/{templateId}/assign")
+    public ResponseEntity<String> assignLayoutTemplate(
+            @PathVariable Long templateId,
+            @RequestParam Long trainId) {
+        seatService.assignLayoutTemplate(templateId, trainId);
+        return ResponseEntity.ok("좌석 배치 템플릿 지정 완료");
+    }
+
+    // 좌석 선점: 반환된 토큰으로 만료 전에 확정하거나 해제
+    @PostMapping("/holds")
+    public ResponseEntity<SeatHoldResponseDTO> holdSeat(
+            @RequestParam Long trainId,
+            @RequestParam String seatNumber) {
+        return ResponseEntity.ok(seatService.holdSeat(trainId, seatNumber));
+    }
+
+    @PostMapping("/holds/{holdToken}/confirm")
+    public ResponseEntity<String> confirmHold(@PathVariable String holdToken) {
+        seatService.confirmHold(holdToken);
+        return ResponseEntity.ok("좌석 선점 확정 완료");
+    }
+
+    @PostMapping("/holds/{holdToken}/release")
+    public ResponseEntity<String> releaseHold(@PathVariable String holdToken) {
+        seatService.releaseHold(holdToken);
+        return ResponseEntity.ok("좌석 선점 해제 완료");
+    }
+
+    // 좌석 자동 배정: 좌석 번호 없이 인원수만으로 빈 좌석을 골라 선점 (선점 확정으로 예약)
+    @PostMapping("/assign")
+    public ResponseEntity<SeatAssignmentResponseDTO> assignSeats(
+            @RequestParam Long trainId,
+            @RequestParam int count,
+            @RequestParam(defaultValue = "true") boolean adjacent) {
+        return ResponseEntity.ok(seatService.assignSeats(trainId, count, adjacent));
+    }
+
     @PostMapping("/{seatId}/reserve")
     public ResponseEntity<String> reserveSeat(@PathVariable Long seatId) {
         seatService.reserveSeat(seatId);
@@ -31,4 +150,20 @@ public class SeatController {
         seatService.cancelSeat(seatId);
         return ResponseEntity.ok("좌석 취소 완료");
     }
+
+    private ResponseEntity<byte[]> serialized(SeatMapCache.Serialized serialized, WebRequest request) {
+        return serialized(serialized, request, CacheControl.empty());
+    }
+
+    private ResponseEntity<byte[]> serialized(SeatMapCache.Serialized serialized, WebRequest request,
+                                              CacheControl cacheControl) {
+        if (request.checkNotModified(serialized.etag())) {
+            return ResponseEntity.status(304).eTag(serialized.etag()).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(serialized.etag())
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(serialized.body());
+    }
 }
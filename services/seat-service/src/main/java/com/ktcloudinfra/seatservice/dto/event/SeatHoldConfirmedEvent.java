@@ -0,0 +1,18 @@
+package com.ktcloudinfra.seatservice.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatHoldConfirmedEvent implements Serializable {
+    private Long trainId;
+    private String seatNumber;
+    private String holdToken;
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,22 @@
+package com.ktcloudinfra.seatservice.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatHoldReleasedEvent implements Serializable {
+    private Long trainId;
+    private List<String> seatNumbers;
+    // 사용자가 해제한 경우의 선점 토큰 (만료 일괄 해제는 null)
+    private String holdToken;
+    // RELEASED: 사용자 해제, EXPIRED: 만료
+    private String reason;
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,20 @@
+package com.ktcloudinfra.seatservice.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 인스턴스 간 좌석 비트맵 동기화용 (seat.inventory.exchange, fanout)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatInventoryChangedEvent implements Serializable {
+    private Long trainId;
+    // 상태가 바뀐 좌석 번호, null이면 좌석 구성이 바뀌었으므로 열차 비트맵을 다시 적재
+    private List<String> seatNumbers;
+    private LocalDateTime timestamp;
+}
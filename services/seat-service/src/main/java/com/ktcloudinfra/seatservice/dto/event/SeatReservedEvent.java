@@ -0,0 +1,18 @@
+package com.ktcloudinfra.seatservice.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatReservedEvent implements Serializable {
+    private Long reservationId;
+    private Long trainId;
+    private String seatNumber;
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,22 @@
+package com.ktcloudinfra.seatservice.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainUpdatedEvent implements Serializable {
+    private Long trainId;
+    private String name;
+    private int price;
+    private String departureStation;
+    private String arrivalStation;
+    private LocalDateTime departureTime;
+    private LocalDateTime arrivalTime;
+    private LocalDateTime timestamp;
+}
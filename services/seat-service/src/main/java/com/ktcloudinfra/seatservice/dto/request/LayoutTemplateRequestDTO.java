@@ -0,0 +1,33 @@
+package com.ktcloudinfra.seatservice.dto.request;
+
+import com.ktcloudinfra.seatservice.entity.SeatClass;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 호차별 열 수 × 좌석 열(A, B, ...)과 객실 등급으로 좌석 배치 템플릿을 생성, 좌석 번호는 "{호차}-{열}{좌석 열}"
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LayoutTemplateRequestDTO {
+    private String name;
+    private List<Car> cars;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Car {
+        private int carNumber;
+        private int rows;
+        private List<String> columns;
+        private SeatClass seatClass;
+        // 좌석 속성: 창측/통로측 좌석 열(columns 중 일부), 역방향이 시작되는 열(없으면 전부 순방향), 조용한 객실, 전원 콘센트
+        private List<String> windowColumns;
+        private List<String> aisleColumns;
+        private Integer backwardFromRow;
+        private boolean quietCar;
+        private boolean powerOutlet;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ktcloudinfra.seatservice.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 호차 수 × 열 수 × 좌석 열(A, B, ...)로 좌석을 생성, 좌석 번호는 "{호차}-{열}{좌석 열}" (예: 3-12A)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatProvisionRequestDTO {
+    private Long trainId;
+    private int cars;
+    private int rows;
+    private List<String> columns;
+}
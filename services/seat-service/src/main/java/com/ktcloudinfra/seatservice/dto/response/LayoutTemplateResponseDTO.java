@@ -0,0 +1,13 @@
+package com.ktcloudinfra.seatservice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LayoutTemplateResponseDTO {
+    private Long id;
+    private String name;
+    private int cars;
+    private int seatCount;
+}
@@ -0,0 +1,17 @@
+package com.ktcloudinfra.seatservice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class SeatAssignmentResponseDTO {
+    private Long trainId;
+    private List<String> seatNumbers;
+    // 좌석별 선점 토큰 (POST /holds/{holdToken}/confirm 으로 확정)
+    private List<SeatHoldResponseDTO> holds;
+    private LocalDateTime expiresAt;
+}
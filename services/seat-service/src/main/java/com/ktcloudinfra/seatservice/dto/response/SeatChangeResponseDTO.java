@@ -0,0 +1,15 @@
+package com.ktcloudinfra.seatservice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 좌석 스트림의 변경분: 직전 전송 이후 예약(선점 포함)된 좌석과 해제된 좌석
+@Getter
+@Builder
+public class SeatChangeResponseDTO {
+    private Long trainId;
+    private List<String> reserved;
+    private List<String> released;
+}
@@ -0,0 +1,15 @@
+package com.ktcloudinfra.seatservice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class SeatHoldResponseDTO {
+    private Long trainId;
+    private String seatNumber;
+    private String holdToken;
+    private LocalDateTime expiresAt;
+}
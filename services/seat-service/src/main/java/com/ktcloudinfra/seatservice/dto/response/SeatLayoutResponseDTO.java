@@ -0,0 +1,13 @@
+package com.ktcloudinfra.seatservice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class SeatLayoutResponseDTO {
+    private Long trainId;
+    private List<String> seatNumbers;
+}
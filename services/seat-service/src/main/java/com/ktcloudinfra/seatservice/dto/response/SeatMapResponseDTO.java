@@ -0,0 +1,14 @@
+package com.ktcloudinfra.seatservice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 좌석 배치(/layout) 순서대로 예약 여부를 비트로 담은 좌석 맵 (byte i의 j번째 비트 = 좌석 8i+j)
+@Getter
+@Builder
+public class SeatMapResponseDTO {
+    private Long trainId;
+    private int seatCount;
+    private String encoding;
+    private String reserved;
+}
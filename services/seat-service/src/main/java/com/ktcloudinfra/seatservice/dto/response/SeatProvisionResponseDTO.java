@@ -0,0 +1,13 @@
+package com.ktcloudinfra.seatservice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SeatProvisionResponseDTO {
+    private Long trainId;
+    private int requested;
+    // 이미 있던 좌석은 제외하고 새로 생성한 좌석 수
+    private int created;
+}
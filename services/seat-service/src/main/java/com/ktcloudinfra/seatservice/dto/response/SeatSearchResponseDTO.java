@@ -0,0 +1,15 @@
+package com.ktcloudinfra.seatservice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class SeatSearchResponseDTO {
+    private Long trainId;
+    // 조건에 맞는 빈 좌석 수 (seatNumbers는 좌석 순서로 앞에서부터 limit석)
+    private int count;
+    private List<String> seatNumbers;
+}
@@ -0,0 +1,36 @@
+package com.ktcloudinfra.seatservice.dto.response;
+
+import com.ktcloudinfra.seatservice.entity.SeatClass;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 열차의 빈 좌석 수 요약 (전체, 호차별, 객실 등급별)
+@Getter
+@Builder
+public class SeatSummaryResponseDTO {
+    private Long trainId;
+    private int seatCount;
+    private int available;
+    private List<Car> cars;
+    // 배치 템플릿이 없는 열차는 등급 정보가 없어 비어 있음
+    private List<Cabin> classes;
+
+    @Getter
+    @Builder
+    public static class Car {
+        private int carNumber;
+        private SeatClass seatClass;
+        private int seatCount;
+        private int available;
+    }
+
+    @Getter
+    @Builder
+    public static class Cabin {
+        private SeatClass seatClass;
+        private int seatCount;
+        private int available;
+    }
+}
@@ -0,0 +1,26 @@
+package com.ktcloudinfra.seatservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 편성 유형별 좌석 배치 템플릿 (호차 구성은 LayoutTemplateCar)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "layout_templates", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_layout_templates_name", columnNames = {"name"})
+})
+public class LayoutTemplate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Builder
+    public LayoutTemplate(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,86 @@
+package com.ktcloudinfra.seatservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.List;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "layout_template_cars", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_layout_template_cars_template_id_car_number",
+                columnNames = {"template_id", "car_number"})
+})
+public class LayoutTemplateCar {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "template_id", nullable = false)
+    private Long templateId;
+
+    @Column(name = "car_number", nullable = false)
+    private int carNumber;
+
+    @Column(name = "row_count", nullable = false)
+    private int rowCount;
+
+    // 좌석 열을 쉼표로 이은 값 (예: "A,B,C,D")
+    @Column(name = "seat_columns", nullable = false)
+    private String seatColumns;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "seat_class", nullable = false, length = 20)
+    private SeatClass seatClass;
+
+    // 창측/통로측 좌석 열 (쉼표로 이은 값, 없으면 빈 문자열)
+    @Column(name = "window_columns", nullable = false)
+    private String windowColumns = "";
+
+    @Column(name = "aisle_columns", nullable = false)
+    private String aisleColumns = "";
+
+    // 이 열부터 역방향 좌석 (null이면 전부 순방향)
+    @Column(name = "backward_from_row")
+    private Integer backwardFromRow;
+
+    @Column(name = "quiet_car", nullable = false)
+    private boolean quietCar;
+
+    @Column(name = "power_outlet", nullable = false)
+    private boolean powerOutlet;
+
+    @Builder
+    public LayoutTemplateCar(Long templateId, int carNumber, int rowCount, List<String> columns, SeatClass seatClass,
+                             List<String> windowColumns, List<String> aisleColumns, Integer backwardFromRow,
+                             boolean quietCar, boolean powerOutlet) {
+        this.templateId = templateId;
+        this.carNumber = carNumber;
+        this.rowCount = rowCount;
+        this.seatColumns = String.join(",", columns);
+        this.seatClass = seatClass;
+        this.windowColumns = windowColumns == null ? "" : String.join(",", windowColumns);
+        this.aisleColumns = aisleColumns == null ? "" : String.join(",", aisleColumns);
+        this.backwardFromRow = backwardFromRow;
+        this.quietCar = quietCar;
+        this.powerOutlet = powerOutlet;
+    }
+
+    public List<String> getColumns() {
+        return List.of(seatColumns.split(","));
+    }
+
+    public boolean isWindow(String column) {
+        return List.of(windowColumns.split(",")).contains(column);
+    }
+
+    public boolean isAisle(String column) {
+        return List.of(aisleColumns.split(",")).contains(column);
+    }
+
+    public boolean isForwardFacing(int row) {
+        return backwardFromRow == null || row < backwardFromRow;
+    }
+}
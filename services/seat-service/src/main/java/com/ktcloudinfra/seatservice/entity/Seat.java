@@ -3,17 +3,23 @@ package com.ktcloudinfra.seatservice.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "seats")
+@Table(name = "seats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_seats_train_id_seat_number", columnNames = {"train_id", "seat_number"})
+}, indexes = {
+        @Index(name = "idx_seats_hold_token", columnList = "hold_token")
+})
 public class Seat {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false)
+    @Column(name = "seat_number", nullable = false)
     private String seatNumber;
 
     @Column(name = "train_id", nullable = false)
@@ -22,6 +28,13 @@ public class Seat {
     @Column(nullable = false)
     private boolean reserved = false;
 
+    // 선점(HELD) 상태: reserved = true 이면서 hold_token이 있는 좌석. 확정하면 토큰을 비워 예약 상태가 된다
+    @Column(name = "hold_token", length = 36)
+    private String holdToken;
+
+    @Column(name = "hold_expires_at")
+    private LocalDateTime holdExpiresAt;
+
     @Builder
     public Seat(String seatNumber, Long trainId) {
         this.seatNumber = seatNumber;
@@ -36,4 +49,8 @@ public class Seat {
     public void cancel() {
         this.reserved = false;
     }
+
+    public boolean isHeld() {
+        return holdToken != null;
+    }
 }
@@ -0,0 +1,10 @@
+package com.ktcloudinfra.seatservice.entity;
+
+// 좌석 검색 조건 (배치 템플릿의 호차 구성에서 좌석별로 계산)
+public enum SeatAttribute {
+    WINDOW,
+    AISLE,
+    FORWARD_FACING,
+    QUIET_CAR,
+    POWER_OUTLET
+}
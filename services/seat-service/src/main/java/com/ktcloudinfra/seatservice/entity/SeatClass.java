@@ -0,0 +1,7 @@
+package com.ktcloudinfra.seatservice.entity;
+
+// 객실 등급 (일반실, 특실)
+public enum SeatClass {
+    STANDARD,
+    FIRST
+}
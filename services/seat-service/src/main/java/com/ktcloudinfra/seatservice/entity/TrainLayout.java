@@ -0,0 +1,25 @@
+package com.ktcloudinfra.seatservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 열차에 지정된 좌석 배치 템플릿. 지정된 열차는 예약/선점된 좌석만 좌석 행으로 저장한다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "train_layouts")
+public class TrainLayout {
+
+    @Id
+    @Column(name = "train_id")
+    private Long trainId;
+
+    @Column(name = "template_id", nullable = false)
+    private Long templateId;
+
+    @Builder
+    public TrainLayout(Long trainId, Long templateId) {
+        this.trainId = trainId;
+        this.templateId = templateId;
+    }
+}
@@ -2,40 +2,106 @@ package com.ktcloudinfra.seatservice.listener;
 
 import com.ktcloudinfra.seatservice.config.RabbitMQConfig;
 import com.ktcloudinfra.seatservice.dto.event.ReservationCancelledEvent;
+import com.ktcloudinfra.seatservice.dto.event.ReservationGroupRequestedEvent;
 import com.ktcloudinfra.seatservice.dto.event.ReservationRequestedEvent;
+import com.ktcloudinfra.seatservice.dto.event.SeatRejectedEvent;
+import com.ktcloudinfra.seatservice.dto.event.SeatReservedEvent;
+import com.ktcloudinfra.seatservice.global.exception.ApiException;
+import com.ktcloudinfra.seatservice.service.ProcessedMessages;
 import com.ktcloudinfra.seatservice.service.SeatService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class SeatEventListener {
 
     private final SeatService seatService;
+    private final RabbitTemplate rabbitTemplate;
+    private final ProcessedMessages processedMessages;
 
     @RabbitListener(queues = RabbitMQConfig.RESERVATION_REQUESTED_QUEUE)
-    public void handleReservationRequested(ReservationRequestedEvent event) {
+    public void handleReservationRequested(ReservationRequestedEvent event,
+                                           @Header(value = AmqpHeaders.MESSAGE_ID, required = false) String messageId) {
         log.info("좌석 예약 이벤트 수신: trainId={}, seatNumber={}",
                 event.getTrainId(), event.getSeatNumber());
+        if (processedMessages.isProcessed(messageId)) {
+            log.info("이미 처리한 좌석 예약 이벤트: messageId={}", messageId);
+            return;
+        }
 
         try {
             seatService.reserveSeat(event.getTrainId(), event.getSeatNumber());
             log.info("좌석 예약 완료: {}", event.getSeatNumber());
-        } catch (Exception e) {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.SEAT_EXCHANGE, "seat.reserved", new SeatReservedEvent(
+                    event.getReservationId(), event.getTrainId(), event.getSeatNumber(), LocalDateTime.now()));
+        } catch (ApiException e) {
+            // 좌석 없음/이미 예약됨만 거절. DB/브로커 장애 등은 다시 던져 재시도 후 다시 배달되게 함
             log.error("좌석 예약 실패: {}", e.getMessage());
-            // 보상 트랜잭션 이벤트 발행 (향후 구현)
+            // 보상: 예약 서비스가 예약을 취소 상태로 전환
+            rabbitTemplate.convertAndSend(RabbitMQConfig.SEAT_EXCHANGE, "seat.rejected", new SeatRejectedEvent(
+                    event.getReservationId(), event.getTrainId(), event.getSeatNumber(), e.getMessage(), LocalDateTime.now()));
         }
+        processedMessages.markProcessed(messageId);
+    }
+
+    @RabbitListener(queues = RabbitMQConfig.RESERVATION_GROUP_REQUESTED_QUEUE)
+    public void handleReservationGroupRequested(ReservationGroupRequestedEvent event,
+                                                @Header(value = AmqpHeaders.MESSAGE_ID, required = false) String messageId) {
+        List<String> seatNumbers = event.getSeats().stream()
+                .map(ReservationGroupRequestedEvent.GroupSeat::getSeatNumber)
+                .toList();
+        log.info("단체 좌석 예약 이벤트 수신: trainId={}, seatNumbers={}", event.getTrainId(), seatNumbers);
+        if (processedMessages.isProcessed(messageId)) {
+            log.info("이미 처리한 단체 좌석 예약 이벤트: messageId={}", messageId);
+            return;
+        }
+
+        try {
+            seatService.reserveSeats(event.getTrainId(), seatNumbers);
+            log.info("단체 좌석 예약 완료: {}", seatNumbers);
+            for (ReservationGroupRequestedEvent.GroupSeat seat : event.getSeats()) {
+                rabbitTemplate.convertAndSend(RabbitMQConfig.SEAT_EXCHANGE, "seat.reserved", new SeatReservedEvent(
+                        seat.getReservationId(), event.getTrainId(), seat.getSeatNumber(), LocalDateTime.now()));
+            }
+        } catch (ApiException e) {
+            log.error("단체 좌석 예약 실패: {}", e.getMessage());
+            // 전부 롤백되었으므로 모든 좌석에 대해 거절 이벤트 발행
+            for (ReservationGroupRequestedEvent.GroupSeat seat : event.getSeats()) {
+                rabbitTemplate.convertAndSend(RabbitMQConfig.SEAT_EXCHANGE, "seat.rejected", new SeatRejectedEvent(
+                        seat.getReservationId(), event.getTrainId(), seat.getSeatNumber(), e.getMessage(), LocalDateTime.now()));
+            }
+        }
+        processedMessages.markProcessed(messageId);
     }
 
     @RabbitListener(queues = RabbitMQConfig.RESERVATION_CANCELLED_QUEUE)
-    public void handleReservationCancelled(ReservationCancelledEvent event) {
+    public void handleReservationCancelled(ReservationCancelledEvent event,
+                                           @Header(value = AmqpHeaders.MESSAGE_ID, required = false) String messageId) {
         log.info("좌석 취소 이벤트 수신: trainId={}, seatNumber={}",
                 event.getTrainId(), event.getSeatNumber());
+        // 다시 배달된 취소가 그 사이 다른 예약이 잡은 좌석을 풀지 않도록 먼저 거름
+        if (processedMessages.isProcessed(messageId)) {
+            log.info("이미 처리한 좌석 취소 이벤트: messageId={}", messageId);
+            return;
+        }
 
-        seatService.cancelSeat(event.getTrainId(), event.getSeatNumber());
-        log.info("좌석 취소 완료: {}", event.getSeatNumber());
+        try {
+            seatService.cancelSeat(event.getTrainId(), event.getSeatNumber());
+            log.info("좌석 취소 완료: {}", event.getSeatNumber());
+        } catch (ApiException e) {
+            // 이미 빈 좌석(중복/지연 배달된 취소)이나 없는 좌석: 다시 배달해도 같으므로 처리한 것으로 보고 넘어감
+            log.warn("좌석 취소 건너뜀: trainId={}, seatNumber={}, {}", event.getTrainId(), event.getSeatNumber(), e.getMessage());
+        }
+        processedMessages.markProcessed(messageId);
     }
 }
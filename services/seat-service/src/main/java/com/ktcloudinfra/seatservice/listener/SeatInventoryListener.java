@@ -0,0 +1,20 @@
+package com.ktcloudinfra.seatservice.listener;
+
+import com.ktcloudinfra.seatservice.dto.event.SeatInventoryChangedEvent;
+import com.ktcloudinfra.seatservice.service.SeatInventory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SeatInventoryListener {
+
+    private final SeatInventory seatInventory;
+
+    // 다른 인스턴스(자기 자신 포함)에서 바뀐 좌석을 이 인스턴스의 비트맵에 반영
+    @RabbitListener(queues = "#{seatInventoryQueue.name}")
+    public void handleSeatInventoryChanged(SeatInventoryChangedEvent event) {
+        seatInventory.sync(event.getTrainId(), event.getSeatNumbers());
+    }
+}
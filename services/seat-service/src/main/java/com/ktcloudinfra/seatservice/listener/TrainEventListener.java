@@ -0,0 +1,22 @@
+package com.ktcloudinfra.seatservice.listener;
+
+import com.ktcloudinfra.seatservice.client.TrainSummaryCache;
+import com.ktcloudinfra.seatservice.dto.event.TrainUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrainEventListener {
+
+    private final TrainSummaryCache trainSummaryCache;
+
+    @RabbitListener(queues = "#{trainUpdatedQueue.name}")
+    public void handleTrainUpdated(TrainUpdatedEvent event) {
+        trainSummaryCache.put(event.getTrainId(), event.getName());
+        log.info("열차 요약 갱신: trainId={}", event.getTrainId());
+    }
+}
@@ -0,0 +1,10 @@
+package com.ktcloudinfra.seatservice.repository;
+
+import com.ktcloudinfra.seatservice.entity.LayoutTemplateCar;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface LayoutTemplateCarRepository extends JpaRepository<LayoutTemplateCar, Long> {
+    List<LayoutTemplateCar> findByTemplateIdOrderByCarNumber(Long templateId);
+}
@@ -0,0 +1,8 @@
+package com.ktcloudinfra.seatservice.repository;
+
+import com.ktcloudinfra.seatservice.entity.LayoutTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LayoutTemplateRepository extends JpaRepository<LayoutTemplate, Long> {
+    boolean existsByName(String name);
+}
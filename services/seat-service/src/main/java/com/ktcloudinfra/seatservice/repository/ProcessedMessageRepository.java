@@ -0,0 +1,16 @@
+package com.ktcloudinfra.seatservice.repository;
+
+import com.ktcloudinfra.seatservice.entity.ProcessedMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ProcessedMessageRepository extends JpaRepository<ProcessedMessage, String> {
+
+    @Modifying
+    @Query("DELETE FROM ProcessedMessage p WHERE p.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,9 @@
+package com.ktcloudinfra.seatservice.repository;
+
+import java.util.List;
+
+public interface SeatBulkRepository {
+
+    // 없는 좌석만 다중 행 INSERT로 생성하고 생성한 좌석 수를 반환
+    int insertMissing(Long trainId, List<String> seatNumbers);
+}
@@ -0,0 +1,64 @@
+package com.ktcloudinfra.seatservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * IDENTITY 키 때문에 Hibernate가 INSERT를 배치하지 못하므로 JDBC로 직접 다중 행 INSERT를 만든다.
+ * (train_id, seat_number) 기준으로 이미 있는 좌석은 건너뛰어 같은 요청을 다시 보내도 결과가 같다.
+ */
+@RequiredArgsConstructor
+public class SeatBulkRepositoryImpl implements SeatBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${seat.provision.batch-size:500}")
+    private int batchSize = 500;
+
+    @Override
+    @Transactional
+    public int insertMissing(Long trainId, List<String> seatNumbers) {
+        List<String> requested = seatNumbers.stream().distinct().toList();
+        int created = 0;
+        for (int from = 0; from < requested.size(); from += batchSize) {
+            List<String> batch = requested.subList(from, Math.min(from + batchSize, requested.size()));
+            Set<String> existing = existing(trainId, batch);
+            List<String> missing = batch.stream().filter(seatNumber -> !existing.contains(seatNumber)).toList();
+            if (!missing.isEmpty()) {
+                insert(trainId, missing);
+            }
+            created += missing.size();
+        }
+        return created;
+    }
+
+    // 요청한 좌석 번호만 (train_id, seat_number) 유니크 인덱스로 조회 (예약 시 좌석 행 생성은 보통 몇 석)
+    private Set<String> existing(Long trainId, List<String> seatNumbers) {
+        String placeholders = String.join(", ", Collections.nCopies(seatNumbers.size(), "?"));
+        List<Object> args = new ArrayList<>(seatNumbers.size() + 1);
+        args.add(trainId);
+        args.addAll(seatNumbers);
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT seat_number FROM seats WHERE train_id = ? AND seat_number IN (" + placeholders + ")",
+                String.class, args.toArray()));
+    }
+
+    private void insert(Long trainId, List<String> seatNumbers) {
+        StringBuilder sql = new StringBuilder("INSERT INTO seats (train_id, seat_number, reserved) VALUES ");
+        List<Object> args = new ArrayList<>(seatNumbers.size() * 2);
+        for (int i = 0; i < seatNumbers.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, false)" : ", (?, ?, false)");
+            args.add(trainId);
+            args.add(seatNumbers.get(i));
+        }
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
@@ -2,12 +2,65 @@ package com.ktcloudinfra.seatservice.repository;
 
 import com.ktcloudinfra.seatservice.entity.Seat;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface SeatRepository extends JpaRepository<Seat, Long> {
+public interface SeatRepository extends JpaRepository<Seat, Long>, SeatBulkRepository {
     Optional<Seat> findByTrainIdAndSeatNumber(Long trainId, String seatNumber);
 
     List<Seat> findByTrainId(Long trainId);
+
+    List<Seat> findByTrainIdAndSeatNumberIn(Long trainId, Collection<String> seatNumbers);
+
+    Optional<Seat> findByHoldToken(String holdToken);
+
+    // 재시작 시 만료 스케줄 복구용
+    List<Seat> findByHoldTokenIsNotNull();
+
+    // 조건부 UPDATE: 영향 행 수가 1이면 이 호출이 상태를 바꾼 것 (조회-검사-갱신 없이 DB가 판정)
+    @Modifying
+    @Query("UPDATE Seat s SET s.reserved = true WHERE s.id = :id AND s.reserved = false")
+    int reserveIfAvailable(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Seat s SET s.reserved = false WHERE s.id = :id AND s.reserved = true AND s.holdToken IS NULL")
+    int cancelIfReserved(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Seat s SET s.reserved = true WHERE s.id IN :ids AND s.reserved = false")
+    int reserveAllIfAvailable(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Seat s SET s.reserved = true, s.holdToken = :token, s.holdExpiresAt = :expiresAt " +
+            "WHERE s.id = :id AND s.reserved = false")
+    int holdIfAvailable(@Param("id") Long id, @Param("token") String token, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE Seat s SET s.holdToken = null, s.holdExpiresAt = null " +
+            "WHERE s.id = :id AND s.holdToken = :token AND s.holdExpiresAt > :now")
+    int confirmHold(@Param("id") Long id, @Param("token") String token, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Seat s SET s.reserved = false, s.holdToken = null, s.holdExpiresAt = null " +
+            "WHERE s.id = :id AND s.holdToken = :token")
+    int releaseHold(@Param("id") Long id, @Param("token") String token);
+
+    @Query("SELECT s.seatNumber FROM Seat s WHERE s.id IN :ids AND s.holdToken IS NOT NULL AND s.holdExpiresAt <= :now")
+    List<String> findExpiredHoldSeatNumbers(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Seat s SET s.reserved = false, s.holdToken = null, s.holdExpiresAt = null " +
+            "WHERE s.id IN :ids AND s.holdToken IS NOT NULL AND s.holdExpiresAt <= :now")
+    int releaseExpiredHolds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 인메모리 좌석 비트맵의 write-behind 반영용
+    @Modifying
+    @Query("UPDATE Seat s SET s.reserved = :reserved WHERE s.id IN :ids")
+    int updateReserved(@Param("ids") Collection<Long> ids, @Param("reserved") boolean reserved);
 }
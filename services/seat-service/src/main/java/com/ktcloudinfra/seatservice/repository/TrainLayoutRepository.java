@@ -0,0 +1,7 @@
+package com.ktcloudinfra.seatservice.repository;
+
+import com.ktcloudinfra.seatservice.entity.TrainLayout;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TrainLayoutRepository extends JpaRepository<TrainLayout, Long> {
+}
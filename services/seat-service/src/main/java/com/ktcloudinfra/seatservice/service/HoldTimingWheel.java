@@ -0,0 +1,87 @@
+package com.ktcloudinfra.seatservice.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 좌석 선점 만료를 담는 해시 타이밍 휠. 만료 시각을 tick 단위로 올림해 (tick % 슬롯 수) 슬롯에 넣고,
+ * {@link #advance(long)}가 지나간 tick의 슬롯만 훑어 만료된 선점을 꺼낸다.
+ * 등록은 어느 스레드에서나 가능하고(대기 큐를 거침), advance는 한 스레드에서만 호출한다.
+ */
+final class HoldTimingWheel {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Queue<Hold>[] slots;
+    private final Queue<Hold> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private long lastTick;
+
+    @SuppressWarnings("unchecked")
+    HoldTimingWheel(int wheelSize, long tickMillis, long startMillis) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.slots = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ArrayDeque<>();
+        }
+        this.lastTick = startMillis / tickMillis;
+    }
+
+    void schedule(Hold hold) {
+        pending.add(hold);
+        size.incrementAndGet();
+    }
+
+    // nowMillis까지 만료된 선점을 꺼낸다 (만료 시각이 지난 뒤 최대 1 tick 안에 반환)
+    List<Hold> advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        List<Hold> expired = new ArrayList<>();
+
+        for (Hold hold = pending.poll(); hold != null; hold = pending.poll()) {
+            long deadlineTick = deadlineTick(hold);
+            if (deadlineTick <= nowTick) {
+                expired.add(hold);
+            } else {
+                slots[(int) (deadlineTick & mask)].add(hold);
+            }
+        }
+
+        // 한 바퀴 넘게 밀렸어도 모든 슬롯을 한 번씩만 훑으면 충분
+        long ticks = Math.min(nowTick - lastTick, slots.length);
+        for (long tick = nowTick - ticks + 1; tick <= nowTick; tick++) {
+            Queue<Hold> slot = slots[(int) (tick & mask)];
+            for (int n = slot.size(); n > 0; n--) {
+                Hold hold = slot.poll();
+                if (deadlineTick(hold) <= nowTick) {
+                    expired.add(hold);
+                } else {
+                    // 다음 바퀴 이후에 만료
+                    slot.add(hold);
+                }
+            }
+        }
+        lastTick = Math.max(lastTick, nowTick);
+
+        size.addAndGet(-expired.size());
+        return expired;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    private long deadlineTick(Hold hold) {
+        return (hold.deadlineMillis() + tickMillis - 1) / tickMillis;
+    }
+
+    record Hold(Long trainId, String seatNumber, long deadlineMillis) {
+    }
+}
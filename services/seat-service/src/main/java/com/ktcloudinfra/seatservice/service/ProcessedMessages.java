@@ -0,0 +1,62 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.ktcloudinfra.seatservice.entity.ProcessedMessage;
+import com.ktcloudinfra.seatservice.repository.ProcessedMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 처리한 예약 이벤트의 메시지 id 기록. 예약 서비스 아웃박스는 최소 1회 발행이므로 같은 이벤트가 다시 배달될 수 있고,
+ * 리스너는 기록된 id의 메시지를 처리하지 않고 넘긴다 (중복 예약 요청이 거절로, 중복 취소가 다른 예약의 좌석 해제로 이어지지 않게).
+ * 좌석 처리와 기록이 한 트랜잭션이 아니므로 처리 직후 장애가 나면 한 번 더 처리될 수 있다. 기록은 retention이 지나면 지운다.
+ */
+@Slf4j
+@Component
+public class ProcessedMessages {
+
+    private final ProcessedMessageRepository processedMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+
+    public ProcessedMessages(ProcessedMessageRepository processedMessageRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${seat.processed-message.retention:1d}") Duration retention) {
+        this.processedMessageRepository = processedMessageRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+    }
+
+    // messageId가 없으면(아웃박스를 거치지 않은 메시지) 중복을 거르지 않음
+    public boolean isProcessed(String messageId) {
+        return messageId != null && processedMessageRepository.existsById(messageId);
+    }
+
+    public void markProcessed(String messageId) {
+        if (messageId == null) {
+            return;
+        }
+        try {
+            processedMessageRepository.save(new ProcessedMessage(messageId, LocalDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 메시지를 동시에 처리하고 먼저 기록
+            log.warn("이미 기록된 메시지 id: {}", messageId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${seat.processed-message.purge-interval:10m}")
+    public void purge() {
+        Integer deleted = transactionTemplate.execute(status ->
+                processedMessageRepository.deleteProcessedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("보관 기간이 지난 처리 메시지 id 삭제: {}건", deleted);
+        }
+    }
+}
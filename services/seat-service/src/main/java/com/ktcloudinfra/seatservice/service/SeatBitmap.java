@@ -0,0 +1,238 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.ktcloudinfra.seatservice.entity.Seat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 열차 한 편성의 좌석 예약 상태를 비트 하나씩 담는 비트맵.
+ * 좌석 순서는 seat id 오름차순(배치 템플릿이 있는 열차는 템플릿 순서)으로 고정되며, 비트 변경은 워드 단위 CAS로 처리한다.
+ * 템플릿 열차의 좌석은 좌석 행이 생기기 전까지 seat id가 없고({@code seatId} = null), 행이 생기면 {@link #attach}로 채운다.
+ */
+final class SeatBitmap {
+
+    private static final int LOCK_STRIPES = 256;
+
+    // 0 = 좌석 행이 아직 없음
+    private final AtomicLongArray seatIds;
+    private final String[] seatNumbers;
+    private final Map<String, Integer> indexBySeatNumber;
+    private final AtomicLongArray words;
+    // 선점(hold) 중인 좌석 (예약 비트도 서 있음). 선점은 토큰으로만 해제되므로 일반 취소에서 거르는 데 쓴다
+    private final Set<Integer> held = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    // 비트가 바뀔 때마다 증가 (좌석 맵 캐시 무효화용)
+    private final AtomicLong version = new AtomicLong();
+    // 자동 배정용 열별 빈 좌석 색인 (비트가 바뀔 때마다 함께 갱신)
+    private final SeatRows rows;
+    // 전체/호차별/등급별 빈 좌석 수 (비트가 바뀔 때마다 함께 갱신)
+    private final SeatCounters counters;
+    // 배치 템플릿 열차의 좌석 배치 (앞쪽 layout.size()개 좌석이 같은 순서), 템플릿이 없으면 null
+    private final SeatLayout layout;
+    // write-behind evict로 새 비트맵으로 교체됨 (모든 잠금을 잡은 상태에서만 세움)
+    private volatile boolean retired;
+
+    private SeatBitmap(List<String> seatNumbers, Map<String, Seat> seats, SeatLayout layout) {
+        this.layout = layout;
+        this.seatIds = new AtomicLongArray(seatNumbers.size());
+        this.seatNumbers = seatNumbers.toArray(String[]::new);
+        this.indexBySeatNumber = new HashMap<>(seatNumbers.size() * 2);
+        this.words = new AtomicLongArray((seatNumbers.size() + 63) >>> 6);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+
+        for (int i = 0; i < this.seatNumbers.length; i++) {
+            indexBySeatNumber.put(this.seatNumbers[i], i);
+        }
+        this.rows = new SeatRows(this.seatNumbers);
+        this.counters = new SeatCounters(this.seatNumbers, layout);
+        for (int i = 0; i < this.seatNumbers.length; i++) {
+            Seat seat = seats.get(this.seatNumbers[i]);
+            if (seat == null) {
+                continue;
+            }
+            seatIds.set(i, seat.getId());
+            if (seat.isReserved()) {
+                tryReserve(i);
+            }
+            if (seat.isHeld()) {
+                held.add(i);
+            }
+        }
+    }
+
+    static SeatBitmap of(List<Seat> seats) {
+        List<String> ordered = seats.stream()
+                .sorted(Comparator.comparing(Seat::getId))
+                .map(Seat::getSeatNumber)
+                .toList();
+        return new SeatBitmap(ordered, bySeatNumber(seats), null);
+    }
+
+    // 배치 템플릿 + 좌석 행(예약/선점된 좌석). 템플릿에 없는 좌석 행은 뒤에 seat id 순으로 붙인다
+    static SeatBitmap of(SeatLayout layout, List<Seat> seats) {
+        Set<String> ordered = new LinkedHashSet<>(layout.seatNumbers());
+        seats.stream()
+                .sorted(Comparator.comparing(Seat::getId))
+                .forEach(seat -> ordered.add(seat.getSeatNumber()));
+        return new SeatBitmap(new ArrayList<>(ordered), bySeatNumber(seats), layout);
+    }
+
+    int size() {
+        return seatNumbers.length;
+    }
+
+    // 없는 좌석이면 -1
+    int indexOf(String seatNumber) {
+        return indexBySeatNumber.getOrDefault(seatNumber, -1);
+    }
+
+    // 좌석 행이 아직 없으면 null
+    Long seatId(int index) {
+        long seatId = seatIds.get(index);
+        return seatId == 0 ? null : seatId;
+    }
+
+    // 새로 만든 좌석 행의 id 연결 (이미 연결되어 있으면 그대로)
+    void attach(int index, long seatId) {
+        seatIds.compareAndSet(index, 0, seatId);
+    }
+
+    String seatNumber(int index) {
+        return seatNumbers[index];
+    }
+
+    List<String> seatNumbers() {
+        return List.of(seatNumbers);
+    }
+
+    boolean isReserved(int index) {
+        return (words.get(index >>> 6) & mask(index)) != 0;
+    }
+
+    // 비어 있던 좌석을 이 호출이 예약했을 때만 true
+    boolean tryReserve(int index) {
+        int word = index >>> 6;
+        long mask = mask(index);
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!words.compareAndSet(word, current, current | mask));
+        rows.update(index, true);
+        counters.update(index, true);
+        version.incrementAndGet();
+        return true;
+    }
+
+    // 예약되어 있던 좌석을 이 호출이 해제했을 때만 true
+    boolean tryRelease(int index) {
+        int word = index >>> 6;
+        long mask = mask(index);
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) == 0) {
+                return false;
+            }
+        } while (!words.compareAndSet(word, current, current & ~mask));
+        rows.update(index, false);
+        counters.update(index, false);
+        version.incrementAndGet();
+        return true;
+    }
+
+    boolean isHeld(int index) {
+        return held.contains(index);
+    }
+
+    // 선점 상태 변경은 해당 좌석의 잠금을 잡고, DB 반영이 성공한 뒤에만 호출
+    void hold(int index, boolean held) {
+        if (held) {
+            this.held.add(index);
+        } else {
+            this.held.remove(index);
+        }
+    }
+
+    SeatRows rows() {
+        return rows;
+    }
+
+    SeatCounters counters() {
+        return counters;
+    }
+
+    SeatLayout layout() {
+        return layout;
+    }
+
+    // 좌석 64i ~ 64i + 63의 예약 비트
+    long word(int i) {
+        return words.get(i);
+    }
+
+    long version() {
+        return version.get();
+    }
+
+    // 좌석 순서대로 예약 여부를 담은 비트열 (byte i의 j번째 비트 = 좌석 8i+j)
+    byte[] toByteArray() {
+        byte[] bytes = new byte[(seatNumbers.length + 7) >>> 3];
+        for (int w = 0; w < words.length(); w++) {
+            long word = words.get(w);
+            for (int b = 0; b < 8 && (w << 3) + b < bytes.length; b++) {
+                bytes[(w << 3) + b] = (byte) (word >>> (b << 3));
+            }
+        }
+        return bytes;
+    }
+
+    // 같은 좌석의 DB 반영과 비트 변경 순서를 맞추기 위한 좌석별(스트라이프) 잠금.
+    // 여러 좌석을 함께 잠글 때는 교착을 피하려고 스트라이프 번호 순서로 획득
+    List<ReentrantLock> locks(int[] indexes) {
+        return Arrays.stream(indexes)
+                .map(index -> index % LOCK_STRIPES)
+                .distinct()
+                .sorted()
+                .mapToObj(stripe -> locks[stripe])
+                .toList();
+    }
+
+    // 비트맵 교체(write-behind evict)용: 모든 스트라이프를 번호 순서로
+    List<ReentrantLock> allLocks() {
+        return List.of(locks);
+    }
+
+    boolean isRetired() {
+        return retired;
+    }
+
+    void retire() {
+        retired = true;
+    }
+
+    private static Map<String, Seat> bySeatNumber(List<Seat> seats) {
+        return seats.stream().collect(Collectors.toMap(Seat::getSeatNumber, Function.identity(), (a, b) -> a));
+    }
+
+    private static long mask(int index) {
+        return 1L << (index & 63);
+    }
+}
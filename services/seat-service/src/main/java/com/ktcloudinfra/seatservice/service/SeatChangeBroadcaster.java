@@ -0,0 +1,41 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.ktcloudinfra.seatservice.config.RabbitMQConfig;
+import com.ktcloudinfra.seatservice.dto.event.SeatInventoryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이 인스턴스에서 확정된 좌석 변경을 다른 인스턴스의 비트맵에 알린다 (인스턴스마다 하나씩인 큐로 fanout).
+ * 변경은 이미 커밋되었으므로 발행 실패로 요청을 실패시키지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatChangeBroadcaster {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    void changed(Long trainId, List<String> seatNumbers) {
+        publish(new SeatInventoryChangedEvent(trainId, seatNumbers, LocalDateTime.now()));
+    }
+
+    // 좌석 추가/배치 템플릿 지정: 좌석 구성이 바뀌어 비트맵을 다시 적재해야 함
+    void reload(Long trainId) {
+        publish(new SeatInventoryChangedEvent(trainId, null, LocalDateTime.now()));
+    }
+
+    private void publish(SeatInventoryChangedEvent event) {
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.SEAT_INVENTORY_EXCHANGE, "", event);
+        } catch (AmqpException e) {
+            log.warn("좌석 변경 전파 실패: trainId={}, {}", event.getTrainId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.ktcloudinfra.seatservice.entity.SeatClass;
+
+import java.util.Arrays;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 열차 한 편성의 빈 좌석 수 (전체, 호차별, 객실 등급별).
+ * 좌석마다 속한 호차/등급 위치를 미리 정해 두고, 비트맵에서 좌석 상태가 실제로 바뀔 때 그 칸만 ±1 한다.
+ * 요약 조회는 좌석 수와 무관하게 호차 수만큼의 카운터를 읽는 것으로 끝난다.
+ * 호차는 배치 템플릿(없으면 좌석 번호 "{호차}-...")에서, 객실 등급은 배치 템플릿에서만 알 수 있다.
+ */
+final class SeatCounters {
+
+    private static final SeatClass[] CLASSES = SeatClass.values();
+
+    // 좌석별 호차 위치 (-1 = 호차를 알 수 없는 좌석), 좌석별 등급 ordinal (-1 = 등급 정보 없음)
+    private final int[] carOf;
+    private final byte[] classOf;
+    // 호차 번호 오름차순
+    private final int[] carNumbers;
+    private final SeatClass[] carClasses;
+    private final int[] carSeats;
+    private final int[] classSeats = new int[CLASSES.length];
+    private final AtomicInteger free;
+    private final AtomicIntegerArray carFree;
+    private final AtomicIntegerArray classFree = new AtomicIntegerArray(CLASSES.length);
+
+    SeatCounters(String[] seatNumbers, SeatLayout layout) {
+        this.carOf = new int[seatNumbers.length];
+        this.classOf = new byte[seatNumbers.length];
+        int layoutSize = layout == null ? 0 : layout.size();
+
+        TreeMap<Integer, SeatClass> cars = new TreeMap<>();
+        Integer[] carNumberOf = new Integer[seatNumbers.length];
+        Arrays.fill(classOf, (byte) -1);
+        for (int c = 0; layout != null && c < layout.carCount(); c++) {
+            int carNumber = layout.carNumber(c);
+            cars.put(carNumber, layout.carClass(c));
+            for (int i = layout.carStart(carNumber); i < layout.carEnd(carNumber); i++) {
+                carNumberOf[i] = carNumber;
+                classOf[i] = (byte) layout.carClass(c).ordinal();
+            }
+        }
+        // 템플릿 밖의 좌석(템플릿이 없는 열차의 모든 좌석)은 좌석 번호로 호차만 구분
+        for (int i = layoutSize; i < seatNumbers.length; i++) {
+            carNumberOf[i] = SeatRows.carNumber(seatNumbers[i]);
+            if (carNumberOf[i] != null) {
+                cars.putIfAbsent(carNumberOf[i], null);
+            }
+        }
+
+        this.carNumbers = cars.keySet().stream().mapToInt(Integer::intValue).toArray();
+        this.carClasses = cars.values().toArray(SeatClass[]::new);
+        this.carSeats = new int[carNumbers.length];
+        for (int i = 0; i < seatNumbers.length; i++) {
+            carOf[i] = carNumberOf[i] == null ? -1 : Arrays.binarySearch(carNumbers, carNumberOf[i]);
+            if (carOf[i] >= 0) {
+                carSeats[carOf[i]]++;
+            }
+            if (classOf[i] >= 0) {
+                classSeats[classOf[i]]++;
+            }
+        }
+
+        // 처음에는 모든 좌석이 빈 좌석 (예약된 좌석은 비트맵 적재 중 update로 빠짐)
+        this.free = new AtomicInteger(seatNumbers.length);
+        this.carFree = new AtomicIntegerArray(carSeats);
+        for (int k = 0; k < CLASSES.length; k++) {
+            classFree.set(k, classSeats[k]);
+        }
+    }
+
+    // 비트맵에서 좌석 상태가 실제로 바뀐 뒤 호출
+    void update(int index, boolean reserved) {
+        int delta = reserved ? -1 : 1;
+        free.addAndGet(delta);
+        if (carOf[index] >= 0) {
+            carFree.addAndGet(carOf[index], delta);
+        }
+        if (classOf[index] >= 0) {
+            classFree.addAndGet(classOf[index], delta);
+        }
+    }
+
+    int free() {
+        return free.get();
+    }
+
+    int carCount() {
+        return carNumbers.length;
+    }
+
+    // c번째 호차(호차 번호 오름차순)의 번호, 등급(템플릿 밖의 호차는 null), 좌석 수, 빈 좌석 수
+    int carNumber(int c) {
+        return carNumbers[c];
+    }
+
+    SeatClass carClass(int c) {
+        return carClasses[c];
+    }
+
+    int carSeats(int c) {
+        return carSeats[c];
+    }
+
+    int carFree(int c) {
+        return carFree.get(c);
+    }
+
+    // 등급 정보가 있는 좌석 중 해당 등급의 좌석 수 / 빈 좌석 수
+    int classSeats(SeatClass seatClass) {
+        return classSeats[seatClass.ordinal()];
+    }
+
+    int classFree(SeatClass seatClass) {
+        return classFree.get(seatClass.ordinal());
+    }
+}
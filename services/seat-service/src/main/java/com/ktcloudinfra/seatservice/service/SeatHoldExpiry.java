@@ -0,0 +1,120 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.ktcloudinfra.seatservice.config.RabbitMQConfig;
+import com.ktcloudinfra.seatservice.dto.event.SeatHoldReleasedEvent;
+import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 선점 만료 처리. 선점마다 예약 작업을 두지 않고 {@link HoldTimingWheel}에 담아 두었다가,
+ * 주기마다 만료된 선점을 열차별 batch-size 단위의 UPDATE 한 번으로 해제한다.
+ * 확정/해제된 선점은 휠에서 빼지 않으며, 해제 UPDATE의 조건(토큰 존재 + 만료 시각 경과)에서 걸러진다.
+ */
+@Slf4j
+@Component
+public class SeatHoldExpiry {
+
+    public static final String EXPIRED = "EXPIRED";
+
+    private final SeatInventory seatInventory;
+    private final SeatRepository seatRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final HoldTimingWheel wheel;
+    private final int batchSize;
+
+    public SeatHoldExpiry(SeatInventory seatInventory,
+                          SeatRepository seatRepository,
+                          RabbitTemplate rabbitTemplate,
+                          @Value("${seat.hold.tick:100ms}") Duration tick,
+                          @Value("${seat.hold.wheel-size:512}") int wheelSize,
+                          @Value("${seat.hold.batch-size:500}") int batchSize) {
+        this.seatInventory = seatInventory;
+        this.seatRepository = seatRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.wheel = new HoldTimingWheel(wheelSize, tick.toMillis(), System.currentTimeMillis());
+        this.batchSize = batchSize;
+    }
+
+    public void schedule(Long trainId, String seatNumber, LocalDateTime expiresAt) {
+        wheel.schedule(new HoldTimingWheel.Hold(trainId, seatNumber, toMillis(expiresAt)));
+    }
+
+    // 재시작 전에 남아 있던 선점을 다시 등록 (이미 만료된 선점은 다음 주기에 해제)
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        List<Seat> held = seatRepository.findByHoldTokenIsNotNull();
+        for (Seat seat : held) {
+            schedule(seat.getTrainId(), seat.getSeatNumber(), seat.getHoldExpiresAt());
+        }
+        log.info("좌석 선점 만료 스케줄 복구: {}건", held.size());
+    }
+
+    @Scheduled(fixedDelayString = "${seat.hold.tick:100ms}")
+    public void expire() {
+        expire(System.currentTimeMillis());
+    }
+
+    // 해제한 좌석 수를 반환
+    public int expire(long nowMillis) {
+        List<HoldTimingWheel.Hold> expired = wheel.advance(nowMillis);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), ZoneId.systemDefault());
+        Map<Long, List<HoldTimingWheel.Hold>> byTrain = expired.stream()
+                .collect(Collectors.groupingBy(HoldTimingWheel.Hold::trainId, LinkedHashMap::new, Collectors.toList()));
+
+        int released = 0;
+        for (Map.Entry<Long, List<HoldTimingWheel.Hold>> train : byTrain.entrySet()) {
+            List<HoldTimingWheel.Hold> holds = train.getValue();
+            for (int from = 0; from < holds.size(); from += batchSize) {
+                released += release(train.getKey(), holds.subList(from, Math.min(from + batchSize, holds.size())), now);
+            }
+        }
+        return released;
+    }
+
+    public int pending() {
+        return wheel.size();
+    }
+
+    private int release(Long trainId, List<HoldTimingWheel.Hold> holds, LocalDateTime now) {
+        List<String> seatNumbers = holds.stream().map(HoldTimingWheel.Hold::seatNumber).toList();
+        List<String> released;
+        try {
+            released = seatInventory.releaseExpired(trainId, seatNumbers, now);
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도
+            log.warn("좌석 선점 만료 해제 실패, 재시도 예정: trainId={}, seats={}, {}", trainId, holds.size(), e.getMessage());
+            holds.forEach(wheel::schedule);
+            return 0;
+        }
+
+        if (!released.isEmpty()) {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.SEAT_EXCHANGE, "seat.hold-released",
+                    new SeatHoldReleasedEvent(trainId, released, null, EXPIRED, LocalDateTime.now()));
+        }
+        return released.size();
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
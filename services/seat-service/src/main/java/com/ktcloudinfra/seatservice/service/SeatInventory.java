@@ -0,0 +1,549 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.entity.SeatAttribute;
+import com.ktcloudinfra.seatservice.global.exception.ApiException;
+import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * 열차별 좌석 비트맵으로 관리하는 좌석 재고. 비트맵은 열차의 첫 접근 시 DB에서 적재한다.
+ * <ul>
+ *   <li>write-through (기본): 조건부 UPDATE(... AND reserved = false)의 영향 행 수로 예약을 확정하고
+ *       결과를 비트맵에 반영한다. DB가 판정하므로 여러 인스턴스가 떠 있어도 중복 예약이 없다.
+ *       확정한 변경은 {@link SeatChangeBroadcaster}로 알리고, 각 인스턴스는 해당 좌석을 DB에서 다시 읽어
+ *       비트맵(조회/배정/검색/좌석 맵)을 맞춘다({@link #sync}).</li>
+ *   <li>write-behind: 비트 CAS 한 번으로 확정하고 {@link SeatWriteBehind}가 DB에 반영한다.
+ *       DB가 메모리보다 늦으므로 인스턴스 간 동기화를 하지 않으며, 단일 인스턴스 배포에서만 사용한다.</li>
+ * </ul>
+ * 선점(hold)은 토큰과 만료 시각을 DB에 남겨야 하므로 모드와 관계없이 조건부 UPDATE로 처리한다.
+ * 선점된 좌석은 비트맵에서 예약된 좌석과 같이 취급하고, 선점 여부를 따로 기억해 일반 취소로 해제되지 않게 한다.
+ * <p>
+ * 배치 템플릿이 지정된 열차는 템플릿의 좌석 위에 좌석 행(예약/선점된 좌석)을 겹쳐 비트맵을 만들고,
+ * 좌석 행은 처음 예약/선점(또는 예약 검증 조회)될 때 만든다. 만든 행은 취소 후에도 남겨 seat id가 바뀌지 않게 한다.
+ */
+@Component
+public class SeatInventory {
+
+    // 자동 배정 중 고른 좌석을 다른 요청이 먼저 가져간 경우 다시 고르는 횟수
+    private static final int ASSIGN_ATTEMPTS = 5;
+
+    private final SeatRepository seatRepository;
+    private final SeatLayoutTemplates seatLayoutTemplates;
+    private final SeatWriteBehind seatWriteBehind;
+    private final SeatChangeBroadcaster seatChangeBroadcaster;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean writeBehind;
+    private final ConcurrentMap<Long, SeatBitmap> bitmaps = new ConcurrentHashMap<>();
+
+    public SeatInventory(SeatRepository seatRepository,
+                         SeatLayoutTemplates seatLayoutTemplates,
+                         SeatWriteBehind seatWriteBehind,
+                         SeatChangeBroadcaster seatChangeBroadcaster,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${seat.inventory.write-behind.enabled:false}") boolean writeBehind) {
+        this.seatRepository = seatRepository;
+        this.seatLayoutTemplates = seatLayoutTemplates;
+        this.seatWriteBehind = seatWriteBehind;
+        this.seatChangeBroadcaster = seatChangeBroadcaster;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.writeBehind = writeBehind;
+    }
+
+    public void reserve(Long trainId, String seatNumber) {
+        Integer updated = locked(trainId, List.of(seatNumber), true, (bitmap, indexes) -> {
+            int index = indexes[0];
+            if (writeBehind) {
+                if (!bitmap.tryReserve(index)) {
+                    return 0;
+                }
+                seatWriteBehind.enqueue(bitmap, index);
+                return 1;
+            }
+            Integer result = transactionTemplate.execute(status -> seatRepository.reserveIfAvailable(bitmap.seatId(index)));
+            // 성공이든 경합 패배든 DB 상태는 예약됨
+            bitmap.tryReserve(index);
+            return result;
+        });
+        if (updated == null || updated == 0) {
+            throw new ApiException("이미 예약된 좌석입니다.");
+        }
+        changed(trainId, List.of(seatNumber));
+    }
+
+    public void cancel(Long trainId, String seatNumber) {
+        // 좌석 행이 없으면(id = null) 예약되지 않은 좌석이므로 UPDATE가 0건
+        Integer updated = locked(trainId, List.of(seatNumber), false, (bitmap, indexes) -> {
+            int index = indexes[0];
+            if (writeBehind) {
+                // 선점된 좌석은 토큰으로만 해제 (비트를 내리면 DB에 선점 토큰이 남은 채 빈 좌석이 됨)
+                if (bitmap.isHeld(index) || !bitmap.tryRelease(index)) {
+                    return 0;
+                }
+                seatWriteBehind.enqueue(bitmap, index);
+                return 1;
+            }
+            Integer result = transactionTemplate.execute(status -> seatRepository.cancelIfReserved(bitmap.seatId(index)));
+            if (result != null && result == 1) {
+                bitmap.tryRelease(index);
+            }
+            return result;
+        });
+        if (updated == null || updated == 0) {
+            throw new ApiException("예약되지 않은 좌석입니다.");
+        }
+        changed(trainId, List.of(seatNumber));
+    }
+
+    // 전부 예약하거나, 하나라도 실패하면 아무 좌석도 예약하지 않고 예외
+    public void reserveAll(Long trainId, List<String> seatNumbers) {
+        boolean reserved = locked(trainId, seatNumbers, true, (bitmap, indexes) -> {
+            if (writeBehind) {
+                return reserveAllInMemory(bitmap, indexes);
+            }
+            List<Long> seatIds = Arrays.stream(indexes).mapToObj(bitmap::seatId).toList();
+            Boolean result = transactionTemplate.execute(status -> {
+                if (seatRepository.reserveAllIfAvailable(seatIds) == seatIds.size()) {
+                    return true;
+                }
+                status.setRollbackOnly();
+                return false;
+            });
+            if (Boolean.TRUE.equals(result)) {
+                for (int index : indexes) {
+                    bitmap.tryReserve(index);
+                }
+                return true;
+            }
+            // 다른 요청이 잡은 좌석을 비트맵에 반영
+            refresh(bitmap, seatIds);
+            return false;
+        });
+        if (!reserved) {
+            throw new ApiException("이미 예약된 좌석입니다.");
+        }
+        changed(trainId, seatNumbers);
+    }
+
+    public void hold(Long trainId, String seatNumber, String holdToken, LocalDateTime expiresAt) {
+        Integer updated = locked(trainId, List.of(seatNumber), true, (bitmap, indexes) -> {
+            int index = indexes[0];
+            // write-behind 모드에서는 DB에 아직 반영되지 않은 예약이 있을 수 있으므로 비트맵을 먼저 확인
+            if (writeBehind && bitmap.isReserved(index)) {
+                return 0;
+            }
+            Integer result = transactionTemplate.execute(status ->
+                    seatRepository.holdIfAvailable(bitmap.seatId(index), holdToken, expiresAt));
+            if (result != null && result == 1) {
+                bitmap.tryReserve(index);
+                bitmap.hold(index, true);
+            } else if (!writeBehind) {
+                // 다른 요청이 잡은 좌석을 비트맵에 반영 (write-behind는 메모리가 DB보다 앞서므로 그대로 둠)
+                refresh(bitmap, List.of(bitmap.seatId(index)));
+            }
+            return result;
+        });
+        if (updated == null || updated == 0) {
+            throw new ApiException("이미 예약된 좌석입니다.");
+        }
+        changed(trainId, List.of(seatNumber));
+    }
+
+    // 좌석마다 다른 토큰으로 전부 선점하거나, 하나라도 실패하면 아무 좌석도 선점하지 않고 예외
+    public void holdAll(Long trainId, Map<String, String> holdTokens, LocalDateTime expiresAt) {
+        List<String> seatNumbers = List.copyOf(holdTokens.keySet());
+        boolean held = locked(trainId, seatNumbers, true, (bitmap, indexes) -> {
+            if (writeBehind && Arrays.stream(indexes).anyMatch(bitmap::isReserved)) {
+                return false;
+            }
+            List<Long> seatIds = Arrays.stream(indexes).mapToObj(bitmap::seatId).toList();
+            Boolean result = transactionTemplate.execute(status -> {
+                for (int i = 0; i < indexes.length; i++) {
+                    if (seatRepository.holdIfAvailable(seatIds.get(i), holdTokens.get(seatNumbers.get(i)), expiresAt) == 0) {
+                        status.setRollbackOnly();
+                        return false;
+                    }
+                }
+                return true;
+            });
+            if (Boolean.TRUE.equals(result)) {
+                for (int index : indexes) {
+                    bitmap.tryReserve(index);
+                    bitmap.hold(index, true);
+                }
+                return true;
+            }
+            if (!writeBehind) {
+                // 다른 요청이 잡은 좌석을 비트맵에 반영 (write-behind는 메모리가 DB보다 앞서므로 그대로 둠)
+                refresh(bitmap, seatIds);
+            }
+            return false;
+        });
+        if (!held) {
+            throw new ApiException("이미 예약된 좌석입니다.");
+        }
+        changed(trainId, seatNumbers);
+    }
+
+    // 만료 전의 선점만 확정 (좌석은 예약 상태로 남음)
+    public void confirmHold(Long trainId, String seatNumber, String holdToken) {
+        Integer updated = locked(trainId, List.of(seatNumber), false, (bitmap, indexes) -> {
+            int index = indexes[0];
+            Integer result = transactionTemplate.execute(status ->
+                    seatRepository.confirmHold(bitmap.seatId(index), holdToken, LocalDateTime.now()));
+            if (result != null && result > 0) {
+                bitmap.hold(index, false);
+            }
+            return result;
+        });
+        if (updated == null || updated == 0) {
+            throw new ApiException("유효하지 않거나 만료된 좌석 선점입니다.");
+        }
+    }
+
+    public void releaseHold(Long trainId, String seatNumber, String holdToken) {
+        Integer updated = locked(trainId, List.of(seatNumber), false, (bitmap, indexes) -> {
+            int index = indexes[0];
+            Integer result = transactionTemplate.execute(status -> seatRepository.releaseHold(bitmap.seatId(index), holdToken));
+            if (result != null && result > 0) {
+                bitmap.tryRelease(index);
+                bitmap.hold(index, false);
+            }
+            return result;
+        });
+        if (updated == null || updated == 0) {
+            throw new ApiException("유효하지 않거나 만료된 좌석 선점입니다.");
+        }
+        changed(trainId, List.of(seatNumber));
+    }
+
+    /**
+     * 만료 시각이 지난 선점을 한 번의 UPDATE로 해제하고 실제로 해제된 좌석 번호를 반환한다.
+     * 그 사이 확정되었거나 해제 후 다시 선점된 좌석은 조건에 걸려 그대로 남는다.
+     */
+    List<String> releaseExpired(Long trainId, List<String> seatNumbers, LocalDateTime now) {
+        SeatBitmap current = bitmap(trainId);
+        List<String> known = seatNumbers.stream().filter(seatNumber -> current.indexOf(seatNumber) >= 0).toList();
+        if (known.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> expired = locked(trainId, known, false, (bitmap, indexes) -> {
+            List<Long> seatIds = Arrays.stream(indexes).mapToObj(bitmap::seatId).filter(Objects::nonNull).toList();
+            if (seatIds.isEmpty()) {
+                return List.of();
+            }
+            List<String> released = transactionTemplate.execute(status -> {
+                List<String> candidates = seatRepository.findExpiredHoldSeatNumbers(seatIds, now);
+                if (!candidates.isEmpty()) {
+                    seatRepository.releaseExpiredHolds(seatIds, now);
+                }
+                return candidates;
+            });
+            if (released == null) {
+                return List.of();
+            }
+            for (String seatNumber : released) {
+                bitmap.tryRelease(bitmap.indexOf(seatNumber));
+                bitmap.hold(bitmap.indexOf(seatNumber), false);
+            }
+            return released;
+        });
+        if (!expired.isEmpty()) {
+            changed(trainId, expired);
+        }
+        return expired;
+    }
+
+    /**
+     * 빈 좌석 count석을 골라 한 번에 선점하고 좌석 번호별 선점 토큰을 반환한다. adjacent면 같은 열의 연속 좌석만 고른다.
+     * 예약 확정은 선점 확정(confirmHold)으로 하고, 확정하지 않은 좌석은 만료 시 해제된다.
+     * 요청마다 임의의 열부터 찾기 시작해 동시 요청이 같은 좌석으로 몰리지 않게 하고,
+     * 경합으로 선점에 실패하면 비트맵(색인)이 갱신된 상태에서 다시 고른다.
+     */
+    public Map<String, String> assign(Long trainId, int count, boolean adjacent, LocalDateTime expiresAt) {
+        SeatBitmap bitmap = bitmap(trainId);
+        if (bitmap.size() == 0) {
+            throw new ApiException("해당 열차의 좌석 정보가 존재하지 않습니다.");
+        }
+
+        SeatRows rows = bitmap.rows();
+        for (int attempt = 0; attempt < ASSIGN_ATTEMPTS; attempt++) {
+            int startRow = ThreadLocalRandom.current().nextInt(rows.rowCount());
+            int[] indexes = adjacent ? rows.adjacent(count, startRow) : rows.scattered(count, startRow);
+            if (indexes == null) {
+                throw new ApiException(adjacent ? "연속으로 배정할 수 있는 빈 좌석이 없습니다." : "배정할 수 있는 빈 좌석이 없습니다.");
+            }
+            List<String> seatNumbers = Arrays.stream(indexes).mapToObj(bitmap::seatNumber).distinct().toList();
+            if (seatNumbers.size() != count) {
+                // 색인을 읽는 사이 열이 옮겨져 같은 좌석이 두 번 골라짐
+                continue;
+            }
+            Map<String, String> holdTokens = new LinkedHashMap<>();
+            seatNumbers.forEach(seatNumber -> holdTokens.put(seatNumber, UUID.randomUUID().toString()));
+            try {
+                holdAll(trainId, holdTokens, expiresAt);
+                return holdTokens;
+            } catch (ApiException e) {
+                // 다른 요청이 먼저 예약/선점: 다시 고름
+            }
+        }
+        throw new ApiException("좌석 배정 요청이 몰려 실패했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    /**
+     * 배치 템플릿 열차에서 모든 속성을 가진 빈 좌석을 좌석 순서대로 찾는다 (호차 범위는 양 끝 포함, null이면 제한 없음).
+     * 호차 구간의 워드만 돌며 빈 좌석(예약 비트의 반전)과 속성 비트맵을 AND 하므로 DB를 읽지 않는다.
+     */
+    public List<String> search(Long trainId, Collection<SeatAttribute> attributes, Integer carFrom, Integer carTo) {
+        SeatBitmap bitmap = bitmap(trainId);
+        SeatLayout layout = bitmap.layout();
+        if (layout == null) {
+            throw new ApiException("좌석 속성 정보가 없는 열차입니다.");
+        }
+
+        long[][] masks = attributes.stream().distinct().map(layout::attribute).toArray(long[][]::new);
+        int from = layout.carStart(carFrom);
+        int to = layout.carEnd(carTo);
+        List<String> found = new ArrayList<>();
+        for (int w = from >>> 6; from < to && w <= (to - 1) >>> 6; w++) {
+            long word = ~bitmap.word(w) & range(w, from, to);
+            for (long[] mask : masks) {
+                word &= mask[w];
+            }
+            while (word != 0) {
+                found.add(bitmap.seatNumber((w << 6) + Long.numberOfTrailingZeros(word)));
+                word &= word - 1;
+            }
+        }
+        return found;
+    }
+
+    public boolean isReserved(Long trainId, String seatNumber) {
+        SeatBitmap bitmap = bitmap(trainId);
+        return bitmap.isReserved(indexOf(bitmap, seatNumber));
+    }
+
+    /**
+     * 좌석이 추가되거나 배치 템플릿이 지정된 열차의 비트맵을 DB에서 다시 만든다.
+     * write-through는 비우기만 하면 다음 접근에서 적재한다 (다른 인스턴스에도 알림).
+     * write-behind는 아직 DB에 반영되지 않은 변경이 있으므로, 모든 좌석 잠금을 잡고 새 비트맵에 기존 비트를 옮긴 뒤 교체한다.
+     * 교체 전 비트맵의 잠금을 기다리던 요청은 교체된 비트맵에서 다시 처리한다({@link #locked}).
+     */
+    public void evict(Long trainId) {
+        if (!writeBehind) {
+            bitmaps.remove(trainId);
+            seatChangeBroadcaster.reload(trainId);
+            return;
+        }
+
+        SeatBitmap current = bitmaps.get(trainId);
+        if (current == null) {
+            return;
+        }
+        List<ReentrantLock> locks = current.allLocks();
+        locks.forEach(ReentrantLock::lock);
+        try {
+            current.retire();
+            SeatBitmap reloaded = load(trainId);
+            for (int index = 0; index < current.size(); index++) {
+                int moved = reloaded.indexOf(current.seatNumber(index));
+                if (current.isReserved(index)) {
+                    reloaded.tryReserve(moved);
+                } else {
+                    reloaded.tryRelease(moved);
+                }
+            }
+            bitmaps.put(trainId, reloaded);
+        } finally {
+            locks.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 확정한 좌석 변경을 DB에서 다시 읽어 비트맵에 반영한다 (seatNumbers가 null이거나
+     * 비트맵에 없는 좌석이면 다시 적재하도록 비움). 이벤트의 도착 순서와 관계없이 DB의 최종 상태로 수렴하고,
+     * 이 인스턴스가 보낸 변경이 되돌아와도 같은 값을 다시 쓸 뿐이다. 적재하지 않은 열차는 무시한다.
+     */
+    public void sync(Long trainId, List<String> seatNumbers) {
+        SeatBitmap bitmap = bitmaps.get(trainId);
+        if (writeBehind || bitmap == null) {
+            return;
+        }
+        int[] indexes = seatNumbers == null ? null : seatNumbers.stream().mapToInt(bitmap::indexOf).toArray();
+        if (indexes == null || Arrays.stream(indexes).anyMatch(index -> index < 0)) {
+            bitmaps.remove(trainId, bitmap);
+            return;
+        }
+
+        List<ReentrantLock> locks = bitmap.locks(indexes);
+        locks.forEach(ReentrantLock::lock);
+        try {
+            apply(bitmap, seatRepository.findByTrainIdAndSeatNumberIn(trainId, seatNumbers));
+        } finally {
+            locks.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    // 적재는 맵 잠금 밖에서 하고, 동시에 적재한 경우 먼저 등록된 비트맵을 사용
+    SeatBitmap bitmap(Long trainId) {
+        SeatBitmap bitmap = bitmaps.get(trainId);
+        if (bitmap != null) {
+            return bitmap;
+        }
+
+        SeatBitmap loaded = load(trainId);
+        if (loaded.size() == 0) {
+            // 좌석이 아직 없는 열차는 캐시하지 않음
+            return loaded;
+        }
+        SeatBitmap existing = bitmaps.putIfAbsent(trainId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private SeatBitmap load(Long trainId) {
+        List<Seat> seats = seatRepository.findByTrainId(trainId);
+        return seatLayoutTemplates.layout(trainId)
+                .map(layout -> SeatBitmap.of(layout, seats))
+                .orElseGet(() -> SeatBitmap.of(seats));
+    }
+
+    /**
+     * 좌석들의 잠금을 잡고 작업을 실행한다. create면 좌석 행이 없는 좌석의 행을 만들고, 아니면 있는 행의 id만 연결한다.
+     * 잠금을 얻었을 때 비트맵이 이미 교체(write-behind evict)되었으면 교체된 비트맵에서 처음부터 다시 실행한다.
+     */
+    private <T> T locked(Long trainId, List<String> seatNumbers, boolean create, BiFunction<SeatBitmap, int[], T> task) {
+        while (true) {
+            SeatBitmap bitmap = bitmap(trainId);
+            int[] indexes = seatNumbers.stream().mapToInt(seatNumber -> indexOf(bitmap, seatNumber)).toArray();
+            if (create) {
+                materialize(trainId, bitmap, indexes);
+            } else {
+                attachExisting(trainId, bitmap, indexes);
+            }
+
+            List<ReentrantLock> locks = bitmap.locks(indexes);
+            locks.forEach(ReentrantLock::lock);
+            try {
+                if (!bitmap.isRetired()) {
+                    return task.apply(bitmap, indexes);
+                }
+            } finally {
+                locks.forEach(ReentrantLock::unlock);
+            }
+        }
+    }
+
+    /**
+     * 좌석 행이 아직 없는 좌석(템플릿 열차)의 행을 만들고 id를 비트맵에 연결한다. 예약/선점 전에 호출한다.
+     * 다른 요청이 같은 좌석 행을 먼저 만들어 충돌하면 남은 좌석만 한 번 더 만든다.
+     */
+    void materialize(Long trainId, SeatBitmap bitmap, int... indexes) {
+        List<String> missing = unattached(bitmap, indexes);
+        if (missing.isEmpty()) {
+            return;
+        }
+        try {
+            seatRepository.insertMissing(trainId, missing);
+        } catch (DuplicateKeyException e) {
+            seatRepository.insertMissing(trainId, missing);
+        }
+        attach(trainId, bitmap, missing);
+    }
+
+    // 이 인스턴스가 비트맵을 적재한 뒤 다른 인스턴스가 만든 좌석 행의 id 연결 (행을 새로 만들지는 않음)
+    private void attachExisting(Long trainId, SeatBitmap bitmap, int... indexes) {
+        List<String> missing = unattached(bitmap, indexes);
+        if (!missing.isEmpty()) {
+            attach(trainId, bitmap, missing);
+        }
+    }
+
+    private void attach(Long trainId, SeatBitmap bitmap, List<String> seatNumbers) {
+        for (Seat seat : seatRepository.findByTrainIdAndSeatNumberIn(trainId, seatNumbers)) {
+            bitmap.attach(bitmap.indexOf(seat.getSeatNumber()), seat.getId());
+        }
+    }
+
+    // 워드 w에서 [from, to) 구간에 속하는 비트
+    private static long range(int w, int from, int to) {
+        int low = Math.max(from - (w << 6), 0);
+        int high = Math.min(to - (w << 6), 64);
+        long upper = high == 64 ? -1L : (1L << high) - 1;
+        return upper & (-1L << low);
+    }
+
+    private static List<String> unattached(SeatBitmap bitmap, int[] indexes) {
+        return Arrays.stream(indexes)
+                .filter(index -> bitmap.seatId(index) == null)
+                .distinct()
+                .mapToObj(bitmap::seatNumber)
+                .toList();
+    }
+
+    private boolean reserveAllInMemory(SeatBitmap bitmap, int[] indexes) {
+        for (int i = 0; i < indexes.length; i++) {
+            if (!bitmap.tryReserve(indexes[i])) {
+                for (int j = 0; j < i; j++) {
+                    bitmap.tryRelease(indexes[j]);
+                }
+                return false;
+            }
+        }
+        for (int index : indexes) {
+            seatWriteBehind.enqueue(bitmap, index);
+        }
+        return true;
+    }
+
+    private void refresh(SeatBitmap bitmap, List<Long> seatIds) {
+        apply(bitmap, seatRepository.findAllById(seatIds));
+    }
+
+    private static void apply(SeatBitmap bitmap, Iterable<Seat> seats) {
+        for (Seat seat : seats) {
+            int index = bitmap.indexOf(seat.getSeatNumber());
+            bitmap.attach(index, seat.getId());
+            if (seat.isReserved()) {
+                bitmap.tryReserve(index);
+            } else {
+                bitmap.tryRelease(index);
+            }
+            bitmap.hold(index, seat.isHeld());
+        }
+    }
+
+    // write-behind는 단일 인스턴스 배포이므로 알리지 않음
+    private void changed(Long trainId, List<String> seatNumbers) {
+        if (!writeBehind) {
+            seatChangeBroadcaster.changed(trainId, seatNumbers);
+        }
+    }
+
+    private int indexOf(SeatBitmap bitmap, String seatNumber) {
+        int index = bitmap.indexOf(seatNumber);
+        if (index < 0) {
+            throw new ApiException("좌석이 존재하지 않습니다.");
+        }
+        return index;
+    }
+}
@@ -0,0 +1,114 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.ktcloudinfra.seatservice.entity.LayoutTemplateCar;
+import com.ktcloudinfra.seatservice.entity.SeatAttribute;
+import com.ktcloudinfra.seatservice.entity.SeatClass;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 템플릿을 펼친 좌석 배치. 좌석 번호는 호차·열·좌석 열 순서이고, 같은 호차의 좌석은 연속된 구간에 놓인다.
+ * 좌석 속성마다 좌석 순서의 비트맵(비트 i = i번째 좌석이 그 속성을 가짐)을 만들어 두어,
+ * 검색은 예약 비트맵의 빈 좌석과 속성 비트맵을 워드 단위로 AND 하는 것으로 끝난다.
+ */
+final class SeatLayout {
+
+    private final List<String> seatNumbers;
+    // 호차 번호 오름차순, carStarts[i] ~ carStarts[i + 1] 이 i번째 호차의 좌석 구간
+    private final int[] carNumbers;
+    private final int[] carStarts;
+    private final SeatClass[] carClasses;
+    private final Map<SeatAttribute, long[]> attributes = new EnumMap<>(SeatAttribute.class);
+
+    private SeatLayout(List<LayoutTemplateCar> cars) {
+        List<LayoutTemplateCar> ordered = cars.stream()
+                .sorted(Comparator.comparingInt(LayoutTemplateCar::getCarNumber))
+                .toList();
+        int size = ordered.stream().mapToInt(car -> car.getRowCount() * car.getColumns().size()).sum();
+        for (SeatAttribute attribute : SeatAttribute.values()) {
+            attributes.put(attribute, new long[(size + 63) >>> 6]);
+        }
+
+        List<String> expanded = new ArrayList<>(size);
+        this.carNumbers = new int[ordered.size()];
+        this.carStarts = new int[ordered.size() + 1];
+        this.carClasses = new SeatClass[ordered.size()];
+        for (int c = 0; c < ordered.size(); c++) {
+            LayoutTemplateCar car = ordered.get(c);
+            carNumbers[c] = car.getCarNumber();
+            carStarts[c] = expanded.size();
+            carClasses[c] = car.getSeatClass();
+            for (int row = 1; row <= car.getRowCount(); row++) {
+                for (String column : car.getColumns()) {
+                    int index = expanded.size();
+                    expanded.add(car.getCarNumber() + "-" + row + column);
+                    set(SeatAttribute.WINDOW, index, car.isWindow(column));
+                    set(SeatAttribute.AISLE, index, car.isAisle(column));
+                    set(SeatAttribute.FORWARD_FACING, index, car.isForwardFacing(row));
+                    set(SeatAttribute.QUIET_CAR, index, car.isQuietCar());
+                    set(SeatAttribute.POWER_OUTLET, index, car.isPowerOutlet());
+                }
+            }
+        }
+        carStarts[ordered.size()] = expanded.size();
+        this.seatNumbers = List.copyOf(expanded);
+    }
+
+    static SeatLayout of(List<LayoutTemplateCar> cars) {
+        return new SeatLayout(cars);
+    }
+
+    List<String> seatNumbers() {
+        return seatNumbers;
+    }
+
+    int size() {
+        return seatNumbers.size();
+    }
+
+    int carCount() {
+        return carNumbers.length;
+    }
+
+    // c번째 호차(호차 번호 오름차순)의 번호와 객실 등급
+    int carNumber(int c) {
+        return carNumbers[c];
+    }
+
+    SeatClass carClass(int c) {
+        return carClasses[c];
+    }
+
+    long[] attribute(SeatAttribute attribute) {
+        return attributes.get(attribute);
+    }
+
+    // carFrom 이상인 첫 호차의 시작 위치 (null이면 처음)
+    int carStart(Integer carFrom) {
+        if (carFrom == null) {
+            return 0;
+        }
+        int position = Arrays.binarySearch(carNumbers, carFrom);
+        return carStarts[position >= 0 ? position : -position - 1];
+    }
+
+    // carTo 이하인 마지막 호차의 끝 위치 (null이면 끝)
+    int carEnd(Integer carTo) {
+        if (carTo == null) {
+            return size();
+        }
+        int position = Arrays.binarySearch(carNumbers, carTo);
+        return carStarts[position >= 0 ? position + 1 : -position - 1];
+    }
+
+    private void set(SeatAttribute attribute, int index, boolean value) {
+        if (value) {
+            attributes.get(attribute)[index >>> 6] |= 1L << (index & 63);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.ktcloudinfra.seatservice.repository.LayoutTemplateCarRepository;
+import com.ktcloudinfra.seatservice.repository.TrainLayoutRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 열차에 지정된 좌석 배치 템플릿을 좌석 배치({@link SeatLayout})로 펼친다.
+ * 템플릿은 만든 뒤 바뀌지 않으므로 펼친 결과를 템플릿별로 캐시한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatLayoutTemplates {
+
+    private final TrainLayoutRepository trainLayoutRepository;
+    private final LayoutTemplateCarRepository layoutTemplateCarRepository;
+    private final ConcurrentMap<Long, SeatLayout> layouts = new ConcurrentHashMap<>();
+
+    // 템플릿이 지정되지 않은 열차(좌석 행을 모두 가진 열차)면 empty
+    Optional<SeatLayout> layout(Long trainId) {
+        return trainLayoutRepository.findById(trainId)
+                .map(layout -> layouts.computeIfAbsent(layout.getTemplateId(),
+                        templateId -> SeatLayout.of(layoutTemplateCarRepository.findByTemplateIdOrderByCarNumber(templateId))));
+    }
+}
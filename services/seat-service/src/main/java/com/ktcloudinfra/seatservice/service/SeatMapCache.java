@@ -0,0 +1,135 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktcloudinfra.seatservice.dto.response.SeatLayoutResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatMapResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatSummaryResponseDTO;
+import com.ktcloudinfra.seatservice.entity.SeatClass;
+import com.ktcloudinfra.seatservice.global.exception.ApiException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 열차별 좌석 맵/좌석 배치/빈 좌석 요약의 직렬화된 응답 바이트와 ETag 캐시.
+ * 좌석 맵과 요약은 비트맵의 버전이 바뀐 경우에만 다시 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatMapCache {
+
+    static final String ENCODING = "bitmap-base64";
+
+    private final SeatInventory seatInventory;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<Long, Entry> seatMaps = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Entry> layouts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Entry> summaries = new ConcurrentHashMap<>();
+
+    public Serialized seatMap(Long trainId) {
+        SeatBitmap bitmap = bitmap(trainId);
+        long version = bitmap.version();
+        Entry cached = seatMaps.get(trainId);
+        if (cached != null && cached.bitmap() == bitmap && cached.version() == version) {
+            return cached.serialized();
+        }
+
+        // 만드는 동안 비트가 바뀌었다면 이전 버전으로 기록되어 다음 요청에서 다시 만들어짐
+        SeatMapResponseDTO seatMap = SeatMapResponseDTO.builder()
+                .trainId(trainId)
+                .seatCount(bitmap.size())
+                .encoding(ENCODING)
+                .reserved(Base64.getEncoder().encodeToString(bitmap.toByteArray()))
+                .build();
+        Entry entry = new Entry(bitmap, version, serialize(seatMap));
+        seatMaps.put(trainId, entry);
+        return entry.serialized();
+    }
+
+    public Serialized layout(Long trainId) {
+        SeatBitmap bitmap = bitmap(trainId);
+        Entry cached = layouts.get(trainId);
+        if (cached != null && cached.bitmap() == bitmap) {
+            return cached.serialized();
+        }
+
+        SeatLayoutResponseDTO layout = SeatLayoutResponseDTO.builder()
+                .trainId(trainId)
+                .seatNumbers(bitmap.seatNumbers())
+                .build();
+        Entry entry = new Entry(bitmap, 0, serialize(layout));
+        layouts.put(trainId, entry);
+        return entry.serialized();
+    }
+
+    // 비트맵과 함께 갱신되는 빈 좌석 카운터를 읽어 만들므로, 다시 만들 때도 좌석 수가 아닌 호차 수에 비례
+    public Serialized summary(Long trainId) {
+        SeatBitmap bitmap = bitmap(trainId);
+        long version = bitmap.version();
+        Entry cached = summaries.get(trainId);
+        if (cached != null && cached.bitmap() == bitmap && cached.version() == version) {
+            return cached.serialized();
+        }
+
+        SeatCounters counters = bitmap.counters();
+        List<SeatSummaryResponseDTO.Car> cars = new ArrayList<>(counters.carCount());
+        for (int c = 0; c < counters.carCount(); c++) {
+            cars.add(SeatSummaryResponseDTO.Car.builder()
+                    .carNumber(counters.carNumber(c))
+                    .seatClass(counters.carClass(c))
+                    .seatCount(counters.carSeats(c))
+                    .available(counters.carFree(c))
+                    .build());
+        }
+        List<SeatSummaryResponseDTO.Cabin> classes = new ArrayList<>();
+        for (SeatClass seatClass : SeatClass.values()) {
+            if (counters.classSeats(seatClass) > 0) {
+                classes.add(SeatSummaryResponseDTO.Cabin.builder()
+                        .seatClass(seatClass)
+                        .seatCount(counters.classSeats(seatClass))
+                        .available(counters.classFree(seatClass))
+                        .build());
+            }
+        }
+        SeatSummaryResponseDTO summary = SeatSummaryResponseDTO.builder()
+                .trainId(trainId)
+                .seatCount(bitmap.size())
+                .available(counters.free())
+                .cars(cars)
+                .classes(classes)
+                .build();
+        Entry entry = new Entry(bitmap, version, serialize(summary));
+        summaries.put(trainId, entry);
+        return entry.serialized();
+    }
+
+    private SeatBitmap bitmap(Long trainId) {
+        SeatBitmap bitmap = seatInventory.bitmap(trainId);
+        if (bitmap.size() == 0) {
+            throw new ApiException("해당 열차의 좌석 정보가 존재하지 않습니다.");
+        }
+        return bitmap;
+    }
+
+    private Serialized serialize(Object body) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(body);
+            return new Serialized(bytes, "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Serialized(byte[] body, String etag) {
+    }
+
+    private record Entry(SeatBitmap bitmap, long version, Serialized serialized) {
+    }
+}
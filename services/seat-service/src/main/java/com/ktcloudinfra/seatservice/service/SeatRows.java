@@ -0,0 +1,239 @@
+package com.ktcloudinfra.seatservice.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 좌석 자동 배정을 위한 열(row)별 빈 좌석 색인. 좌석 번호 "{호차}-{열}{좌석 열}"(호차 생략 시 1호차)로
+ * 같은 호차·같은 열의 좌석을 좌석 열 순서로 묶고, 각 열의 빈 좌석을 비트 마스크로 관리한다.
+ * 열은 "가장 긴 연속 빈 좌석 수"별 집합에 들어 있어, N석 연속 배정은 N 이상의 집합을 찾는 것으로 끝난다.
+ * 좌석 하나가 바뀔 때는 그 열의 마스크와 집합 소속만 갱신한다 (O(열 너비 + log 열 수)).
+ */
+final class SeatRows {
+
+    private static final Pattern SEAT_NUMBER = Pattern.compile("^(?:(\\d+)-)?(\\d+)([A-Za-z]+)$");
+    private static final int MAX_ROW_WIDTH = 64;
+
+    private final int[] rowOf;
+    private final int[] positionOf;
+    private final int[][] rowSeats;
+    private final long[] freeMasks;
+    private final int[] longestRuns;
+    // runs[k] = 가장 긴 연속 빈 좌석 수가 k인 열 번호 (k = 0인 꽉 찬 열은 담지 않음)
+    private final NavigableSet<Integer>[] runs;
+
+    @SuppressWarnings("unchecked")
+    SeatRows(String[] seatNumbers) {
+        this.rowOf = new int[seatNumbers.length];
+        this.positionOf = new int[seatNumbers.length];
+
+        Map<RowKey, List<Integer>> grouped = new LinkedHashMap<>();
+        for (int i = 0; i < seatNumbers.length; i++) {
+            grouped.computeIfAbsent(rowKey(seatNumbers[i], i), key -> new ArrayList<>()).add(i);
+        }
+        List<RowKey> keys = new ArrayList<>(grouped.keySet());
+        keys.sort(Comparator.naturalOrder());
+
+        this.rowSeats = new int[keys.size()][];
+        this.freeMasks = new long[keys.size()];
+        this.longestRuns = new int[keys.size()];
+        int maxWidth = 0;
+        for (int row = 0; row < keys.size(); row++) {
+            List<Integer> seats = grouped.get(keys.get(row));
+            seats.sort(Comparator.comparing((Integer index) -> seatNumbers[index].length())
+                    .thenComparing(index -> seatNumbers[index]));
+            // 한 열이 64석을 넘는 배치는 없지만, 넘으면 앞 64석만 연속 배정 대상으로 본다
+            int width = Math.min(seats.size(), MAX_ROW_WIDTH);
+            rowSeats[row] = new int[width];
+            for (int position = 0; position < seats.size(); position++) {
+                int index = seats.get(position);
+                rowOf[index] = row;
+                positionOf[index] = position < width ? position : -1;
+                if (position < width) {
+                    rowSeats[row][position] = index;
+                }
+            }
+            freeMasks[row] = width == MAX_ROW_WIDTH ? -1L : (1L << width) - 1;
+            longestRuns[row] = width;
+            maxWidth = Math.max(maxWidth, width);
+        }
+
+        this.runs = new NavigableSet[maxWidth + 1];
+        for (int k = 0; k <= maxWidth; k++) {
+            runs[k] = new ConcurrentSkipListSet<>();
+        }
+        for (int row = 0; row < rowSeats.length; row++) {
+            if (longestRuns[row] > 0) {
+                runs[longestRuns[row]].add(row);
+            }
+        }
+    }
+
+    int rowCount() {
+        return rowSeats.length;
+    }
+
+    // 비트맵에서 좌석 상태가 실제로 바뀐 뒤 호출
+    void update(int index, boolean reserved) {
+        int row = rowOf[index];
+        int position = positionOf[index];
+        if (position < 0) {
+            return;
+        }
+        synchronized (rowSeats[row]) {
+            long mask = reserved ? freeMasks[row] & ~(1L << position) : freeMasks[row] | (1L << position);
+            freeMasks[row] = mask;
+            int longest = longestRun(mask);
+            int previous = longestRuns[row];
+            if (longest != previous) {
+                longestRuns[row] = longest;
+                if (previous > 0) {
+                    runs[previous].remove(row);
+                }
+                if (longest > 0) {
+                    runs[longest].add(row);
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 열에서 연속된 빈 좌석 count석. 연속 빈 좌석이 count 이상인 열 중 가장 짧은 것(best fit)을 고르고,
+     * 같은 길이의 열 중에서는 startRow 이후 첫 열부터 본다. 없으면 null.
+     */
+    int[] adjacent(int count, int startRow) {
+        for (int k = count; k < runs.length; k++) {
+            Integer row = pick(runs[k], startRow);
+            if (row == null) {
+                continue;
+            }
+            int[] seats = bestFit(row, count);
+            if (seats != null) {
+                return seats;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 연속 여부와 관계없이 빈 좌석 count석. 짧은 빈 구간부터 채워 긴 구간은 단체 배정용으로 남긴다. 부족하면 null.
+     */
+    int[] scattered(int count, int startRow) {
+        int[] seats = new int[count];
+        int found = 0;
+        for (int k = 1; k < runs.length && found < count; k++) {
+            found = collect(runs[k].tailSet(startRow, true), seats, found);
+            found = collect(runs[k].headSet(startRow, false), seats, found);
+        }
+        return found == count ? seats : null;
+    }
+
+    private int collect(Iterable<Integer> rows, int[] seats, int found) {
+        for (Integer row : rows) {
+            if (found == seats.length) {
+                break;
+            }
+            long mask;
+            synchronized (rowSeats[row]) {
+                mask = freeMasks[row];
+            }
+            while (mask != 0 && found < seats.length) {
+                int position = Long.numberOfTrailingZeros(mask);
+                seats[found++] = rowSeats[row][position];
+                mask &= mask - 1;
+            }
+        }
+        return found;
+    }
+
+    // 열 안에서 count 이상인 빈 구간 중 가장 짧은 구간의 앞쪽 count석
+    private int[] bestFit(int row, int count) {
+        long mask;
+        synchronized (rowSeats[row]) {
+            mask = freeMasks[row];
+        }
+        int width = rowSeats[row].length;
+        int bestStart = -1;
+        int bestLength = Integer.MAX_VALUE;
+        int position = 0;
+        while (position < width) {
+            if ((mask & (1L << position)) == 0) {
+                position++;
+                continue;
+            }
+            int start = position;
+            while (position < width && (mask & (1L << position)) != 0) {
+                position++;
+            }
+            int length = position - start;
+            if (length >= count && length < bestLength) {
+                bestStart = start;
+                bestLength = length;
+            }
+        }
+        if (bestStart < 0) {
+            return null;
+        }
+        int[] seats = new int[count];
+        for (int i = 0; i < count; i++) {
+            seats[i] = rowSeats[row][bestStart + i];
+        }
+        return seats;
+    }
+
+    private static Integer pick(NavigableSet<Integer> rows, int startRow) {
+        Integer row = rows.ceiling(startRow);
+        if (row == null && !rows.isEmpty()) {
+            try {
+                row = rows.first();
+            } catch (NoSuchElementException e) {
+                // 그 사이 비워짐
+                return null;
+            }
+        }
+        return row;
+    }
+
+    private static int longestRun(long mask) {
+        int longest = 0;
+        while (mask != 0) {
+            mask &= mask << 1;
+            longest++;
+        }
+        return longest;
+    }
+
+    // 좌석 번호의 호차 (호차 생략 시 1호차), 형식을 알 수 없으면 null
+    static Integer carNumber(String seatNumber) {
+        Matcher matcher = SEAT_NUMBER.matcher(seatNumber);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return matcher.group(1) == null ? 1 : Integer.parseInt(matcher.group(1));
+    }
+
+    private static RowKey rowKey(String seatNumber, int index) {
+        Matcher matcher = SEAT_NUMBER.matcher(seatNumber);
+        if (!matcher.matches()) {
+            // 형식을 알 수 없는 좌석은 혼자 한 열
+            return new RowKey(Integer.MAX_VALUE, index);
+        }
+        int car = matcher.group(1) == null ? 1 : Integer.parseInt(matcher.group(1));
+        return new RowKey(car, Integer.parseInt(matcher.group(2)));
+    }
+
+    private record RowKey(int car, int row) implements Comparable<RowKey> {
+        @Override
+        public int compareTo(RowKey other) {
+            return car != other.car ? Integer.compare(car, other.car) : Integer.compare(row, other.row);
+        }
+    }
+}
@@ -1,12 +1,41 @@
 package com.ktcloudinfra.seatservice.service;
 
+import com.ktcloudinfra.seatservice.dto.request.LayoutTemplateRequestDTO;
+import com.ktcloudinfra.seatservice.dto.request.SeatProvisionRequestDTO;
+import com.ktcloudinfra.seatservice.dto.response.LayoutTemplateResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatAssignmentResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatHoldResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatProvisionResponseDTO;
 import com.ktcloudinfra.seatservice.dto.response.SeatResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatSearchResponseDTO;
+import com.ktcloudinfra.seatservice.entity.SeatAttribute;
 
 import java.util.List;
 
 public interface SeatService {
     List<SeatResponseDTO> getSeatsByTrain(Long trainId);
 
+    SeatResponseDTO getSeat(Long trainId, String seatNumber);
+
+    SeatSearchResponseDTO searchSeats(Long trainId, List<SeatAttribute> attributes, Integer carFrom, Integer carTo,
+                                      int limit);
+
+    List<SeatResponseDTO> getSeats(Long trainId, List<String> seatNumbers);
+
+    SeatProvisionResponseDTO provisionSeats(SeatProvisionRequestDTO request);
+
+    LayoutTemplateResponseDTO createLayoutTemplate(LayoutTemplateRequestDTO request);
+
+    void assignLayoutTemplate(Long templateId, Long trainId);
+
+    SeatHoldResponseDTO holdSeat(Long trainId, String seatNumber);
+
+    void confirmHold(String holdToken);
+
+    void releaseHold(String holdToken);
+
+    SeatAssignmentResponseDTO assignSeats(Long trainId, int count, boolean adjacent);
+
     void reserveSeat(Long seatId);
 
     void cancelSeat(Long seatId);
@@ -15,4 +44,6 @@ public interface SeatService {
     void reserveSeat(Long trainId, String seatNumber);
 
     void cancelSeat(Long trainId, String seatNumber);
+
+    void reserveSeats(Long trainId, List<String> seatNumbers);
 }
@@ -1,93 +1,355 @@
 package com.ktcloudinfra.seatservice.service;
 
-import com.ktcloudinfra.seatservice.client.TrainClient;
-import com.ktcloudinfra.seatservice.client.dto.TrainDTO;
+import com.ktcloudinfra.seatservice.client.TrainSummaryCache;
+import com.ktcloudinfra.seatservice.client.dto.TrainSummary;
+import com.ktcloudinfra.seatservice.config.RabbitMQConfig;
+import com.ktcloudinfra.seatservice.dto.event.SeatHeldEvent;
+import com.ktcloudinfra.seatservice.dto.event.SeatHoldConfirmedEvent;
+import com.ktcloudinfra.seatservice.dto.event.SeatHoldReleasedEvent;
+import com.ktcloudinfra.seatservice.dto.request.LayoutTemplateRequestDTO;
+import com.ktcloudinfra.seatservice.dto.request.SeatProvisionRequestDTO;
+import com.ktcloudinfra.seatservice.dto.response.LayoutTemplateResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatAssignmentResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatHoldResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatProvisionResponseDTO;
 import com.ktcloudinfra.seatservice.dto.response.SeatResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatSearchResponseDTO;
+import com.ktcloudinfra.seatservice.entity.LayoutTemplate;
+import com.ktcloudinfra.seatservice.entity.LayoutTemplateCar;
 import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.entity.SeatAttribute;
+import com.ktcloudinfra.seatservice.entity.TrainLayout;
+import com.ktcloudinfra.seatservice.repository.LayoutTemplateCarRepository;
+import com.ktcloudinfra.seatservice.repository.LayoutTemplateRepository;
 import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import com.ktcloudinfra.seatservice.repository.TrainLayoutRepository;
 import com.ktcloudinfra.seatservice.global.exception.ApiException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class SeatServiceImpl implements SeatService {
 
+    private static final int MAX_PROVISION_SEATS = 20_000;
+    private static final int MAX_ASSIGN_SEATS = 6;
+    private static final int MAX_SEARCH_RESULTS = 200;
+
     private final SeatRepository seatRepository;
-    private final TrainClient trainClient;
+    private final LayoutTemplateRepository layoutTemplateRepository;
+    private final LayoutTemplateCarRepository layoutTemplateCarRepository;
+    private final TrainLayoutRepository trainLayoutRepository;
+    private final TrainSummaryCache trainSummaryCache;
+    private final SeatInventory seatInventory;
+    private final SeatHoldExpiry seatHoldExpiry;
+    private final RabbitTemplate rabbitTemplate;
+
+    @Value("${seat.hold.duration:10m}")
+    private Duration holdDuration = Duration.ofMinutes(10);
 
+    // 좌석 목록은 비트맵(좌석 행 또는 배치 템플릿 + 예약 좌석 행)에서 만든다. 좌석 행이 없는 좌석은 id = null
     @Override
-    @Transactional(readOnly = true)
     public List<SeatResponseDTO> getSeatsByTrain(Long trainId) {
-        var seats = seatRepository.findByTrainId(trainId);
-        if (seats.isEmpty()) {
+        SeatBitmap bitmap = seatInventory.bitmap(trainId);
+        if (bitmap.size() == 0) {
             throw new ApiException("해당 열차의 좌석 정보가 존재하지 않습니다.");
         }
 
-        TrainDTO train = trainClient.getTrain(trainId);
+        // 로컬 프로젝션에서 조회하고, train-service 장애 시에도 좌석 목록은 응답
+        TrainSummary train = trainSummaryCache.getTrain(trainId);
+        String trainName = train == null ? null : train.getName();
+
+        List<SeatResponseDTO> seats = new ArrayList<>(bitmap.size());
+        for (int index = 0; index < bitmap.size(); index++) {
+            seats.add(SeatResponseDTO.builder()
+                    .id(bitmap.seatId(index))
+                    .name(trainName)
+                    .seatNumber(bitmap.seatNumber(index))
+                    .reserved(bitmap.isReserved(index))
+                    .build());
+        }
+        return seats;
+    }
+
+    @Override
+    public SeatResponseDTO getSeat(Long trainId, String seatNumber) {
+        List<SeatResponseDTO> seats = getSeats(trainId, List.of(seatNumber));
+        if (seats.isEmpty()) {
+            throw new ApiException("좌석이 존재하지 않습니다.");
+        }
+        return seats.get(0);
+    }
+
+    // 속성 검색: 좌석 비트맵과 속성 비트맵의 AND (DB 조회 없음)
+    @Override
+    public SeatSearchResponseDTO searchSeats(Long trainId, List<SeatAttribute> attributes, Integer carFrom, Integer carTo,
+                                             int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new ApiException("한 번에 조회할 수 있는 좌석은 1~" + MAX_SEARCH_RESULTS + "석입니다.");
+        }
+        List<String> found = seatInventory.search(trainId, attributes == null ? List.of() : attributes, carFrom, carTo);
+        return SeatSearchResponseDTO.builder()
+                .trainId(trainId)
+                .count(found.size())
+                .seatNumbers(found.subList(0, Math.min(limit, found.size())))
+                .build();
+    }
+
+    // 예약에 쓸 seat id가 있어야 하므로 좌석 행이 없는 좌석(템플릿 열차)은 조회 시 좌석 행을 만든다
+    @Override
+    public List<SeatResponseDTO> getSeats(Long trainId, List<String> seatNumbers) {
+        if (seatNumbers == null || seatNumbers.isEmpty()) {
+            return List.of();
+        }
+
+        SeatBitmap bitmap = seatInventory.bitmap(trainId);
+        int[] indexes = seatNumbers.stream()
+                .mapToInt(bitmap::indexOf)
+                .filter(index -> index >= 0)
+                .distinct()
+                .toArray();
+        seatInventory.materialize(trainId, bitmap, indexes);
 
-        return seats.stream()
-                .map(seat -> SeatResponseDTO.builder()
-                        .id(seat.getId())
-                        .name(train.getName())
-                        .seatNumber(seat.getSeatNumber())
-                        .reserved(seat.isReserved())
+        return Arrays.stream(indexes)
+                .mapToObj(index -> SeatResponseDTO.builder()
+                        .id(bitmap.seatId(index))
+                        .seatNumber(bitmap.seatNumber(index))
+                        .reserved(bitmap.isReserved(index))
                         .build())
                 .toList();
     }
 
+    // 예약/취소는 좌석 재고(SeatInventory)에서 확정 (기본은 조건부 UPDATE, 설정 시 비트맵 CAS + write-behind)
     @Override
-    @Transactional
     public void reserveSeat(Long seatId) {
         Seat seat = seatRepository.findById(seatId)
                 .orElseThrow(() -> new ApiException("좌석이 존재하지 않습니다."));
 
-        if (seat.isReserved()) {
-            throw new ApiException("이미 예약된 좌석입니다.");
-        }
-
-        seat.reserve();
+        seatInventory.reserve(seat.getTrainId(), seat.getSeatNumber());
     }
 
     @Override
-    @Transactional
     public void cancelSeat(Long seatId) {
         Seat seat = seatRepository.findById(seatId)
                 .orElseThrow(() -> new ApiException("좌석이 존재하지 않습니다."));
 
-        if (!seat.isReserved()) {
-            throw new ApiException("예약되지 않은 좌석입니다.");
+        seatInventory.cancel(seat.getTrainId(), seat.getSeatNumber());
+    }
+
+    // 같은 요청을 다시 보내면 없는 좌석만 생성 (이미 있는 좌석과 예약 상태는 그대로)
+    @Override
+    public SeatProvisionResponseDTO provisionSeats(SeatProvisionRequestDTO request) {
+        List<String> seatNumbers = seatNumbers(request);
+
+        int created;
+        try {
+            created = seatRepository.insertMissing(request.getTrainId(), seatNumbers);
+        } catch (DuplicateKeyException e) {
+            throw new ApiException("같은 열차의 좌석 생성이 진행 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (created > 0) {
+            // 커밋 이후에 다시 만들어야 새 좌석까지 포함 (write-behind의 반영 전 예약은 새 비트맵으로 옮겨짐)
+            seatInventory.evict(request.getTrainId());
         }
 
-        seat.cancel();
+        return SeatProvisionResponseDTO.builder()
+                .trainId(request.getTrainId())
+                .requested(seatNumbers.size())
+                .created(created)
+                .build();
     }
 
     @Override
     @Transactional
-    public void reserveSeat(Long trainId, String seatNumber) {
-        Seat seat = seatRepository.findByTrainIdAndSeatNumber(trainId, seatNumber)
-                .orElseThrow(() -> new ApiException("좌석이 존재하지 않습니다."));
+    public LayoutTemplateResponseDTO createLayoutTemplate(LayoutTemplateRequestDTO request) {
+        List<LayoutTemplateRequestDTO.Car> cars = request.getCars();
+        if (request.getName() == null || request.getName().isBlank() || cars == null || cars.isEmpty()
+                || cars.stream().anyMatch(car -> !validCar(car))
+                || cars.stream().map(LayoutTemplateRequestDTO.Car::getCarNumber).distinct().count() != cars.size()) {
+            throw new ApiException("좌석 배치 정보가 올바르지 않습니다.");
+        }
+        long total = cars.stream().mapToLong(car -> (long) car.getRows() * car.getColumns().size()).sum();
+        if (total > MAX_PROVISION_SEATS) {
+            throw new ApiException("좌석 배치 템플릿의 좌석은 최대 " + MAX_PROVISION_SEATS + "석입니다.");
+        }
+        if (layoutTemplateRepository.existsByName(request.getName())) {
+            throw new ApiException("이미 존재하는 좌석 배치 템플릿입니다.");
+        }
 
-        if (seat.isReserved()) {
-            throw new ApiException("이미 예약된 좌석입니다.");
+        LayoutTemplate template = layoutTemplateRepository.save(LayoutTemplate.builder().name(request.getName()).build());
+        layoutTemplateCarRepository.saveAll(cars.stream()
+                .map(car -> LayoutTemplateCar.builder()
+                        .templateId(template.getId())
+                        .carNumber(car.getCarNumber())
+                        .rowCount(car.getRows())
+                        .columns(car.getColumns())
+                        .seatClass(car.getSeatClass())
+                        .windowColumns(car.getWindowColumns())
+                        .aisleColumns(car.getAisleColumns())
+                        .backwardFromRow(car.getBackwardFromRow())
+                        .quietCar(car.isQuietCar())
+                        .powerOutlet(car.isPowerOutlet())
+                        .build())
+                .toList());
+
+        return LayoutTemplateResponseDTO.builder()
+                .id(template.getId())
+                .name(template.getName())
+                .cars(cars.size())
+                .seatCount((int) total)
+                .build();
+    }
+
+    // 템플릿 지정은 매핑 한 행: 좌석 행은 예약/선점될 때 만든다. 이미 만든 좌석 행(예약 상태 포함)은 템플릿 위에 그대로 겹쳐짐
+    @Override
+    public void assignLayoutTemplate(Long templateId, Long trainId) {
+        if (!layoutTemplateRepository.existsById(templateId)) {
+            throw new ApiException("좌석 배치 템플릿이 존재하지 않습니다.");
         }
+        if (trainLayoutRepository.existsById(trainId)) {
+            throw new ApiException("이미 좌석 배치 템플릿이 지정된 열차입니다.");
+        }
+        try {
+            // 같은 열차에 동시에 지정하면 PK 충돌
+            trainLayoutRepository.save(TrainLayout.builder().trainId(trainId).templateId(templateId).build());
+        } catch (DataIntegrityViolationException e) {
+            throw new ApiException("이미 좌석 배치 템플릿이 지정된 열차입니다.");
+        }
+        // 템플릿 순서로 비트맵을 다시 만듦 (write-behind의 반영 전 예약은 좌석 번호로 옮겨짐)
+        seatInventory.evict(trainId);
+    }
+
+    // 결제 전 좌석 선점: 만료 시각이 지나면 타이밍 휠이 자동 해제
+    @Override
+    public SeatHoldResponseDTO holdSeat(Long trainId, String seatNumber) {
+        String holdToken = UUID.randomUUID().toString();
+        LocalDateTime expiresAt = LocalDateTime.now().plus(holdDuration);
 
-        seat.reserve();
+        seatInventory.hold(trainId, seatNumber, holdToken, expiresAt);
+        return held(trainId, seatNumber, holdToken, expiresAt);
+    }
+
+    @Override
+    public void confirmHold(String holdToken) {
+        Seat seat = findHeldSeat(holdToken);
+        seatInventory.confirmHold(seat.getTrainId(), seat.getSeatNumber(), holdToken);
+        rabbitTemplate.convertAndSend(RabbitMQConfig.SEAT_EXCHANGE, "seat.hold-confirmed",
+                new SeatHoldConfirmedEvent(seat.getTrainId(), seat.getSeatNumber(), holdToken, LocalDateTime.now()));
+    }
+
+    @Override
+    public void releaseHold(String holdToken) {
+        Seat seat = findHeldSeat(holdToken);
+        seatInventory.releaseHold(seat.getTrainId(), seat.getSeatNumber(), holdToken);
+        rabbitTemplate.convertAndSend(RabbitMQConfig.SEAT_EXCHANGE, "seat.hold-released",
+                new SeatHoldReleasedEvent(seat.getTrainId(), List.of(seat.getSeatNumber()), holdToken,
+                        "RELEASED", LocalDateTime.now()));
+    }
+
+    @Override
+    public void reserveSeat(Long trainId, String seatNumber) {
+        seatInventory.reserve(trainId, seatNumber);
     }
 
     @Override
-    @Transactional
     public void cancelSeat(Long trainId, String seatNumber) {
-        Seat seat = seatRepository.findByTrainIdAndSeatNumber(trainId, seatNumber)
-                .orElseThrow(() -> new ApiException("좌석이 존재하지 않습니다."));
+        seatInventory.cancel(trainId, seatNumber);
+    }
+
+    // 좌석 자동 배정: 빈 좌석을 골라 선점 (adjacent면 같은 열의 연속 좌석). 좌석별 선점 토큰으로 확정하고, 확정하지 않으면 만료 시 해제
+    @Override
+    public SeatAssignmentResponseDTO assignSeats(Long trainId, int count, boolean adjacent) {
+        if (count < 1 || count > MAX_ASSIGN_SEATS) {
+            throw new ApiException("한 번에 배정할 수 있는 좌석은 1~" + MAX_ASSIGN_SEATS + "석입니다.");
+        }
+        LocalDateTime expiresAt = LocalDateTime.now().plus(holdDuration);
+        Map<String, String> holdTokens = seatInventory.assign(trainId, count, adjacent, expiresAt);
+
+        List<SeatHoldResponseDTO> holds = new ArrayList<>(holdTokens.size());
+        holdTokens.forEach((seatNumber, holdToken) -> holds.add(held(trainId, seatNumber, holdToken, expiresAt)));
+        return SeatAssignmentResponseDTO.builder()
+                .trainId(trainId)
+                .seatNumbers(List.copyOf(holdTokens.keySet()))
+                .holds(holds)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    // 단체 예약: 전부 예약하거나, 하나라도 불가하면 아무 좌석도 예약하지 않음
+    @Override
+    public void reserveSeats(Long trainId, List<String> seatNumbers) {
+        seatInventory.reserveAll(trainId, seatNumbers);
+    }
+
+    // 선점 후처리: 만료 예약과 선점 이벤트 발행
+    private SeatHoldResponseDTO held(Long trainId, String seatNumber, String holdToken, LocalDateTime expiresAt) {
+        seatHoldExpiry.schedule(trainId, seatNumber, expiresAt);
+        rabbitTemplate.convertAndSend(RabbitMQConfig.SEAT_EXCHANGE, "seat.held",
+                new SeatHeldEvent(trainId, seatNumber, holdToken, expiresAt, LocalDateTime.now()));
+
+        return SeatHoldResponseDTO.builder()
+                .trainId(trainId)
+                .seatNumber(seatNumber)
+                .holdToken(holdToken)
+                .expiresAt(expiresAt)
+                .build();
+    }
 
-        if (!seat.isReserved()) {
-            throw new ApiException("예약되지 않은 좌석입니다.");
+    private Seat findHeldSeat(String holdToken) {
+        return seatRepository.findByHoldToken(holdToken)
+                .orElseThrow(() -> new ApiException("유효하지 않거나 만료된 좌석 선점입니다."));
+    }
+
+    private static boolean validCar(LayoutTemplateRequestDTO.Car car) {
+        if (car == null || car.getCarNumber() < 1 || car.getRows() < 1 || car.getSeatClass() == null
+                || !validColumns(car.getColumns())) {
+            return false;
         }
+        // 창측/통로측은 호차의 좌석 열 중에서, 역방향 시작 열은 1~열 수
+        return (car.getWindowColumns() == null || car.getColumns().containsAll(car.getWindowColumns()))
+                && (car.getAisleColumns() == null || car.getColumns().containsAll(car.getAisleColumns()))
+                && (car.getBackwardFromRow() == null
+                || (car.getBackwardFromRow() >= 1 && car.getBackwardFromRow() <= car.getRows()));
+    }
+
+    // 템플릿에는 좌석 열을 쉼표로 이어 저장하므로 쉼표는 허용하지 않음
+    private static boolean validColumns(List<String> columns) {
+        return columns != null && !columns.isEmpty()
+                && columns.stream().noneMatch(column -> column == null || column.isBlank() || column.contains(","))
+                && columns.stream().distinct().count() == columns.size();
+    }
 
-        seat.cancel();
+    private List<String> seatNumbers(SeatProvisionRequestDTO request) {
+        List<String> columns = request.getColumns();
+        if (request.getTrainId() == null || request.getCars() < 1 || request.getRows() < 1 || !validColumns(columns)) {
+            throw new ApiException("좌석 배치 정보가 올바르지 않습니다.");
+        }
+        long total = (long) request.getCars() * request.getRows() * columns.size();
+        if (total > MAX_PROVISION_SEATS) {
+            throw new ApiException("한 번에 생성할 수 있는 좌석은 최대 " + MAX_PROVISION_SEATS + "석입니다.");
+        }
+
+        List<String> seatNumbers = new ArrayList<>((int) total);
+        for (int car = 1; car <= request.getCars(); car++) {
+            for (int row = 1; row <= request.getRows(); row++) {
+                for (String column : columns) {
+                    seatNumbers.add(car + "-" + row + column);
+                }
+            }
+        }
+        return seatNumbers;
     }
 }
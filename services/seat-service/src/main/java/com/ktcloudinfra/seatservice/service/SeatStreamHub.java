@@ -0,0 +1,299 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktcloudinfra.seatservice.dto.response.SeatChangeResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatMapResponseDTO;
+import com.ktcloudinfra.seatservice.global.exception.ApiException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 열차별 좌석 상태 SSE 스트림.
+ * <ul>
+ *   <li>구독 시 현재 좌석 맵("map")을 보내고, 이후에는 window 주기마다 비트맵을 직전 스냅샷과 비교해
+ *       바뀐 좌석만("seats") 보낸다. 주기 안에서 예약 후 취소된 좌석처럼 결과가 같은 변경은 전송되지 않는다.</li>
+ *   <li>연결마다 스레드를 두지 않는다. 구독자별 전송 큐(buffer-size)를 소수의 전송 스레드가 비우며,
+ *       큐가 가득 찬 느린 구독자는 연결을 끊는다 (클라이언트는 재연결 후 좌석 맵부터 다시 받음).</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class SeatStreamHub {
+
+    static final String MAP = "map";
+    static final String SEATS = "seats";
+
+    private final SeatInventory seatInventory;
+    private final ObjectMapper objectMapper;
+    private final Executor sender;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SeatStreamHub(SeatInventory seatInventory,
+                         ObjectMapper objectMapper,
+                         @Value("${seat.stream.sender-threads:4}") int senderThreads,
+                         @Value("${seat.stream.buffer-size:32}") int bufferSize,
+                         @Value("${seat.stream.timeout:30m}") Duration timeout) {
+        this(seatInventory, objectMapper, Executors.newFixedThreadPool(senderThreads), bufferSize, timeout);
+    }
+
+    SeatStreamHub(SeatInventory seatInventory, ObjectMapper objectMapper, Executor sender,
+                  int bufferSize, Duration timeout) {
+        this.seatInventory = seatInventory;
+        this.objectMapper = objectMapper;
+        this.sender = sender;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    public SseEmitter subscribe(Long trainId) {
+        return subscribe(trainId, new SseEmitter(timeoutMillis));
+    }
+
+    // 외부에서 만든 emitter로 구독 (전송 결과를 직접 확인하는 테스트/벤치마크용)
+    public SseEmitter subscribe(Long trainId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(trainId, emitter);
+        emitter.onCompletion(subscriber::remove);
+        emitter.onTimeout(subscriber::remove);
+        emitter.onError(error -> subscriber.remove());
+
+        while (true) {
+            Channel channel = channels.computeIfAbsent(trainId, this::open);
+            synchronized (channel) {
+                if (channels.get(trainId) != channel) {
+                    // 마지막 구독자가 나가며 닫힌 채널
+                    continue;
+                }
+                // 채널의 기준 스냅샷을 보내야 이후의 변경분이 정확히 이어짐
+                subscriber.offer(new Message(MAP, channel.seatMap()));
+                channel.subscribers.add(subscriber);
+                return emitter;
+            }
+        }
+    }
+
+    // 구독 중인 열차마다 직전 스냅샷 이후 바뀐 좌석을 한 번에 전송
+    @Scheduled(fixedDelayString = "${seat.stream.window:200ms}")
+    public void publish() {
+        for (Channel channel : channels.values()) {
+            try {
+                publish(channel);
+            } catch (RuntimeException e) {
+                // 다음 주기에 같은 기준 스냅샷에서 다시 비교
+                log.warn("좌석 스트림 전송 실패: trainId={}, {}", channel.trainId, e.getMessage());
+            }
+        }
+    }
+
+    public int subscribers() {
+        return channels.values().stream().mapToInt(channel -> channel.subscribers.size()).sum();
+    }
+
+    @PreDestroy
+    public void close() {
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private Channel open(Long trainId) {
+        SeatBitmap bitmap = seatInventory.bitmap(trainId);
+        if (bitmap.size() == 0) {
+            throw new ApiException("해당 열차의 좌석 정보가 존재하지 않습니다.");
+        }
+        Channel channel = new Channel(trainId);
+        channel.reset(bitmap);
+        return channel;
+    }
+
+    private void publish(Channel channel) {
+        synchronized (channel) {
+            SeatBitmap bitmap = seatInventory.bitmap(channel.trainId);
+            Message message;
+            if (bitmap.size() == 0) {
+                return;
+            }
+            if (bitmap != channel.bitmap) {
+                // 좌석이 추가되어 비트맵이 다시 적재됨: 좌석 순서가 바뀌었을 수 있으므로 좌석 맵 전체를 다시 보냄
+                channel.reset(bitmap);
+                message = new Message(MAP, channel.seatMap());
+            } else {
+                if (bitmap.version() == channel.version) {
+                    return;
+                }
+                message = channel.advance(bitmap);
+                if (message == null) {
+                    return;
+                }
+            }
+            channel.subscribers.forEach(subscriber -> subscriber.offer(message));
+        }
+    }
+
+    private String serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final class Channel {
+        private final Long trainId;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private SeatBitmap bitmap;
+        private long version;
+        private byte[] bytes;
+        private String seatMap;
+
+        private Channel(Long trainId) {
+            this.trainId = trainId;
+        }
+
+        private void reset(SeatBitmap bitmap) {
+            this.bitmap = bitmap;
+            this.version = bitmap.version();
+            this.bytes = bitmap.toByteArray();
+            this.seatMap = null;
+        }
+
+        // 기준 스냅샷의 좌석 맵 (새 구독자가 생길 때만 직렬화)
+        private String seatMap() {
+            if (seatMap == null) {
+                seatMap = serialize(SeatMapResponseDTO.builder()
+                        .trainId(trainId)
+                        .seatCount(bitmap.size())
+                        .encoding(SeatMapCache.ENCODING)
+                        .reserved(Base64.getEncoder().encodeToString(bytes))
+                        .build());
+            }
+            return seatMap;
+        }
+
+        // 직전 스냅샷과 비트 단위로 비교한 변경분 (결과가 같으면 null)
+        private Message advance(SeatBitmap bitmap) {
+            long current = bitmap.version();
+            byte[] next = bitmap.toByteArray();
+            List<String> reserved = new ArrayList<>();
+            List<String> released = new ArrayList<>();
+            for (int i = 0; i < next.length; i++) {
+                int changed = (bytes[i] ^ next[i]) & 0xFF;
+                while (changed != 0) {
+                    int bit = Integer.numberOfTrailingZeros(changed);
+                    String seatNumber = bitmap.seatNumber((i << 3) + bit);
+                    if ((next[i] & (1 << bit)) != 0) {
+                        reserved.add(seatNumber);
+                    } else {
+                        released.add(seatNumber);
+                    }
+                    changed &= changed - 1;
+                }
+            }
+
+            this.version = current;
+            this.bytes = next;
+            this.seatMap = null;
+            if (reserved.isEmpty() && released.isEmpty()) {
+                return null;
+            }
+            return new Message(SEATS, serialize(SeatChangeResponseDTO.builder()
+                    .trainId(trainId)
+                    .reserved(reserved)
+                    .released(released)
+                    .build()));
+        }
+    }
+
+    private final class Subscriber {
+        private final Long trainId;
+        private final SseEmitter emitter;
+        private final Queue<Message> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(Long trainId, SseEmitter emitter) {
+            this.trainId = trainId;
+            this.emitter = emitter;
+        }
+
+        private void offer(Message message) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(message)) {
+                log.debug("느린 SSE 구독자 연결 종료: trainId={}", trainId);
+                evict();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                for (Message message = buffer.poll(); message != null && !closed; message = buffer.poll()) {
+                    emitter.send(SseEmitter.event().name(message.name()).data(message.data(), MediaType.APPLICATION_JSON));
+                }
+            } catch (Exception e) {
+                evict();
+            } finally {
+                draining.set(false);
+            }
+            // 비우는 사이 들어온 메시지
+            if (!closed && !buffer.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void evict() {
+            remove();
+            emitter.complete();
+        }
+
+        private void remove() {
+            closed = true;
+            Channel channel = channels.get(trainId);
+            if (channel == null) {
+                return;
+            }
+            synchronized (channel) {
+                channel.subscribers.remove(this);
+                if (channel.subscribers.isEmpty()) {
+                    channels.remove(trainId, channel);
+                }
+            }
+        }
+    }
+
+    private record Message(String name, String data) {
+    }
+}
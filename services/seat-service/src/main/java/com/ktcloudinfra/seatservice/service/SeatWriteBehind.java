@@ -0,0 +1,107 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 좌석 비트맵의 변경을 DB에 비동기로 반영한다.
+ * 변경 값이 아니라 변경된 좌석 위치만 큐에 쌓고, 반영 시점의 비트 값을 읽어 기록하므로
+ * 예약/취소가 경합해도 DB는 항상 메모리의 최종 상태로 수렴한다.
+ */
+@Slf4j
+@Component
+public class SeatWriteBehind {
+
+    private final SeatRepository seatRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final BlockingQueue<DirtySeat> queue = new LinkedBlockingQueue<>();
+
+    // 반영에 실패한 좌석 (다음 주기에 먼저 재시도)
+    private Map<Long, DirtySeat> retry = new LinkedHashMap<>();
+
+    public SeatWriteBehind(SeatRepository seatRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${seat.inventory.write-behind.batch-size:500}") int batchSize) {
+        this.seatRepository = seatRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    void enqueue(SeatBitmap bitmap, int index) {
+        queue.add(new DirtySeat(bitmap, index));
+    }
+
+    int pending() {
+        return queue.size() + retry.size();
+    }
+
+    @Scheduled(fixedDelayString = "${seat.inventory.write-behind.flush-interval:50ms}")
+    public void flush() {
+        while (flushBatch() >= batchSize) {
+            // 다음 배치
+        }
+    }
+
+    // 종료 시 남은 변경을 모두 반영
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    // 한 배치를 반영하고 처리한 좌석 수를 반환
+    synchronized int flushBatch() {
+        Map<Long, DirtySeat> batch = new LinkedHashMap<>(retry);
+        retry = new LinkedHashMap<>();
+
+        List<DirtySeat> drained = new ArrayList<>(batchSize);
+        queue.drainTo(drained, batchSize);
+        drained.forEach(dirty -> batch.put(dirty.seatId(), dirty));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> reserved = new ArrayList<>();
+        List<Long> released = new ArrayList<>();
+        batch.values().forEach(dirty -> (dirty.isReserved() ? reserved : released).add(dirty.seatId()));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!reserved.isEmpty()) {
+                    seatRepository.updateReserved(reserved, true);
+                }
+                if (!released.isEmpty()) {
+                    seatRepository.updateReserved(released, false);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("좌석 상태 반영 실패, 다음 주기에 재시도: {}건, {}", batch.size(), e.getMessage());
+            retry = batch;
+            return 0;
+        }
+        return drained.size();
+    }
+
+    private record DirtySeat(SeatBitmap bitmap, int index) {
+        Long seatId() {
+            return bitmap.seatId(index);
+        }
+
+        boolean isReserved() {
+            return bitmap.isReserved(index);
+        }
+    }
+}
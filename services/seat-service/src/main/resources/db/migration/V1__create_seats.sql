@@ -0,0 +1,15 @@
+-- 초기 스키마 (ddl-auto: update로 만들어지던 스키마와 동일)
+CREATE TABLE seats (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    seat_number     VARCHAR(255) NOT NULL,
+    train_id        BIGINT       NOT NULL,
+    reserved        BIT          NOT NULL,
+    hold_token      VARCHAR(36),
+    hold_expires_at DATETIME(6),
+    PRIMARY KEY (id),
+    -- 열차별 좌석 조회(train_id), 좌석 번호 조회(train_id, seat_number)
+    CONSTRAINT uk_seats_train_id_seat_number UNIQUE (train_id, seat_number)
+);
+
+-- 선점 토큰 조회, 재시작 시 선점 복구(hold_token IS NOT NULL)
+CREATE INDEX idx_seats_hold_token ON seats (hold_token);
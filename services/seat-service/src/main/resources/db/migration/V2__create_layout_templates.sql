@@ -0,0 +1,27 @@
+-- 좌석 배치 템플릿: 같은 편성의 열차는 템플릿 하나를 공유하고, 좌석 행은 예약/선점된 좌석만 만든다
+CREATE TABLE layout_templates (
+    id   BIGINT       NOT NULL AUTO_INCREMENT,
+    name VARCHAR(100) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_layout_templates_name UNIQUE (name)
+);
+
+-- 호차별 열 수, 좌석 열("A,B,C,D"), 객실 등급
+CREATE TABLE layout_template_cars (
+    id           BIGINT                     NOT NULL AUTO_INCREMENT,
+    template_id  BIGINT                     NOT NULL,
+    car_number   INTEGER                    NOT NULL,
+    row_count    INTEGER                    NOT NULL,
+    seat_columns VARCHAR(255)               NOT NULL,
+    seat_class   ENUM ('STANDARD', 'FIRST') NOT NULL,
+    PRIMARY KEY (id),
+    -- 템플릿의 호차 목록 조회(template_id)
+    CONSTRAINT uk_layout_template_cars_template_id_car_number UNIQUE (template_id, car_number)
+);
+
+-- 열차별 템플릿 지정 (없는 열차는 기존처럼 좌석 행을 모두 가짐)
+CREATE TABLE train_layouts (
+    train_id    BIGINT NOT NULL,
+    template_id BIGINT NOT NULL,
+    PRIMARY KEY (train_id)
+);
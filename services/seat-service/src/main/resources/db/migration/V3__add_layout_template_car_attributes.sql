@@ -0,0 +1,6 @@
+-- 좌석 속성 검색용 호차별 속성: 창측/통로측 좌석 열, 역방향이 시작되는 열(없으면 전부 순방향), 조용한 객실, 전원 콘센트
+ALTER TABLE layout_template_cars ADD COLUMN window_columns VARCHAR(255) NOT NULL DEFAULT '';
+ALTER TABLE layout_template_cars ADD COLUMN aisle_columns VARCHAR(255) NOT NULL DEFAULT '';
+ALTER TABLE layout_template_cars ADD COLUMN backward_from_row INTEGER;
+ALTER TABLE layout_template_cars ADD COLUMN quiet_car BIT NOT NULL DEFAULT FALSE;
+ALTER TABLE layout_template_cars ADD COLUMN power_outlet BIT NOT NULL DEFAULT FALSE;
@@ -0,0 +1,9 @@
+-- 처리한 예약 이벤트의 메시지 id (아웃박스 재발행 등으로 중복 배달된 메시지를 한 번만 처리)
+CREATE TABLE processed_messages (
+    message_id   VARCHAR(64) NOT NULL,
+    processed_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (message_id)
+);
+
+-- 보관 기간이 지난 행 삭제
+CREATE INDEX idx_processed_messages_processed_at ON processed_messages (processed_at);
@@ -0,0 +1,203 @@
+package com.ktcloudinfra.seatservice.benchmark;
+
+import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.global.exception.ApiException;
+import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import com.ktcloudinfra.seatservice.service.SeatChangeBroadcaster;
+import com.ktcloudinfra.seatservice.service.SeatInventory;
+import com.ktcloudinfra.seatservice.service.SeatLayoutTemplates;
+import com.ktcloudinfra.seatservice.service.SeatWriteBehind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 64개 스레드가 2인 일행 좌석(같은 열 연속 2석)을 매진될 때까지 예약할 때,
+ * 좌석 맵을 보고 직접 고르는 방식과 서버 자동 배정(best fit)의 충돌 횟수, 처리 시간, 앉힌 일행 수 비교.
+ * 두 방식 모두 write-through(조건부 UPDATE)로 확정한다. {@code gradle benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(SeatLayoutTemplates.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.ktcloudinfra.seatservice=INFO"
+})
+class SeatAssignmentBenchmarkTest {
+
+    private static final Long PICK_TRAIN_ID = 100L;
+    private static final Long ASSIGN_TRAIN_ID = 200L;
+    private static final int CARS = 20;
+    private static final int ROWS = 16;
+    private static final String[] COLUMNS = {"A", "B", "C", "D"};
+    private static final int SEATS = CARS * ROWS * COLUMNS.length;
+    private static final int THREADS = 64;
+    private static final int PARTY = 2;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SeatLayoutTemplates seatLayoutTemplates;
+
+    @BeforeEach
+    void setUp() {
+        List<String> seatNumbers = seatNumbers();
+        seatRepository.insertMissing(PICK_TRAIN_ID, seatNumbers);
+        seatRepository.insertMissing(ASSIGN_TRAIN_ID, seatNumbers);
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("2인 일행 매진까지: 직접 선택 vs 자동 배정")
+    void pickVersusAssign() throws Exception {
+        SeatInventory inventory = new SeatInventory(seatRepository, seatLayoutTemplates,
+                new SeatWriteBehind(seatRepository, transactionManager, 500),
+                mock(SeatChangeBroadcaster.class, withSettings().stubOnly()), transactionManager, false);
+        inventory.isReserved(PICK_TRAIN_ID, "1-1A");
+        inventory.isReserved(ASSIGN_TRAIN_ID, "1-1A");
+
+        // 직접 선택: 좌석 맵에서 비어 보이는 연속 2석 중 하나를 골라 예약 (고르는 사이 다른 사람이 가져갈 수 있음)
+        Result pick = run(() -> {
+            List<List<String>> candidates = freePairs(inventory);
+            if (candidates.isEmpty()) {
+                return Outcome.SOLD_OUT;
+            }
+            try {
+                inventory.reserveAll(PICK_TRAIN_ID,
+                        candidates.get(ThreadLocalRandom.current().nextInt(candidates.size())));
+                return Outcome.SEATED;
+            } catch (ApiException e) {
+                return Outcome.CONFLICT;
+            }
+        });
+
+        // 자동 배정: 서버가 빈 구간 색인에서 골라 선점 (경합 시 내부에서 다시 고름)
+        Result assign = run(() -> {
+            try {
+                inventory.assign(ASSIGN_TRAIN_ID, PARTY, true, LocalDateTime.now().plusMinutes(10));
+                return Outcome.SEATED;
+            } catch (ApiException e) {
+                return e.getMessage().startsWith("연속으로") ? Outcome.SOLD_OUT : Outcome.CONFLICT;
+            }
+        });
+
+        long pickPersisted = seatRepository.findByTrainId(PICK_TRAIN_ID).stream().filter(Seat::isReserved).count();
+        long assignPersisted = seatRepository.findByTrainId(ASSIGN_TRAIN_ID).stream().filter(Seat::isReserved).count();
+
+        System.out.printf("[seat-assign] seats=%d threads=%d party=%d%n", SEATS, THREADS, PARTY);
+        System.out.printf("[seat-assign] pick   %,6.0f ms seated=%d parties conflicts=%,d (%.2f per party) reserved-in-db=%d%n",
+                pick.millis(), pick.seated(), pick.conflicts(), pick.conflictsPerParty(), pickPersisted);
+        System.out.printf("[seat-assign] assign %,6.0f ms seated=%d parties conflicts=%,d (%.2f per party) reserved-in-db=%d%n",
+                assign.millis(), assign.seated(), assign.conflicts(), assign.conflictsPerParty(), assignPersisted);
+
+        assertThat(pickPersisted).isEqualTo((long) pick.seated() * PARTY);
+        assertThat(assignPersisted).isEqualTo((long) assign.seated() * PARTY);
+        // best fit는 열을 쪼개지 않으므로 전 좌석을 2인 일행으로 채움
+        assertThat(assign.seated()).isEqualTo(SEATS / PARTY);
+        assertThat(assign.conflicts()).isLessThan(pick.conflicts());
+    }
+
+    private Result run(Attempt attempt) throws Exception {
+        AtomicInteger seated = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                start.await();
+                while (true) {
+                    Outcome outcome = attempt.attempt();
+                    if (outcome == Outcome.SOLD_OUT) {
+                        return null;
+                    }
+                    (outcome == Outcome.SEATED ? seated : conflicts).incrementAndGet();
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        return new Result((System.nanoTime() - begin) / 1e6, seated.get(), conflicts.get());
+    }
+
+    private List<List<String>> freePairs(SeatInventory inventory) {
+        List<List<String>> pairs = new ArrayList<>();
+        for (int car = 1; car <= CARS; car++) {
+            for (int row = 1; row <= ROWS; row++) {
+                for (int column = 0; column + 1 < COLUMNS.length; column++) {
+                    String left = car + "-" + row + COLUMNS[column];
+                    String right = car + "-" + row + COLUMNS[column + 1];
+                    if (!inventory.isReserved(PICK_TRAIN_ID, left) && !inventory.isReserved(PICK_TRAIN_ID, right)) {
+                        pairs.add(List.of(left, right));
+                    }
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private List<String> seatNumbers() {
+        List<String> seatNumbers = new ArrayList<>(SEATS);
+        for (int car = 1; car <= CARS; car++) {
+            for (int row = 1; row <= ROWS; row++) {
+                for (String column : COLUMNS) {
+                    seatNumbers.add(car + "-" + row + column);
+                }
+            }
+        }
+        return seatNumbers;
+    }
+
+    private enum Outcome {
+        SEATED, CONFLICT, SOLD_OUT
+    }
+
+    private record Result(double millis, int seated, int conflicts) {
+        double conflictsPerParty() {
+            return seated == 0 ? 0 : (double) conflicts / seated;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Attempt {
+        Outcome attempt();
+    }
+}
@@ -0,0 +1,153 @@
+package com.ktcloudinfra.seatservice.benchmark;
+
+import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import com.ktcloudinfra.seatservice.service.SeatHoldExpiry;
+import com.ktcloudinfra.seatservice.service.SeatChangeBroadcaster;
+import com.ktcloudinfra.seatservice.service.SeatInventory;
+import com.ktcloudinfra.seatservice.service.SeatLayoutTemplates;
+import com.ktcloudinfra.seatservice.service.SeatWriteBehind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 10만 건의 좌석 선점이 한꺼번에 만료될 때, 타이밍 휠 + 일괄 UPDATE 해제와
+ * 선점마다 개별 UPDATE로 해제하는 방식의 처리량 비교. 재시작 복구(DB → 휠 적재) 시간도 함께 측정한다.
+ * {@code gradle benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(SeatLayoutTemplates.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.ktcloudinfra.seatservice=INFO"
+})
+class SeatHoldExpiryBenchmarkTest {
+
+    private static final int TRAINS = 10;
+    private static final int SEATS_PER_TRAIN = 10_000;
+    private static final int HOLDS = TRAINS * SEATS_PER_TRAIN;
+    private static final int PER_ROW_HOLDS = 5_000;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SeatLayoutTemplates seatLayoutTemplates;
+
+    @AfterEach
+    void tearDown() {
+        seatRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("선점 10만 건 만료: 타이밍 휠 일괄 해제 vs 선점별 개별 UPDATE")
+    void wheelVersusPerRowRelease() {
+        for (long trainId = 1; trainId <= TRAINS; trainId++) {
+            seatRepository.insertMissing(trainId, seatNumbers());
+        }
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(1).withNano(0);
+
+        // 기준: 선점마다 예약 작업이 돌며 한 행씩 해제
+        holdAll(expiresAt);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Seat> perRow = seatRepository.findByHoldTokenIsNotNull().subList(0, PER_ROW_HOLDS);
+        long begin = System.nanoTime();
+        for (Seat seat : perRow) {
+            transactionTemplate.executeWithoutResult(status -> seatRepository.releaseHold(seat.getId(), seat.getHoldToken()));
+        }
+        long perRowNanos = System.nanoTime() - begin;
+
+        // 타이밍 휠: 재시작 복구 후 만료 시각에 batch-size(500) 단위 UPDATE로 해제
+        holdAll(expiresAt);
+        SeatInventory inventory = new SeatInventory(seatRepository, seatLayoutTemplates,
+                new SeatWriteBehind(seatRepository, transactionManager, 500),
+                mock(SeatChangeBroadcaster.class, withSettings().stubOnly()), transactionManager, false);
+        SeatHoldExpiry expiry = new SeatHoldExpiry(inventory, seatRepository, mock(RabbitTemplate.class),
+                Duration.ofMillis(100), 512, 500);
+        for (long trainId = 1; trainId <= TRAINS; trainId++) {
+            inventory.isReserved(trainId, "1-1A");
+        }
+
+        begin = System.nanoTime();
+        expiry.recover();
+        long recoverNanos = System.nanoTime() - begin;
+
+        begin = System.nanoTime();
+        int released = expiry.expire(expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        long wheelNanos = System.nanoTime() - begin;
+
+        long stillHeld = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM seats WHERE hold_token IS NOT NULL", Long.class);
+        long bitmapReserved = 0;
+        for (long trainId = 1; trainId <= TRAINS; trainId++) {
+            for (String seatNumber : seatNumbers()) {
+                if (inventory.isReserved(trainId, seatNumber)) {
+                    bitmapReserved++;
+                }
+            }
+        }
+
+        System.out.printf("[seat-hold] holds=%,d trains=%d%n", HOLDS, TRAINS);
+        System.out.printf("[seat-hold] per-row release  %,8.0f holds/s (%,d holds in %,.0f ms)%n",
+                PER_ROW_HOLDS * 1e9 / perRowNanos, PER_ROW_HOLDS, perRowNanos / 1e6);
+        System.out.printf("[seat-hold] wheel release    %,8.0f holds/s (%,d holds in %,.0f ms)%n",
+                released * 1e9 / wheelNanos, released, wheelNanos / 1e6);
+        System.out.printf("[seat-hold] recover          %,8.0f ms%n", recoverNanos / 1e6);
+
+        assertThat(released).isEqualTo(HOLDS);
+        assertThat(stillHeld).isZero();
+        assertThat(bitmapReserved).isZero();
+        assertThat(expiry.pending()).isZero();
+        assertThat(released * 1e9 / wheelNanos).isGreaterThan(PER_ROW_HOLDS * 1e9 / perRowNanos * 5);
+    }
+
+    // 모든 좌석을 같은 만료 시각으로 선점 (토큰은 좌석 id)
+    private void holdAll(LocalDateTime expiresAt) {
+        jdbcTemplate.update("UPDATE seats SET reserved = true, hold_token = CAST(id AS VARCHAR), hold_expires_at = ?",
+                expiresAt);
+    }
+
+    private List<String> seatNumbers() {
+        List<String> seatNumbers = new ArrayList<>(SEATS_PER_TRAIN);
+        for (int car = 1; car <= 10; car++) {
+            for (int row = 1; row <= 250; row++) {
+                for (String column : List.of("A", "B", "C", "D")) {
+                    seatNumbers.add(car + "-" + row + column);
+                }
+            }
+        }
+        return seatNumbers;
+    }
+}
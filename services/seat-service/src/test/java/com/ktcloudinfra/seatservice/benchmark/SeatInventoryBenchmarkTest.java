@@ -0,0 +1,250 @@
+package com.ktcloudinfra.seatservice.benchmark;
+
+import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.global.exception.ApiException;
+import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import com.ktcloudinfra.seatservice.service.SeatChangeBroadcaster;
+import com.ktcloudinfra.seatservice.service.SeatInventory;
+import com.ktcloudinfra.seatservice.service.SeatLayoutTemplates;
+import com.ktcloudinfra.seatservice.service.SeatWriteBehind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 64개 스레드가 같은 열차의 좌석을 경합하며 예약/취소할 때,
+ * JPA 조회-검사-갱신 경로와 인메모리 좌석 비트맵(+write-behind) 경로의 처리량과 중복 예약 여부 비교.
+ * {@code gradle benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(SeatLayoutTemplates.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.ktcloudinfra.seatservice=INFO"
+})
+class SeatInventoryBenchmarkTest {
+
+    private static final Long TRAIN_ID = 100L;
+    private static final int ROWS = 240;
+    private static final String[] COLUMNS = {"A", "B", "C", "D"};
+    private static final int SEATS = ROWS * COLUMNS.length;
+    private static final int THREADS = 64;
+    private static final int JPA_OPERATIONS = 4_000;
+    private static final int INVENTORY_OPERATIONS = 1_000_000;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SeatLayoutTemplates seatLayoutTemplates;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Seat> seats = new ArrayList<>(SEATS);
+        for (int row = 1; row <= ROWS; row++) {
+            for (String column : COLUMNS) {
+                seats.add(Seat.builder().seatNumber(row + column).trainId(TRAIN_ID).build());
+            }
+        }
+        seatRepository.saveAll(seats);
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("64 스레드 경합: JPA 조회-검사-갱신 vs 좌석 비트맵 CAS")
+    void jpaVersusBitmap() throws Exception {
+        // JPA 경로: SeatServiceImpl의 기존 구현 (조회 → isReserved 검사 → 더티 체킹 UPDATE)
+        Result jpa = run(JPA_OPERATIONS, this::jpaReserve, this::jpaCancel);
+        resetSeats();
+
+        // 비트맵 경로: CAS로 확정하고 DB는 50ms 주기 write-behind로 반영
+        SeatWriteBehind writeBehind = new SeatWriteBehind(seatRepository, transactionManager, 500);
+        SeatInventory inventory = new SeatInventory(seatRepository, seatLayoutTemplates, writeBehind,
+                mock(SeatChangeBroadcaster.class, withSettings().stubOnly()), transactionManager, true);
+        ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+        flusher.scheduleWithFixedDelay(writeBehind::flush, 50, 50, TimeUnit.MILLISECONDS);
+        Result bitmap;
+        try {
+            inventory.isReserved(TRAIN_ID, "1A");
+            bitmap = run(INVENTORY_OPERATIONS, seatNumber -> {
+                try {
+                    inventory.reserve(TRAIN_ID, seatNumber);
+                    return true;
+                } catch (ApiException e) {
+                    return false;
+                }
+            }, seatNumber -> inventory.cancel(TRAIN_ID, seatNumber));
+        } finally {
+            flusher.shutdown();
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        writeBehind.drain();
+
+        // 메모리와 DB의 최종 상태 일치
+        List<Seat> persisted = seatRepository.findByTrainId(TRAIN_ID);
+        long mismatched = persisted.stream()
+                .filter(seat -> seat.isReserved() != inventory.isReserved(TRAIN_ID, seat.getSeatNumber()))
+                .count();
+
+        System.out.printf("[seat-inventory] seats=%d threads=%d%n", SEATS, THREADS);
+        System.out.printf("[seat-inventory] jpa    ops=%,d %,.0f ops/s reserved=%,d double-booked=%,d%n",
+                JPA_OPERATIONS, jpa.opsPerSecond(), jpa.reserved(), jpa.doubleBooked());
+        System.out.printf("[seat-inventory] bitmap ops=%,d %,.0f ops/s reserved=%,d double-booked=%,d db-mismatch=%d%n",
+                INVENTORY_OPERATIONS, bitmap.opsPerSecond(), bitmap.reserved(), bitmap.doubleBooked(), mismatched);
+
+        assertThat(bitmap.doubleBooked()).isZero();
+        assertThat(mismatched).isZero();
+        assertThat(bitmap.opsPerSecond()).isGreaterThan(jpa.opsPerSecond() * 10);
+    }
+
+    @Test
+    @DisplayName("스레드 수별 처리량: 조건부 UPDATE(write-through) vs JPA 조회-검사-갱신")
+    void conditionalUpdateScaling() throws Exception {
+        SeatInventory inventory = new SeatInventory(seatRepository, seatLayoutTemplates,
+                new SeatWriteBehind(seatRepository, transactionManager, 500),
+                mock(SeatChangeBroadcaster.class, withSettings().stubOnly()), transactionManager, false);
+        inventory.isReserved(TRAIN_ID, "1A");
+
+        System.out.printf("[seat-cas] seats=%d operations=%d per run%n", SEATS, JPA_OPERATIONS);
+        for (int threads : new int[]{1, 4, 16, 64}) {
+            Result jpa = run(threads, JPA_OPERATIONS, this::jpaReserve, this::jpaCancel);
+            resetSeats();
+            Result conditional = run(threads, JPA_OPERATIONS, seatNumber -> {
+                try {
+                    inventory.reserve(TRAIN_ID, seatNumber);
+                    return true;
+                } catch (ApiException e) {
+                    return false;
+                }
+            }, seatNumber -> inventory.cancel(TRAIN_ID, seatNumber));
+            resetSeats();
+
+            System.out.printf("[seat-cas] threads=%2d jpa %,7.0f ops/s double-booked=%,d | conditional %,7.0f ops/s double-booked=%,d%n",
+                    threads, jpa.opsPerSecond(), jpa.doubleBooked(), conditional.opsPerSecond(), conditional.doubleBooked());
+            assertThat(conditional.doubleBooked()).isZero();
+        }
+    }
+
+    // 임의 좌석 예약을 시도하고, 성공하면 곧바로 취소해 경합을 유지한다
+    private Result run(int operations, Reserve reserve, Cancel cancel) throws Exception {
+        return run(THREADS, operations, reserve, cancel);
+    }
+
+    private Result run(int threads, int operations, Reserve reserve, Cancel cancel) throws Exception {
+        AtomicIntegerArray holders = new AtomicIntegerArray(SEATS);
+        AtomicInteger remaining = new AtomicInteger(operations);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger doubleBooked = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (remaining.getAndDecrement() > 0) {
+                    int index = random.nextInt(SEATS);
+                    String seatNumber = (index / COLUMNS.length + 1) + COLUMNS[index % COLUMNS.length];
+                    try {
+                        if (!reserve.reserve(seatNumber)) {
+                            continue;
+                        }
+                    } catch (RuntimeException e) {
+                        // 동시 갱신 충돌 등은 실패한 시도로 처리
+                        continue;
+                    }
+                    reserved.incrementAndGet();
+                    if (holders.incrementAndGet(index) > 1) {
+                        doubleBooked.incrementAndGet();
+                    }
+                    if (random.nextBoolean()) {
+                        holders.decrementAndGet(index);
+                        cancel.cancel(seatNumber);
+                    }
+                }
+                return null;
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        long elapsed = System.nanoTime() - begin;
+        return new Result(operations * 1_000_000_000.0 / elapsed, reserved.get(), doubleBooked.get());
+    }
+
+    private boolean jpaReserve(String seatNumber) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            Seat seat = seatRepository.findByTrainIdAndSeatNumber(TRAIN_ID, seatNumber).orElseThrow();
+            if (seat.isReserved()) {
+                return false;
+            }
+            seat.reserve();
+            return true;
+        }));
+    }
+
+    private void jpaCancel(String seatNumber) {
+        transactionTemplate.executeWithoutResult(status ->
+                seatRepository.findByTrainIdAndSeatNumber(TRAIN_ID, seatNumber).orElseThrow().cancel());
+    }
+
+    private void resetSeats() {
+        transactionTemplate.executeWithoutResult(status -> seatRepository.updateReserved(
+                seatRepository.findByTrainId(TRAIN_ID).stream().map(Seat::getId).toList(), false));
+    }
+
+    private record Result(double opsPerSecond, int reserved, int doubleBooked) {
+    }
+
+    @FunctionalInterface
+    private interface Reserve {
+        boolean reserve(String seatNumber);
+    }
+
+    @FunctionalInterface
+    private interface Cancel {
+        void cancel(String seatNumber);
+    }
+}
@@ -0,0 +1,177 @@
+package com.ktcloudinfra.seatservice.benchmark;
+
+import com.ktcloudinfra.seatservice.entity.LayoutTemplate;
+import com.ktcloudinfra.seatservice.entity.LayoutTemplateCar;
+import com.ktcloudinfra.seatservice.entity.SeatClass;
+import com.ktcloudinfra.seatservice.entity.TrainLayout;
+import com.ktcloudinfra.seatservice.repository.LayoutTemplateCarRepository;
+import com.ktcloudinfra.seatservice.repository.LayoutTemplateRepository;
+import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import com.ktcloudinfra.seatservice.repository.TrainLayoutRepository;
+import com.ktcloudinfra.seatservice.service.SeatChangeBroadcaster;
+import com.ktcloudinfra.seatservice.service.SeatInventory;
+import com.ktcloudinfra.seatservice.service.SeatLayoutTemplates;
+import com.ktcloudinfra.seatservice.service.SeatWriteBehind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 열차 40편성(20호차 × 14열 × 4석)을 좌석 행으로 모두 만드는 방식과 배치 템플릿 + 예약 좌석 행 방식의
+ * 열차 생성 시간, seats 테이블 행 수, 비트맵 적재 시간 비교. 두 방식 모두 좌석의 10%를 예약한다.
+ * {@code gradle benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(SeatLayoutTemplates.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.ktcloudinfra.seatservice=INFO"
+})
+class SeatLayoutTemplateBenchmarkTest {
+
+    private static final int TRAINS = 40;
+    private static final int CARS = 20;
+    private static final int ROWS = 14;
+    private static final List<String> COLUMNS = List.of("A", "B", "C", "D");
+    private static final int SEATS = CARS * ROWS * COLUMNS.size();
+    private static final int RESERVED = SEATS / 10;
+    private static final long PROVISIONED_TRAIN = 1_000L;
+    private static final long TEMPLATE_TRAIN = 2_000L;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private LayoutTemplateRepository layoutTemplateRepository;
+
+    @Autowired
+    private LayoutTemplateCarRepository layoutTemplateCarRepository;
+
+    @Autowired
+    private TrainLayoutRepository trainLayoutRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SeatLayoutTemplates seatLayoutTemplates;
+
+    @AfterEach
+    void tearDown() {
+        seatRepository.deleteAllInBatch();
+        trainLayoutRepository.deleteAllInBatch();
+        layoutTemplateCarRepository.deleteAllInBatch();
+        layoutTemplateRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("좌석 행 전체 생성 vs 배치 템플릿 + 예약 좌석 행")
+    void provisionedVersusTemplate() {
+        List<String> seatNumbers = seatNumbers();
+        SeatInventory inventory = new SeatInventory(seatRepository, seatLayoutTemplates,
+                new SeatWriteBehind(seatRepository, transactionManager, 500),
+                mock(SeatChangeBroadcaster.class, withSettings().stubOnly()), transactionManager, false);
+
+        // 열차 생성
+        long begin = System.nanoTime();
+        for (int t = 0; t < TRAINS; t++) {
+            seatRepository.insertMissing(PROVISIONED_TRAIN + t, seatNumbers);
+        }
+        double provisionMillis = (System.nanoTime() - begin) / 1e6;
+
+        Long templateId = layoutTemplateRepository.save(LayoutTemplate.builder().name("KTX").build()).getId();
+        List<LayoutTemplateCar> cars = new ArrayList<>();
+        for (int car = 1; car <= CARS; car++) {
+            cars.add(LayoutTemplateCar.builder().templateId(templateId).carNumber(car).rowCount(ROWS)
+                    .columns(COLUMNS).seatClass(car == 1 ? SeatClass.FIRST : SeatClass.STANDARD).build());
+        }
+        layoutTemplateCarRepository.saveAll(cars);
+        begin = System.nanoTime();
+        for (int t = 0; t < TRAINS; t++) {
+            trainLayoutRepository.save(TrainLayout.builder().trainId(TEMPLATE_TRAIN + t).templateId(templateId).build());
+        }
+        double templateMillis = (System.nanoTime() - begin) / 1e6;
+
+        // 같은 좌석을 10% 예약
+        List<String> shuffled = new ArrayList<>(seatNumbers);
+        Collections.shuffle(shuffled, new Random(42));
+        List<String> reserved = shuffled.subList(0, RESERVED);
+        for (int t = 0; t < TRAINS; t++) {
+            for (String seatNumber : reserved) {
+                inventory.reserve(PROVISIONED_TRAIN + t, seatNumber);
+                inventory.reserve(TEMPLATE_TRAIN + t, seatNumber);
+            }
+        }
+        long provisionedRows = countRows(PROVISIONED_TRAIN);
+        long templateRows = countRows(TEMPLATE_TRAIN);
+
+        // 새 인스턴스의 비트맵 적재 (좌석 행 조회 + 템플릿 펼침)
+        double provisionedLoad = load(PROVISIONED_TRAIN);
+        double templateLoad = load(TEMPLATE_TRAIN);
+
+        System.out.printf("[seat-layout] trains=%d seats/train=%,d reserved/train=%,d%n", TRAINS, SEATS, RESERVED);
+        System.out.printf("[seat-layout] provisioned create %,7.1f ms  seat rows=%,7d  bitmap load %,6.2f ms/train%n",
+                provisionMillis, provisionedRows, provisionedLoad);
+        System.out.printf("[seat-layout] template    create %,7.1f ms  seat rows=%,7d  bitmap load %,6.2f ms/train%n",
+                templateMillis, templateRows, templateLoad);
+
+        assertThat(provisionedRows).isEqualTo((long) TRAINS * SEATS);
+        assertThat(templateRows).isEqualTo((long) TRAINS * RESERVED);
+        for (String seatNumber : reserved.subList(0, 10)) {
+            assertThat(inventory.isReserved(TEMPLATE_TRAIN, seatNumber)).isTrue();
+        }
+    }
+
+    private double load(long firstTrainId) {
+        SeatInventory fresh = new SeatInventory(seatRepository, seatLayoutTemplates,
+                new SeatWriteBehind(seatRepository, transactionManager, 500),
+                mock(SeatChangeBroadcaster.class, withSettings().stubOnly()), transactionManager, false);
+        long begin = System.nanoTime();
+        for (int t = 0; t < TRAINS; t++) {
+            assertThat(fresh.isReserved(firstTrainId + t, "1-1A")).isNotNull();
+        }
+        return (System.nanoTime() - begin) / 1e6 / TRAINS;
+    }
+
+    private long countRows(long firstTrainId) {
+        long rows = 0;
+        for (int t = 0; t < TRAINS; t++) {
+            rows += seatRepository.findByTrainId(firstTrainId + t).size();
+        }
+        return rows;
+    }
+
+    private List<String> seatNumbers() {
+        List<String> seatNumbers = new ArrayList<>(SEATS);
+        for (int car = 1; car <= CARS; car++) {
+            for (int row = 1; row <= ROWS; row++) {
+                for (String column : COLUMNS) {
+                    seatNumbers.add(car + "-" + row + column);
+                }
+            }
+        }
+        return seatNumbers;
+    }
+}
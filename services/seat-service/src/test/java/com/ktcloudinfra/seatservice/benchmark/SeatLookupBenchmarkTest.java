@@ -0,0 +1,147 @@
+package com.ktcloudinfra.seatservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktcloudinfra.seatservice.dto.response.SeatResponseDTO;
+import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전체 좌석 목록 스캔과 (train_id, seat_number) 단건 조회의 응답 크기 및 p99 지연 시간 비교.
+ * {@code gradle benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class SeatLookupBenchmarkTest {
+
+    private static final Long TRAIN_ID = 100L;
+    private static final int ROWS = 240;
+    private static final String[] COLUMNS = {"A", "B", "C", "D"};
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        for (int row = 1; row <= ROWS; row++) {
+            for (String column : COLUMNS) {
+                entityManager.persist(Seat.builder().seatNumber(row + column).trainId(TRAIN_ID).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("좌석 단건 조회 vs 전체 목록 스캔")
+    void lookupVersusScan() throws Exception {
+        long[] scan = measure(this::scan);
+        long[] lookup = measure(this::lookup);
+
+        int scanBytes = objectMapper.writeValueAsBytes(scanResponse()).length;
+        int lookupBytes = objectMapper.writeValueAsBytes(lookupResponse("120C")).length;
+
+        System.out.printf("[seat-lookup] seats=%d%n", ROWS * COLUMNS.length);
+        System.out.printf("[seat-lookup] scan   payload=%,d bytes p50=%,d ns p99=%,d ns%n",
+                scanBytes, percentile(scan, 50), percentile(scan, 99));
+        System.out.printf("[seat-lookup] lookup payload=%,d bytes p50=%,d ns p99=%,d ns%n",
+                lookupBytes, percentile(lookup, 50), percentile(lookup, 99));
+
+        assertThat(lookupBytes).isLessThan(scanBytes / 100);
+        assertThat(percentile(lookup, 99)).isLessThan(percentile(scan, 99));
+    }
+
+    private void scan() throws Exception {
+        String seatNumber = randomSeatNumber();
+        List<SeatResponseDTO> seats = scanResponse();
+        objectMapper.writeValueAsBytes(seats);
+        seats.stream()
+                .filter(seat -> seat.getSeatNumber().equals(seatNumber))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void lookup() throws Exception {
+        objectMapper.writeValueAsBytes(lookupResponse(randomSeatNumber()));
+    }
+
+    private List<SeatResponseDTO> scanResponse() {
+        return seatRepository.findByTrainId(TRAIN_ID).stream()
+                .map(seat -> SeatResponseDTO.builder()
+                        .id(seat.getId())
+                        .name("KTX-101")
+                        .seatNumber(seat.getSeatNumber())
+                        .reserved(seat.isReserved())
+                        .build())
+                .toList();
+    }
+
+    private SeatResponseDTO lookupResponse(String seatNumber) {
+        Seat seat = seatRepository.findByTrainIdAndSeatNumber(TRAIN_ID, seatNumber).orElseThrow();
+        return SeatResponseDTO.builder()
+                .id(seat.getId())
+                .seatNumber(seat.getSeatNumber())
+                .reserved(seat.isReserved())
+                .build();
+    }
+
+    private long[] measure(ThrowingRunnable task) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+            entityManager.clear();
+        }
+
+        List<Long> samples = new ArrayList<>(ITERATIONS);
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            task.run();
+            samples.add(System.nanoTime() - start);
+            entityManager.clear();
+        }
+        long[] sorted = samples.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    private String randomSeatNumber() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return (random.nextInt(ROWS) + 1) + COLUMNS[random.nextInt(COLUMNS.length)];
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
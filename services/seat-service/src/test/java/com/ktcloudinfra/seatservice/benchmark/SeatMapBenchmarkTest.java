@@ -0,0 +1,164 @@
+package com.ktcloudinfra.seatservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktcloudinfra.seatservice.dto.response.SeatResponseDTO;
+import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import com.ktcloudinfra.seatservice.service.SeatChangeBroadcaster;
+import com.ktcloudinfra.seatservice.service.SeatInventory;
+import com.ktcloudinfra.seatservice.service.SeatLayoutTemplates;
+import com.ktcloudinfra.seatservice.service.SeatMapCache;
+import com.ktcloudinfra.seatservice.service.SeatWriteBehind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 전체 좌석 목록(JSON) 응답과 캐시된 좌석 맵(비트열) 응답의 크기와 요청당 처리 시간 비교.
+ * 좌석 맵은 10회 조회마다 좌석 하나가 바뀌어 다시 생성되는 상황을 가정한다.
+ * {@code gradle benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(SeatLayoutTemplates.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class SeatMapBenchmarkTest {
+
+    private static final Long TRAIN_ID = 100L;
+    private static final int ROWS = 240;
+    private static final String[] COLUMNS = {"A", "B", "C", "D"};
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+    private static final int READS_PER_CHANGE = 10;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SeatLayoutTemplates seatLayoutTemplates;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SeatInventory inventory;
+    private SeatMapCache seatMapCache;
+
+    @BeforeEach
+    void setUp() {
+        List<Seat> seats = new ArrayList<>();
+        for (int row = 1; row <= ROWS; row++) {
+            for (String column : COLUMNS) {
+                seats.add(Seat.builder().seatNumber(row + column).trainId(TRAIN_ID).build());
+            }
+        }
+        seatRepository.saveAll(seats);
+        inventory = new SeatInventory(seatRepository, seatLayoutTemplates,
+                new SeatWriteBehind(seatRepository, transactionManager, 500),
+                mock(SeatChangeBroadcaster.class, withSettings().stubOnly()), transactionManager, false);
+        seatMapCache = new SeatMapCache(inventory, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("좌석 목록 JSON vs 캐시된 좌석 맵")
+    void listVersusSeatMap() throws Exception {
+        long[] list = measure(false);
+        long[] seatMap = measure(true);
+
+        int listBytes = objectMapper.writeValueAsBytes(listResponse()).length;
+        int seatMapBytes = seatMapCache.seatMap(TRAIN_ID).body().length;
+        int layoutBytes = seatMapCache.layout(TRAIN_ID).body().length;
+
+        System.out.printf("[seat-map] seats=%d reads-per-change=%d%n", ROWS * COLUMNS.length, READS_PER_CHANGE);
+        System.out.printf("[seat-map] list payload=%,d bytes p50=%,d ns p99=%,d ns%n",
+                listBytes, percentile(list, 50), percentile(list, 99));
+        System.out.printf("[seat-map] map  payload=%,d bytes p50=%,d ns p99=%,d ns (layout %,d bytes, fetched once)%n",
+                seatMapBytes, percentile(seatMap, 50), percentile(seatMap, 99), layoutBytes);
+
+        assertThat(seatMapBytes).isLessThan(listBytes / 10);
+        assertThat(percentile(seatMap, 50)).isLessThan(percentile(list, 50) / 10);
+    }
+
+    // 좌석 변경(예약/취소)은 측정에서 제외하고 조회 응답을 만드는 시간만 잰다
+    private long[] measure(boolean seatMap) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            read(seatMap, i);
+        }
+
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            samples[i] = read(seatMap, i);
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private long read(boolean seatMap, int iteration) throws Exception {
+        if (iteration % READS_PER_CHANGE == 0) {
+            toggleRandomSeat();
+        }
+        long start = System.nanoTime();
+        if (seatMap) {
+            seatMapCache.seatMap(TRAIN_ID);
+        } else {
+            objectMapper.writeValueAsBytes(listResponse());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private List<SeatResponseDTO> listResponse() {
+        return seatRepository.findByTrainId(TRAIN_ID).stream()
+                .map(seat -> SeatResponseDTO.builder()
+                        .id(seat.getId())
+                        .name("KTX-101")
+                        .seatNumber(seat.getSeatNumber())
+                        .reserved(inventory.isReserved(TRAIN_ID, seat.getSeatNumber()))
+                        .build())
+                .toList();
+    }
+
+    private void toggleRandomSeat() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String seatNumber = (random.nextInt(ROWS) + 1) + COLUMNS[random.nextInt(COLUMNS.length)];
+        if (inventory.isReserved(TRAIN_ID, seatNumber)) {
+            inventory.cancel(TRAIN_ID, seatNumber);
+        } else {
+            inventory.reserve(TRAIN_ID, seatNumber);
+        }
+    }
+
+    private long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+}
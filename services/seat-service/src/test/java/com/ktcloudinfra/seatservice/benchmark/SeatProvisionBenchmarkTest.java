@@ -0,0 +1,104 @@
+package com.ktcloudinfra.seatservice.benchmark;
+
+import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 열차 여러 편의 좌석 생성: IDENTITY 키 엔티티의 saveAll(행마다 INSERT) vs 다중 행 INSERT 일괄 생성.
+ * {@code gradle benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.ktcloudinfra.seatservice=INFO"
+})
+class SeatProvisionBenchmarkTest {
+
+    private static final int TRAINS = 20;
+    private static final int CARS = 18;
+    private static final int ROWS = 15;
+    private static final String[] COLUMNS = {"A", "B", "C", "D"};
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @AfterEach
+    void tearDown() {
+        seatRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("좌석 일괄 생성: JPA saveAll vs 다중 행 INSERT")
+    void saveAllVersusMultiRowInsert() {
+        int seatsPerTrain = CARS * ROWS * COLUMNS.length;
+
+        long begin = System.nanoTime();
+        for (long trainId = 1; trainId <= TRAINS; trainId++) {
+            Long id = trainId;
+            seatRepository.saveAll(seatNumbers().stream()
+                    .map(seatNumber -> Seat.builder().seatNumber(seatNumber).trainId(id).build())
+                    .toList());
+        }
+        long jpaNanos = System.nanoTime() - begin;
+        seatRepository.deleteAllInBatch();
+
+        begin = System.nanoTime();
+        int created = 0;
+        for (long trainId = 1; trainId <= TRAINS; trainId++) {
+            created += seatRepository.insertMissing(trainId, seatNumbers());
+        }
+        long bulkNanos = System.nanoTime() - begin;
+
+        // 같은 시간표를 다시 적재해도 생성되는 좌석 없음
+        begin = System.nanoTime();
+        int recreated = 0;
+        for (long trainId = 1; trainId <= TRAINS; trainId++) {
+            recreated += seatRepository.insertMissing(trainId, seatNumbers());
+        }
+        long replayNanos = System.nanoTime() - begin;
+
+        int total = TRAINS * seatsPerTrain;
+        System.out.printf("[seat-provision] trains=%d seats=%,d%n", TRAINS, total);
+        System.out.printf("[seat-provision] jpa saveAll     %,8.1f ms  %,10.0f seats/s%n",
+                jpaNanos / 1e6, total * 1e9 / jpaNanos);
+        System.out.printf("[seat-provision] multi-row insert %,8.1f ms  %,10.0f seats/s%n",
+                bulkNanos / 1e6, total * 1e9 / bulkNanos);
+        System.out.printf("[seat-provision] replay (no-op)   %,8.1f ms  created=%d%n", replayNanos / 1e6, recreated);
+
+        assertThat(created).isEqualTo(total);
+        assertThat(recreated).isZero();
+        assertThat(seatRepository.count()).isEqualTo(total);
+        assertThat(bulkNanos).isLessThan(jpaNanos);
+    }
+
+    private List<String> seatNumbers() {
+        List<String> seatNumbers = new ArrayList<>();
+        for (int car = 1; car <= CARS; car++) {
+            for (int row = 1; row <= ROWS; row++) {
+                for (String column : COLUMNS) {
+                    seatNumbers.add(car + "-" + row + column);
+                }
+            }
+        }
+        return seatNumbers;
+    }
+}
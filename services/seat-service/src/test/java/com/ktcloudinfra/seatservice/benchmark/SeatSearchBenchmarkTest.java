@@ -0,0 +1,158 @@
+package com.ktcloudinfra.seatservice.benchmark;
+
+import com.ktcloudinfra.seatservice.entity.LayoutTemplate;
+import com.ktcloudinfra.seatservice.entity.LayoutTemplateCar;
+import com.ktcloudinfra.seatservice.entity.SeatAttribute;
+import com.ktcloudinfra.seatservice.entity.SeatClass;
+import com.ktcloudinfra.seatservice.entity.TrainLayout;
+import com.ktcloudinfra.seatservice.repository.LayoutTemplateCarRepository;
+import com.ktcloudinfra.seatservice.repository.LayoutTemplateRepository;
+import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import com.ktcloudinfra.seatservice.repository.TrainLayoutRepository;
+import com.ktcloudinfra.seatservice.service.SeatChangeBroadcaster;
+import com.ktcloudinfra.seatservice.service.SeatInventory;
+import com.ktcloudinfra.seatservice.service.SeatLayoutTemplates;
+import com.ktcloudinfra.seatservice.service.SeatWriteBehind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 중련 편성(40호차 × 14열 × 4석, 2,240석)의 절반이 예약된 열차에서 좌석 속성 검색(속성 1~3개 + 임의의 호차 범위) 지연 측정.
+ * {@code gradle benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(SeatLayoutTemplates.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.ktcloudinfra.seatservice=INFO"
+})
+class SeatSearchBenchmarkTest {
+
+    private static final Long TRAIN_ID = 100L;
+    private static final int CARS = 40;
+    private static final int ROWS = 14;
+    private static final List<String> COLUMNS = List.of("A", "B", "C", "D");
+    private static final int SEATS = CARS * ROWS * COLUMNS.size();
+    private static final int WARMUP = 20_000;
+    private static final int QUERIES = 100_000;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private LayoutTemplateRepository layoutTemplateRepository;
+
+    @Autowired
+    private LayoutTemplateCarRepository layoutTemplateCarRepository;
+
+    @Autowired
+    private TrainLayoutRepository trainLayoutRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SeatLayoutTemplates seatLayoutTemplates;
+
+    @AfterEach
+    void tearDown() {
+        seatRepository.deleteAllInBatch();
+        trainLayoutRepository.deleteAllInBatch();
+        layoutTemplateCarRepository.deleteAllInBatch();
+        layoutTemplateRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("2,240석 열차의 좌석 속성 검색 지연")
+    void search() {
+        Long templateId = layoutTemplateRepository.save(LayoutTemplate.builder().name("KTX-중련").build()).getId();
+        List<LayoutTemplateCar> cars = new ArrayList<>();
+        for (int car = 1; car <= CARS; car++) {
+            cars.add(LayoutTemplateCar.builder().templateId(templateId).carNumber(car).rowCount(ROWS).columns(COLUMNS)
+                    .seatClass(car % 20 == 4 ? SeatClass.FIRST : SeatClass.STANDARD)
+                    .windowColumns(List.of("A", "D")).aisleColumns(List.of("B", "C")).backwardFromRow(ROWS / 2 + 1)
+                    .quietCar(car % 20 == 9).powerOutlet(car % 2 == 0).build());
+        }
+        layoutTemplateCarRepository.saveAll(cars);
+        trainLayoutRepository.save(TrainLayout.builder().trainId(TRAIN_ID).templateId(templateId).build());
+
+        SeatInventory inventory = new SeatInventory(seatRepository, seatLayoutTemplates,
+                new SeatWriteBehind(seatRepository, transactionManager, 500),
+                mock(SeatChangeBroadcaster.class, withSettings().stubOnly()), transactionManager, true);
+        Random random = new Random(42);
+        List<String> reserved = new ArrayList<>();
+        for (int car = 1; car <= CARS; car++) {
+            for (int row = 1; row <= ROWS; row++) {
+                for (String column : COLUMNS) {
+                    if (random.nextBoolean()) {
+                        reserved.add(car + "-" + row + column);
+                    }
+                }
+            }
+        }
+        inventory.reserveAll(TRAIN_ID, reserved);
+
+        SeatAttribute[] attributes = SeatAttribute.values();
+        long[] nanos = new long[QUERIES];
+        long found = 0;
+        for (int i = -WARMUP; i < QUERIES; i++) {
+            List<SeatAttribute> query = new ArrayList<>();
+            for (int k = random.nextInt(3) + 1; k > 0; k--) {
+                query.add(attributes[random.nextInt(attributes.length)]);
+            }
+            int carFrom = random.nextInt(CARS) + 1;
+            int carTo = Math.min(CARS, carFrom + random.nextInt(5));
+
+            long begin = System.nanoTime();
+            List<String> seats = inventory.search(TRAIN_ID, query, carFrom, carTo);
+            long elapsed = System.nanoTime() - begin;
+            if (i >= 0) {
+                nanos[i] = elapsed;
+                found += seats.size();
+            }
+        }
+        // 열차 전체 범위 (최악의 경우)
+        long begin = System.nanoTime();
+        int fullTrain = 0;
+        for (int i = 0; i < 10_000; i++) {
+            fullTrain = inventory.search(TRAIN_ID, List.of(SeatAttribute.WINDOW), null, null).size();
+        }
+        double fullMicros = (System.nanoTime() - begin) / 1e3 / 10_000;
+
+        Arrays.sort(nanos);
+        double average = Arrays.stream(nanos).average().orElse(0) / 1e3;
+        double p99 = nanos[(int) (QUERIES * 0.99)] / 1e3;
+        System.out.printf("[seat-search] seats=%,d reserved=%,d queries=%,d%n", SEATS, reserved.size(), QUERIES);
+        System.out.printf("[seat-search] 1~3 attributes, 1~5 cars: avg %.2f µs, p99 %.2f µs, %.1f seats/query%n",
+                average, p99, (double) found / QUERIES);
+        System.out.printf("[seat-search] window seats, whole train: %.2f µs (%d seats)%n", fullMicros, fullTrain);
+
+        assertThat(p99).isLessThan(1_000);
+        assertThat(fullMicros).isLessThan(1_000);
+        assertThat(fullTrain).isEqualTo(SEATS / 2 - (int) reserved.stream()
+                .filter(seatNumber -> seatNumber.endsWith("A") || seatNumber.endsWith("D")).count());
+    }
+}
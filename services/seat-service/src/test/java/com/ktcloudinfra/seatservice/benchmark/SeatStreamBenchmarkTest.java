@@ -0,0 +1,159 @@
+package com.ktcloudinfra.seatservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.global.exception.ApiException;
+import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import com.ktcloudinfra.seatservice.service.SeatChangeBroadcaster;
+import com.ktcloudinfra.seatservice.service.SeatInventory;
+import com.ktcloudinfra.seatservice.service.SeatLayoutTemplates;
+import com.ktcloudinfra.seatservice.service.SeatStreamHub;
+import com.ktcloudinfra.seatservice.service.SeatWriteBehind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 한 열차에 SSE 구독자 2만 명이 붙어 있을 때 변경분 전송(fan-out) 비용과 스레드 사용량 측정.
+ * 연결 I/O는 제외하고 이벤트 생성과 구독자별 큐/전송 스레드 경로만 잰다.
+ * {@code gradle benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(SeatLayoutTemplates.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.ktcloudinfra.seatservice=INFO"
+})
+class SeatStreamBenchmarkTest {
+
+    private static final Long TRAIN_ID = 100L;
+    private static final int ROWS = 240;
+    private static final String[] COLUMNS = {"A", "B", "C", "D"};
+    private static final int SUBSCRIBERS = 20_000;
+    private static final int WINDOWS = 50;
+    private static final int CHANGES_PER_WINDOW = 10;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SeatLayoutTemplates seatLayoutTemplates;
+
+    @BeforeEach
+    void setUp() {
+        List<Seat> seats = new ArrayList<>();
+        for (int row = 1; row <= ROWS; row++) {
+            for (String column : COLUMNS) {
+                seats.add(Seat.builder().seatNumber(row + column).trainId(TRAIN_ID).build());
+            }
+        }
+        seatRepository.saveAll(seats);
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("구독자 2만 명 fan-out: 주기당 전송 시간과 스레드 수")
+    void fanOut() throws Exception {
+        SeatInventory inventory = new SeatInventory(seatRepository, seatLayoutTemplates,
+                new SeatWriteBehind(seatRepository, transactionManager, 500),
+                mock(SeatChangeBroadcaster.class, withSettings().stubOnly()), transactionManager, false);
+        SeatStreamHub hub = new SeatStreamHub(inventory, new ObjectMapper(), 4, 64, Duration.ofMinutes(30));
+        AtomicLong delivered = new AtomicLong();
+
+        int threadsBefore = Thread.activeCount();
+        long begin = System.nanoTime();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            hub.subscribe(TRAIN_ID, new CountingEmitter(delivered));
+        }
+        long subscribeNanos = System.nanoTime() - begin;
+        awaitDelivered(delivered, SUBSCRIBERS);
+
+        long publishNanos = 0;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int window = 0; window < WINDOWS; window++) {
+            for (int i = 0; i < CHANGES_PER_WINDOW; i++) {
+                String seatNumber = (random.nextInt(ROWS) + 1) + COLUMNS[random.nextInt(COLUMNS.length)];
+                try {
+                    inventory.reserve(TRAIN_ID, seatNumber);
+                } catch (ApiException e) {
+                    inventory.cancel(TRAIN_ID, seatNumber);
+                }
+            }
+            long start = System.nanoTime();
+            hub.publish();
+            publishNanos += System.nanoTime() - start;
+        }
+        long expected = (long) SUBSCRIBERS * (WINDOWS + 1);
+        begin = System.nanoTime();
+        awaitDelivered(delivered, expected);
+        long drainNanos = System.nanoTime() - begin;
+        int threadsAfter = Thread.activeCount();
+        int subscribers = hub.subscribers();
+        hub.close();
+
+        System.out.printf("[seat-stream] subscribers=%,d windows=%d changes/window=%d%n",
+                SUBSCRIBERS, WINDOWS, CHANGES_PER_WINDOW);
+        System.out.printf("[seat-stream] subscribe %,.1f µs/subscriber, threads %d -> %d%n",
+                subscribeNanos / 1e3 / SUBSCRIBERS, threadsBefore, threadsAfter);
+        System.out.printf("[seat-stream] publish (diff + enqueue) %,.2f ms/window, delivered %,d events (%,.0f events/s incl. drain)%n",
+                publishNanos / 1e6 / WINDOWS, delivered.get(), expected * 1e9 / (publishNanos + drainNanos));
+
+        assertThat(delivered.get()).isEqualTo(expected);
+        assertThat(subscribers).isEqualTo(SUBSCRIBERS);
+        assertThat(threadsAfter - threadsBefore).isLessThanOrEqualTo(4);
+    }
+
+    private void awaitDelivered(AtomicLong delivered, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofMinutes(2).toNanos();
+        while (delivered.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    // 이벤트를 직렬화까지만 하고 세는 emitter
+    private static class CountingEmitter extends SseEmitter {
+        private final AtomicLong delivered;
+
+        private CountingEmitter(AtomicLong delivered) {
+            this.delivered = delivered;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build();
+            delivered.incrementAndGet();
+        }
+    }
+}
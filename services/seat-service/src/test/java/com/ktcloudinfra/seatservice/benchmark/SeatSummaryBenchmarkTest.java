@@ -0,0 +1,195 @@
+package com.ktcloudinfra.seatservice.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktcloudinfra.seatservice.dto.response.SeatResponseDTO;
+import com.ktcloudinfra.seatservice.entity.LayoutTemplate;
+import com.ktcloudinfra.seatservice.entity.LayoutTemplateCar;
+import com.ktcloudinfra.seatservice.entity.SeatClass;
+import com.ktcloudinfra.seatservice.entity.TrainLayout;
+import com.ktcloudinfra.seatservice.global.exception.ApiException;
+import com.ktcloudinfra.seatservice.repository.LayoutTemplateCarRepository;
+import com.ktcloudinfra.seatservice.repository.LayoutTemplateRepository;
+import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import com.ktcloudinfra.seatservice.repository.TrainLayoutRepository;
+import com.ktcloudinfra.seatservice.service.SeatChangeBroadcaster;
+import com.ktcloudinfra.seatservice.service.SeatInventory;
+import com.ktcloudinfra.seatservice.service.SeatLayoutTemplates;
+import com.ktcloudinfra.seatservice.service.SeatMapCache;
+import com.ktcloudinfra.seatservice.service.SeatWriteBehind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 중련 편성(40호차 × 14열 × 4석, 2,240석)에서 "호차별 빈 좌석 수"를 얻는 비용 비교:
+ * 전체 좌석 목록을 받아 호차별로 세는 방식 vs 증분 카운터 요약(/summary). 조회 10번에 좌석 1석씩 바뀐다.
+ * 연결 I/O는 제외하고 응답 생성/직렬화와 호출 측 집계만 잰다. {@code gradle benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(SeatLayoutTemplates.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.ktcloudinfra.seatservice=INFO"
+})
+class SeatSummaryBenchmarkTest {
+
+    private static final Long TRAIN_ID = 100L;
+    private static final int CARS = 40;
+    private static final int ROWS = 14;
+    private static final List<String> COLUMNS = List.of("A", "B", "C", "D");
+    private static final int SEATS = CARS * ROWS * COLUMNS.size();
+    private static final int WARMUP = 2_000;
+    private static final int READS = 20_000;
+    private static final int READS_PER_CHANGE = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private LayoutTemplateRepository layoutTemplateRepository;
+
+    @Autowired
+    private LayoutTemplateCarRepository layoutTemplateCarRepository;
+
+    @Autowired
+    private TrainLayoutRepository trainLayoutRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SeatLayoutTemplates seatLayoutTemplates;
+
+    @AfterEach
+    void tearDown() {
+        seatRepository.deleteAllInBatch();
+        trainLayoutRepository.deleteAllInBatch();
+        layoutTemplateCarRepository.deleteAllInBatch();
+        layoutTemplateRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("호차별 빈 좌석 수: 전체 좌석 목록 vs 증분 카운터 요약")
+    void listVersusSummary() throws Exception {
+        Long templateId = layoutTemplateRepository.save(LayoutTemplate.builder().name("KTX-중련").build()).getId();
+        List<LayoutTemplateCar> cars = new ArrayList<>();
+        for (int car = 1; car <= CARS; car++) {
+            cars.add(LayoutTemplateCar.builder().templateId(templateId).carNumber(car).rowCount(ROWS).columns(COLUMNS)
+                    .seatClass(car % 20 == 4 ? SeatClass.FIRST : SeatClass.STANDARD).build());
+        }
+        layoutTemplateCarRepository.saveAll(cars);
+        trainLayoutRepository.save(TrainLayout.builder().trainId(TRAIN_ID).templateId(templateId).build());
+
+        SeatInventory inventory = new SeatInventory(seatRepository, seatLayoutTemplates,
+                new SeatWriteBehind(seatRepository, transactionManager, 500),
+                mock(SeatChangeBroadcaster.class, withSettings().stubOnly()), transactionManager, true);
+        SeatMapCache seatMapCache = new SeatMapCache(inventory, objectMapper);
+        List<String> seatNumbers = new ArrayList<>(SEATS);
+        for (int car = 1; car <= CARS; car++) {
+            for (int row = 1; row <= ROWS; row++) {
+                for (String column : COLUMNS) {
+                    seatNumbers.add(car + "-" + row + column);
+                }
+            }
+        }
+        Random random = new Random(42);
+        inventory.reserveAll(TRAIN_ID, seatNumbers.stream().filter(seatNumber -> random.nextBoolean()).toList());
+
+        // 전체 좌석 목록(GET /seats와 같은 응답)을 직렬화하고, 호출 측이 호차별로 센다
+        Measured list = measure(inventory, seatNumbers, random, () -> {
+            List<SeatResponseDTO> seats = new ArrayList<>(SEATS);
+            for (String seatNumber : seatNumbers) {
+                seats.add(SeatResponseDTO.builder()
+                        .seatNumber(seatNumber)
+                        .reserved(inventory.isReserved(TRAIN_ID, seatNumber))
+                        .build());
+            }
+            byte[] body = objectMapper.writeValueAsBytes(seats);
+            int[] free = new int[CARS + 1];
+            for (JsonNode seat : objectMapper.readTree(body)) {
+                if (!seat.get("reserved").asBoolean()) {
+                    String seatNumber = seat.get("seatNumber").asText();
+                    free[Integer.parseInt(seatNumber.substring(0, seatNumber.indexOf('-')))]++;
+                }
+            }
+            return new Read(body.length, free[1]);
+        });
+
+        // 요약: 바뀌지 않았으면 캐시된 바이트, 바뀌었으면 카운터(호차 수만큼)로 다시 생성
+        Measured summary = measure(inventory, seatNumbers, random, () -> {
+            byte[] body = seatMapCache.summary(TRAIN_ID).body();
+            JsonNode json = objectMapper.readTree(body);
+            return new Read(body.length, json.get("cars").get(0).get("available").asInt());
+        });
+
+        long expectedCar1 = seatNumbers.stream()
+                .filter(seatNumber -> seatNumber.startsWith("1-") && !inventory.isReserved(TRAIN_ID, seatNumber))
+                .count();
+        System.out.printf("[seat-summary] seats=%,d cars=%d reads=%,d (1 change per %d reads)%n",
+                SEATS, CARS, READS, READS_PER_CHANGE);
+        System.out.printf("[seat-summary] full list %,8.1f µs/read, %,7d bytes%n", list.micros(), list.bytes());
+        System.out.printf("[seat-summary] summary   %,8.1f µs/read, %,7d bytes (%.0fx faster)%n",
+                summary.micros(), summary.bytes(), list.micros() / summary.micros());
+
+        assertThat(summary.lastCar1()).isEqualTo(expectedCar1);
+        assertThat(summary.micros()).isLessThan(list.micros());
+        assertThat(summary.bytes()).isLessThan(list.bytes() / 10);
+    }
+
+    private Measured measure(SeatInventory inventory, List<String> seatNumbers, Random random, Reader reader)
+            throws Exception {
+        long nanos = 0;
+        Read last = null;
+        for (int i = -WARMUP; i < READS; i++) {
+            if (i % READS_PER_CHANGE == 0) {
+                String seatNumber = seatNumbers.get(random.nextInt(seatNumbers.size()));
+                try {
+                    inventory.reserve(TRAIN_ID, seatNumber);
+                } catch (ApiException e) {
+                    inventory.cancel(TRAIN_ID, seatNumber);
+                }
+            }
+            long begin = System.nanoTime();
+            last = reader.read();
+            if (i >= 0) {
+                nanos += System.nanoTime() - begin;
+            }
+        }
+        return new Measured(nanos / 1e3 / READS, last.bytes(), last.car1());
+    }
+
+    private record Read(int bytes, int car1) {
+    }
+
+    private record Measured(double micros, int bytes, int lastCar1) {
+    }
+
+    @FunctionalInterface
+    private interface Reader {
+        Read read() throws Exception;
+    }
+}
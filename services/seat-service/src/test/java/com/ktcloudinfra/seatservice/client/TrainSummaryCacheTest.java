@@ -0,0 +1,71 @@
+package com.ktcloudinfra.seatservice.client;
+
+import com.ktcloudinfra.seatservice.client.dto.TrainDTO;
+import com.ktcloudinfra.seatservice.client.dto.TrainSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrainSummaryCacheTest {
+
+    @Mock
+    private TrainClient trainClient;
+
+    private TrainSummaryCache trainSummaryCache;
+
+    @BeforeEach
+    void setUp() {
+        trainSummaryCache = new TrainSummaryCache(trainClient, 100, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 열차는 한 번만 train-service에서 조회")
+    void getTrain_LoadsOnce() {
+        // Given
+        when(trainClient.getTrain(100L)).thenReturn(TrainDTO.builder().id(100L).name("KTX-101").build());
+
+        // When
+        trainSummaryCache.getTrain(100L);
+        TrainSummary train = trainSummaryCache.getTrain(100L);
+
+        // Then
+        assertThat(train.getName()).isEqualTo("KTX-101");
+        verify(trainClient, times(1)).getTrain(100L);
+        assertThat(trainSummaryCache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이벤트로 갱신된 열차는 train-service 호출 없이 응답")
+    void put_ServesWithoutRemoteCall() {
+        // When
+        trainSummaryCache.put(100L, "KTX-102");
+
+        // Then
+        assertThat(trainSummaryCache.getTrain(100L).getName()).isEqualTo("KTX-102");
+        verify(trainClient, never()).getTrain(anyLong());
+    }
+
+    @Test
+    @DisplayName("train-service 장애 시 null을 반환하고 실패는 캐시하지 않음")
+    void getTrain_RemoteFailure() {
+        // Given
+        when(trainClient.getTrain(100L))
+                .thenThrow(new RuntimeException("connection refused"))
+                .thenReturn(TrainDTO.builder().id(100L).name("KTX-101").build());
+
+        // When & Then
+        assertThat(trainSummaryCache.getTrain(100L)).isNull();
+        assertThat(trainSummaryCache.getTrain(100L).getName()).isEqualTo("KTX-101");
+        verify(trainClient, times(2)).getTrain(100L);
+    }
+}
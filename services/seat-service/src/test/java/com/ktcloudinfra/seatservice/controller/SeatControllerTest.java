@@ -1,19 +1,35 @@
 package com.ktcloudinfra.seatservice.controller;
 
+import com.ktcloudinfra.seatservice.dto.request.LayoutTemplateRequestDTO;
+import com.ktcloudinfra.seatservice.dto.request.SeatProvisionRequestDTO;
+import com.ktcloudinfra.seatservice.dto.response.LayoutTemplateResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatAssignmentResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatHoldResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatProvisionResponseDTO;
 import com.ktcloudinfra.seatservice.dto.response.SeatResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatSearchResponseDTO;
+import com.ktcloudinfra.seatservice.entity.SeatAttribute;
+import com.ktcloudinfra.seatservice.entity.SeatClass;
 import com.ktcloudinfra.seatservice.global.exception.ApiException;
+import com.ktcloudinfra.seatservice.service.SeatMapCache;
 import com.ktcloudinfra.seatservice.service.SeatService;
+import com.ktcloudinfra.seatservice.service.SeatStreamHub;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -28,6 +44,12 @@ class SeatControllerTest {
     @MockBean
     private SeatService seatService;
 
+    @MockBean
+    private SeatMapCache seatMapCache;
+
+    @MockBean
+    private SeatStreamHub seatStreamHub;
+
     @Test
     @DisplayName("GET /api/v1/seats?trainId=100 - 좌석 목록 조회 성공")
     void getSeatsByTrain_Success() throws Exception {
@@ -54,6 +76,72 @@ class SeatControllerTest {
         verify(seatService).getSeatsByTrain(trainId);
     }
 
+    @Test
+    @DisplayName("GET /api/v1/seats/map - 좌석 맵 조회 (ETag 포함)")
+    void getSeatMap_Success() throws Exception {
+        // Given
+        byte[] body = "{\"trainId\":100,\"seatCount\":2,\"encoding\":\"bitmap-base64\",\"reserved\":\"Ag==\"}"
+                .getBytes(StandardCharsets.UTF_8);
+        when(seatMapCache.seatMap(100L)).thenReturn(new SeatMapCache.Serialized(body, "\"abc\""));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/seats/map").param("trainId", "100"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc\""))
+                .andExpect(jsonPath("$.seatCount").value(2))
+                .andExpect(jsonPath("$.reserved").value("Ag=="));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/seats/map - ETag가 같으면 304")
+    void getSeatMap_NotModified() throws Exception {
+        // Given
+        when(seatMapCache.seatMap(100L)).thenReturn(new SeatMapCache.Serialized("{}".getBytes(StandardCharsets.UTF_8), "\"abc\""));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/seats/map").param("trainId", "100")
+                        .header("If-None-Match", "\"abc\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/seats/summary - 빈 좌석 요약 조회 (ETag, Cache-Control 포함)")
+    void getSeatSummary_Success() throws Exception {
+        // Given
+        byte[] body = ("{\"trainId\":100,\"seatCount\":12,\"available\":10,"
+                + "\"cars\":[{\"carNumber\":1,\"seatClass\":\"FIRST\",\"seatCount\":4,\"available\":3}],"
+                + "\"classes\":[]}").getBytes(StandardCharsets.UTF_8);
+        when(seatMapCache.summary(100L)).thenReturn(new SeatMapCache.Serialized(body, "\"sum\""));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/seats/summary").param("trainId", "100"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"sum\""))
+                .andExpect(header().string("Cache-Control", "max-age=5, public"))
+                .andExpect(jsonPath("$.available").value(10))
+                .andExpect(jsonPath("$.cars[0].available").value(3));
+
+        mockMvc.perform(get("/api/v1/seats/summary").param("trainId", "100")
+                        .header("If-None-Match", "\"sum\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Cache-Control", "max-age=5, public"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/seats/layout - 좌석 배치 조회")
+    void getSeatLayout_Success() throws Exception {
+        // Given
+        byte[] body = "{\"trainId\":100,\"seatNumbers\":[\"1A\",\"1B\"]}".getBytes(StandardCharsets.UTF_8);
+        when(seatMapCache.layout(100L)).thenReturn(new SeatMapCache.Serialized(body, "\"def\""));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/seats/layout").param("trainId", "100"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"def\""))
+                .andExpect(jsonPath("$.seatNumbers[1]").value("1B"));
+    }
+
     @Test
     @DisplayName("GET /api/v1/seats?trainId=999 - 좌석 목록 조회 실패")
     void getSeatsByTrain_Fail_NoSeats() throws Exception {
@@ -70,6 +158,59 @@ class SeatControllerTest {
         verify(seatService).getSeatsByTrain(trainId);
     }
 
+    @Test
+    @DisplayName("GET /api/v1/seats/lookup - 좌석 단건 조회 성공")
+    void getSeat_Success() throws Exception {
+        // Given
+        when(seatService.getSeat(100L, "1A"))
+                .thenReturn(SeatResponseDTO.builder().id(1L).seatNumber("1A").reserved(false).build());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/seats/lookup")
+                        .param("trainId", "100")
+                        .param("seatNumber", "1A"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.seatNumber").value("1A"))
+                .andExpect(jsonPath("$.reserved").value(false));
+
+        verify(seatService).getSeat(100L, "1A");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/seats/lookup - 좌석 단건 조회 실패 (좌석 없음)")
+    void getSeat_Fail_NotFound() throws Exception {
+        // Given
+        when(seatService.getSeat(100L, "99Z")).thenThrow(new ApiException("좌석이 존재하지 않습니다."));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/seats/lookup")
+                        .param("trainId", "100")
+                        .param("seatNumber", "99Z"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/seats/lookup/bulk - 좌석 다건 조회 성공")
+    void getSeats_Success() throws Exception {
+        // Given
+        when(seatService.getSeats(100L, List.of("1A", "1B"))).thenReturn(Arrays.asList(
+                SeatResponseDTO.builder().id(1L).seatNumber("1A").reserved(false).build(),
+                SeatResponseDTO.builder().id(2L).seatNumber("1B").reserved(true).build()
+        ));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/seats/lookup/bulk")
+                        .param("trainId", "100")
+                        .param("seatNumbers", "1A", "1B"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].seatNumber").value("1B"))
+                .andExpect(jsonPath("$[1].reserved").value(true));
+
+        verify(seatService).getSeats(100L, List.of("1A", "1B"));
+    }
+
     @Test
     @DisplayName("POST /api/v1/seats/{seatId}/reserve - 좌석 예약 성공")
     void reserveSeat_Success() throws Exception {
@@ -129,4 +270,179 @@ class SeatControllerTest {
 
         verify(seatService).cancelSeat(seatId);
     }
+
+    @Test
+    @DisplayName("POST /api/v1/seats/provision - 좌석 일괄 생성 성공")
+    void provisionSeats_Success() throws Exception {
+        // Given
+        when(seatService.provisionSeats(any(SeatProvisionRequestDTO.class))).thenReturn(
+                SeatProvisionResponseDTO.builder().trainId(100L).requested(960).created(960).build());
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/seats/provision")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"trainId\":100,\"cars\":8,\"rows\":30,\"columns\":[\"A\",\"B\",\"C\",\"D\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.trainId").value(100))
+                .andExpect(jsonPath("$.requested").value(960))
+                .andExpect(jsonPath("$.created").value(960));
+
+        verify(seatService).provisionSeats(any(SeatProvisionRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/seats/provision - 좌석 일괄 생성 실패 (잘못된 배치)")
+    void provisionSeats_Fail_InvalidLayout() throws Exception {
+        // Given
+        when(seatService.provisionSeats(any(SeatProvisionRequestDTO.class)))
+                .thenThrow(new ApiException("좌석 배치 정보가 올바르지 않습니다."));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/seats/provision")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"trainId\":100,\"cars\":0,\"rows\":30,\"columns\":[\"A\"]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/seats/search - 좌석 속성 검색 (속성 여러 개, 호차 범위)")
+    void searchSeats() throws Exception {
+        // Given
+        when(seatService.searchSeats(100L, List.of(SeatAttribute.WINDOW, SeatAttribute.QUIET_CAR), 3, 5, 50))
+                .thenReturn(SeatSearchResponseDTO.builder().trainId(100L).count(2).seatNumbers(List.of("3-1A", "3-1D")).build());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/seats/search")
+                        .param("trainId", "100")
+                        .param("attributes", "WINDOW", "QUIET_CAR")
+                        .param("carFrom", "3")
+                        .param("carTo", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(2))
+                .andExpect(jsonPath("$.seatNumbers[1]").value("3-1D"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/seats/layout-templates - 좌석 배치 템플릿 생성 성공")
+    void createLayoutTemplate_Success() throws Exception {
+        // Given
+        when(seatService.createLayoutTemplate(any(LayoutTemplateRequestDTO.class))).thenReturn(
+                LayoutTemplateResponseDTO.builder().id(5L).name("KTX-산천").cars(2).seatCount(83).build());
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/seats/layout-templates")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"KTX-산천\",\"cars\":["
+                                + "{\"carNumber\":1,\"rows\":9,\"columns\":[\"A\",\"B\",\"C\"],\"seatClass\":\"FIRST\"},"
+                                + "{\"carNumber\":2,\"rows\":14,\"columns\":[\"A\",\"B\",\"C\",\"D\"],\"seatClass\":\"STANDARD\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(5))
+                .andExpect(jsonPath("$.cars").value(2))
+                .andExpect(jsonPath("$.seatCount").value(83));
+
+        verify(seatService).createLayoutTemplate(argThat(request ->
+                request.getCars().get(0).getSeatClass() == SeatClass.FIRST
+                        && request.getCars().get(1).getColumns().size() == 4));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/seats/layout-templates/{templateId}/assign - 열차에 템플릿 지정 성공 / 이미 지정된 열차")
+    void assignLayoutTemplate() throws Exception {
+        // Given
+        doThrow(new ApiException("이미 좌석 배치 템플릿이 지정된 열차입니다."))
+                .when(seatService).assignLayoutTemplate(5L, 200L);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/seats/layout-templates/5/assign").param("trainId", "100"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("좌석 배치 템플릿 지정 완료"));
+        mockMvc.perform(post("/api/v1/seats/layout-templates/5/assign").param("trainId", "200"))
+                .andExpect(status().isBadRequest());
+
+        verify(seatService).assignLayoutTemplate(5L, 100L);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/seats/assign - 좌석 자동 배정 (기본 연속 배정)")
+    void assignSeats() throws Exception {
+        // Given
+        when(seatService.assignSeats(100L, 2, true)).thenReturn(SeatAssignmentResponseDTO.builder()
+                .trainId(100L).seatNumbers(List.of("3-5A", "3-5B"))
+                .holds(List.of(
+                        SeatHoldResponseDTO.builder().trainId(100L).seatNumber("3-5A").holdToken("token-a").build(),
+                        SeatHoldResponseDTO.builder().trainId(100L).seatNumber("3-5B").holdToken("token-b").build()))
+                .build());
+        when(seatService.assignSeats(100L, 3, false))
+                .thenThrow(new ApiException("배정할 수 있는 빈 좌석이 없습니다."));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/seats/assign")
+                        .param("trainId", "100")
+                        .param("count", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.seatNumbers[0]").value("3-5A"))
+                .andExpect(jsonPath("$.seatNumbers[1]").value("3-5B"))
+                .andExpect(jsonPath("$.holds[1].holdToken").value("token-b"));
+        mockMvc.perform(post("/api/v1/seats/assign")
+                        .param("trainId", "100")
+                        .param("count", "3")
+                        .param("adjacent", "false"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/seats/holds - 좌석 선점 성공")
+    void holdSeat_Success() throws Exception {
+        // Given
+        when(seatService.holdSeat(100L, "1A")).thenReturn(SeatHoldResponseDTO.builder()
+                .trainId(100L).seatNumber("1A").holdToken("token")
+                .expiresAt(LocalDateTime.of(2026, 1, 1, 12, 10)).build());
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/seats/holds")
+                        .param("trainId", "100")
+                        .param("seatNumber", "1A"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.holdToken").value("token"))
+                .andExpect(jsonPath("$.seatNumber").value("1A"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/seats/holds/{holdToken}/confirm - 선점 확정 성공 / 만료된 선점 실패")
+    void confirmHold() throws Exception {
+        // Given
+        doNothing().when(seatService).confirmHold("token");
+        doThrow(new ApiException("유효하지 않거나 만료된 좌석 선점입니다.")).when(seatService).confirmHold("expired");
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/seats/holds/{holdToken}/confirm", "token"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("좌석 선점 확정 완료"));
+        mockMvc.perform(post("/api/v1/seats/holds/{holdToken}/confirm", "expired"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/seats/holds/{holdToken}/release - 선점 해제 성공")
+    void releaseHold() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/v1/seats/holds/{holdToken}/release", "token"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("좌석 선점 해제 완료"));
+
+        verify(seatService).releaseHold("token");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/seats/stream - 좌석 상태 스트림 구독")
+    void streamSeats() throws Exception {
+        // Given
+        when(seatStreamHub.subscribe(100L)).thenReturn(new SseEmitter());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/seats/stream").param("trainId", "100"))
+                .andExpect(request().asyncStarted());
+
+        verify(seatStreamHub).subscribe(100L);
+    }
 }
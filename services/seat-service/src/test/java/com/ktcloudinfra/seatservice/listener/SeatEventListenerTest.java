@@ -1,17 +1,32 @@
 package com.ktcloudinfra.seatservice.listener;
 
+import com.ktcloudinfra.seatservice.config.RabbitMQConfig;
 import com.ktcloudinfra.seatservice.dto.event.ReservationCancelledEvent;
+import com.ktcloudinfra.seatservice.dto.event.ReservationGroupRequestedEvent;
 import com.ktcloudinfra.seatservice.dto.event.ReservationRequestedEvent;
+import com.ktcloudinfra.seatservice.dto.event.SeatRejectedEvent;
+import com.ktcloudinfra.seatservice.dto.event.SeatReservedEvent;
+import com.ktcloudinfra.seatservice.global.exception.ApiException;
+import com.ktcloudinfra.seatservice.service.ProcessedMessages;
 import com.ktcloudinfra.seatservice.service.SeatService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.dao.DataAccessResourceFailureException;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -20,6 +35,12 @@ class SeatEventListenerTest {
     @Mock
     private SeatService seatService;
 
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private ProcessedMessages processedMessages;
+
     @InjectMocks
     private SeatEventListener seatEventListener;
 
@@ -34,10 +55,14 @@ class SeatEventListenerTest {
         doNothing().when(seatService).reserveSeat(100L, "1A");
 
         // When
-        seatEventListener.handleReservationRequested(event);
+        seatEventListener.handleReservationRequested(event, null);
 
         // Then
         verify(seatService).reserveSeat(100L, "1A");
+        ArgumentCaptor<SeatReservedEvent> captor = ArgumentCaptor.forClass(SeatReservedEvent.class);
+        verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.SEAT_EXCHANGE), eq("seat.reserved"), captor.capture());
+        assertThat(captor.getValue().getReservationId()).isEqualTo(1L);
+        assertThat(captor.getValue().getSeatNumber()).isEqualTo("1A");
     }
 
     @Test
@@ -48,14 +73,91 @@ class SeatEventListenerTest {
                 1L, 100L, "1A", LocalDateTime.now()
         );
 
-        doThrow(new RuntimeException("좌석이 존재하지 않습니다."))
+        doThrow(new ApiException("좌석이 존재하지 않습니다."))
                 .when(seatService).reserveSeat(100L, "1A");
 
-        // When - 예외가 발생해도 로깅만 하고 계속 진행
-        seatEventListener.handleReservationRequested(event);
+        // When - 예외가 발생해도 거절 이벤트를 발행하고 계속 진행
+        seatEventListener.handleReservationRequested(event, null);
 
         // Then
         verify(seatService).reserveSeat(100L, "1A");
+        ArgumentCaptor<SeatRejectedEvent> captor = ArgumentCaptor.forClass(SeatRejectedEvent.class);
+        verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.SEAT_EXCHANGE), eq("seat.rejected"), captor.capture());
+        assertThat(captor.getValue().getReservationId()).isEqualTo(1L);
+        assertThat(captor.getValue().getReason()).isEqualTo("좌석이 존재하지 않습니다.");
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), eq("seat.reserved"), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("예약 요청 이벤트 처리 실패 - 일시적 장애는 거절하지 않고 다시 던짐")
+    void handleReservationRequested_Fail_TransientRethrown() {
+        // Given
+        ReservationRequestedEvent event = new ReservationRequestedEvent(
+                1L, 100L, "1A", LocalDateTime.now()
+        );
+
+        doThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+                .when(seatService).reserveSeat(100L, "1A");
+
+        // When & Then - 재시도 후 다시 배달되도록 예외 전파, 거절 이벤트 없음
+        assertThatThrownBy(() -> seatEventListener.handleReservationRequested(event, null))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("단체 예약 이벤트 처리 성공 - 좌석별 예약 완료 이벤트 발행")
+    void handleReservationGroupRequested_Success() {
+        // Given
+        ReservationGroupRequestedEvent event = new ReservationGroupRequestedEvent(100L, List.of(
+                new ReservationGroupRequestedEvent.GroupSeat(1L, "1A"),
+                new ReservationGroupRequestedEvent.GroupSeat(2L, "1B")), LocalDateTime.now());
+
+        // When
+        seatEventListener.handleReservationGroupRequested(event, null);
+
+        // Then
+        verify(seatService).reserveSeats(100L, List.of("1A", "1B"));
+        ArgumentCaptor<SeatReservedEvent> captor = ArgumentCaptor.forClass(SeatReservedEvent.class);
+        verify(rabbitTemplate, times(2)).convertAndSend(eq(RabbitMQConfig.SEAT_EXCHANGE), eq("seat.reserved"), captor.capture());
+        assertThat(captor.getAllValues()).extracting(SeatReservedEvent::getReservationId).containsExactly(1L, 2L);
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), eq("seat.rejected"), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("단체 예약 이벤트 처리 실패 - 모든 좌석에 거절 이벤트 발행")
+    void handleReservationGroupRequested_Fail() {
+        // Given
+        ReservationGroupRequestedEvent event = new ReservationGroupRequestedEvent(100L, List.of(
+                new ReservationGroupRequestedEvent.GroupSeat(1L, "1A"),
+                new ReservationGroupRequestedEvent.GroupSeat(2L, "1B")), LocalDateTime.now());
+        doThrow(new ApiException("이미 예약된 좌석입니다."))
+                .when(seatService).reserveSeats(100L, List.of("1A", "1B"));
+
+        // When
+        seatEventListener.handleReservationGroupRequested(event, null);
+
+        // Then
+        ArgumentCaptor<SeatRejectedEvent> captor = ArgumentCaptor.forClass(SeatRejectedEvent.class);
+        verify(rabbitTemplate, times(2)).convertAndSend(eq(RabbitMQConfig.SEAT_EXCHANGE), eq("seat.rejected"), captor.capture());
+        assertThat(captor.getAllValues()).extracting(SeatRejectedEvent::getReservationId).containsExactly(1L, 2L);
+        assertThat(captor.getAllValues()).extracting(SeatRejectedEvent::getReason).containsOnly("이미 예약된 좌석입니다.");
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), eq("seat.reserved"), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("단체 예약 이벤트 처리 실패 - 일시적 장애는 거절하지 않고 다시 던짐")
+    void handleReservationGroupRequested_Fail_TransientRethrown() {
+        // Given
+        ReservationGroupRequestedEvent event = new ReservationGroupRequestedEvent(100L, List.of(
+                new ReservationGroupRequestedEvent.GroupSeat(1L, "1A")), LocalDateTime.now());
+        doThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+                .when(seatService).reserveSeats(100L, List.of("1A"));
+
+        // When & Then
+        assertThatThrownBy(() -> seatEventListener.handleReservationGroupRequested(event, null))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class));
     }
 
     @Test
@@ -69,12 +171,97 @@ class SeatEventListenerTest {
         doNothing().when(seatService).cancelSeat(100L, "1A");
 
         // When
-        seatEventListener.handleReservationCancelled(event);
+        seatEventListener.handleReservationCancelled(event, null);
 
         // Then
         verify(seatService).cancelSeat(100L, "1A");
     }
 
+    @Test
+    @DisplayName("같은 예약 취소 이벤트가 두 번 배달되면 두 번째는 예외 없이 건너뜀")
+    void handleReservationCancelled_Duplicate_Skipped() {
+        // Given - 첫 배달에서 취소되어 두 번째에는 이미 빈 좌석
+        ReservationCancelledEvent event = new ReservationCancelledEvent(
+                1L, 100L, "1A", LocalDateTime.now()
+        );
+
+        doNothing().doThrow(new ApiException("예약되지 않은 좌석입니다."))
+                .when(seatService).cancelSeat(100L, "1A");
+
+        // When
+        seatEventListener.handleReservationCancelled(event, null);
+        seatEventListener.handleReservationCancelled(event, null);
+
+        // Then - 다시 큐에 넣지 않도록 예외를 던지지 않음
+        verify(seatService, times(2)).cancelSeat(100L, "1A");
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    @DisplayName("예약 취소 이벤트 처리 실패 - 일시적 장애는 다시 던짐")
+    void handleReservationCancelled_Fail_TransientRethrown() {
+        // Given
+        ReservationCancelledEvent event = new ReservationCancelledEvent(
+                1L, 100L, "1A", LocalDateTime.now()
+        );
+
+        doThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+                .when(seatService).cancelSeat(100L, "1A");
+
+        // When & Then
+        assertThatThrownBy(() -> seatEventListener.handleReservationCancelled(event, null))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+    }
+
+    @Test
+    @DisplayName("이미 처리한 메시지 id의 예약 요청은 예약/거절 없이 건너뜀 (아웃박스 재발행)")
+    void handleReservationRequested_AlreadyProcessed_Skipped() {
+        // Given
+        ReservationRequestedEvent event = new ReservationRequestedEvent(1L, 100L, "1A", LocalDateTime.now());
+        when(processedMessages.isProcessed("7")).thenReturn(true);
+
+        // When
+        seatEventListener.handleReservationRequested(event, "7");
+
+        // Then
+        verifyNoInteractions(seatService, rabbitTemplate);
+        verify(processedMessages, never()).markProcessed(any());
+    }
+
+    @Test
+    @DisplayName("처리한 예약 요청/단체 예약/취소는 예약 결과와 관계없이 메시지 id 기록")
+    void handleEvents_MarksProcessed() {
+        // Given
+        doThrow(new ApiException("이미 예약된 좌석입니다.")).when(seatService).reserveSeat(100L, "1A");
+
+        // When
+        seatEventListener.handleReservationRequested(new ReservationRequestedEvent(1L, 100L, "1A", LocalDateTime.now()), "1");
+        seatEventListener.handleReservationGroupRequested(new ReservationGroupRequestedEvent(100L, List.of(
+                new ReservationGroupRequestedEvent.GroupSeat(2L, "1B")), LocalDateTime.now()), "2");
+        seatEventListener.handleReservationCancelled(new ReservationCancelledEvent(3L, 100L, "1C", LocalDateTime.now()), "3");
+
+        // Then
+        verify(processedMessages).markProcessed("1");
+        verify(processedMessages).markProcessed("2");
+        verify(processedMessages).markProcessed("3");
+    }
+
+    @Test
+    @DisplayName("다시 배달된 취소는 그 사이 다른 예약이 잡은 좌석을 풀지 않음")
+    void handleReservationCancelled_Redelivered_Skipped() {
+        // Given - 첫 배달에서 처리되어 메시지 id가 기록됨
+        ReservationCancelledEvent event = new ReservationCancelledEvent(1L, 100L, "1A", LocalDateTime.now());
+        when(processedMessages.isProcessed("9")).thenReturn(false, true);
+
+        // When
+        seatEventListener.handleReservationCancelled(event, "9");
+        seatEventListener.handleReservationCancelled(event, "9");
+
+        // Then
+        verify(seatService, times(1)).cancelSeat(100L, "1A");
+        verify(processedMessages, times(1)).markProcessed("9");
+    }
+
     @Test
     @DisplayName("여러 이벤트 처리")
     void handleMultipleEvents() {
@@ -87,9 +274,9 @@ class SeatEventListenerTest {
         doNothing().when(seatService).cancelSeat(anyLong(), anyString());
 
         // When
-        seatEventListener.handleReservationRequested(event1);
-        seatEventListener.handleReservationRequested(event2);
-        seatEventListener.handleReservationCancelled(event3);
+        seatEventListener.handleReservationRequested(event1, null);
+        seatEventListener.handleReservationRequested(event2, null);
+        seatEventListener.handleReservationCancelled(event3, null);
 
         // Then
         verify(seatService).reserveSeat(100L, "1A");
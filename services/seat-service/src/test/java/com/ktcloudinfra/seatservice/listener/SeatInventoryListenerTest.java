@@ -0,0 +1,38 @@
+package com.ktcloudinfra.seatservice.listener;
+
+import com.ktcloudinfra.seatservice.dto.event.SeatInventoryChangedEvent;
+import com.ktcloudinfra.seatservice.service.SeatInventory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SeatInventoryListenerTest {
+
+    @Mock
+    private SeatInventory seatInventory;
+
+    @InjectMocks
+    private SeatInventoryListener seatInventoryListener;
+
+    @Test
+    @DisplayName("좌석 변경 이벤트 수신 시 비트맵 동기화")
+    void handleSeatInventoryChanged() {
+        // Given
+        SeatInventoryChangedEvent event = new SeatInventoryChangedEvent(100L, List.of("1A"), LocalDateTime.now());
+
+        // When
+        seatInventoryListener.handleSeatInventoryChanged(event);
+
+        // Then
+        verify(seatInventory).sync(100L, List.of("1A"));
+    }
+}
@@ -0,0 +1,38 @@
+package com.ktcloudinfra.seatservice.listener;
+
+import com.ktcloudinfra.seatservice.client.TrainSummaryCache;
+import com.ktcloudinfra.seatservice.dto.event.TrainUpdatedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TrainEventListenerTest {
+
+    @Mock
+    private TrainSummaryCache trainSummaryCache;
+
+    @InjectMocks
+    private TrainEventListener trainEventListener;
+
+    @Test
+    @DisplayName("열차 변경 이벤트 수신 시 열차 요약 갱신")
+    void handleTrainUpdated() {
+        // Given
+        TrainUpdatedEvent event = new TrainUpdatedEvent(100L, "KTX-102", 59800, "서울", "부산",
+                LocalDateTime.now(), LocalDateTime.now().plusHours(3), LocalDateTime.now());
+
+        // When
+        trainEventListener.handleTrainUpdated(event);
+
+        // Then
+        verify(trainSummaryCache).put(100L, "KTX-102");
+    }
+}
@@ -6,8 +6,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +25,9 @@ class SeatRepositoryTest {
     @Autowired
     private TestEntityManager entityManager;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("열차 ID로 좌석 목록 조회")
     void findByTrainId() {
@@ -84,6 +89,26 @@ class SeatRepositoryTest {
         assertThat(found).isEmpty();
     }
 
+    @Test
+    @DisplayName("열차 ID와 좌석번호 목록으로 좌석 조회")
+    void findByTrainIdAndSeatNumberIn() {
+        // Given
+        Long trainId = 100L;
+        entityManager.persist(Seat.builder().seatNumber("1A").trainId(trainId).build());
+        entityManager.persist(Seat.builder().seatNumber("1B").trainId(trainId).build());
+        entityManager.persist(Seat.builder().seatNumber("1C").trainId(trainId).build());
+        entityManager.persist(Seat.builder().seatNumber("1A").trainId(200L).build());
+        entityManager.flush();
+
+        // When
+        List<Seat> seats = seatRepository.findByTrainIdAndSeatNumberIn(trainId, List.of("1A", "1C", "9Z"));
+
+        // Then
+        assertThat(seats).extracting(Seat::getSeatNumber)
+                .containsExactlyInAnyOrder("1A", "1C");
+        assertThat(seats).allMatch(seat -> seat.getTrainId().equals(trainId));
+    }
+
     @Test
     @DisplayName("좌석 저장 및 예약 상태 변경")
     void saveAndReserve() {
@@ -124,4 +149,127 @@ class SeatRepositoryTest {
         Seat cancelled = seatRepository.findById(saved.getId()).orElseThrow();
         assertThat(cancelled.isReserved()).isFalse();
     }
+
+    @Test
+    @DisplayName("좌석 ID 목록의 예약 상태를 한 번에 변경")
+    void updateReserved() {
+        // Given
+        Seat seat1 = entityManager.persist(Seat.builder().seatNumber("1A").trainId(100L).build());
+        Seat seat2 = entityManager.persist(Seat.builder().seatNumber("1B").trainId(100L).build());
+        Seat seat3 = entityManager.persist(Seat.builder().seatNumber("1C").trainId(100L).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        int updated = seatRepository.updateReserved(List.of(seat1.getId(), seat3.getId()), true);
+        entityManager.clear();
+
+        // Then
+        assertThat(updated).isEqualTo(2);
+        assertThat(seatRepository.findById(seat1.getId()).orElseThrow().isReserved()).isTrue();
+        assertThat(seatRepository.findById(seat2.getId()).orElseThrow().isReserved()).isFalse();
+        assertThat(seatRepository.findById(seat3.getId()).orElseThrow().isReserved()).isTrue();
+    }
+
+    @Test
+    @DisplayName("좌석 일괄 생성 - 이미 있는 좌석은 건너뛰고 여러 배치로 나눠 INSERT")
+    void insertMissing() {
+        // Given - 기존 좌석 1-1A는 예약 상태
+        Seat existing = entityManager.persist(Seat.builder().seatNumber("1-1A").trainId(100L).build());
+        existing.reserve();
+        entityManager.persist(Seat.builder().seatNumber("1-1A").trainId(200L).build());
+        entityManager.flush();
+        entityManager.clear();
+        List<String> seatNumbers = new java.util.ArrayList<>();
+        for (int row = 1; row <= 300; row++) {
+            for (String column : List.of("A", "B", "C", "D")) {
+                seatNumbers.add("1-" + row + column);
+            }
+        }
+
+        // When
+        int created = seatRepository.insertMissing(100L, seatNumbers);
+        int again = seatRepository.insertMissing(100L, seatNumbers);
+        // 좌석 행을 몇 석만 만드는 경우 (템플릿 열차 예약): 요청한 좌석만 확인
+        int few = seatRepository.insertMissing(100L, List.of("1-1A", "1-2A", "2-1A", "2-1A"));
+
+        // Then
+        assertThat(created).isEqualTo(1199);
+        assertThat(again).isZero();
+        assertThat(few).isEqualTo(1);
+        List<Seat> seats = seatRepository.findByTrainId(100L);
+        assertThat(seats).hasSize(1201).noneMatch(seat -> seat.getId() == null);
+        assertThat(seats).filteredOn(Seat::isReserved).extracting(Seat::getSeatNumber).containsExactly("1-1A");
+    }
+
+    @Test
+    @DisplayName("좌석 선점 - 선점/확정/해제/만료 해제의 조건부 UPDATE")
+    void holdLifecycle() {
+        // Given
+        Seat seat1 = entityManager.persist(Seat.builder().seatNumber("1A").trainId(100L).build());
+        Seat seat2 = entityManager.persist(Seat.builder().seatNumber("1B").trainId(100L).build());
+        Seat seat3 = entityManager.persist(Seat.builder().seatNumber("1C").trainId(100L).build());
+        entityManager.flush();
+        entityManager.clear();
+        LocalDateTime now = LocalDateTime.now();
+
+        // When & Then - 빈 좌석만 선점
+        assertThat(seatRepository.holdIfAvailable(seat1.getId(), "t1", now.plusMinutes(10))).isEqualTo(1);
+        assertThat(seatRepository.holdIfAvailable(seat1.getId(), "other", now.plusMinutes(10))).isZero();
+        assertThat(seatRepository.holdIfAvailable(seat2.getId(), "t2", now.minusSeconds(1))).isEqualTo(1);
+        assertThat(seatRepository.holdIfAvailable(seat3.getId(), "t3", now.plusMinutes(10))).isEqualTo(1);
+        entityManager.clear();
+        assertThat(seatRepository.findByHoldToken("t1")).get().extracting(Seat::getSeatNumber).isEqualTo("1A");
+        assertThat(seatRepository.findByHoldTokenIsNotNull()).hasSize(3);
+
+        // 선점 중인 좌석은 예약 취소 경로로 풀 수 없음
+        assertThat(seatRepository.cancelIfReserved(seat1.getId())).isZero();
+
+        // 만료된 선점은 확정 불가, 토큰이 맞아야 확정
+        assertThat(seatRepository.confirmHold(seat2.getId(), "t2", now)).isZero();
+        assertThat(seatRepository.confirmHold(seat1.getId(), "wrong", now)).isZero();
+        assertThat(seatRepository.confirmHold(seat1.getId(), "t1", now)).isEqualTo(1);
+
+        // 토큰이 맞아야 해제
+        assertThat(seatRepository.releaseHold(seat3.getId(), "wrong")).isZero();
+        assertThat(seatRepository.releaseHold(seat3.getId(), "t3")).isEqualTo(1);
+
+        // 만료 해제는 만료된 선점만 (확정된 1A, 해제된 1C 제외)
+        assertThat(seatRepository.findExpiredHoldSeatNumbers(List.of(seat1.getId(), seat2.getId(), seat3.getId()), now))
+                .containsExactly("1B");
+        assertThat(seatRepository.releaseExpiredHolds(List.of(seat1.getId(), seat2.getId(), seat3.getId()), now))
+                .isEqualTo(1);
+        entityManager.clear();
+
+        Seat confirmed = seatRepository.findById(seat1.getId()).orElseThrow();
+        assertThat(confirmed.isReserved()).isTrue();
+        assertThat(confirmed.isHeld()).isFalse();
+        assertThat(seatRepository.findById(seat2.getId()).orElseThrow().isReserved()).isFalse();
+        assertThat(seatRepository.findById(seat3.getId()).orElseThrow().isReserved()).isFalse();
+        assertThat(seatRepository.findByHoldTokenIsNotNull()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실행 계획 - 열차별/좌석 번호 조회는 (train_id, seat_number) 유니크 인덱스 사용")
+    void trainQueries_UseIndex() {
+        // When & Then
+        assertThat(explain("SELECT * FROM seats WHERE train_id = 100"))
+                .contains("UK_SEATS_TRAIN_ID_SEAT_NUMBER").doesNotContain("tableScan");
+        assertThat(explain("SELECT * FROM seats WHERE train_id = 100 AND seat_number = '1A'"))
+                .contains("UK_SEATS_TRAIN_ID_SEAT_NUMBER").doesNotContain("tableScan");
+        assertThat(explain("SELECT * FROM seats WHERE train_id = 100 AND seat_number IN ('1A', '1B')"))
+                .contains("UK_SEATS_TRAIN_ID_SEAT_NUMBER").doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("실행 계획 - 선점 토큰 조회는 hold_token 인덱스 사용")
+    void findByHoldToken_UsesIndex() {
+        // When & Then
+        assertThat(explain("SELECT * FROM seats WHERE hold_token = 'token'"))
+                .contains("IDX_SEATS_HOLD_TOKEN").doesNotContain("tableScan");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
 }
@@ -0,0 +1,86 @@
+package com.ktcloudinfra.seatservice.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HoldTimingWheelTest {
+
+    @Test
+    @DisplayName("만료 시각이 지난 tick에서만 선점을 꺼냄")
+    void advance_ReturnsExpired() {
+        // Given - tick 100ms, 슬롯 8개
+        HoldTimingWheel wheel = new HoldTimingWheel(8, 100, 0);
+        wheel.schedule(hold("1A", 250));
+        wheel.schedule(hold("1B", 300));
+        wheel.schedule(hold("1C", 900));
+
+        // When & Then
+        assertThat(wheel.advance(200)).isEmpty();
+        assertThat(wheel.advance(300)).extracting(HoldTimingWheel.Hold::seatNumber)
+                .containsExactlyInAnyOrder("1A", "1B");
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(800)).isEmpty();
+        assertThat(wheel.advance(900)).extracting(HoldTimingWheel.Hold::seatNumber).containsExactly("1C");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 바퀴보다 먼 만료는 같은 슬롯에서 다음 바퀴까지 대기")
+    void advance_MultipleRounds() {
+        // Given - 한 바퀴 = 800ms, 1A와 1B는 같은 슬롯
+        HoldTimingWheel wheel = new HoldTimingWheel(8, 100, 0);
+        wheel.schedule(hold("1A", 300));
+        wheel.schedule(hold("1B", 1_100));
+        wheel.advance(0);
+
+        // When & Then
+        assertThat(wheel.advance(300)).extracting(HoldTimingWheel.Hold::seatNumber).containsExactly("1A");
+        assertThat(wheel.advance(1_000)).isEmpty();
+        assertThat(wheel.advance(1_100)).extracting(HoldTimingWheel.Hold::seatNumber).containsExactly("1B");
+    }
+
+    @Test
+    @DisplayName("오래 밀린 뒤 호출해도 모든 만료 선점을 한 번에 반환")
+    void advance_AfterLongPause() {
+        // Given
+        HoldTimingWheel wheel = new HoldTimingWheel(8, 100, 0);
+        for (int i = 0; i < 100; i++) {
+            wheel.schedule(hold("S" + i, 100L * i));
+        }
+        wheel.advance(0);
+
+        // When
+        List<HoldTimingWheel.Hold> expired = wheel.advance(60_000);
+
+        // Then
+        assertThat(expired).hasSize(99);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 지난 만료 시각으로 등록한 선점은 다음 advance에서 바로 반환")
+    void schedule_AlreadyExpired() {
+        // Given
+        HoldTimingWheel wheel = new HoldTimingWheel(8, 100, 1_000);
+        wheel.schedule(hold("1A", 500));
+
+        // When & Then
+        assertThat(wheel.advance(1_000)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("슬롯 수는 2의 거듭제곱이어야 함")
+    void wheelSize_PowerOfTwo() {
+        assertThatThrownBy(() -> new HoldTimingWheel(100, 100, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private HoldTimingWheel.Hold hold(String seatNumber, long deadlineMillis) {
+        return new HoldTimingWheel.Hold(100L, seatNumber, deadlineMillis);
+    }
+}
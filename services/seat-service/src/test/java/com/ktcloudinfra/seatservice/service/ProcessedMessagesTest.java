@@ -0,0 +1,93 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.ktcloudinfra.seatservice.entity.ProcessedMessage;
+import com.ktcloudinfra.seatservice.repository.ProcessedMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessedMessagesTest {
+
+    @Mock
+    private ProcessedMessageRepository processedMessageRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProcessedMessages processedMessages;
+
+    @BeforeEach
+    void setUp() {
+        processedMessages = new ProcessedMessages(processedMessageRepository, transactionManager, Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("기록된 메시지 id만 처리한 것으로 판단, id 없는 메시지는 조회 없이 처리하지 않은 것으로 봄")
+    void isProcessed() {
+        // Given
+        when(processedMessageRepository.existsById("1")).thenReturn(true);
+        when(processedMessageRepository.existsById("2")).thenReturn(false);
+
+        // When & Then
+        assertThat(processedMessages.isProcessed("1")).isTrue();
+        assertThat(processedMessages.isProcessed("2")).isFalse();
+        assertThat(processedMessages.isProcessed(null)).isFalse();
+        verify(processedMessageRepository, times(2)).existsById(any());
+    }
+
+    @Test
+    @DisplayName("메시지 id 기록 - id 없는 메시지는 기록하지 않음")
+    void markProcessed() {
+        // When
+        processedMessages.markProcessed("1");
+        processedMessages.markProcessed(null);
+
+        // Then
+        ArgumentCaptor<ProcessedMessage> captor = ArgumentCaptor.forClass(ProcessedMessage.class);
+        verify(processedMessageRepository).save(captor.capture());
+        assertThat(captor.getValue().getMessageId()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 같은 메시지 id를 먼저 기록하면 무시")
+    void markProcessed_Duplicate_Ignored() {
+        // Given
+        when(processedMessageRepository.save(any())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // When & Then
+        assertThatCode(() -> processedMessages.markProcessed("1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 메시지 id 삭제")
+    void purge() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(processedMessageRepository.deleteProcessedBefore(any())).thenReturn(3, 0);
+
+        // When
+        processedMessages.purge();
+        processedMessages.purge();
+
+        // Then
+        ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(processedMessageRepository, times(2)).deleteProcessedBefore(captor.capture());
+        assertThat(captor.getValue()).isBefore(LocalDateTime.now().minusHours(23));
+    }
+}
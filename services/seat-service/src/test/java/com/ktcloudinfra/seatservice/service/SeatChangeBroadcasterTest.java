@@ -0,0 +1,62 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.ktcloudinfra.seatservice.config.RabbitMQConfig;
+import com.ktcloudinfra.seatservice.dto.event.SeatInventoryChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.net.ConnectException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SeatChangeBroadcasterTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @InjectMocks
+    private SeatChangeBroadcaster seatChangeBroadcaster;
+
+    @Test
+    @DisplayName("좌석 변경 / 좌석 구성 변경(좌석 번호 null)을 fanout 교환기로 발행")
+    void changedAndReload() {
+        // When
+        seatChangeBroadcaster.changed(100L, List.of("1A", "1B"));
+        seatChangeBroadcaster.reload(200L);
+
+        // Then
+        ArgumentCaptor<SeatInventoryChangedEvent> captor = ArgumentCaptor.forClass(SeatInventoryChangedEvent.class);
+        verify(rabbitTemplate, times(2))
+                .convertAndSend(eq(RabbitMQConfig.SEAT_INVENTORY_EXCHANGE), eq(""), captor.capture());
+        assertThat(captor.getAllValues()).extracting(SeatInventoryChangedEvent::getTrainId).containsExactly(100L, 200L);
+        assertThat(captor.getAllValues().get(0).getSeatNumbers()).containsExactly("1A", "1B");
+        assertThat(captor.getAllValues().get(1).getSeatNumbers()).isNull();
+    }
+
+    @Test
+    @DisplayName("발행 실패는 이미 커밋된 요청을 실패시키지 않음")
+    void changed_PublishFailure_Ignored() {
+        // Given
+        doThrow(new AmqpConnectException(new ConnectException("연결 실패")))
+                .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+
+        // When & Then
+        assertThatCode(() -> seatChangeBroadcaster.changed(100L, List.of("1A"))).doesNotThrowAnyException();
+    }
+}
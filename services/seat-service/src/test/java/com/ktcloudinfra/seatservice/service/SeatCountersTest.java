@@ -0,0 +1,108 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.ktcloudinfra.seatservice.entity.LayoutTemplateCar;
+import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.entity.SeatClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatCountersTest {
+
+    // 1호차 특실 2열 A~B, 2호차 일반실 2열 A~D
+    private final SeatLayout layout = SeatLayout.of(List.of(
+            LayoutTemplateCar.builder().carNumber(2).rowCount(2)
+                    .columns(List.of("A", "B", "C", "D")).seatClass(SeatClass.STANDARD).build(),
+            LayoutTemplateCar.builder().carNumber(1).rowCount(2)
+                    .columns(List.of("A", "B")).seatClass(SeatClass.FIRST).build()));
+
+    @Test
+    @DisplayName("배치 템플릿 열차 - 적재 시 예약된 좌석을 뺀 호차별/등급별 빈 좌석 수, 템플릿 밖 좌석은 호차만 구분")
+    void layout_InitialCounts() {
+        // Given - 1-1A, 2-2D 예약, 템플릿에 없는 9-1A 좌석 행도 예약
+        List<Seat> seats = List.of(
+                createSeat(1L, "1-1A", true),
+                createSeat(2L, "2-2D", true),
+                createSeat(3L, "9-1A", true));
+
+        // When
+        SeatCounters counters = SeatBitmap.of(layout, seats).counters();
+
+        // Then
+        assertThat(counters.free()).isEqualTo(10);
+        assertThat(counters.carCount()).isEqualTo(3);
+        assertCar(counters, 0, 1, SeatClass.FIRST, 4, 3);
+        assertCar(counters, 1, 2, SeatClass.STANDARD, 8, 7);
+        assertCar(counters, 2, 9, null, 1, 0);
+        assertThat(counters.classSeats(SeatClass.FIRST)).isEqualTo(4);
+        assertThat(counters.classFree(SeatClass.FIRST)).isEqualTo(3);
+        assertThat(counters.classSeats(SeatClass.STANDARD)).isEqualTo(8);
+        assertThat(counters.classFree(SeatClass.STANDARD)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("템플릿이 없는 열차 - 좌석 번호로 호차를 구분하고 등급 정보는 없음")
+    void legacy_CarsFromSeatNumbers() {
+        // Given - 호차가 생략된 좌석은 1호차, 형식을 알 수 없는 좌석은 전체 수에만 포함
+        List<Seat> seats = new ArrayList<>();
+        String[] seatNumbers = {"1A", "1B", "2-1A", "S1"};
+        for (int i = 0; i < seatNumbers.length; i++) {
+            seats.add(createSeat((long) i + 1, seatNumbers[i], i == 1));
+        }
+
+        // When
+        SeatCounters counters = SeatBitmap.of(seats).counters();
+
+        // Then
+        assertThat(counters.free()).isEqualTo(3);
+        assertThat(counters.carCount()).isEqualTo(2);
+        assertCar(counters, 0, 1, null, 2, 1);
+        assertCar(counters, 1, 2, null, 1, 1);
+        assertThat(counters.classSeats(SeatClass.STANDARD)).isZero();
+        assertThat(counters.classSeats(SeatClass.FIRST)).isZero();
+    }
+
+    @Test
+    @DisplayName("좌석 상태가 실제로 바뀐 경우에만 카운터를 갱신")
+    void update_OnlyOnChange() {
+        // Given
+        SeatBitmap bitmap = SeatBitmap.of(layout, List.of());
+        int seat = bitmap.indexOf("2-1B");
+
+        // When - 이미 예약된 좌석의 재예약, 비어 있는 좌석의 재해제는 무시
+        bitmap.tryReserve(seat);
+        bitmap.tryReserve(seat);
+        bitmap.tryReserve(bitmap.indexOf("1-2B"));
+        bitmap.tryRelease(bitmap.indexOf("1-2B"));
+        bitmap.tryRelease(bitmap.indexOf("1-2B"));
+
+        // Then
+        SeatCounters counters = bitmap.counters();
+        assertThat(counters.free()).isEqualTo(11);
+        assertCar(counters, 0, 1, SeatClass.FIRST, 4, 4);
+        assertCar(counters, 1, 2, SeatClass.STANDARD, 8, 7);
+        assertThat(counters.classFree(SeatClass.FIRST)).isEqualTo(4);
+        assertThat(counters.classFree(SeatClass.STANDARD)).isEqualTo(7);
+    }
+
+    private void assertCar(SeatCounters counters, int c, int carNumber, SeatClass seatClass, int seats, int free) {
+        assertThat(counters.carNumber(c)).isEqualTo(carNumber);
+        assertThat(counters.carClass(c)).isEqualTo(seatClass);
+        assertThat(counters.carSeats(c)).isEqualTo(seats);
+        assertThat(counters.carFree(c)).isEqualTo(free);
+    }
+
+    private Seat createSeat(Long id, String seatNumber, boolean reserved) {
+        Seat seat = Seat.builder().seatNumber(seatNumber).trainId(100L).build();
+        ReflectionTestUtils.setField(seat, "id", id);
+        if (reserved) {
+            seat.reserve();
+        }
+        return seat;
+    }
+}
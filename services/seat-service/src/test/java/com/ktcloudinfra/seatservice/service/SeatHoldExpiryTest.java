@@ -0,0 +1,152 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.ktcloudinfra.seatservice.config.RabbitMQConfig;
+import com.ktcloudinfra.seatservice.dto.event.SeatHoldReleasedEvent;
+import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatHoldExpiryTest {
+
+    @Mock
+    private SeatInventory seatInventory;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private SeatHoldExpiry seatHoldExpiry;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        seatHoldExpiry = new SeatHoldExpiry(seatInventory, seatRepository, rabbitTemplate, Duration.ofMillis(100), 8, 2);
+        base = LocalDateTime.now().withNano(0);
+    }
+
+    @Test
+    @DisplayName("만료된 선점을 열차별 batch-size 단위로 해제하고 해제 이벤트 발행")
+    void expire_ReleasesInBatches() {
+        // Given
+        seatHoldExpiry.schedule(100L, "1A", base);
+        seatHoldExpiry.schedule(100L, "1B", base);
+        seatHoldExpiry.schedule(100L, "1C", base);
+        seatHoldExpiry.schedule(200L, "2A", base);
+        seatHoldExpiry.schedule(100L, "9Z", base.plusMinutes(10));
+        when(seatInventory.releaseExpired(anyLong(), anyList(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+
+        // When
+        int released = seatHoldExpiry.expire(millis(base));
+
+        // Then
+        assertThat(released).isEqualTo(4);
+        verify(seatInventory).releaseExpired(eq(100L), eq(List.of("1A", "1B")), any());
+        verify(seatInventory).releaseExpired(eq(100L), eq(List.of("1C")), any());
+        verify(seatInventory).releaseExpired(eq(200L), eq(List.of("2A")), any());
+        ArgumentCaptor<SeatHoldReleasedEvent> captor = ArgumentCaptor.forClass(SeatHoldReleasedEvent.class);
+        verify(rabbitTemplate, times(3)).convertAndSend(eq(RabbitMQConfig.SEAT_EXCHANGE), eq("seat.hold-released"), captor.capture());
+        assertThat(captor.getAllValues()).allMatch(event -> SeatHoldExpiry.EXPIRED.equals(event.getReason()));
+        assertThat(seatHoldExpiry.pending()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("확정/해제되어 실제로 풀린 좌석이 없으면 이벤트 없음")
+    void expire_NothingReleased() {
+        // Given
+        seatHoldExpiry.schedule(100L, "1A", base);
+        when(seatInventory.releaseExpired(eq(100L), eq(List.of("1A")), any())).thenReturn(List.of());
+
+        // When & Then
+        assertThat(seatHoldExpiry.expire(millis(base))).isZero();
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    @DisplayName("만료 전에는 DB 접근 없음")
+    void expire_NotYet() {
+        // Given
+        seatHoldExpiry.schedule(100L, "1A", base.plusSeconds(1));
+
+        // When & Then
+        assertThat(seatHoldExpiry.expire(millis(base))).isZero();
+        verifyNoInteractions(seatInventory, rabbitTemplate);
+    }
+
+    @Test
+    @DisplayName("해제 실패 시 다음 주기에 재시도")
+    void expire_RetriesOnFailure() {
+        // Given
+        seatHoldExpiry.schedule(100L, "1A", base);
+        when(seatInventory.releaseExpired(eq(100L), eq(List.of("1A")), any()))
+                .thenThrow(new DataAccessResourceFailureException("db down"))
+                .thenReturn(List.of("1A"));
+
+        // When
+        assertThat(seatHoldExpiry.expire(millis(base))).isZero();
+        assertThat(seatHoldExpiry.pending()).isEqualTo(1);
+
+        // Then - 재시도
+        assertThat(seatHoldExpiry.expire(millis(base) + 100)).isEqualTo(1);
+        assertThat(seatHoldExpiry.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시작 시 DB에 남은 선점을 다시 스케줄")
+    void recover() {
+        // Given
+        Seat held = Seat.builder().seatNumber("1A").trainId(100L).build();
+        ReflectionTestUtils.setField(held, "holdToken", "token");
+        ReflectionTestUtils.setField(held, "holdExpiresAt", base);
+        when(seatRepository.findByHoldTokenIsNotNull()).thenReturn(List.of(held));
+        when(seatInventory.releaseExpired(eq(100L), eq(List.of("1A")), any())).thenReturn(List.of("1A"));
+
+        // When
+        seatHoldExpiry.recover();
+
+        // Then
+        assertThat(seatHoldExpiry.pending()).isEqualTo(1);
+        assertThat(seatHoldExpiry.expire(millis(base))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스케줄 주기 실행은 현재 시각 기준으로 만료 처리")
+    void expire_Scheduled() {
+        // Given
+        seatHoldExpiry.schedule(100L, "1A", LocalDateTime.now().minusSeconds(1));
+        when(seatInventory.releaseExpired(eq(100L), eq(List.of("1A")), any())).thenReturn(List.of("1A"));
+
+        // When
+        seatHoldExpiry.expire();
+
+        // Then
+        verify(seatInventory).releaseExpired(eq(100L), eq(List.of("1A")), any());
+    }
+
+    private long millis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
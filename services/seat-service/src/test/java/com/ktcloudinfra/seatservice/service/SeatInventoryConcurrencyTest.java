@@ -0,0 +1,109 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.global.exception.ApiException;
+import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 조건부 UPDATE(write-through) 경로의 동시성 검증.
+ * 인스턴스가 둘인 상황을 흉내 내려고 비트맵을 따로 가진 재고 두 개가 같은 DB를 두고 경합한다.
+ */
+@DataJpaTest
+@Import(SeatLayoutTemplates.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SeatInventoryConcurrencyTest {
+
+    private static final Long TRAIN_ID = 100L;
+    private static final int SEATS = 100;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SeatLayoutTemplates seatLayoutTemplates;
+
+    @AfterEach
+    void tearDown() {
+        seatRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스의 여러 스레드가 모든 좌석을 동시에 예약해도 좌석마다 정확히 한 번만 성공")
+    void reserve_ExactlyOncePerSeat() throws Exception {
+        // Given
+        List<Seat> seats = new ArrayList<>();
+        for (int i = 0; i < SEATS; i++) {
+            seats.add(Seat.builder().seatNumber("S" + i).trainId(TRAIN_ID).build());
+        }
+        seatRepository.saveAll(seats);
+
+        SeatInventory[] instances = {newInventory(), newInventory()};
+        AtomicIntegerArray bookings = new AtomicIntegerArray(SEATS);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // When
+        for (int t = 0; t < THREADS; t++) {
+            SeatInventory inventory = instances[t % instances.length];
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < SEATS; i++) {
+                    try {
+                        inventory.reserve(TRAIN_ID, "S" + i);
+                        bookings.incrementAndGet(i);
+                    } catch (ApiException e) {
+                        // 다른 스레드/인스턴스가 먼저 예약
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        // Then
+        for (int i = 0; i < SEATS; i++) {
+            assertThat(bookings.get(i)).as("좌석 S%d 예약 성공 횟수", i).isEqualTo(1);
+        }
+        assertThat(seatRepository.findByTrainId(TRAIN_ID)).allMatch(Seat::isReserved);
+        for (SeatInventory inventory : instances) {
+            for (int i = 0; i < SEATS; i++) {
+                assertThat(inventory.isReserved(TRAIN_ID, "S" + i)).isTrue();
+            }
+        }
+    }
+
+    private SeatInventory newInventory() {
+        return new SeatInventory(seatRepository, seatLayoutTemplates,
+                new SeatWriteBehind(seatRepository, transactionManager, 500),
+                mock(SeatChangeBroadcaster.class, withSettings().stubOnly()), transactionManager, false);
+    }
+}
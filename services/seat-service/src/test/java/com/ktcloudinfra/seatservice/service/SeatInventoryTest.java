@@ -0,0 +1,981 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.ktcloudinfra.seatservice.entity.LayoutTemplateCar;
+import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.entity.SeatAttribute;
+import com.ktcloudinfra.seatservice.entity.SeatClass;
+import com.ktcloudinfra.seatservice.global.exception.ApiException;
+import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatInventoryTest {
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private SeatLayoutTemplates seatLayoutTemplates;
+
+    @Mock
+    private SeatWriteBehind seatWriteBehind;
+
+    @Mock
+    private SeatChangeBroadcaster seatChangeBroadcaster;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    // write-behind 모드 (비트 CAS로 확정)
+    private SeatInventory seatInventory;
+
+    // write-through 모드 (조건부 UPDATE로 확정)
+    private SeatInventory writeThroughInventory;
+
+    @BeforeEach
+    void setUp() {
+        seatInventory = new SeatInventory(seatRepository, seatLayoutTemplates, seatWriteBehind, seatChangeBroadcaster, transactionManager, true);
+        writeThroughInventory = new SeatInventory(seatRepository, seatLayoutTemplates, seatWriteBehind, seatChangeBroadcaster, transactionManager, false);
+    }
+
+    @Test
+    @DisplayName("좌석 예약 - 비트를 세우고 write-behind에 등록")
+    void reserve_Success() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+
+        // When
+        seatInventory.reserve(100L, "S2");
+
+        // Then
+        assertThat(seatInventory.isReserved(100L, "S2")).isTrue();
+        assertThat(seatInventory.isReserved(100L, "S1")).isFalse();
+        verify(seatWriteBehind).enqueue(any(SeatBitmap.class), eq(1));
+    }
+
+    @Test
+    @DisplayName("좌석 예약 실패 - 이미 예약됨 (DB 상태로 적재)")
+    void reserve_Fail_AlreadyReserved() {
+        // Given
+        List<Seat> seats = createSeats(100L, 3);
+        seats.get(0).reserve();
+        when(seatRepository.findByTrainId(100L)).thenReturn(seats);
+
+        // When & Then
+        assertThatThrownBy(() -> seatInventory.reserve(100L, "S1"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("이미 예약된 좌석입니다.");
+        verifyNoInteractions(seatWriteBehind);
+    }
+
+    @Test
+    @DisplayName("좌석 예약 실패 - 좌석 없음")
+    void reserve_Fail_SeatNotFound() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+
+        // When & Then
+        assertThatThrownBy(() -> seatInventory.reserve(100L, "99Z"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("좌석이 존재하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("좌석 취소 - 비트를 내리고 write-behind에 등록")
+    void cancel_Success() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+        seatInventory.reserve(100L, "S3");
+
+        // When
+        seatInventory.cancel(100L, "S3");
+
+        // Then
+        assertThat(seatInventory.isReserved(100L, "S3")).isFalse();
+        verify(seatWriteBehind, times(2)).enqueue(any(SeatBitmap.class), eq(2));
+    }
+
+    @Test
+    @DisplayName("좌석 취소 실패 - 예약되지 않음")
+    void cancel_Fail_NotReserved() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+
+        // When & Then
+        assertThatThrownBy(() -> seatInventory.cancel(100L, "S1"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("예약되지 않은 좌석입니다.");
+    }
+
+    @Test
+    @DisplayName("일괄 예약 성공 - 모든 좌석 예약")
+    void reserveAll_Success() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+
+        // When
+        seatInventory.reserveAll(100L, List.of("S1", "S3"));
+
+        // Then
+        assertThat(seatInventory.isReserved(100L, "S1")).isTrue();
+        assertThat(seatInventory.isReserved(100L, "S3")).isTrue();
+        verify(seatWriteBehind, times(2)).enqueue(any(SeatBitmap.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("일괄 예약 실패 - 하나라도 예약되어 있으면 먼저 잡은 좌석을 되돌림")
+    void reserveAll_Fail_RollsBack() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+        seatInventory.reserve(100L, "S3");
+        clearInvocations(seatWriteBehind);
+
+        // When & Then
+        assertThatThrownBy(() -> seatInventory.reserveAll(100L, List.of("S1", "S2", "S3")))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("이미 예약된 좌석입니다.");
+        assertThat(seatInventory.isReserved(100L, "S1")).isFalse();
+        assertThat(seatInventory.isReserved(100L, "S2")).isFalse();
+        verifyNoInteractions(seatWriteBehind);
+    }
+
+    @Test
+    @DisplayName("비트맵은 열차별로 한 번만 적재")
+    void bitmap_LoadedOnce() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+
+        // When
+        seatInventory.reserve(100L, "S1");
+        seatInventory.reserve(100L, "S2");
+        seatInventory.isReserved(100L, "S3");
+
+        // Then
+        verify(seatRepository, times(1)).findByTrainId(100L);
+    }
+
+    @Test
+    @DisplayName("좌석이 추가된 열차는 비운 뒤 다음 접근에서 다시 적재")
+    void evict_ReloadsBitmap() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 2), createSeats(100L, 3));
+        assertThatThrownBy(() -> seatInventory.isReserved(100L, "S3")).isInstanceOf(ApiException.class);
+
+        // When
+        seatInventory.evict(100L);
+
+        // Then
+        assertThat(seatInventory.isReserved(100L, "S3")).isFalse();
+        verify(seatRepository, times(2)).findByTrainId(100L);
+    }
+
+    @Test
+    @DisplayName("write-behind 비트맵 교체 - DB에 아직 반영되지 않은 예약/취소를 새 비트맵으로 옮김")
+    void evict_WriteBehind_KeepsUnflushedChanges() {
+        // Given - DB는 적재 시점 상태 그대로 (S2는 예약, 반영 전)
+        List<Seat> stale = createSeats(100L, 3);
+        stale.get(1).reserve();
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 2)).thenReturn(stale);
+        seatInventory.reserve(100L, "S1");
+        seatInventory.reserve(100L, "S2");
+        seatInventory.cancel(100L, "S2");
+
+        // When - 좌석 추가 후 교체
+        seatInventory.evict(100L);
+
+        // Then
+        assertThat(seatInventory.isReserved(100L, "S1")).isTrue();
+        assertThat(seatInventory.isReserved(100L, "S2")).isFalse();
+        assertThat(seatInventory.isReserved(100L, "S3")).isFalse();
+        assertThatThrownBy(() -> seatInventory.reserve(100L, "S1"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("이미 예약된 좌석입니다.");
+    }
+
+    @Test
+    @DisplayName("write-behind 비트맵 교체 중 들어온 예약은 교체된 비트맵에서 다시 처리")
+    void evict_WriteBehind_RetriesOnReplacedBitmap() throws Exception {
+        // Given - 교체(모든 잠금 보유) 중에 예약 요청이 들어옴
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        List<Future<?>> reserving = new ArrayList<>();
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 2)).thenAnswer(invocation -> {
+            reserving.add(executor.submit(() -> seatInventory.reserve(100L, "S2")));
+            Thread.sleep(100);
+            return createSeats(100L, 3);
+        });
+        seatInventory.isReserved(100L, "S1");
+
+        // When
+        seatInventory.evict(100L);
+        reserving.get(0).get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then - 새 비트맵에 반영되고 write-behind도 새 비트맵 기준으로 등록
+        SeatBitmap current = seatInventory.bitmap(100L);
+        assertThat(current.isReserved(1)).isTrue();
+        verify(seatWriteBehind).enqueue(current, 1);
+    }
+
+    @Test
+    @DisplayName("좌석이 없는 열차는 캐시하지 않음")
+    void bitmap_EmptyTrainNotCached() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(List.of());
+
+        // When
+        assertThatThrownBy(() -> seatInventory.reserve(100L, "S1")).isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> seatInventory.reserve(100L, "S1")).isInstanceOf(ApiException.class);
+
+        // Then
+        verify(seatRepository, times(2)).findByTrainId(100L);
+    }
+
+    @Test
+    @DisplayName("64개 스레드가 같은 좌석을 동시에 예약해도 한 번만 성공")
+    void reserve_Concurrent_ExactlyOnce() throws Exception {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 200));
+        seatInventory.isReserved(100L, "S1");
+
+        int threads = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int seat = 1; seat <= 200; seat++) {
+                        try {
+                            seatInventory.reserve(100L, "S" + seat);
+                            succeeded.incrementAndGet();
+                        } catch (ApiException e) {
+                            // 다른 스레드가 먼저 예약
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // Then
+        assertThat(succeeded.get()).isEqualTo(200);
+        verify(seatWriteBehind, times(200)).enqueue(any(SeatBitmap.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("write-through 예약 - 조건부 UPDATE가 1행을 바꾸면 성공하고 비트맵에 반영")
+    void writeThrough_Reserve_Success() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+        when(seatRepository.reserveIfAvailable(2L)).thenReturn(1);
+
+        // When
+        writeThroughInventory.reserve(100L, "S2");
+
+        // Then
+        assertThat(writeThroughInventory.isReserved(100L, "S2")).isTrue();
+        verify(transactionManager).commit(any());
+        verifyNoInteractions(seatWriteBehind);
+        verify(seatChangeBroadcaster).changed(100L, List.of("S2"));
+    }
+
+    @Test
+    @DisplayName("write-through 예약 실패 - 다른 인스턴스가 먼저 예약 (0행), 비트맵은 DB 상태로 맞춤")
+    void writeThrough_Reserve_Fail_LostRace() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+        when(seatRepository.reserveIfAvailable(2L)).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> writeThroughInventory.reserve(100L, "S2"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("이미 예약된 좌석입니다.");
+        assertThat(writeThroughInventory.isReserved(100L, "S2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("write-through 예약 - 비트맵이 예약으로 보여도 DB가 판정")
+    void writeThrough_Reserve_StaleBitmap() {
+        // Given - 다른 인스턴스가 취소해 DB는 비어 있음
+        List<Seat> seats = createSeats(100L, 3);
+        seats.get(0).reserve();
+        when(seatRepository.findByTrainId(100L)).thenReturn(seats);
+        when(seatRepository.reserveIfAvailable(1L)).thenReturn(1);
+
+        // When
+        writeThroughInventory.reserve(100L, "S1");
+
+        // Then
+        verify(seatRepository).reserveIfAvailable(1L);
+    }
+
+    @Test
+    @DisplayName("인스턴스 간 동기화 - 다른 인스턴스가 바꾼 좌석을 DB에서 다시 읽어 비트맵에 반영")
+    void sync_AppliesDatabaseState() {
+        // Given - 적재 후 다른 인스턴스가 S1 취소, S3 예약
+        List<Seat> seats = createSeats(100L, 3);
+        seats.get(0).reserve();
+        when(seatRepository.findByTrainId(100L)).thenReturn(seats);
+        writeThroughInventory.isReserved(100L, "S1");
+        Seat cancelled = createSeat(1L, "S1", 100L);
+        Seat reserved = createSeat(3L, "S3", 100L);
+        reserved.reserve();
+        when(seatRepository.findByTrainIdAndSeatNumberIn(100L, List.of("S1", "S3")))
+                .thenReturn(List.of(cancelled, reserved));
+
+        // When
+        writeThroughInventory.sync(100L, List.of("S1", "S3"));
+
+        // Then - 다시 적재하지 않고 해당 좌석만 반영
+        assertThat(writeThroughInventory.isReserved(100L, "S1")).isFalse();
+        assertThat(writeThroughInventory.isReserved(100L, "S3")).isTrue();
+        verify(seatRepository, times(1)).findByTrainId(100L);
+    }
+
+    @Test
+    @DisplayName("인스턴스 간 동기화 - 좌석 구성 변경/모르는 좌석이면 다시 적재, 적재하지 않은 열차는 무시")
+    void sync_ReloadsOrIgnores() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+        writeThroughInventory.isReserved(100L, "S1");
+
+        // When
+        writeThroughInventory.sync(100L, null);
+        writeThroughInventory.isReserved(100L, "S1");
+        writeThroughInventory.sync(100L, List.of("S9"));
+        writeThroughInventory.isReserved(100L, "S1");
+        writeThroughInventory.sync(200L, List.of("S1"));
+
+        // Then
+        verify(seatRepository, times(3)).findByTrainId(100L);
+        verify(seatRepository, never()).findByTrainIdAndSeatNumberIn(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("인스턴스 간 동기화 - write-behind 모드(단일 인스턴스)는 알리지도 반영하지도 않음")
+    void sync_WriteBehind_Skipped() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+        seatInventory.reserve(100L, "S1");
+
+        // When - DB는 아직 반영 전이므로 다시 읽으면 예약이 사라짐
+        seatInventory.sync(100L, List.of("S1"));
+        seatInventory.evict(100L);
+
+        // Then
+        verify(seatRepository, never()).findByTrainIdAndSeatNumberIn(anyLong(), any());
+        verifyNoInteractions(seatChangeBroadcaster);
+    }
+
+    @Test
+    @DisplayName("write-through 취소 성공 / 실패")
+    void writeThrough_Cancel() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+        when(seatRepository.reserveIfAvailable(3L)).thenReturn(1);
+        when(seatRepository.cancelIfReserved(3L)).thenReturn(1).thenReturn(0);
+        writeThroughInventory.reserve(100L, "S3");
+
+        // When
+        writeThroughInventory.cancel(100L, "S3");
+
+        // Then
+        assertThat(writeThroughInventory.isReserved(100L, "S3")).isFalse();
+        assertThatThrownBy(() -> writeThroughInventory.cancel(100L, "S3"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("예약되지 않은 좌석입니다.");
+    }
+
+    @Test
+    @DisplayName("write-through 취소 실패 - 선점된 좌석은 0행이므로 비트맵도 그대로")
+    void writeThrough_Cancel_Fail_Held() {
+        // Given
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+        when(seatRepository.holdIfAvailable(2L, "token", expiresAt)).thenReturn(1);
+        when(seatRepository.cancelIfReserved(2L)).thenReturn(0);
+        writeThroughInventory.hold(100L, "S2", "token", expiresAt);
+
+        // When & Then
+        assertThatThrownBy(() -> writeThroughInventory.cancel(100L, "S2"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("예약되지 않은 좌석입니다.");
+        assertThat(writeThroughInventory.isReserved(100L, "S2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("write-behind 취소 실패 - 선점된 좌석은 비트를 내리지 않고 write-behind에 등록하지 않음")
+    void cancel_WriteBehind_Fail_Held() {
+        // Given - S1은 적재 시점에 이미 선점, S2는 이 인스턴스에서 선점
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
+        List<Seat> seats = createSeats(100L, 3);
+        seats.get(0).reserve();
+        ReflectionTestUtils.setField(seats.get(0), "holdToken", "loaded");
+        when(seatRepository.findByTrainId(100L)).thenReturn(seats);
+        when(seatRepository.holdIfAvailable(2L, "token", expiresAt)).thenReturn(1);
+        seatInventory.hold(100L, "S2", "token", expiresAt);
+
+        // When & Then
+        for (String seatNumber : List.of("S1", "S2")) {
+            assertThatThrownBy(() -> seatInventory.cancel(100L, seatNumber))
+                    .isInstanceOf(ApiException.class)
+                    .hasMessage("예약되지 않은 좌석입니다.");
+            assertThat(seatInventory.isReserved(100L, seatNumber)).isTrue();
+        }
+        verifyNoInteractions(seatWriteBehind);
+    }
+
+    @Test
+    @DisplayName("write-behind 선점 해제 후에는 일반 예약/취소 가능")
+    void cancel_WriteBehind_AfterHoldReleased() {
+        // Given
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+        when(seatRepository.holdIfAvailable(2L, "token", expiresAt)).thenReturn(1);
+        when(seatRepository.releaseHold(2L, "token")).thenReturn(1);
+        seatInventory.hold(100L, "S2", "token", expiresAt);
+        seatInventory.releaseHold(100L, "S2", "token");
+        seatInventory.reserve(100L, "S2");
+
+        // When
+        seatInventory.cancel(100L, "S2");
+
+        // Then
+        assertThat(seatInventory.isReserved(100L, "S2")).isFalse();
+        verify(seatWriteBehind, times(2)).enqueue(any(SeatBitmap.class), eq(1));
+    }
+
+    @Test
+    @DisplayName("write-through 일괄 예약 성공 - 한 번의 조건부 UPDATE")
+    void writeThrough_ReserveAll_Success() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+        when(seatRepository.reserveAllIfAvailable(List.of(1L, 3L))).thenReturn(2);
+
+        // When
+        writeThroughInventory.reserveAll(100L, List.of("S1", "S3"));
+
+        // Then
+        assertThat(writeThroughInventory.isReserved(100L, "S1")).isTrue();
+        assertThat(writeThroughInventory.isReserved(100L, "S3")).isTrue();
+        verify(seatRepository, never()).reserveIfAvailable(anyLong());
+    }
+
+    @Test
+    @DisplayName("write-through 일괄 예약 실패 - 일부만 바뀌면 롤백하고 비트맵을 DB 상태로 갱신")
+    void writeThrough_ReserveAll_Fail_RollsBack() {
+        // Given
+        List<Seat> seats = createSeats(100L, 3);
+        when(seatRepository.findByTrainId(100L)).thenReturn(seats);
+        when(seatRepository.reserveAllIfAvailable(List.of(1L, 2L))).thenReturn(1);
+        Seat taken = createSeats(100L, 2).get(1);
+        taken.reserve();
+        when(seatRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(seats.get(0), taken));
+        SimpleTransactionStatus transaction = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(transaction);
+
+        // When & Then
+        assertThatThrownBy(() -> writeThroughInventory.reserveAll(100L, List.of("S1", "S2")))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("이미 예약된 좌석입니다.");
+        assertThat(transaction.isRollbackOnly()).isTrue();
+        assertThat(writeThroughInventory.isReserved(100L, "S1")).isFalse();
+        assertThat(writeThroughInventory.isReserved(100L, "S2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("좌석 선점 성공 - 조건부 UPDATE로 토큰과 만료 시각을 기록하고 비트맵에 반영")
+    void hold_Success() {
+        // Given
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+        when(seatRepository.holdIfAvailable(2L, "token", expiresAt)).thenReturn(1);
+
+        // When
+        writeThroughInventory.hold(100L, "S2", "token", expiresAt);
+
+        // Then
+        assertThat(writeThroughInventory.isReserved(100L, "S2")).isTrue();
+        verifyNoInteractions(seatWriteBehind);
+    }
+
+    @Test
+    @DisplayName("좌석 선점 실패 - 이미 예약/선점된 좌석 (0행)")
+    void hold_Fail_AlreadyTaken() {
+        // Given
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+        when(seatRepository.holdIfAvailable(2L, "token", expiresAt)).thenReturn(0);
+        Seat taken = createSeats(100L, 2).get(1);
+        taken.reserve();
+        when(seatRepository.findAllById(List.of(2L))).thenReturn(List.of(taken));
+
+        // When & Then - 비트맵은 DB 상태로 맞춤
+        assertThatThrownBy(() -> writeThroughInventory.hold(100L, "S2", "token", expiresAt))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("이미 예약된 좌석입니다.");
+        assertThat(writeThroughInventory.isReserved(100L, "S2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("write-behind 모드 선점 실패 - DB가 0행이면 비트를 세우지 않음 (반영 전 취소된 좌석이 새지 않게)")
+    void hold_WriteBehind_Fail_KeepsBitClear() {
+        // Given - S1 예약이 DB에 반영된 뒤 메모리에서 취소, DB 반영 전 (DB는 아직 예약됨)
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
+        List<Seat> seats = createSeats(100L, 3);
+        seats.get(0).reserve();
+        when(seatRepository.findByTrainId(100L)).thenReturn(seats);
+        seatInventory.cancel(100L, "S1");
+        when(seatRepository.holdIfAvailable(1L, "token", expiresAt)).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> seatInventory.hold(100L, "S1", "token", expiresAt))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("이미 예약된 좌석입니다.");
+        assertThat(seatInventory.isReserved(100L, "S1")).isFalse();
+        verify(seatRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("write-behind 모드 선점 실패 - DB 반영 전 예약된 좌석은 비트맵에서 거절")
+    void hold_WriteBehind_ReservedInMemory() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+        seatInventory.reserve(100L, "S1");
+
+        // When & Then
+        assertThatThrownBy(() -> seatInventory.hold(100L, "S1", "token", LocalDateTime.now().plusMinutes(10)))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("이미 예약된 좌석입니다.");
+        verify(seatRepository, never()).holdIfAvailable(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("선점 확정 성공 / 실패 (토큰 불일치 또는 만료)")
+    void confirmHold() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+        when(seatRepository.confirmHold(eq(2L), eq("token"), any())).thenReturn(1).thenReturn(0);
+
+        // When
+        writeThroughInventory.confirmHold(100L, "S2", "token");
+
+        // Then
+        assertThatThrownBy(() -> writeThroughInventory.confirmHold(100L, "S2", "token"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("유효하지 않거나 만료된 좌석 선점입니다.");
+    }
+
+    @Test
+    @DisplayName("선점 해제 성공 시 비트맵도 해제 / 이미 해제된 선점은 실패")
+    void releaseHold() {
+        // Given
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+        when(seatRepository.holdIfAvailable(3L, "token", expiresAt)).thenReturn(1);
+        when(seatRepository.releaseHold(3L, "token")).thenReturn(1).thenReturn(0);
+        writeThroughInventory.hold(100L, "S3", "token", expiresAt);
+
+        // When
+        writeThroughInventory.releaseHold(100L, "S3", "token");
+
+        // Then
+        assertThat(writeThroughInventory.isReserved(100L, "S3")).isFalse();
+        assertThatThrownBy(() -> writeThroughInventory.releaseHold(100L, "S3", "token"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("유효하지 않거나 만료된 좌석 선점입니다.");
+    }
+
+    @Test
+    @DisplayName("만료 일괄 해제 - 만료된 선점만 골라 한 번의 UPDATE로 해제하고 비트맵 반영")
+    void releaseExpired() {
+        // Given - S1: 만료, S2: 확정됨, S3: 다시 선점되어 아직 유효 (DB 조회가 S1만 반환)
+        LocalDateTime now = LocalDateTime.now();
+        List<Seat> seats = createSeats(100L, 3);
+        seats.forEach(Seat::reserve);
+        when(seatRepository.findByTrainId(100L)).thenReturn(seats);
+        when(seatRepository.findExpiredHoldSeatNumbers(List.of(1L, 2L, 3L), now)).thenReturn(List.of("S1"));
+
+        // When
+        List<String> released = writeThroughInventory.releaseExpired(100L, List.of("S1", "S2", "S3", "X9"), now);
+
+        // Then
+        assertThat(released).containsExactly("S1");
+        verify(seatRepository).releaseExpiredHolds(List.of(1L, 2L, 3L), now);
+        assertThat(writeThroughInventory.isReserved(100L, "S1")).isFalse();
+        assertThat(writeThroughInventory.isReserved(100L, "S2")).isTrue();
+        assertThat(writeThroughInventory.isReserved(100L, "S3")).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료 일괄 해제 - 해제할 선점이 없으면 UPDATE 없음")
+    void releaseExpired_NothingToRelease() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 2));
+        when(seatRepository.findExpiredHoldSeatNumbers(List.of(1L), now)).thenReturn(List.of());
+
+        // When & Then
+        assertThat(writeThroughInventory.releaseExpired(100L, List.of("S1"), now)).isEmpty();
+        assertThat(writeThroughInventory.releaseExpired(100L, List.of("X9"), now)).isEmpty();
+        verify(seatRepository, never()).releaseExpiredHolds(any(), any());
+    }
+
+    @Test
+    @DisplayName("자동 배정 - 같은 열의 연속 좌석을 골라 좌석마다 다른 토큰으로 선점")
+    void assign_Adjacent() {
+        // Given - 1열은 B가 예약되어 연속 빈 좌석이 C~D 2석, 2열은 A~D 4석
+        List<Seat> seats = createSeats(100L, "1A", "1B", "1C", "1D", "2A", "2B", "2C", "2D");
+        seats.get(1).reserve();
+        when(seatRepository.findByTrainId(100L)).thenReturn(seats);
+        when(seatRepository.holdIfAvailable(anyLong(), any(), any())).thenReturn(1);
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
+
+        // When
+        Map<String, String> pair = seatInventory.assign(100L, 2, true, expiresAt);
+        Map<String, String> triple = seatInventory.assign(100L, 3, true, expiresAt);
+
+        // Then - 2석은 딱 맞는 1열 C~D, 3석은 2열 앞쪽
+        assertThat(pair.keySet()).containsExactly("1C", "1D");
+        assertThat(triple.keySet()).containsExactly("2A", "2B", "2C");
+        assertThat(pair.values()).doesNotHaveDuplicates().doesNotContainAnyElementsOf(triple.values());
+        verify(seatRepository).holdIfAvailable(3L, pair.get("1C"), expiresAt);
+        verify(seatRepository).holdIfAvailable(7L, triple.get("2C"), expiresAt);
+        assertThat(seatInventory.isReserved(100L, "2C")).isTrue();
+        assertThatThrownBy(() -> seatInventory.assign(100L, 2, true, expiresAt))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("연속으로 배정할 수 있는 빈 좌석이 없습니다.");
+    }
+
+    @Test
+    @DisplayName("자동 배정 - 연속이 아니어도 되면 흩어진 빈 좌석으로 채움")
+    void assign_Scattered() {
+        // Given
+        List<Seat> seats = createSeats(100L, "1A", "1B", "1C", "2A", "2B", "2C");
+        seats.get(1).reserve();
+        seats.get(4).reserve();
+        when(seatRepository.findByTrainId(100L)).thenReturn(seats);
+        when(seatRepository.holdIfAvailable(anyLong(), any(), any())).thenReturn(1);
+
+        // When
+        Map<String, String> assigned = seatInventory.assign(100L, 4, false, LocalDateTime.now().plusMinutes(10));
+
+        // Then
+        assertThat(assigned.keySet()).containsExactlyInAnyOrder("1A", "1C", "2A", "2C");
+        assertThatThrownBy(() -> seatInventory.assign(100L, 1, false, LocalDateTime.now().plusMinutes(10)))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("배정할 수 있는 빈 좌석이 없습니다.");
+    }
+
+    @Test
+    @DisplayName("자동 배정 - 고른 좌석을 다른 요청이 먼저 예약하면 선점을 롤백하고 다른 좌석으로 다시 배정")
+    void assign_RetriesOnConflict() {
+        // Given - write-through, 처음 고른 열은 DB에서 이미 예약됨
+        List<Seat> seats = createSeats(100L, "1A", "1B", "2A", "2B");
+        when(seatRepository.findByTrainId(100L)).thenReturn(seats);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(seatRepository.holdIfAvailable(anyLong(), any(), any())).thenReturn(0).thenReturn(1);
+        when(seatRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            List<Seat> taken = new ArrayList<>();
+            for (Seat seat : seats) {
+                if (ids.contains(seat.getId())) {
+                    Seat copy = createSeats(100L, seat.getSeatNumber()).get(0);
+                    copy.reserve();
+                    taken.add(copy);
+                }
+            }
+            return taken;
+        });
+
+        // When
+        Map<String, String> assigned = writeThroughInventory.assign(100L, 2, true, LocalDateTime.now().plusMinutes(10));
+
+        // Then - 다른 열 배정, 먼저 고른 열은 예약된 것으로 반영
+        assertThat(assigned).hasSize(2);
+        assertThat(seats.stream().map(Seat::getSeatNumber).filter(n -> writeThroughInventory.isReserved(100L, n)))
+                .hasSize(4);
+        verify(seatRepository, times(3)).holdIfAvailable(anyLong(), any(), any());
+        verify(seatChangeBroadcaster).changed(100L, List.copyOf(assigned.keySet()));
+    }
+
+    @Test
+    @DisplayName("자동 배정 실패 - 경합이 계속되면 시도 횟수 초과")
+    void assign_Fail_Contention() {
+        // Given - DB에서는 계속 실패하지만 비트맵에는 반영되지 않는 상황
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, "1A", "1B"));
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(seatRepository.holdIfAvailable(anyLong(), any(), any())).thenReturn(0);
+        when(seatRepository.findAllById(any())).thenReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> writeThroughInventory.assign(100L, 1, true, LocalDateTime.now().plusMinutes(10)))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("좌석 배정 요청이 몰려 실패했습니다. 잠시 후 다시 시도해주세요.");
+        verify(seatRepository, times(5)).holdIfAvailable(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("자동 배정 실패 - 좌석 없는 열차")
+    void assign_Fail_NoSeats() {
+        // Given
+        when(seatRepository.findByTrainId(999L)).thenReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> seatInventory.assign(999L, 1, true, LocalDateTime.now().plusMinutes(10)))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("해당 열차의 좌석 정보가 존재하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("배치 템플릿 열차 - 템플릿 좌석 위에 좌석 행의 예약 상태를 겹쳐 적재")
+    void layoutTemplate_OverlaysSeatRows() {
+        // Given
+        Seat reserved = createSeat(11L, "1-1B", 100L);
+        reserved.reserve();
+        when(seatLayoutTemplates.layout(100L)).thenReturn(Optional.of(layout(2, "A", "B")));
+        when(seatRepository.findByTrainId(100L)).thenReturn(List.of(reserved));
+
+        // When
+        SeatBitmap bitmap = seatInventory.bitmap(100L);
+
+        // Then
+        assertThat(bitmap.seatNumbers()).containsExactly("1-1A", "1-1B", "1-2A", "1-2B");
+        assertThat(bitmap.isReserved(1)).isTrue();
+        assertThat(bitmap.seatId(1)).isEqualTo(11L);
+        assertThat(bitmap.seatId(0)).isNull();
+        assertThat(seatInventory.isReserved(100L, "1-2A")).isFalse();
+    }
+
+    @Test
+    @DisplayName("배치 템플릿 지정 (write-behind) - 반영 전 예약을 템플릿 순서의 새 비트맵으로 옮김")
+    void layoutTemplate_AssignedWithUnflushedReservation() {
+        // Given - 좌석 행만 있던 열차에서 1-1A 예약 (DB 반영 전)
+        when(seatLayoutTemplates.layout(100L)).thenReturn(Optional.empty(), Optional.of(layout(2, "A", "B")));
+        when(seatRepository.findByTrainId(100L)).thenAnswer(invocation ->
+                List.of(createSeat(1L, "1-1A", 100L), createSeat(2L, "1-1B", 100L)));
+        seatInventory.reserve(100L, "1-1A");
+
+        // When - 템플릿 지정 후 교체
+        seatInventory.evict(100L);
+
+        // Then
+        SeatBitmap bitmap = seatInventory.bitmap(100L);
+        assertThat(bitmap.seatNumbers()).containsExactly("1-1A", "1-1B", "1-2A", "1-2B");
+        assertThat(bitmap.isReserved(0)).isTrue();
+        assertThat(bitmap.seatId(0)).isEqualTo(1L);
+        assertThat(bitmap.isReserved(2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("배치 템플릿 열차 write-through 예약 - 좌석 행을 처음 예약할 때 만들고 다음부터는 재사용")
+    void layoutTemplate_ReserveMaterializesSeatRow() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(seatLayoutTemplates.layout(100L)).thenReturn(Optional.of(layout(1, "A", "B")));
+        when(seatRepository.findByTrainId(100L)).thenReturn(List.of());
+        when(seatRepository.findByTrainIdAndSeatNumberIn(100L, List.of("1-1B")))
+                .thenReturn(List.of(createSeat(21L, "1-1B", 100L)));
+        when(seatRepository.reserveIfAvailable(21L)).thenReturn(1);
+        when(seatRepository.cancelIfReserved(21L)).thenReturn(1);
+
+        // When
+        writeThroughInventory.reserve(100L, "1-1B");
+        writeThroughInventory.cancel(100L, "1-1B");
+        writeThroughInventory.reserve(100L, "1-1B");
+
+        // Then
+        verify(seatRepository).insertMissing(100L, List.of("1-1B"));
+        verify(seatRepository, times(2)).reserveIfAvailable(21L);
+        assertThat(writeThroughInventory.isReserved(100L, "1-1B")).isTrue();
+    }
+
+    @Test
+    @DisplayName("배치 템플릿 열차 write-behind 예약 - 좌석 행을 만든 뒤 비트를 세우고 등록")
+    void layoutTemplate_WriteBehindMaterializesBeforeEnqueue() {
+        // Given
+        when(seatLayoutTemplates.layout(100L)).thenReturn(Optional.of(layout(1, "A", "B", "C")));
+        when(seatRepository.findByTrainId(100L)).thenReturn(List.of());
+        when(seatRepository.findByTrainIdAndSeatNumberIn(100L, List.of("1-1A", "1-1C")))
+                .thenReturn(List.of(createSeat(31L, "1-1A", 100L), createSeat(32L, "1-1C", 100L)));
+
+        // When
+        seatInventory.reserveAll(100L, List.of("1-1A", "1-1C"));
+
+        // Then
+        SeatBitmap bitmap = seatInventory.bitmap(100L);
+        assertThat(bitmap.seatId(0)).isEqualTo(31L);
+        assertThat(bitmap.seatId(2)).isEqualTo(32L);
+        verify(seatRepository).insertMissing(100L, List.of("1-1A", "1-1C"));
+        verify(seatWriteBehind).enqueue(bitmap, 0);
+        verify(seatWriteBehind).enqueue(bitmap, 2);
+    }
+
+    @Test
+    @DisplayName("배치 템플릿 열차 - 다른 요청이 같은 좌석 행을 먼저 만들면 남은 좌석만 다시 생성")
+    void layoutTemplate_MaterializeRetriesOnDuplicate() {
+        // Given
+        when(seatLayoutTemplates.layout(100L)).thenReturn(Optional.of(layout(1, "A")));
+        when(seatRepository.findByTrainId(100L)).thenReturn(List.of());
+        when(seatRepository.insertMissing(100L, List.of("1-1A")))
+                .thenThrow(new DuplicateKeyException("uk_seats_train_id_seat_number"))
+                .thenReturn(0);
+        when(seatRepository.findByTrainIdAndSeatNumberIn(100L, List.of("1-1A")))
+                .thenReturn(List.of(createSeat(41L, "1-1A", 100L)));
+
+        // When
+        seatInventory.reserve(100L, "1-1A");
+
+        // Then
+        verify(seatRepository, times(2)).insertMissing(100L, List.of("1-1A"));
+        assertThat(seatInventory.bitmap(100L).seatId(0)).isEqualTo(41L);
+    }
+
+    @Test
+    @DisplayName("배치 템플릿 열차 write-through 취소/선점 확정 실패 - 좌석 행이 없는 좌석은 행을 만들지 않음")
+    void layoutTemplate_CancelWithoutSeatRow() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(seatLayoutTemplates.layout(100L)).thenReturn(Optional.of(layout(1, "A")));
+        when(seatRepository.findByTrainId(100L)).thenReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> writeThroughInventory.cancel(100L, "1-1A"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("예약되지 않은 좌석입니다.");
+        assertThatThrownBy(() -> writeThroughInventory.confirmHold(100L, "1-1A", "token"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("유효하지 않거나 만료된 좌석 선점입니다.");
+        assertThat(writeThroughInventory.releaseExpired(100L, List.of("1-1A"), LocalDateTime.now())).isEmpty();
+        verify(seatRepository, never()).insertMissing(anyLong(), any());
+        verify(seatRepository, never()).releaseExpiredHolds(any(), any());
+    }
+
+    @Test
+    @DisplayName("좌석 속성 검색 - 호차 범위 안에서 모든 속성을 가진 빈 좌석만")
+    void search_AttributesInCarRange() {
+        // Given - 4개 호차 × 2열 × A~D, 창측 A/D, 2열부터 역방향, 3호차는 조용한 객실
+        List<LayoutTemplateCar> cars = new ArrayList<>();
+        for (int car = 1; car <= 4; car++) {
+            cars.add(LayoutTemplateCar.builder().carNumber(car).rowCount(2).columns(List.of("A", "B", "C", "D"))
+                    .seatClass(SeatClass.STANDARD).windowColumns(List.of("A", "D")).aisleColumns(List.of("B", "C"))
+                    .backwardFromRow(2).quietCar(car == 3).build());
+        }
+        Seat reserved = createSeat(1L, "3-1A", 100L);
+        reserved.reserve();
+        when(seatLayoutTemplates.layout(100L)).thenReturn(Optional.of(SeatLayout.of(cars)));
+        when(seatRepository.findByTrainId(100L)).thenReturn(List.of(reserved));
+
+        // When & Then
+        assertThat(seatInventory.search(100L, List.of(SeatAttribute.WINDOW), 2, 3))
+                .containsExactly("2-1A", "2-1D", "2-2A", "2-2D", "3-1D", "3-2A", "3-2D");
+        assertThat(seatInventory.search(100L,
+                List.of(SeatAttribute.WINDOW, SeatAttribute.QUIET_CAR, SeatAttribute.FORWARD_FACING), null, null))
+                .containsExactly("3-1D");
+        assertThat(seatInventory.search(100L, List.of(SeatAttribute.AISLE, SeatAttribute.POWER_OUTLET), null, null))
+                .isEmpty();
+        assertThat(seatInventory.search(100L, List.of(), 4, null)).hasSize(8);
+        assertThat(seatInventory.search(100L, List.of(), 5, 9)).isEmpty();
+        assertThat(seatInventory.search(100L, List.of(), 3, 2)).isEmpty();
+        verify(seatRepository, times(1)).findByTrainId(100L);
+    }
+
+    @Test
+    @DisplayName("좌석 속성 검색 - 64석 워드 경계를 넘는 호차 구간")
+    void search_AcrossWords() {
+        // Given - 3개 호차 × 20열 × A~D (호차당 80석, 2호차는 좌석 80~159)
+        List<LayoutTemplateCar> cars = new ArrayList<>();
+        for (int car = 1; car <= 3; car++) {
+            cars.add(LayoutTemplateCar.builder().carNumber(car).rowCount(20).columns(List.of("A", "B", "C", "D"))
+                    .seatClass(SeatClass.STANDARD).windowColumns(List.of("A", "D")).build());
+        }
+        when(seatLayoutTemplates.layout(100L)).thenReturn(Optional.of(SeatLayout.of(cars)));
+        when(seatRepository.findByTrainId(100L)).thenReturn(List.of());
+        seatInventory.reserve(100L, "2-20D");
+
+        // When
+        List<String> window = seatInventory.search(100L, List.of(SeatAttribute.WINDOW), 2, 2);
+        List<String> all = seatInventory.search(100L, List.of(), null, null);
+
+        // Then
+        assertThat(window).hasSize(39).startsWith("2-1A", "2-1D").endsWith("2-20A");
+        assertThat(all).hasSize(239);
+    }
+
+    @Test
+    @DisplayName("좌석 속성 검색 실패 - 배치 템플릿이 없는 열차")
+    void search_Fail_NoTemplate() {
+        // Given
+        when(seatRepository.findByTrainId(100L)).thenReturn(createSeats(100L, 3));
+
+        // When & Then
+        assertThatThrownBy(() -> seatInventory.search(100L, List.of(SeatAttribute.WINDOW), null, null))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("좌석 속성 정보가 없는 열차입니다.");
+    }
+
+    private SeatLayout layout(int rows, String... columns) {
+        return SeatLayout.of(List.of(LayoutTemplateCar.builder()
+                .carNumber(1).rowCount(rows).columns(List.of(columns)).seatClass(SeatClass.STANDARD).build()));
+    }
+
+    private Seat createSeat(Long id, String seatNumber, Long trainId) {
+        Seat seat = Seat.builder().seatNumber(seatNumber).trainId(trainId).build();
+        ReflectionTestUtils.setField(seat, "id", id);
+        return seat;
+    }
+
+    private List<Seat> createSeats(Long trainId, String... seatNumbers) {
+        List<Seat> seats = new ArrayList<>();
+        for (int i = 0; i < seatNumbers.length; i++) {
+            Seat seat = Seat.builder().seatNumber(seatNumbers[i]).trainId(trainId).build();
+            ReflectionTestUtils.setField(seat, "id", (long) i + 1);
+            seats.add(seat);
+        }
+        return seats;
+    }
+
+    private List<Seat> createSeats(Long trainId, int count) {
+        List<Seat> seats = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Seat seat = Seat.builder().seatNumber("S" + i).trainId(trainId).build();
+            ReflectionTestUtils.setField(seat, "id", (long) i);
+            seats.add(seat);
+        }
+        return seats;
+    }
+}
@@ -0,0 +1,78 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.ktcloudinfra.seatservice.entity.LayoutTemplate;
+import com.ktcloudinfra.seatservice.entity.LayoutTemplateCar;
+import com.ktcloudinfra.seatservice.entity.SeatAttribute;
+import com.ktcloudinfra.seatservice.entity.SeatClass;
+import com.ktcloudinfra.seatservice.entity.TrainLayout;
+import com.ktcloudinfra.seatservice.repository.LayoutTemplateCarRepository;
+import com.ktcloudinfra.seatservice.repository.LayoutTemplateRepository;
+import com.ktcloudinfra.seatservice.repository.TrainLayoutRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(SeatLayoutTemplates.class)
+class SeatLayoutTemplatesTest {
+
+    @Autowired
+    private SeatLayoutTemplates seatLayoutTemplates;
+
+    @Autowired
+    private LayoutTemplateRepository layoutTemplateRepository;
+
+    @Autowired
+    private LayoutTemplateCarRepository layoutTemplateCarRepository;
+
+    @Autowired
+    private TrainLayoutRepository trainLayoutRepository;
+
+    @Test
+    @DisplayName("템플릿이 지정된 열차 - 호차/열/좌석 열 순서의 좌석 번호로 펼침")
+    void seatNumbers_Expanded() {
+        // Given - 호차를 거꾸로 저장해도 호차 번호 순
+        Long templateId = layoutTemplateRepository.save(LayoutTemplate.builder().name("KTX-산천").build()).getId();
+        layoutTemplateCarRepository.saveAll(List.of(
+                LayoutTemplateCar.builder().templateId(templateId).carNumber(2).rowCount(2)
+                        .columns(List.of("A", "B", "C", "D")).seatClass(SeatClass.STANDARD)
+                        .windowColumns(List.of("A", "D")).backwardFromRow(2).powerOutlet(true).build(),
+                LayoutTemplateCar.builder().templateId(templateId).carNumber(1).rowCount(1)
+                        .columns(List.of("A", "B", "C")).seatClass(SeatClass.FIRST).build()));
+        trainLayoutRepository.save(TrainLayout.builder().trainId(100L).templateId(templateId).build());
+        trainLayoutRepository.save(TrainLayout.builder().trainId(200L).templateId(templateId).build());
+
+        // When
+        Optional<SeatLayout> layout = seatLayoutTemplates.layout(100L);
+
+        // Then
+        assertThat(layout).isPresent();
+        assertThat(layout.get().seatNumbers()).containsExactly(
+                "1-1A", "1-1B", "1-1C",
+                "2-1A", "2-1B", "2-1C", "2-1D", "2-2A", "2-2B", "2-2C", "2-2D");
+        // 좌석 순서의 속성 비트: 2호차 A/D 창측, 2호차 1열만 순방향(1호차는 전부), 2호차 콘센트
+        assertThat(layout.get().attribute(SeatAttribute.WINDOW)[0]).isEqualTo(0b10011001000L);
+        assertThat(layout.get().attribute(SeatAttribute.FORWARD_FACING)[0]).isEqualTo(0b00001111111L);
+        assertThat(layout.get().attribute(SeatAttribute.POWER_OUTLET)[0]).isEqualTo(0b11111111000L);
+        assertThat(layout.get().attribute(SeatAttribute.QUIET_CAR)[0]).isZero();
+        assertThat(layout.get().carStart(2)).isEqualTo(3);
+        assertThat(layout.get().carEnd(1)).isEqualTo(3);
+        // 같은 템플릿의 열차는 펼친 결과를 공유
+        assertThat(seatLayoutTemplates.layout(200L).get()).isSameAs(layout.get());
+    }
+
+    @Test
+    @DisplayName("템플릿이 지정되지 않은 열차는 empty")
+    void seatNumbers_NoTemplate() {
+        assertThat(seatLayoutTemplates.layout(999L)).isEmpty();
+    }
+}
@@ -0,0 +1,183 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktcloudinfra.seatservice.entity.LayoutTemplateCar;
+import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.entity.SeatClass;
+import com.ktcloudinfra.seatservice.global.exception.ApiException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatMapCacheTest {
+
+    @Mock
+    private SeatInventory seatInventory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SeatMapCache seatMapCache;
+    private SeatBitmap bitmap;
+
+    @BeforeEach
+    void setUp() {
+        seatMapCache = new SeatMapCache(seatInventory, objectMapper);
+        List<Seat> seats = new ArrayList<>();
+        for (int i = 1; i <= 70; i++) {
+            Seat seat = Seat.builder().seatNumber("S" + i).trainId(100L).build();
+            ReflectionTestUtils.setField(seat, "id", (long) i);
+            seats.add(seat);
+        }
+        bitmap = SeatBitmap.of(seats);
+    }
+
+    @Test
+    @DisplayName("좌석 맵 - 좌석 순서대로 예약 비트를 base64로 인코딩")
+    void seatMap_EncodesBits() throws Exception {
+        // Given
+        when(seatInventory.bitmap(100L)).thenReturn(bitmap);
+        bitmap.tryReserve(0);
+        bitmap.tryReserve(9);
+        bitmap.tryReserve(69);
+
+        // When
+        SeatMapCache.Serialized serialized = seatMapCache.seatMap(100L);
+
+        // Then
+        JsonNode json = objectMapper.readTree(serialized.body());
+        assertThat(json.get("trainId").asLong()).isEqualTo(100L);
+        assertThat(json.get("seatCount").asInt()).isEqualTo(70);
+        assertThat(json.get("encoding").asText()).isEqualTo("bitmap-base64");
+        byte[] bits = Base64.getDecoder().decode(json.get("reserved").asText());
+        assertThat(bits).hasSize(9);
+        assertThat(bits[0]).isEqualTo((byte) 0b0000_0001);
+        assertThat(bits[1]).isEqualTo((byte) 0b0000_0010);
+        assertThat(bits[8]).isEqualTo((byte) 0b0010_0000);
+        assertThat(serialized.etag()).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("좌석 맵 - 좌석이 바뀌지 않으면 같은 바이트를 재사용하고, 바뀌면 새 ETag로 다시 생성")
+    void seatMap_RegeneratesOnlyOnChange() {
+        // Given
+        when(seatInventory.bitmap(100L)).thenReturn(bitmap);
+        SeatMapCache.Serialized first = seatMapCache.seatMap(100L);
+
+        // When
+        SeatMapCache.Serialized unchanged = seatMapCache.seatMap(100L);
+        bitmap.tryReserve(3);
+        SeatMapCache.Serialized changed = seatMapCache.seatMap(100L);
+        bitmap.tryRelease(3);
+        SeatMapCache.Serialized reverted = seatMapCache.seatMap(100L);
+
+        // Then
+        assertThat(unchanged).isSameAs(first);
+        assertThat(changed.etag()).isNotEqualTo(first.etag());
+        assertThat(reverted.etag()).isEqualTo(first.etag());
+    }
+
+    @Test
+    @DisplayName("좌석 배치 - 좌석 순서 목록을 한 번만 직렬화")
+    void layout_Cached() throws Exception {
+        // Given
+        when(seatInventory.bitmap(100L)).thenReturn(bitmap);
+
+        // When
+        SeatMapCache.Serialized first = seatMapCache.layout(100L);
+        bitmap.tryReserve(0);
+        SeatMapCache.Serialized second = seatMapCache.layout(100L);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        JsonNode json = objectMapper.readTree(first.body());
+        assertThat(json.get("seatNumbers")).hasSize(70);
+        assertThat(json.get("seatNumbers").get(0).asText()).isEqualTo("S1");
+    }
+
+    @Test
+    @DisplayName("빈 좌석 요약 - 전체/호차별/등급별 빈 좌석 수")
+    void summary_Counts() throws Exception {
+        // Given - 1호차 특실 4석, 2호차 일반실 8석 중 1-1A, 2-1C 예약
+        SeatBitmap layoutBitmap = SeatBitmap.of(SeatLayout.of(List.of(
+                LayoutTemplateCar.builder().carNumber(1).rowCount(2)
+                        .columns(List.of("A", "B")).seatClass(SeatClass.FIRST).build(),
+                LayoutTemplateCar.builder().carNumber(2).rowCount(2)
+                        .columns(List.of("A", "B", "C", "D")).seatClass(SeatClass.STANDARD).build())), List.of());
+        layoutBitmap.tryReserve(layoutBitmap.indexOf("1-1A"));
+        layoutBitmap.tryReserve(layoutBitmap.indexOf("2-1C"));
+        when(seatInventory.bitmap(200L)).thenReturn(layoutBitmap);
+
+        // When
+        SeatMapCache.Serialized serialized = seatMapCache.summary(200L);
+
+        // Then
+        JsonNode json = objectMapper.readTree(serialized.body());
+        assertThat(json.get("trainId").asLong()).isEqualTo(200L);
+        assertThat(json.get("seatCount").asInt()).isEqualTo(12);
+        assertThat(json.get("available").asInt()).isEqualTo(10);
+        assertThat(json.get("cars")).hasSize(2);
+        assertThat(json.get("cars").get(0).get("carNumber").asInt()).isEqualTo(1);
+        assertThat(json.get("cars").get(0).get("seatClass").asText()).isEqualTo("FIRST");
+        assertThat(json.get("cars").get(0).get("available").asInt()).isEqualTo(3);
+        assertThat(json.get("cars").get(1).get("seatCount").asInt()).isEqualTo(8);
+        assertThat(json.get("cars").get(1).get("available").asInt()).isEqualTo(7);
+        assertThat(json.get("classes")).hasSize(2);
+        assertThat(json.get("classes").get(0).get("seatClass").asText()).isEqualTo("STANDARD");
+        assertThat(json.get("classes").get(0).get("available").asInt()).isEqualTo(7);
+        assertThat(json.get("classes").get(1).get("seatClass").asText()).isEqualTo("FIRST");
+        assertThat(json.get("classes").get(1).get("available").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("빈 좌석 요약 - 좌석이 바뀔 때만 다시 생성, 템플릿이 없는 열차는 등급 없이 호차별")
+    void summary_RegeneratesOnlyOnChange() throws Exception {
+        // Given
+        when(seatInventory.bitmap(100L)).thenReturn(bitmap);
+        SeatMapCache.Serialized first = seatMapCache.summary(100L);
+
+        // When
+        SeatMapCache.Serialized unchanged = seatMapCache.summary(100L);
+        bitmap.tryReserve(0);
+        SeatMapCache.Serialized changed = seatMapCache.summary(100L);
+
+        // Then
+        assertThat(unchanged).isSameAs(first);
+        assertThat(changed.etag()).isNotEqualTo(first.etag());
+        JsonNode json = objectMapper.readTree(changed.body());
+        assertThat(json.get("available").asInt()).isEqualTo(69);
+        assertThat(json.get("cars")).isEmpty();
+        assertThat(json.get("classes")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좌석이 없는 열차는 예외")
+    void seatMap_Fail_NoSeats() {
+        // Given
+        when(seatInventory.bitmap(999L)).thenReturn(SeatBitmap.of(List.of()));
+
+        // When & Then
+        assertThatThrownBy(() -> seatMapCache.seatMap(999L))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("해당 열차의 좌석 정보가 존재하지 않습니다.");
+        assertThatThrownBy(() -> seatMapCache.layout(999L))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("해당 열차의 좌석 정보가 존재하지 않습니다.");
+        assertThatThrownBy(() -> seatMapCache.summary(999L))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("해당 열차의 좌석 정보가 존재하지 않습니다.");
+    }
+}
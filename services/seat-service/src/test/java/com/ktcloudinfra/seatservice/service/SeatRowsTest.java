@@ -0,0 +1,137 @@
+package com.ktcloudinfra.seatservice.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatRowsTest {
+
+    // 1호차 1열 A~D, 1호차 2열 A~D, 2호차 1열 A~B
+    private final String[] seatNumbers = {
+            "1-1A", "1-1B", "1-1C", "1-1D",
+            "1-2A", "1-2B", "1-2C", "1-2D",
+            "2-1A", "2-1B"
+    };
+
+    @Test
+    @DisplayName("연속 배정은 요청 인원 이상인 빈 구간 중 가장 짧은 것을 고름")
+    void adjacent_BestFit() {
+        // Given
+        SeatRows rows = new SeatRows(seatNumbers);
+
+        // When & Then - 2석은 딱 맞는 2호차 1열, 3석은 4석 열
+        assertThat(seats(rows.adjacent(2, 0))).containsExactly("2-1A", "2-1B");
+        assertThat(seats(rows.adjacent(3, 0))).containsExactly("1-1A", "1-1B", "1-1C");
+        assertThat(rows.adjacent(5, 0)).isNull();
+    }
+
+    @Test
+    @DisplayName("좌석 상태가 바뀌면 해당 열의 연속 빈 구간을 갱신")
+    void update_Incremental() {
+        // Given - 1호차 1열 B, 2열 C 예약: 1열 C~D, 2열 A~B가 2석 구간
+        SeatRows rows = new SeatRows(seatNumbers);
+        rows.update(1, true);
+        rows.update(6, true);
+        rows.update(8, true);
+
+        // When & Then
+        assertThat(rows.adjacent(3, 0)).isNull();
+        assertThat(seats(rows.adjacent(2, 0))).containsExactly("1-1C", "1-1D");
+        assertThat(seats(rows.adjacent(2, 1))).containsExactly("1-2A", "1-2B");
+
+        rows.update(1, false);
+        assertThat(seats(rows.adjacent(4, 0))).containsExactly("1-1A", "1-1B", "1-1C", "1-1D");
+    }
+
+    @Test
+    @DisplayName("같은 길이의 열이 여럿이면 시작 열 이후부터 찾고, 없으면 처음으로 돌아감")
+    void adjacent_StartRow() {
+        // Given
+        SeatRows rows = new SeatRows(seatNumbers);
+
+        // When & Then
+        assertThat(seats(rows.adjacent(4, 1))).startsWith("1-2A");
+        assertThat(seats(rows.adjacent(4, 2))).startsWith("1-1A");
+    }
+
+    @Test
+    @DisplayName("흩어진 배정은 짧은 빈 구간부터 채워 긴 구간을 남김")
+    void scattered_ShortestRunsFirst() {
+        // Given - 1호차 1열 B 예약, 2호차 1열 B 예약
+        SeatRows rows = new SeatRows(seatNumbers);
+        rows.update(1, true);
+        rows.update(9, true);
+
+        // When
+        List<String> assigned = seats(rows.scattered(2, 0));
+
+        // Then - 1석 구간(1-1A, 2-1A)부터 사용, 4석이 빈 1호차 2열은 남김
+        assertThat(assigned).containsExactlyInAnyOrder("1-1A", "2-1A");
+        assertThat(rows.scattered(8, 0)).hasSize(8);
+        assertThat(rows.scattered(9, 0)).isNull();
+    }
+
+    @Test
+    @DisplayName("호차 없는 좌석 번호는 1호차, 형식을 알 수 없는 좌석은 혼자 한 열")
+    void rowKey_Formats() {
+        // Given
+        SeatRows rows = new SeatRows(new String[]{"1B", "1A", "10A", "S1", "S2"});
+
+        // When & Then
+        assertThat(rows.rowCount()).isEqualTo(4);
+        assertThat(seats(rows.adjacent(2, 0), "1B", "1A", "10A", "S1", "S2")).containsExactly("1A", "1B");
+        rows.update(3, true);
+        assertThat(rows.scattered(5, 0)).isNull();
+        assertThat(seats(rows.scattered(3, 0), "1B", "1A", "10A", "S1", "S2"))
+                .containsExactlyInAnyOrder("10A", "S2", "1A");
+    }
+
+    @Test
+    @DisplayName("열이 가득 차면 배정 대상에서 빠짐")
+    void fullRow_Excluded() {
+        // Given
+        SeatRows rows = new SeatRows(new String[]{"1A", "1B"});
+        rows.update(0, true);
+        rows.update(1, true);
+
+        // When & Then
+        assertThat(rows.adjacent(1, 0)).isNull();
+        assertThat(rows.scattered(1, 0)).isNull();
+    }
+
+    @Test
+    @DisplayName("한 열이 64석을 넘으면 넘는 좌석은 색인에서 제외")
+    void wideRow_Truncated() {
+        // Given
+        String[] wide = new String[70];
+        for (int i = 0; i < wide.length; i++) {
+            wide[i] = "1" + column(i);
+        }
+        SeatRows rows = new SeatRows(wide);
+
+        // When
+        rows.update(69, true);
+
+        // Then
+        assertThat(rows.adjacent(64, 0)).hasSize(64);
+        assertThat(rows.adjacent(65, 0)).isNull();
+    }
+
+    private List<String> seats(int[] indexes) {
+        return seats(indexes, seatNumbers);
+    }
+
+    private List<String> seats(int[] indexes, String... numbers) {
+        return Arrays.stream(indexes).mapToObj(index -> numbers[index]).toList();
+    }
+
+    // A, B, ..., Z, AA, AB, ..., BA, ...
+    private String column(int i) {
+        String last = String.valueOf((char) ('A' + i % 26));
+        return i < 26 ? last : (char) ('A' + i / 26 - 1) + last;
+    }
+}
@@ -1,26 +1,53 @@
 package com.ktcloudinfra.seatservice.service;
 
-import com.ktcloudinfra.seatservice.client.TrainClient;
-import com.ktcloudinfra.seatservice.client.dto.TrainDTO;
+import com.ktcloudinfra.seatservice.client.TrainSummaryCache;
+import com.ktcloudinfra.seatservice.client.dto.TrainSummary;
+import com.ktcloudinfra.seatservice.config.RabbitMQConfig;
+import com.ktcloudinfra.seatservice.dto.event.SeatHeldEvent;
+import com.ktcloudinfra.seatservice.dto.event.SeatHoldConfirmedEvent;
+import com.ktcloudinfra.seatservice.dto.event.SeatHoldReleasedEvent;
+import com.ktcloudinfra.seatservice.dto.request.LayoutTemplateRequestDTO;
+import com.ktcloudinfra.seatservice.dto.request.SeatProvisionRequestDTO;
+import com.ktcloudinfra.seatservice.dto.response.LayoutTemplateResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatAssignmentResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatHoldResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatProvisionResponseDTO;
 import com.ktcloudinfra.seatservice.dto.response.SeatResponseDTO;
+import com.ktcloudinfra.seatservice.dto.response.SeatSearchResponseDTO;
+import com.ktcloudinfra.seatservice.entity.LayoutTemplate;
+import com.ktcloudinfra.seatservice.entity.LayoutTemplateCar;
 import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.entity.SeatAttribute;
+import com.ktcloudinfra.seatservice.entity.SeatClass;
+import com.ktcloudinfra.seatservice.entity.TrainLayout;
 import com.ktcloudinfra.seatservice.global.exception.ApiException;
+import com.ktcloudinfra.seatservice.repository.LayoutTemplateCarRepository;
+import com.ktcloudinfra.seatservice.repository.LayoutTemplateRepository;
 import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import com.ktcloudinfra.seatservice.repository.TrainLayoutRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,46 +57,91 @@ class SeatServiceImplTest {
     private SeatRepository seatRepository;
 
     @Mock
-    private TrainClient trainClient;
+    private LayoutTemplateRepository layoutTemplateRepository;
+
+    @Mock
+    private LayoutTemplateCarRepository layoutTemplateCarRepository;
+
+    @Mock
+    private TrainLayoutRepository trainLayoutRepository;
+
+    @Mock
+    private TrainSummaryCache trainSummaryCache;
+
+    @Mock
+    private SeatInventory seatInventory;
+
+    @Mock
+    private SeatHoldExpiry seatHoldExpiry;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
 
     @InjectMocks
     private SeatServiceImpl seatService;
 
     @Test
-    @DisplayName("열차 ID로 좌석 목록 조회 성공")
+    @DisplayName("열차 ID로 좌석 목록 조회 성공 - 비트맵의 좌석 순서와 예약 상태")
     void getSeatsByTrain_Success() {
         // Given
         Long trainId = 100L;
-        Seat seat1 = createSeat(1L, "1A", trainId, false);
-        Seat seat2 = createSeat(2L, "1B", trainId, true);
-
-        TrainDTO trainDTO = TrainDTO.builder()
-                .id(trainId)
-                .name("KTX-101")
-                .price(50000)
-                .departureStation("서울")
-                .arrivalStation("부산")
-                .departureTime(LocalDateTime.now())
-                .arrivalTime(LocalDateTime.now().plusHours(3))
-                .availableSeats(98)
-                .build();
+        SeatBitmap bitmap = SeatBitmap.of(List.of(
+                createSeat(1L, "1A", trainId, false),
+                createSeat(2L, "1B", trainId, true)));
 
-        when(seatRepository.findByTrainId(trainId)).thenReturn(Arrays.asList(seat1, seat2));
-        when(trainClient.getTrain(trainId)).thenReturn(trainDTO);
+        when(seatInventory.bitmap(trainId)).thenReturn(bitmap);
+        when(trainSummaryCache.getTrain(trainId)).thenReturn(new TrainSummary(trainId, "KTX-101"));
 
         // When
         List<SeatResponseDTO> seats = seatService.getSeatsByTrain(trainId);
 
         // Then
         assertThat(seats).hasSize(2);
+        assertThat(seats.get(0).getId()).isEqualTo(1L);
         assertThat(seats.get(0).getName()).isEqualTo("KTX-101");
         assertThat(seats.get(0).getSeatNumber()).isEqualTo("1A");
         assertThat(seats.get(0).isReserved()).isFalse();
         assertThat(seats.get(1).getSeatNumber()).isEqualTo("1B");
         assertThat(seats.get(1).isReserved()).isTrue();
 
-        verify(seatRepository).findByTrainId(trainId);
-        verify(trainClient).getTrain(trainId);
+        verify(seatRepository, never()).findByTrainId(anyLong());
+        verify(trainSummaryCache).getTrain(trainId);
+    }
+
+    @Test
+    @DisplayName("배치 템플릿 열차의 좌석 목록 - 좌석 행이 없는 좌석은 id 없이 응답")
+    void getSeatsByTrain_LayoutTemplate() {
+        // Given
+        Long trainId = 100L;
+        SeatBitmap bitmap = SeatBitmap.of(SeatLayout.of(List.of(LayoutTemplateCar.builder()
+                        .carNumber(1).rowCount(2).columns(List.of("A", "B")).seatClass(SeatClass.STANDARD).build())),
+                List.of(createSeat(7L, "1-1B", trainId, true)));
+        when(seatInventory.bitmap(trainId)).thenReturn(bitmap);
+
+        // When
+        List<SeatResponseDTO> seats = seatService.getSeatsByTrain(trainId);
+
+        // Then
+        assertThat(seats).extracting(SeatResponseDTO::getSeatNumber).containsExactly("1-1A", "1-1B", "1-2A", "1-2B");
+        assertThat(seats).extracting(SeatResponseDTO::getId).containsExactly(null, 7L, null, null);
+        assertThat(seats).extracting(SeatResponseDTO::isReserved).containsExactly(false, true, false, false);
+    }
+
+    @Test
+    @DisplayName("열차 정보를 얻지 못해도 좌석 목록은 열차명 없이 응답")
+    void getSeatsByTrain_TrainUnavailable() {
+        // Given
+        Long trainId = 100L;
+        when(seatInventory.bitmap(trainId)).thenReturn(SeatBitmap.of(List.of(createSeat(1L, "1A", trainId, false))));
+        when(trainSummaryCache.getTrain(trainId)).thenReturn(null);
+
+        // When
+        List<SeatResponseDTO> seats = seatService.getSeatsByTrain(trainId);
+
+        // Then
+        assertThat(seats).hasSize(1);
+        assertThat(seats.get(0).getName()).isNull();
+        assertThat(seats.get(0).getSeatNumber()).isEqualTo("1A");
     }
 
     @Test
@@ -77,209 +149,562 @@ class SeatServiceImplTest {
     void getSeatsByTrain_Fail_NoSeats() {
         // Given
         Long trainId = 999L;
-        when(seatRepository.findByTrainId(trainId)).thenReturn(Arrays.asList());
+        when(seatInventory.bitmap(trainId)).thenReturn(SeatBitmap.of(List.of()));
 
         // When & Then
         assertThatThrownBy(() -> seatService.getSeatsByTrain(trainId))
                 .isInstanceOf(ApiException.class)
                 .hasMessage("해당 열차의 좌석 정보가 존재하지 않습니다.");
 
-        verify(seatRepository).findByTrainId(trainId);
-        verify(trainClient, never()).getTrain(anyLong());
+        verify(trainSummaryCache, never()).getTrain(anyLong());
     }
 
     @Test
-    @DisplayName("좌석 ID로 예약 성공")
-    void reserveSeat_ById_Success() {
+    @DisplayName("열차 ID와 좌석번호로 단건 조회 성공")
+    void getSeat_Success() {
+        // Given
+        Long trainId = 100L;
+        SeatBitmap bitmap = SeatBitmap.of(List.of(createSeat(1L, "1A", trainId, false)));
+        when(seatInventory.bitmap(trainId)).thenReturn(bitmap);
+
+        // When
+        SeatResponseDTO response = seatService.getSeat(trainId, "1A");
+
+        // Then
+        assertThat(response.getId()).isEqualTo(1L);
+        assertThat(response.getSeatNumber()).isEqualTo("1A");
+        assertThat(response.isReserved()).isFalse();
+        verify(seatInventory).materialize(trainId, bitmap, 0);
+        verify(trainSummaryCache, never()).getTrain(anyLong());
+    }
+
+    @Test
+    @DisplayName("열차 ID와 좌석번호로 단건 조회 실패 - 좌석 없음")
+    void getSeat_Fail_SeatNotFound() {
+        // Given
+        when(seatInventory.bitmap(100L)).thenReturn(SeatBitmap.of(List.of(createSeat(1L, "1A", 100L, false))));
+
+        // When & Then
+        assertThatThrownBy(() -> seatService.getSeat(100L, "99Z"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("좌석이 존재하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("열차 ID와 좌석번호 목록으로 다건 조회 성공 - 없는 좌석과 중복은 제외")
+    void getSeats_Success() {
         // Given
-        Long seatId = 1L;
-        Seat seat = createSeat(seatId, "1A", 100L, false);
+        Long trainId = 100L;
+        SeatBitmap bitmap = SeatBitmap.of(List.of(
+                createSeat(1L, "1A", trainId, false),
+                createSeat(2L, "1B", trainId, true)));
+        when(seatInventory.bitmap(trainId)).thenReturn(bitmap);
 
-        when(seatRepository.findById(seatId)).thenReturn(Optional.of(seat));
+        // When
+        List<SeatResponseDTO> seats = seatService.getSeats(trainId, List.of("1A", "1B", "99Z", "1A"));
 
+        // Then
+        assertThat(seats).extracting(SeatResponseDTO::getSeatNumber).containsExactly("1A", "1B");
+        assertThat(seats).extracting(SeatResponseDTO::getId).containsExactly(1L, 2L);
+        assertThat(seats.get(1).isReserved()).isTrue();
+        verify(seatInventory).materialize(trainId, bitmap, 0, 1);
+        verify(trainSummaryCache, never()).getTrain(anyLong());
+    }
+
+    @Test
+    @DisplayName("좌석번호 목록이 비어 있으면 조회하지 않음")
+    void getSeats_EmptySeatNumbers() {
         // When
-        seatService.reserveSeat(seatId);
+        List<SeatResponseDTO> seats = seatService.getSeats(100L, List.of());
 
         // Then
-        assertThat(seat.isReserved()).isTrue();
-        verify(seatRepository).findById(seatId);
+        assertThat(seats).isEmpty();
+        verifyNoInteractions(seatInventory);
+    }
+
+    @Test
+    @DisplayName("좌석 ID로 예약 - 좌석 재고에서 예약")
+    void reserveSeat_ById_Success() {
+        // Given
+        Seat seat = createSeat(1L, "1A", 100L, false);
+        when(seatRepository.findById(1L)).thenReturn(Optional.of(seat));
+
+        // When
+        seatService.reserveSeat(1L);
+
+        // Then
+        verify(seatInventory).reserve(100L, "1A");
     }
 
     @Test
     @DisplayName("좌석 ID로 예약 실패 - 좌석 없음")
     void reserveSeat_ById_Fail_SeatNotFound() {
         // Given
-        Long seatId = 999L;
-        when(seatRepository.findById(seatId)).thenReturn(Optional.empty());
+        when(seatRepository.findById(999L)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> seatService.reserveSeat(seatId))
+        assertThatThrownBy(() -> seatService.reserveSeat(999L))
                 .isInstanceOf(ApiException.class)
                 .hasMessage("좌석이 존재하지 않습니다.");
+        verifyNoInteractions(seatInventory);
     }
 
     @Test
     @DisplayName("좌석 ID로 예약 실패 - 이미 예약됨")
     void reserveSeat_ById_Fail_AlreadyReserved() {
         // Given
-        Long seatId = 1L;
-        Seat seat = createSeat(seatId, "1A", 100L, true);
-
-        when(seatRepository.findById(seatId)).thenReturn(Optional.of(seat));
+        Seat seat = createSeat(1L, "1A", 100L, false);
+        when(seatRepository.findById(1L)).thenReturn(Optional.of(seat));
+        doThrow(new ApiException("이미 예약된 좌석입니다.")).when(seatInventory).reserve(100L, "1A");
 
         // When & Then
-        assertThatThrownBy(() -> seatService.reserveSeat(seatId))
+        assertThatThrownBy(() -> seatService.reserveSeat(1L))
                 .isInstanceOf(ApiException.class)
                 .hasMessage("이미 예약된 좌석입니다.");
     }
 
     @Test
-    @DisplayName("좌석 ID로 취소 성공")
+    @DisplayName("좌석 ID로 취소 - 좌석 재고에서 취소")
     void cancelSeat_ById_Success() {
         // Given
-        Long seatId = 1L;
-        Seat seat = createSeat(seatId, "1A", 100L, true);
-
-        when(seatRepository.findById(seatId)).thenReturn(Optional.of(seat));
+        Seat seat = createSeat(1L, "1A", 100L, true);
+        when(seatRepository.findById(1L)).thenReturn(Optional.of(seat));
 
         // When
-        seatService.cancelSeat(seatId);
+        seatService.cancelSeat(1L);
 
         // Then
-        assertThat(seat.isReserved()).isFalse();
-        verify(seatRepository).findById(seatId);
+        verify(seatInventory).cancel(100L, "1A");
     }
 
     @Test
     @DisplayName("좌석 ID로 취소 실패 - 좌석 없음")
     void cancelSeat_ById_Fail_SeatNotFound() {
         // Given
-        Long seatId = 999L;
-        when(seatRepository.findById(seatId)).thenReturn(Optional.empty());
+        when(seatRepository.findById(999L)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> seatService.cancelSeat(seatId))
+        assertThatThrownBy(() -> seatService.cancelSeat(999L))
                 .isInstanceOf(ApiException.class)
                 .hasMessage("좌석이 존재하지 않습니다.");
+        verifyNoInteractions(seatInventory);
+    }
+
+    @Test
+    @DisplayName("열차 ID와 좌석번호로 예약 - DB 조회 없이 좌석 재고에서 예약")
+    void reserveSeat_ByTrainIdAndSeatNumber_Success() {
+        // When
+        seatService.reserveSeat(100L, "1A");
+
+        // Then
+        verify(seatInventory).reserve(100L, "1A");
+        verifyNoInteractions(seatRepository);
+    }
+
+    @Test
+    @DisplayName("열차 ID와 좌석번호로 취소 - DB 조회 없이 좌석 재고에서 취소")
+    void cancelSeat_ByTrainIdAndSeatNumber_Success() {
+        // When
+        seatService.cancelSeat(100L, "1A");
+
+        // Then
+        verify(seatInventory).cancel(100L, "1A");
+        verifyNoInteractions(seatRepository);
+    }
+
+    @Test
+    @DisplayName("단체 좌석 예약 - 좌석 재고에서 일괄 예약")
+    void reserveSeats_Success() {
+        // When
+        seatService.reserveSeats(100L, List.of("1A", "1B"));
+
+        // Then
+        verify(seatInventory).reserveAll(100L, List.of("1A", "1B"));
+        verifyNoInteractions(seatRepository);
+    }
+
+    @Test
+    @DisplayName("좌석 일괄 생성 - 호차/열/좌석 열 순서의 좌석 번호로 없는 좌석만 생성")
+    void provisionSeats_Success() {
+        // Given
+        SeatProvisionRequestDTO request = new SeatProvisionRequestDTO(100L, 2, 3, List.of("A", "B"));
+        when(seatRepository.insertMissing(eq(100L), anyList())).thenReturn(12);
+
+        // When
+        SeatProvisionResponseDTO response = seatService.provisionSeats(request);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+        verify(seatRepository).insertMissing(eq(100L), captor.capture());
+        assertThat(captor.getValue()).hasSize(12)
+                .startsWith("1-1A", "1-1B", "1-2A")
+                .endsWith("2-3B");
+        assertThat(response.getRequested()).isEqualTo(12);
+        assertThat(response.getCreated()).isEqualTo(12);
+        verify(seatInventory).evict(100L);
     }
 
     @Test
-    @DisplayName("좌석 ID로 취소 실패 - 예약되지 않음")
-    void cancelSeat_ById_Fail_NotReserved() {
+    @DisplayName("좌석 일괄 생성 - 이미 모두 있으면 생성 없이 비트맵 유지")
+    void provisionSeats_AlreadyProvisioned() {
         // Given
-        Long seatId = 1L;
-        Seat seat = createSeat(seatId, "1A", 100L, false);
+        SeatProvisionRequestDTO request = new SeatProvisionRequestDTO(100L, 1, 2, List.of("A"));
+        when(seatRepository.insertMissing(eq(100L), anyList())).thenReturn(0);
 
-        when(seatRepository.findById(seatId)).thenReturn(Optional.of(seat));
+        // When
+        SeatProvisionResponseDTO response = seatService.provisionSeats(request);
+
+        // Then
+        assertThat(response.getRequested()).isEqualTo(2);
+        assertThat(response.getCreated()).isZero();
+        verify(seatInventory, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("좌석 일괄 생성 실패 - 잘못된 배치 정보")
+    void provisionSeats_Fail_InvalidLayout() {
+        for (SeatProvisionRequestDTO request : List.of(
+                new SeatProvisionRequestDTO(null, 1, 1, List.of("A")),
+                new SeatProvisionRequestDTO(100L, 0, 1, List.of("A")),
+                new SeatProvisionRequestDTO(100L, 1, 0, List.of("A")),
+                new SeatProvisionRequestDTO(100L, 1, 1, null),
+                new SeatProvisionRequestDTO(100L, 1, 1, List.of()),
+                new SeatProvisionRequestDTO(100L, 1, 1, List.of(" ")),
+                new SeatProvisionRequestDTO(100L, 1, 1, List.of("A", "A")))) {
+            assertThatThrownBy(() -> seatService.provisionSeats(request))
+                    .isInstanceOf(ApiException.class)
+                    .hasMessage("좌석 배치 정보가 올바르지 않습니다.");
+        }
+        verifyNoInteractions(seatRepository, seatInventory);
+    }
+
+    @Test
+    @DisplayName("좌석 일괄 생성 실패 - 최대 좌석 수 초과")
+    void provisionSeats_Fail_TooManySeats() {
+        // Given
+        SeatProvisionRequestDTO request = new SeatProvisionRequestDTO(100L, 100, 100, List.of("A", "B", "C"));
 
         // When & Then
-        assertThatThrownBy(() -> seatService.cancelSeat(seatId))
+        assertThatThrownBy(() -> seatService.provisionSeats(request))
                 .isInstanceOf(ApiException.class)
-                .hasMessage("예약되지 않은 좌석입니다.");
+                .hasMessage("한 번에 생성할 수 있는 좌석은 최대 20000석입니다.");
+        verifyNoInteractions(seatRepository);
     }
 
     @Test
-    @DisplayName("열차 ID와 좌석번호로 예약 성공")
-    void reserveSeat_ByTrainIdAndSeatNumber_Success() {
+    @DisplayName("좌석 일괄 생성 실패 - 같은 열차를 동시에 생성하다 중복 키 충돌")
+    void provisionSeats_Fail_Concurrent() {
         // Given
-        Long trainId = 100L;
-        String seatNumber = "1A";
-        Seat seat = createSeat(1L, seatNumber, trainId, false);
+        SeatProvisionRequestDTO request = new SeatProvisionRequestDTO(100L, 1, 1, List.of("A"));
+        when(seatRepository.insertMissing(eq(100L), anyList())).thenThrow(new DuplicateKeyException("uk_seats_train_id_seat_number"));
 
-        when(seatRepository.findByTrainIdAndSeatNumber(trainId, seatNumber))
-                .thenReturn(Optional.of(seat));
+        // When & Then
+        assertThatThrownBy(() -> seatService.provisionSeats(request))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("같은 열차의 좌석 생성이 진행 중입니다. 잠시 후 다시 시도해주세요.");
+        verify(seatInventory, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("좌석 배치 템플릿 생성 - 템플릿과 호차 구성 저장")
+    void createLayoutTemplate_Success() {
+        // Given
+        LayoutTemplateRequestDTO request = new LayoutTemplateRequestDTO("KTX-산천", List.of(
+                new LayoutTemplateRequestDTO.Car(1, 9, List.of("A", "B", "C"), SeatClass.FIRST, null, null, null, false, false),
+                new LayoutTemplateRequestDTO.Car(2, 14, List.of("A", "B", "C", "D"), SeatClass.STANDARD,
+                        List.of("A", "D"), List.of("B", "C"), 8, true, true)));
+        when(layoutTemplateRepository.save(any(LayoutTemplate.class))).thenAnswer(invocation -> {
+            LayoutTemplate template = invocation.getArgument(0);
+            ReflectionTestUtils.setField(template, "id", 5L);
+            return template;
+        });
 
         // When
-        seatService.reserveSeat(trainId, seatNumber);
+        LayoutTemplateResponseDTO response = seatService.createLayoutTemplate(request);
 
         // Then
-        assertThat(seat.isReserved()).isTrue();
-        verify(seatRepository).findByTrainIdAndSeatNumber(trainId, seatNumber);
+        assertThat(response.getId()).isEqualTo(5L);
+        assertThat(response.getName()).isEqualTo("KTX-산천");
+        assertThat(response.getCars()).isEqualTo(2);
+        assertThat(response.getSeatCount()).isEqualTo(9 * 3 + 14 * 4);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LayoutTemplateCar>> captor = ArgumentCaptor.forClass(List.class);
+        verify(layoutTemplateCarRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(LayoutTemplateCar::getTemplateId).containsOnly(5L);
+        assertThat(captor.getValue().get(0).getSeatColumns()).isEqualTo("A,B,C");
+        assertThat(captor.getValue().get(1).getColumns()).containsExactly("A", "B", "C", "D");
+        assertThat(captor.getValue().get(1).getSeatClass()).isEqualTo(SeatClass.STANDARD);
+        assertThat(captor.getValue().get(1).isWindow("D")).isTrue();
+        assertThat(captor.getValue().get(1).isAisle("D")).isFalse();
+        assertThat(captor.getValue().get(1).isForwardFacing(8)).isFalse();
+        assertThat(captor.getValue().get(1).isQuietCar()).isTrue();
+        assertThat(captor.getValue().get(0).isWindow("A")).isFalse();
+        assertThat(captor.getValue().get(0).isForwardFacing(9)).isTrue();
+        verifyNoInteractions(seatRepository);
     }
 
     @Test
-    @DisplayName("열차 ID와 좌석번호로 예약 실패 - 좌석 없음")
-    void reserveSeat_ByTrainIdAndSeatNumber_Fail_SeatNotFound() {
+    @DisplayName("좌석 배치 템플릿 생성 실패 - 잘못된 배치 정보")
+    void createLayoutTemplate_Fail_InvalidLayout() {
+        LayoutTemplateRequestDTO.Car car = new LayoutTemplateRequestDTO.Car(1, 10, List.of("A"), SeatClass.STANDARD, null, null, null, false, false);
+        for (LayoutTemplateRequestDTO request : List.of(
+                new LayoutTemplateRequestDTO(null, List.of(car)),
+                new LayoutTemplateRequestDTO(" ", List.of(car)),
+                new LayoutTemplateRequestDTO("KTX", null),
+                new LayoutTemplateRequestDTO("KTX", List.of()),
+                new LayoutTemplateRequestDTO("KTX", List.of(new LayoutTemplateRequestDTO.Car(0, 10, List.of("A"), SeatClass.STANDARD, null, null, null, false, false))),
+                new LayoutTemplateRequestDTO("KTX", List.of(new LayoutTemplateRequestDTO.Car(1, 0, List.of("A"), SeatClass.STANDARD, null, null, null, false, false))),
+                new LayoutTemplateRequestDTO("KTX", List.of(new LayoutTemplateRequestDTO.Car(1, 10, List.of("A,B"), SeatClass.STANDARD, null, null, null, false, false))),
+                new LayoutTemplateRequestDTO("KTX", List.of(new LayoutTemplateRequestDTO.Car(1, 10, List.of("A"), null, null, null, null, false, false))),
+                new LayoutTemplateRequestDTO("KTX", List.of(new LayoutTemplateRequestDTO.Car(1, 10, List.of("A"), SeatClass.STANDARD, List.of("D"), null, null, false, false))),
+                new LayoutTemplateRequestDTO("KTX", List.of(new LayoutTemplateRequestDTO.Car(1, 10, List.of("A"), SeatClass.STANDARD, null, List.of("B"), null, false, false))),
+                new LayoutTemplateRequestDTO("KTX", List.of(new LayoutTemplateRequestDTO.Car(1, 10, List.of("A"), SeatClass.STANDARD, null, null, 11, false, false))),
+                new LayoutTemplateRequestDTO("KTX", List.of(new LayoutTemplateRequestDTO.Car(1, 10, List.of("A"), SeatClass.STANDARD, null, null, 0, false, false))),
+                new LayoutTemplateRequestDTO("KTX", List.of(car, car)))) {
+            assertThatThrownBy(() -> seatService.createLayoutTemplate(request))
+                    .isInstanceOf(ApiException.class)
+                    .hasMessage("좌석 배치 정보가 올바르지 않습니다.");
+        }
+        verifyNoInteractions(layoutTemplateRepository, layoutTemplateCarRepository);
+    }
+
+    @Test
+    @DisplayName("좌석 배치 템플릿 생성 실패 - 최대 좌석 수 초과")
+    void createLayoutTemplate_Fail_TooManySeats() {
         // Given
-        Long trainId = 100L;
-        String seatNumber = "1A";
+        LayoutTemplateRequestDTO request = new LayoutTemplateRequestDTO("KTX", List.of(
+                new LayoutTemplateRequestDTO.Car(1, 10_001, List.of("A", "B"), SeatClass.STANDARD, null, null, null, false, false)));
 
-        when(seatRepository.findByTrainIdAndSeatNumber(trainId, seatNumber))
-                .thenReturn(Optional.empty());
+        // When & Then
+        assertThatThrownBy(() -> seatService.createLayoutTemplate(request))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("좌석 배치 템플릿의 좌석은 최대 20000석입니다.");
+        verifyNoInteractions(layoutTemplateRepository);
+    }
+
+    @Test
+    @DisplayName("좌석 배치 템플릿 생성 실패 - 같은 이름의 템플릿 존재")
+    void createLayoutTemplate_Fail_DuplicateName() {
+        // Given
+        LayoutTemplateRequestDTO request = new LayoutTemplateRequestDTO("KTX", List.of(
+                new LayoutTemplateRequestDTO.Car(1, 10, List.of("A"), SeatClass.STANDARD, null, null, null, false, false)));
+        when(layoutTemplateRepository.existsByName("KTX")).thenReturn(true);
 
         // When & Then
-        assertThatThrownBy(() -> seatService.reserveSeat(trainId, seatNumber))
+        assertThatThrownBy(() -> seatService.createLayoutTemplate(request))
                 .isInstanceOf(ApiException.class)
-                .hasMessage("좌석이 존재하지 않습니다.");
+                .hasMessage("이미 존재하는 좌석 배치 템플릿입니다.");
+        verify(layoutTemplateRepository, never()).save(any());
     }
 
     @Test
-    @DisplayName("열차 ID와 좌석번호로 예약 실패 - 이미 예약됨")
-    void reserveSeat_ByTrainIdAndSeatNumber_Fail_AlreadyReserved() {
+    @DisplayName("열차에 좌석 배치 템플릿 지정 - 매핑 한 행 저장 후 비트맵 다시 적재")
+    void assignLayoutTemplate_Success() {
         // Given
-        Long trainId = 100L;
-        String seatNumber = "1A";
-        Seat seat = createSeat(1L, seatNumber, trainId, true);
+        when(layoutTemplateRepository.existsById(5L)).thenReturn(true);
+        when(trainLayoutRepository.existsById(100L)).thenReturn(false);
+
+        // When
+        seatService.assignLayoutTemplate(5L, 100L);
+
+        // Then
+        ArgumentCaptor<TrainLayout> captor = ArgumentCaptor.forClass(TrainLayout.class);
+        verify(trainLayoutRepository).save(captor.capture());
+        assertThat(captor.getValue().getTrainId()).isEqualTo(100L);
+        assertThat(captor.getValue().getTemplateId()).isEqualTo(5L);
+        verify(seatInventory).evict(100L);
+        verifyNoInteractions(seatRepository);
+    }
 
-        when(seatRepository.findByTrainIdAndSeatNumber(trainId, seatNumber))
-                .thenReturn(Optional.of(seat));
+    @Test
+    @DisplayName("좌석 배치 템플릿 지정 실패 - 템플릿 없음")
+    void assignLayoutTemplate_Fail_TemplateNotFound() {
+        // Given
+        when(layoutTemplateRepository.existsById(5L)).thenReturn(false);
 
         // When & Then
-        assertThatThrownBy(() -> seatService.reserveSeat(trainId, seatNumber))
+        assertThatThrownBy(() -> seatService.assignLayoutTemplate(5L, 100L))
                 .isInstanceOf(ApiException.class)
-                .hasMessage("이미 예약된 좌석입니다.");
+                .hasMessage("좌석 배치 템플릿이 존재하지 않습니다.");
+        verify(trainLayoutRepository, never()).save(any());
     }
 
     @Test
-    @DisplayName("열차 ID와 좌석번호로 취소 성공")
-    void cancelSeat_ByTrainIdAndSeatNumber_Success() {
+    @DisplayName("좌석 배치 템플릿 지정 실패 - 이미 지정된 열차 (동시 지정 포함)")
+    void assignLayoutTemplate_Fail_AlreadyAssigned() {
         // Given
-        Long trainId = 100L;
-        String seatNumber = "1A";
-        Seat seat = createSeat(1L, seatNumber, trainId, true);
+        when(layoutTemplateRepository.existsById(5L)).thenReturn(true);
+        when(trainLayoutRepository.existsById(100L)).thenReturn(true, false);
+        when(trainLayoutRepository.save(any(TrainLayout.class)))
+                .thenThrow(new DataIntegrityViolationException("PRIMARY"));
+
+        // When & Then
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> seatService.assignLayoutTemplate(5L, 100L))
+                    .isInstanceOf(ApiException.class)
+                    .hasMessage("이미 좌석 배치 템플릿이 지정된 열차입니다.");
+        }
+        verify(trainLayoutRepository).save(any(TrainLayout.class));
+        verify(seatInventory, never()).evict(any());
+    }
 
-        when(seatRepository.findByTrainIdAndSeatNumber(trainId, seatNumber))
-                .thenReturn(Optional.of(seat));
+    @Test
+    @DisplayName("좌석 속성 검색 - 조건에 맞는 빈 좌석 수와 앞에서부터 limit석")
+    void searchSeats_Success() {
+        // Given
+        List<SeatAttribute> attributes = List.of(SeatAttribute.WINDOW, SeatAttribute.QUIET_CAR);
+        when(seatInventory.search(100L, attributes, 3, 5)).thenReturn(List.of("3-1A", "3-1D", "4-1A"));
 
         // When
-        seatService.cancelSeat(trainId, seatNumber);
+        SeatSearchResponseDTO response = seatService.searchSeats(100L, attributes, 3, 5, 2);
 
         // Then
-        assertThat(seat.isReserved()).isFalse();
-        verify(seatRepository).findByTrainIdAndSeatNumber(trainId, seatNumber);
+        assertThat(response.getTrainId()).isEqualTo(100L);
+        assertThat(response.getCount()).isEqualTo(3);
+        assertThat(response.getSeatNumbers()).containsExactly("3-1A", "3-1D");
     }
 
     @Test
-    @DisplayName("열차 ID와 좌석번호로 취소 실패 - 좌석 없음")
-    void cancelSeat_ByTrainIdAndSeatNumber_Fail_SeatNotFound() {
+    @DisplayName("좌석 속성 검색 - 조건이 없으면 범위 안의 모든 빈 좌석")
+    void searchSeats_NoAttributes() {
         // Given
-        Long trainId = 100L;
-        String seatNumber = "1A";
+        when(seatInventory.search(100L, List.of(), null, null)).thenReturn(List.of("1-1A"));
 
-        when(seatRepository.findByTrainIdAndSeatNumber(trainId, seatNumber))
-                .thenReturn(Optional.empty());
+        // When
+        SeatSearchResponseDTO response = seatService.searchSeats(100L, null, null, null, 50);
+
+        // Then
+        assertThat(response.getCount()).isEqualTo(1);
+        assertThat(response.getSeatNumbers()).containsExactly("1-1A");
+    }
+
+    @Test
+    @DisplayName("좌석 속성 검색 실패 - limit 범위 밖")
+    void searchSeats_Fail_InvalidLimit() {
+        for (int limit : new int[]{0, 201}) {
+            assertThatThrownBy(() -> seatService.searchSeats(100L, List.of(), null, null, limit))
+                    .isInstanceOf(ApiException.class)
+                    .hasMessage("한 번에 조회할 수 있는 좌석은 1~200석입니다.");
+        }
+        verifyNoInteractions(seatInventory);
+    }
+
+    @Test
+    @DisplayName("좌석 자동 배정 성공 - 좌석별 선점 토큰 발급, 만료 스케줄 등록, 선점 이벤트 발행")
+    void assignSeats_Success() {
+        // Given
+        Map<String, String> holdTokens = new LinkedHashMap<>();
+        holdTokens.put("3-5A", "token-a");
+        holdTokens.put("3-5B", "token-b");
+        when(seatInventory.assign(eq(100L), eq(2), eq(true), any(LocalDateTime.class))).thenReturn(holdTokens);
+
+        // When
+        SeatAssignmentResponseDTO response = seatService.assignSeats(100L, 2, true);
 
+        // Then
+        assertThat(response.getTrainId()).isEqualTo(100L);
+        assertThat(response.getSeatNumbers()).containsExactly("3-5A", "3-5B");
+        assertThat(response.getHolds()).extracting(SeatHoldResponseDTO::getHoldToken).containsExactly("token-a", "token-b");
+        assertThat(response.getExpiresAt()).isAfter(LocalDateTime.now().plusMinutes(9));
+        verify(seatInventory).assign(100L, 2, true, response.getExpiresAt());
+        verify(seatHoldExpiry).schedule(100L, "3-5A", response.getExpiresAt());
+        verify(seatHoldExpiry).schedule(100L, "3-5B", response.getExpiresAt());
+        verify(rabbitTemplate, times(2)).convertAndSend(eq(RabbitMQConfig.SEAT_EXCHANGE), eq("seat.held"), any(SeatHeldEvent.class));
+        verify(seatInventory, never()).reserveAll(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("좌석 자동 배정 실패 - 인원수 범위 초과")
+    void assignSeats_Fail_InvalidCount() {
         // When & Then
-        assertThatThrownBy(() -> seatService.cancelSeat(trainId, seatNumber))
+        assertThatThrownBy(() -> seatService.assignSeats(100L, 0, true))
                 .isInstanceOf(ApiException.class)
-                .hasMessage("좌석이 존재하지 않습니다.");
+                .hasMessage("한 번에 배정할 수 있는 좌석은 1~6석입니다.");
+        assertThatThrownBy(() -> seatService.assignSeats(100L, 7, false))
+                .isInstanceOf(ApiException.class);
+        verifyNoInteractions(seatInventory);
+    }
+
+    @Test
+    @DisplayName("좌석 선점 성공 - 토큰 발급, 만료 스케줄 등록, 선점 이벤트 발행")
+    void holdSeat_Success() {
+        // When
+        SeatHoldResponseDTO response = seatService.holdSeat(100L, "1A");
+
+        // Then
+        assertThat(response.getHoldToken()).isNotBlank();
+        assertThat(response.getExpiresAt()).isAfter(LocalDateTime.now().plusMinutes(9));
+        verify(seatInventory).hold(100L, "1A", response.getHoldToken(), response.getExpiresAt());
+        verify(seatHoldExpiry).schedule(100L, "1A", response.getExpiresAt());
+        ArgumentCaptor<SeatHeldEvent> captor = ArgumentCaptor.forClass(SeatHeldEvent.class);
+        verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.SEAT_EXCHANGE), eq("seat.held"), captor.capture());
+        assertThat(captor.getValue().getHoldToken()).isEqualTo(response.getHoldToken());
     }
 
     @Test
-    @DisplayName("열차 ID와 좌석번호로 취소 실패 - 예약되지 않음")
-    void cancelSeat_ByTrainIdAndSeatNumber_Fail_NotReserved() {
+    @DisplayName("좌석 선점 실패 - 이미 예약된 좌석은 스케줄/이벤트 없음")
+    void holdSeat_Fail_AlreadyTaken() {
         // Given
-        Long trainId = 100L;
-        String seatNumber = "1A";
-        Seat seat = createSeat(1L, seatNumber, trainId, false);
+        doThrow(new ApiException("이미 예약된 좌석입니다."))
+                .when(seatInventory).hold(eq(100L), eq("1A"), anyString(), any());
 
-        when(seatRepository.findByTrainIdAndSeatNumber(trainId, seatNumber))
-                .thenReturn(Optional.of(seat));
+        // When & Then
+        assertThatThrownBy(() -> seatService.holdSeat(100L, "1A"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("이미 예약된 좌석입니다.");
+        verifyNoInteractions(seatHoldExpiry, rabbitTemplate);
+    }
+
+    @Test
+    @DisplayName("선점 확정 성공 - 확정 이벤트 발행")
+    void confirmHold_Success() {
+        // Given
+        Seat seat = createSeat(1L, "1A", 100L, true);
+        when(seatRepository.findByHoldToken("token")).thenReturn(Optional.of(seat));
+
+        // When
+        seatService.confirmHold("token");
+
+        // Then
+        verify(seatInventory).confirmHold(100L, "1A", "token");
+        verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.SEAT_EXCHANGE), eq("seat.hold-confirmed"),
+                any(SeatHoldConfirmedEvent.class));
+    }
+
+    @Test
+    @DisplayName("선점 해제 성공 - 해제 이벤트 발행")
+    void releaseHold_Success() {
+        // Given
+        Seat seat = createSeat(1L, "1A", 100L, true);
+        when(seatRepository.findByHoldToken("token")).thenReturn(Optional.of(seat));
+
+        // When
+        seatService.releaseHold("token");
+
+        // Then
+        verify(seatInventory).releaseHold(100L, "1A", "token");
+        ArgumentCaptor<SeatHoldReleasedEvent> captor = ArgumentCaptor.forClass(SeatHoldReleasedEvent.class);
+        verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.SEAT_EXCHANGE), eq("seat.hold-released"), captor.capture());
+        assertThat(captor.getValue().getSeatNumbers()).containsExactly("1A");
+        assertThat(captor.getValue().getReason()).isEqualTo("RELEASED");
+    }
+
+    @Test
+    @DisplayName("선점 확정/해제 실패 - 없는 토큰")
+    void holdToken_NotFound() {
+        // Given
+        when(seatRepository.findByHoldToken("unknown")).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> seatService.cancelSeat(trainId, seatNumber))
+        assertThatThrownBy(() -> seatService.confirmHold("unknown"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("유효하지 않거나 만료된 좌석 선점입니다.");
+        assertThatThrownBy(() -> seatService.releaseHold("unknown"))
                 .isInstanceOf(ApiException.class)
-                .hasMessage("예약되지 않은 좌석입니다.");
+                .hasMessage("유효하지 않거나 만료된 좌석 선점입니다.");
+        verifyNoInteractions(seatInventory, rabbitTemplate);
     }
 
     private Seat createSeat(Long id, String seatNumber, Long trainId, boolean reserved) {
@@ -0,0 +1,292 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.global.exception.ApiException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatStreamHubTest {
+
+    @Mock
+    private SeatInventory seatInventory;
+
+    private SeatStreamHub hub;
+    private SeatBitmap bitmap;
+
+    @BeforeEach
+    void setUp() {
+        // 전송을 호출 스레드에서 바로 실행
+        hub = new SeatStreamHub(seatInventory, new ObjectMapper(), Runnable::run, 4, Duration.ofMinutes(30));
+        bitmap = SeatBitmap.of(createSeats(100L, 10));
+    }
+
+    @Test
+    @DisplayName("구독하면 현재 좌석 맵을 먼저 전송")
+    void subscribe_SendsSeatMap() {
+        // Given
+        bitmap.tryReserve(0);
+        when(seatInventory.bitmap(100L)).thenReturn(bitmap);
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        hub.subscribe(100L, emitter);
+
+        // Then
+        assertThat(emitter.events).hasSize(1);
+        assertThat(emitter.events.get(0))
+                .startsWith("event:map")
+                .contains("\"seatCount\":10")
+                .contains("\"encoding\":\"bitmap-base64\"");
+        assertThat(hub.subscribers()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주기 안의 변경을 모아 한 번에 전송 - 예약 후 취소된 좌석은 제외")
+    void publish_CoalescesChanges() {
+        // Given
+        bitmap.tryReserve(9);
+        when(seatInventory.bitmap(100L)).thenReturn(bitmap);
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        hub.subscribe(100L, first);
+        hub.subscribe(100L, second);
+
+        bitmap.tryReserve(0);
+        bitmap.tryReserve(1);
+        bitmap.tryRelease(1);
+        bitmap.tryRelease(9);
+
+        // When
+        hub.publish();
+
+        // Then
+        for (RecordingEmitter emitter : List.of(first, second)) {
+            assertThat(emitter.events).hasSize(2);
+            assertThat(emitter.events.get(1))
+                    .startsWith("event:seats")
+                    .contains("\"reserved\":[\"S1\"]")
+                    .contains("\"released\":[\"S10\"]");
+        }
+    }
+
+    @Test
+    @DisplayName("바뀐 좌석이 없으면 전송 없음")
+    void publish_NoChanges() {
+        // Given
+        when(seatInventory.bitmap(100L)).thenReturn(bitmap);
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(100L, emitter);
+
+        // When - 변경 없음, 이후 결과가 같은 변경
+        hub.publish();
+        bitmap.tryReserve(3);
+        bitmap.tryRelease(3);
+        hub.publish();
+
+        // Then
+        assertThat(emitter.events).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("비트맵이 다시 적재되면 좌석 맵 전체를 다시 전송")
+    void publish_BitmapReloaded() {
+        // Given
+        when(seatInventory.bitmap(100L)).thenReturn(bitmap);
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(100L, emitter);
+        SeatBitmap reloaded = SeatBitmap.of(createSeats(100L, 12));
+        when(seatInventory.bitmap(100L)).thenReturn(reloaded);
+
+        // When
+        hub.publish();
+
+        // Then
+        assertThat(emitter.events).hasSize(2);
+        assertThat(emitter.events.get(1)).startsWith("event:map").contains("\"seatCount\":12");
+    }
+
+    @Test
+    @DisplayName("좌석 정보를 읽지 못한 주기는 건너뛰고 다음 주기에 전송")
+    void publish_SkipsOnFailure() {
+        // Given
+        when(seatInventory.bitmap(100L)).thenReturn(bitmap);
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(100L, emitter);
+        bitmap.tryReserve(0);
+        when(seatInventory.bitmap(100L))
+                .thenThrow(new DataAccessResourceFailureException("db down"))
+                .thenReturn(SeatBitmap.of(List.of()))
+                .thenReturn(bitmap);
+
+        // When
+        hub.publish();
+        hub.publish();
+        hub.publish();
+
+        // Then
+        assertThat(emitter.events).hasSize(2);
+        assertThat(emitter.events.get(1)).contains("\"reserved\":[\"S1\"]");
+    }
+
+    @Test
+    @DisplayName("전송 큐가 가득 찬 느린 구독자는 연결을 끊음")
+    void slowSubscriber_Evicted() {
+        // Given - 전송 스레드가 돌지 않아 큐가 비워지지 않음, 큐 크기 2
+        List<Runnable> stalled = new ArrayList<>();
+        hub = new SeatStreamHub(seatInventory, new ObjectMapper(), stalled::add, 2, Duration.ofMinutes(30));
+        when(seatInventory.bitmap(100L)).thenReturn(bitmap);
+        RecordingEmitter slow = new RecordingEmitter();
+        hub.subscribe(100L, slow);
+
+        // When - 좌석 맵 + 변경 2회
+        bitmap.tryReserve(0);
+        hub.publish();
+        bitmap.tryReserve(1);
+        hub.publish();
+
+        // Then
+        assertThat(hub.subscribers()).isZero();
+        assertThat(slow.completed).isTrue();
+        assertThat(stalled).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 구독자(연결 끊김)는 제거")
+    void brokenSubscriber_Removed() {
+        // Given
+        when(seatInventory.bitmap(100L)).thenReturn(bitmap);
+        RecordingEmitter healthy = new RecordingEmitter();
+        RecordingEmitter broken = new RecordingEmitter();
+        hub.subscribe(100L, healthy);
+        hub.subscribe(100L, broken);
+        broken.failing = true;
+
+        // When
+        bitmap.tryReserve(0);
+        hub.publish();
+
+        // Then
+        assertThat(hub.subscribers()).isEqualTo(1);
+        assertThat(broken.completed).isTrue();
+        assertThat(healthy.events).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("마지막 구독자가 나간 열차는 채널을 닫고, 다시 구독하면 새로 연다")
+    void channel_ReopenedAfterLastSubscriberLeaves() {
+        // Given
+        when(seatInventory.bitmap(100L)).thenReturn(bitmap);
+        RecordingEmitter broken = new RecordingEmitter();
+        hub.subscribe(100L, broken);
+        broken.failing = true;
+        bitmap.tryReserve(0);
+        hub.publish();
+        assertThat(hub.subscribers()).isZero();
+
+        // When
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(100L, emitter);
+
+        // Then
+        assertThat(hub.subscribers()).isEqualTo(1);
+        assertThat(emitter.events.get(0)).startsWith("event:map");
+    }
+
+    @Test
+    @DisplayName("좌석이 없는 열차는 구독 불가")
+    void subscribe_Fail_NoSeats() {
+        // Given
+        when(seatInventory.bitmap(999L)).thenReturn(SeatBitmap.of(List.of()));
+
+        // When & Then
+        assertThatThrownBy(() -> hub.subscribe(999L))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("해당 열차의 좌석 정보가 존재하지 않습니다.");
+        assertThat(hub.subscribers()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 모든 연결을 닫고 전송 스레드 정리")
+    void close() {
+        // Given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        hub = new SeatStreamHub(seatInventory, new ObjectMapper(), executor, 4, Duration.ofMinutes(30));
+        when(seatInventory.bitmap(100L)).thenReturn(bitmap);
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(100L, emitter);
+
+        // When
+        hub.close();
+
+        // Then
+        assertThat(emitter.completed).isTrue();
+        assertThat(executor.isShutdown()).isTrue();
+    }
+
+    @Test
+    @DisplayName("기본 구독은 설정된 타임아웃의 emitter를 생성")
+    void subscribe_CreatesEmitter() {
+        // Given
+        when(seatInventory.bitmap(100L)).thenReturn(bitmap);
+
+        // When
+        SseEmitter emitter = hub.subscribe(100L);
+
+        // Then
+        assertThat(emitter.getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+        assertThat(hub.subscribers()).isEqualTo(1);
+    }
+
+    private List<Seat> createSeats(Long trainId, int count) {
+        List<Seat> seats = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Seat seat = Seat.builder().seatNumber("S" + i).trainId(trainId).build();
+            ReflectionTestUtils.setField(seat, "id", (long) i);
+            seats.add(seat);
+        }
+        return seats;
+    }
+
+    // 보낸 이벤트를 "event:이름\ndata:내용" 문자열로 기록
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+        private boolean failing;
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("broken pipe");
+            }
+            events.add(builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.ktcloudinfra.seatservice.service;
+
+import com.ktcloudinfra.seatservice.entity.Seat;
+import com.ktcloudinfra.seatservice.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatWriteBehindTest {
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SeatWriteBehind writeBehind;
+    private SeatBitmap bitmap;
+
+    @BeforeEach
+    void setUp() {
+        writeBehind = new SeatWriteBehind(seatRepository, transactionManager, 2);
+        List<Seat> seats = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            Seat seat = Seat.builder().seatNumber("S" + i).trainId(100L).build();
+            ReflectionTestUtils.setField(seat, "id", (long) i);
+            seats.add(seat);
+        }
+        bitmap = SeatBitmap.of(seats);
+    }
+
+    @Test
+    @DisplayName("변경된 좌석을 배치로 반영 - 예약/해제를 각각 한 번의 UPDATE로")
+    void flush_GroupsByState() {
+        // Given
+        bitmap.tryReserve(0);
+        writeBehind.enqueue(bitmap, 0);
+        writeBehind.enqueue(bitmap, 1);
+        bitmap.tryReserve(2);
+        writeBehind.enqueue(bitmap, 2);
+
+        // When
+        writeBehind.flush();
+
+        // Then
+        verify(seatRepository).updateReserved(List.of(1L), true);
+        verify(seatRepository).updateReserved(List.of(2L), false);
+        verify(seatRepository).updateReserved(List.of(3L), true);
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(writeBehind.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 좌석의 여러 변경은 반영 시점의 최종 상태 하나로 기록")
+    void flush_WritesLatestState() {
+        // Given - 예약 후 취소
+        bitmap.tryReserve(0);
+        writeBehind.enqueue(bitmap, 0);
+        bitmap.tryRelease(0);
+        writeBehind.enqueue(bitmap, 0);
+
+        // When
+        writeBehind.flush();
+
+        // Then
+        verify(seatRepository).updateReserved(List.of(1L), false);
+        verify(seatRepository, never()).updateReserved(anyCollection(), eq(true));
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 다음 주기에 재시도")
+    void flush_RetriesOnFailure() {
+        // Given
+        bitmap.tryReserve(3);
+        writeBehind.enqueue(bitmap, 3);
+        when(seatRepository.updateReserved(anyCollection(), anyBoolean()))
+                .thenThrow(new DataAccessResourceFailureException("db down"))
+                .thenReturn(1);
+
+        // When
+        writeBehind.flush();
+
+        // Then
+        assertThat(writeBehind.pending()).isEqualTo(1);
+
+        // When - 재시도
+        writeBehind.drain();
+
+        // Then
+        verify(seatRepository, times(2)).updateReserved(List.of(4L), true);
+        assertThat(writeBehind.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영할 변경이 없으면 DB 접근 없음")
+    void flush_Empty() {
+        // When
+        writeBehind.flush();
+
+        // Then
+        verifyNoInteractions(seatRepository, transactionManager);
+    }
+}
@@ -2,8 +2,10 @@ package com.ktcloudinfra.trainservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class TrainServiceApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(TrainServiceApplication.class, args);
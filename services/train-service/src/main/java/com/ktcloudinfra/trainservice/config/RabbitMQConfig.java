@@ -1,10 +1,16 @@
 package com.ktcloudinfra.trainservice.config;
 
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,14 +18,25 @@ import org.springframework.context.annotation.Configuration;
 public class RabbitMQConfig {
 
     public static final String RESERVATION_EXCHANGE = "reservation.exchange";
-    public static final String RESERVATION_REQUESTED_QUEUE = "reservation.requested.queue";
-    public static final String RESERVATION_CANCELLED_QUEUE = "reservation.cancelled.queue";
+    // seat-service와 같은 큐를 쓰면 메시지를 나눠 가지므로(competing consumers) 서비스 전용 큐 사용
+    public static final String RESERVATION_REQUESTED_QUEUE = "train.reservation-requested.queue";
+    public static final String RESERVATION_CANCELLED_QUEUE = "train.reservation-cancelled.queue";
+    public static final String RESERVATION_GROUP_REQUESTED_QUEUE = "train.reservation-group-requested.queue";
+    public static final String TRAIN_EXCHANGE = "train.exchange";
+    public static final String SEAT_EXCHANGE = "seat.exchange";
+    public static final String SEAT_REJECTED_QUEUE = "train.seat-rejected.queue";
+    public static final String SEAT_DELTA_CONTAINER_FACTORY = "seatDeltaContainerFactory";
 
     @Bean
     public DirectExchange reservationExchange() {
         return new DirectExchange(RESERVATION_EXCHANGE);
     }
 
+    @Bean
+    public DirectExchange trainExchange() {
+        return new DirectExchange(TRAIN_EXCHANGE);
+    }
+
     @Bean
     public Queue reservationRequestedQueue() {
         return new Queue(RESERVATION_REQUESTED_QUEUE, true);
@@ -30,6 +47,11 @@ public class RabbitMQConfig {
         return new Queue(RESERVATION_CANCELLED_QUEUE, true);
     }
 
+    @Bean
+    public Queue reservationGroupRequestedQueue() {
+        return new Queue(RESERVATION_GROUP_REQUESTED_QUEUE, true);
+    }
+
     @Bean
     public Binding requestedBinding() {
         return BindingBuilder.bind(reservationRequestedQueue())
@@ -42,8 +64,44 @@ public class RabbitMQConfig {
             .to(reservationExchange()).with("reservation.cancelled");
     }
 
+    @Bean
+    public Binding groupRequestedBinding() {
+        return BindingBuilder.bind(reservationGroupRequestedQueue())
+            .to(reservationExchange()).with("reservation.group-requested");
+    }
+
+    @Bean
+    public DirectExchange seatExchange() {
+        return new DirectExchange(SEAT_EXCHANGE);
+    }
+
+    @Bean
+    public Queue seatRejectedQueue() {
+        return new Queue(SEAT_REJECTED_QUEUE, true);
+    }
+
+    @Bean
+    public Binding seatRejectedBinding() {
+        return BindingBuilder.bind(seatRejectedQueue())
+            .to(seatExchange()).with("seat.rejected");
+    }
+
     @Bean
     public Jackson2JsonMessageConverter messageConverter() {
         return new Jackson2JsonMessageConverter();
     }
+
+    // 잔여 좌석 증감 리스너 전용: SeatDeltaBuffer가 반영을 커밋한 뒤 직접 ack/nack 하므로 이 팩토리만 manual ack.
+    // 변환 실패 등 리스너 전후의 예외는 모두 fatal로 보고 재큐 없이 nack 해서 미확인 메시지가 prefetch를 막지 않게 함
+    @Bean(SEAT_DELTA_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory seatDeltaContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            @Value("${train.seat-buffer.prefetch:250}") int prefetch) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setPrefetchCount(prefetch);
+        factory.setErrorHandler(new ConditionalRejectingErrorHandler(t -> true));
+        return factory;
+    }
 }
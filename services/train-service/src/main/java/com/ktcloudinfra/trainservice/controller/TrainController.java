@@ -1,5 +1,6 @@
 package com.ktcloudinfra.trainservice.controller;
 
+import com.ktcloudinfra.trainservice.dto.request.TrainUpdateRequestDTO;
 import com.ktcloudinfra.trainservice.entity.Train;
 import com.ktcloudinfra.trainservice.service.TrainService;
 import lombok.RequiredArgsConstructor;
@@ -21,11 +22,23 @@ public class TrainController {
         return ResponseEntity.ok(trains);
     }
 
+    @GetMapping("/bulk")
+    public ResponseEntity<List<Train>> getTrains(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(trainService.getTrains(ids));
+    }
+
     @GetMapping("/{trainId}")
     public ResponseEntity<Train> getTrain(@PathVariable Long trainId) {
         return ResponseEntity.ok(trainService.getTrain(trainId));
     }
 
+    @PutMapping("/{trainId}")
+    public ResponseEntity<Train> updateTrain(
+            @PathVariable Long trainId,
+            @RequestBody TrainUpdateRequestDTO request) {
+        return ResponseEntity.ok(trainService.updateTrain(trainId, request));
+    }
+
     @PutMapping("/{trainId}/seats")
     public ResponseEntity<String> updateAvailableSeats(
             @PathVariable Long trainId,
@@ -33,4 +46,18 @@ public class TrainController {
         trainService.updateAvailableSeats(trainId, availableSeats);
         return ResponseEntity.ok("좌석 수 업데이트 완료");
     }
+
+    @PutMapping("/{trainId}/seat-stripes")
+    public ResponseEntity<String> enableSeatStripes(
+            @PathVariable Long trainId,
+            @RequestParam int stripes) {
+        trainService.enableSeatStripes(trainId, stripes);
+        return ResponseEntity.ok("분할 카운터 사용 설정 완료");
+    }
+
+    @DeleteMapping("/{trainId}/seat-stripes")
+    public ResponseEntity<String> disableSeatStripes(@PathVariable Long trainId) {
+        trainService.disableSeatStripes(trainId);
+        return ResponseEntity.ok("분할 카운터 사용 해제 완료");
+    }
 }
@@ -0,0 +1,15 @@
+package com.ktcloudinfra.trainservice.dto.request;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TrainUpdateRequestDTO {
+    private String name;
+    private int price;
+    private String departureStation;
+    private String arrivalStation;
+    private LocalDateTime departureTime;
+    private LocalDateTime arrivalTime;
+}
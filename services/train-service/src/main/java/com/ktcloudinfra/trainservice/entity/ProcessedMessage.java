@@ -0,0 +1,42 @@
+package com.ktcloudinfra.trainservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+// 잔여 좌석 증감에 반영한 메시지 (message id = 예약 서비스 아웃박스 행 id)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "processed_messages", indexes = {
+        @Index(name = "idx_processed_messages_processed_at", columnList = "processed_at")
+})
+public class ProcessedMessage implements Persistable<String> {
+
+    @Id
+    @Column(name = "message_id", length = 64)
+    private String messageId;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+    public ProcessedMessage(String messageId, LocalDateTime processedAt) {
+        this.messageId = messageId;
+        this.processedAt = processedAt;
+    }
+
+    @Override
+    public String getId() {
+        return messageId;
+    }
+
+    // 반영 전에 이미 처리한 id를 걸러내므로 항상 INSERT (저장 전 SELECT 없음, 같은 id가 겹치면 키 충돌로 롤백)
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
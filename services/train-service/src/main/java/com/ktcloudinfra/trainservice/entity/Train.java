@@ -1,10 +1,12 @@
 package com.ktcloudinfra.trainservice.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Formula;
 
 import java.time.LocalDateTime;
 
@@ -38,6 +40,15 @@ public class Train {
     @Column(name = "available_seats", nullable = false)
     private int availableSeats;
 
+    // 분할 카운터 stripe 수 (0 = available_seats 한 행 사용). 내부 저장 방식이므로 응답에는 넣지 않음
+    @JsonIgnore
+    @Column(name = "seat_stripes", nullable = false)
+    private int seatStripes;
+
+    @Getter(AccessLevel.NONE)
+    @Formula("(SELECT SUM(s.available_seats) FROM train_seat_stripes s WHERE s.train_id = id)")
+    private Integer stripedAvailableSeats;
+
     @Builder
     public Train(String name, int price, String departureStation, String arrivalStation,
                  LocalDateTime departureTime, LocalDateTime arrivalTime, int availableSeats) {
@@ -50,15 +61,36 @@ public class Train {
         this.availableSeats = availableSeats;
     }
 
+    public void updateDetails(String name, int price, String departureStation, String arrivalStation,
+                              LocalDateTime departureTime, LocalDateTime arrivalTime) {
+        this.name = name;
+        this.price = price;
+        this.departureStation = departureStation;
+        this.arrivalStation = arrivalStation;
+        this.departureTime = departureTime;
+        this.arrivalTime = arrivalTime;
+    }
+
+    // 분할 카운터를 쓰는 열차는 stripe 합계 (조회 시점 값)
+    public int getAvailableSeats() {
+        if (seatStripes > 0 && stripedAvailableSeats != null) {
+            return stripedAvailableSeats;
+        }
+        return availableSeats;
+    }
+
     public void updateAvailableSeats(int availableSeats) {
         this.availableSeats = availableSeats;
     }
 
-    public void decrementAvailableSeats() {
-        this.availableSeats--;
+    // 잔여 좌석은 stripe 행으로 옮겨 가므로 이 행의 값은 0
+    public void enableSeatStripes(int seatStripes) {
+        this.seatStripes = seatStripes;
+        this.availableSeats = 0;
     }
 
-    public void incrementAvailableSeats() {
-        this.availableSeats++;
+    public void disableSeatStripes(int availableSeats) {
+        this.seatStripes = 0;
+        this.availableSeats = availableSeats;
     }
 }
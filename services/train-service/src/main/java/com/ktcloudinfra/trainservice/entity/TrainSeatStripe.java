@@ -0,0 +1,39 @@
+package com.ktcloudinfra.trainservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 분할 카운터를 쓰는 열차의 잔여 좌석 일부 (열차의 잔여 좌석 = 모든 stripe의 합)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "train_seat_stripes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_train_seat_stripes_train_id_stripe", columnNames = {"train_id", "stripe"})
+})
+public class TrainSeatStripe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "train_id", nullable = false)
+    private Long trainId;
+
+    @Column(name = "stripe", nullable = false)
+    private int stripe;
+
+    @Column(name = "available_seats", nullable = false)
+    private int availableSeats;
+
+    public TrainSeatStripe(Long trainId, int stripe, int availableSeats) {
+        this.trainId = trainId;
+        this.stripe = stripe;
+        this.availableSeats = availableSeats;
+    }
+
+    public void updateAvailableSeats(int availableSeats) {
+        this.availableSeats = availableSeats;
+    }
+}
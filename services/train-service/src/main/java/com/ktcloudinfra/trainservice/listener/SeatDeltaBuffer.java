@@ -0,0 +1,213 @@
+package com.ktcloudinfra.trainservice.listener;
+
+import com.ktcloudinfra.trainservice.entity.ProcessedMessage;
+import com.ktcloudinfra.trainservice.global.exception.ApiException;
+import com.ktcloudinfra.trainservice.repository.ProcessedMessageRepository;
+import com.ktcloudinfra.trainservice.service.TrainService;
+import com.rabbitmq.client.Channel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 열차별 잔여 좌석 증감 이벤트를 모아 순증감(net delta)만 UPDATE 한 번으로 반영하는 버퍼.
+ * <ul>
+ *   <li>window 주기마다, 또는 한 열차에 max-events건이 쌓이면 반영한다. 인기 열차의 이벤트 수천 건이
+ *       같은 행의 트랜잭션 수천 개가 아니라 주기당 UPDATE 한 번이 된다.</li>
+ *   <li>메시지는 반영이 커밋된 뒤에만 ack 한다. 반영 전에 인스턴스가 죽으면 ack 되지 않은 메시지가 다시 배달되므로
+ *       증감을 잃거나 두 번 반영하지 않는다.</li>
+ *   <li>이벤트별로 처리할 때와 같은 매진 판정이 되도록, 도착 순서의 누적 증감이 가장 낮을 때(최저치)만큼
+ *       잔여 좌석이 있을 때만 모아서 반영한다: 최저치만큼 조건부 감소한 뒤 나머지를 증가한다.
+ *       누적이 음수로 내려가지 않으면(증가가 먼저) 확인 없이 순증가만 반영하고,
+ *       잔여 좌석이 최저치보다 적으면 모은 이벤트를 도착 순서대로 하나씩 반영한다.</li>
+ *   <li>예약 서비스 아웃박스는 최소 1회 발행이므로 같은 메시지가 다시 올 수 있다. 반영한 메시지 id를 반영과 같은
+ *       트랜잭션에 기록하고, 이미 기록된 id의 메시지는 반영하지 않고 ack 한다. 기록은 retention이 지나면 지운다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class SeatDeltaBuffer {
+
+    private final TrainService trainService;
+    private final ProcessedMessageRepository processedMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxEvents;
+    private final Duration retention;
+    private final Map<Long, List<Delta>> pending = new ConcurrentHashMap<>();
+
+    public SeatDeltaBuffer(TrainService trainService,
+                           ProcessedMessageRepository processedMessageRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${train.seat-buffer.max-events:200}") int maxEvents,
+                           @Value("${train.seat-buffer.processed-retention:1d}") Duration retention) {
+        this.trainService = trainService;
+        this.processedMessageRepository = processedMessageRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxEvents = maxEvents;
+        this.retention = retention;
+    }
+
+    // delta: 감소는 음수, 증가는 양수. messageId가 없으면(아웃박스를 거치지 않은 메시지) 중복을 거르지 않음.
+    // 반영 후 channel로 deliveryTag를 ack/nack
+    public void add(Long trainId, int delta, String messageId, Channel channel, long deliveryTag) {
+        List<Delta> full = null;
+        synchronized (this) {
+            List<Delta> deltas = pending.computeIfAbsent(trainId, id -> new ArrayList<>());
+            deltas.add(new Delta(delta, messageId, channel, deliveryTag));
+            if (deltas.size() >= maxEvents) {
+                full = pending.remove(trainId);
+            }
+        }
+        if (full != null) {
+            apply(trainId, full);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${train.seat-buffer.window:50ms}")
+    public void flush() {
+        for (Long trainId : pending.keySet()) {
+            List<Delta> deltas;
+            synchronized (this) {
+                deltas = pending.remove(trainId);
+            }
+            if (deltas != null) {
+                apply(trainId, deltas);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${train.seat-buffer.processed-purge-interval:10m}")
+    public void purgeProcessed() {
+        Integer deleted = transactionTemplate.execute(status ->
+                processedMessageRepository.deleteProcessedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("보관 기간이 지난 처리 메시지 id 삭제: {}건", deleted);
+        }
+    }
+
+    public synchronized int pending() {
+        return pending.values().stream().mapToInt(List::size).sum();
+    }
+
+    // 종료 시점에는 리스너 채널이 이미 닫혀 ack 되지 않은 메시지가 큐로 돌아가므로, 반영하지 않고 버린다
+    @PreDestroy
+    public synchronized void discard() {
+        int discarded = pending();
+        pending.clear();
+        if (discarded > 0) {
+            log.info("반영 전 잔여 좌석 증감 {}건 폐기 (메시지는 다시 배달됨)", discarded);
+        }
+    }
+
+    private void apply(Long trainId, List<Delta> deltas) {
+        Integer net;
+        try {
+            // 하나씩 반영하다 실패해도 재배달 시 두 번 반영되지 않도록 한 트랜잭션으로 묶음
+            net = transactionTemplate.execute(status -> applyNet(trainId, unprocessed(deltas)));
+        } catch (ApiException e) {
+            // 없는 열차: 다시 배달해도 실패하므로 버림
+            log.warn("잔여 좌석 증감 반영 불가, 메시지 폐기: trainId={}, {}건, {}", trainId, deltas.size(), e.getMessage());
+            deltas.forEach(delta -> delta.nack(false));
+            return;
+        } catch (RuntimeException e) {
+            log.error("잔여 좌석 증감 반영 실패, 메시지 재배달: trainId={}, {}건, {}", trainId, deltas.size(), e.getMessage());
+            deltas.forEach(delta -> delta.nack(true));
+            return;
+        }
+        deltas.forEach(Delta::ack);
+        log.debug("잔여 좌석 증감 반영: trainId={}, {}건, net={}", trainId, deltas.size(), net);
+    }
+
+    // 순증감을 반영하고 반환
+    private int applyNet(Long trainId, List<Delta> deltas) {
+        int net = 0;
+        int lowest = 0;
+        for (Delta delta : deltas) {
+            net += delta.delta();
+            lowest = Math.min(lowest, net);
+        }
+        if (lowest < 0 && !trainService.decrementAvailableSeats(trainId, -lowest)) {
+            applyEach(trainId, deltas);
+        } else if (net - lowest > 0) {
+            trainService.incrementAvailableSeats(trainId, net - lowest);
+        }
+        return net;
+    }
+
+    /**
+     * 이미 반영한 메시지(같은 배치 안의 중복 포함)를 뺀 증감을 반환하고, 새 메시지 id를 반영과 같은 트랜잭션에 기록한다.
+     * 다른 인스턴스가 같은 id를 동시에 기록하면 키 충돌로 롤백되고, 다시 배달된 메시지는 여기서 걸러진다.
+     */
+    private List<Delta> unprocessed(List<Delta> deltas) {
+        Set<String> messageIds = deltas.stream()
+                .map(Delta::messageId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (messageIds.isEmpty()) {
+            return deltas;
+        }
+
+        Set<String> seen = new HashSet<>(processedMessageRepository.findProcessedIds(messageIds));
+        LocalDateTime now = LocalDateTime.now();
+        List<Delta> unprocessed = new ArrayList<>(deltas.size());
+        List<ProcessedMessage> processed = new ArrayList<>(messageIds.size());
+        for (Delta delta : deltas) {
+            if (delta.messageId() == null) {
+                unprocessed.add(delta);
+            } else if (seen.add(delta.messageId())) {
+                unprocessed.add(delta);
+                processed.add(new ProcessedMessage(delta.messageId(), now));
+            }
+        }
+        processedMessageRepository.saveAll(processed);
+        if (unprocessed.size() < deltas.size()) {
+            log.info("이미 반영한 잔여 좌석 증감 메시지 {}건은 반영하지 않고 ack", deltas.size() - unprocessed.size());
+        }
+        return unprocessed;
+    }
+
+    // 잔여 좌석이 누적 최저치보다 적을 때: 이벤트별 처리와 같은 결과가 되도록 도착 순서대로 반영
+    private void applyEach(Long trainId, List<Delta> deltas) {
+        for (Delta delta : deltas) {
+            if (delta.delta() > 0) {
+                trainService.incrementAvailableSeats(trainId, delta.delta());
+            } else if (!trainService.decrementAvailableSeats(trainId, -delta.delta())) {
+                log.warn("잔여 좌석이 부족해 감소하지 않음: trainId={}, count={}", trainId, -delta.delta());
+            }
+        }
+    }
+
+    private record Delta(int delta, String messageId, Channel channel, long deliveryTag) {
+        void ack() {
+            try {
+                channel.basicAck(deliveryTag, false);
+            } catch (IOException e) {
+                log.error("메시지 ack 실패: deliveryTag={}, {}", deliveryTag, e.getMessage());
+            }
+        }
+
+        void nack(boolean requeue) {
+            try {
+                channel.basicNack(deliveryTag, false, requeue);
+            } catch (IOException e) {
+                log.error("메시지 nack 실패: deliveryTag={}, {}", deliveryTag, e.getMessage());
+            }
+        }
+    }
+}
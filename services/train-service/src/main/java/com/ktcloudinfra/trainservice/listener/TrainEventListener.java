@@ -2,31 +2,61 @@ package com.ktcloudinfra.trainservice.listener;
 
 import com.ktcloudinfra.trainservice.config.RabbitMQConfig;
 import com.ktcloudinfra.trainservice.dto.event.ReservationCancelledEvent;
+import com.ktcloudinfra.trainservice.dto.event.ReservationGroupRequestedEvent;
 import com.ktcloudinfra.trainservice.dto.event.ReservationRequestedEvent;
-import com.ktcloudinfra.trainservice.service.TrainService;
+import com.ktcloudinfra.trainservice.dto.event.SeatRejectedEvent;
+import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+// 잔여 좌석 증감은 SeatDeltaBuffer에 모았다가 반영한 뒤 ack (전용 컨테이너 팩토리에서만 manual ack)
+// 예약 서비스 아웃박스가 붙인 message id로 중복 배달을 거름 (좌석 서비스가 바로 보내는 seat.rejected는 id 없음)
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class TrainEventListener {
 
-    private final TrainService trainService;
+    private final SeatDeltaBuffer seatDeltaBuffer;
 
-    @RabbitListener(queues = RabbitMQConfig.RESERVATION_REQUESTED_QUEUE)
-    public void handleReservationRequested(ReservationRequestedEvent event) {
-        log.info("열차 좌석 업데이트 이벤트 수신: trainId={}", event.getTrainId());
-        trainService.decrementAvailableSeats(event.getTrainId());
-        log.info("열차 좌석 감소 완료: trainId={}", event.getTrainId());
+    @RabbitListener(queues = RabbitMQConfig.RESERVATION_REQUESTED_QUEUE,
+            containerFactory = RabbitMQConfig.SEAT_DELTA_CONTAINER_FACTORY)
+    public void handleReservationRequested(ReservationRequestedEvent event, Channel channel,
+                                           @Header(value = AmqpHeaders.MESSAGE_ID, required = false) String messageId,
+                                           @Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag) {
+        log.debug("열차 좌석 감소 이벤트 수신: trainId={}", event.getTrainId());
+        seatDeltaBuffer.add(event.getTrainId(), -1, messageId, channel, deliveryTag);
     }
 
-    @RabbitListener(queues = RabbitMQConfig.RESERVATION_CANCELLED_QUEUE)
-    public void handleReservationCancelled(ReservationCancelledEvent event) {
-        log.info("열차 좌석 복구 이벤트 수신: trainId={}", event.getTrainId());
-        trainService.incrementAvailableSeats(event.getTrainId());
-        log.info("열차 좌석 증가 완료: trainId={}", event.getTrainId());
+    // 단체 예약은 좌석 수만큼 한 번에 감소 (거절 시 좌석별 seat.rejected로 복구)
+    @RabbitListener(queues = RabbitMQConfig.RESERVATION_GROUP_REQUESTED_QUEUE,
+            containerFactory = RabbitMQConfig.SEAT_DELTA_CONTAINER_FACTORY)
+    public void handleReservationGroupRequested(ReservationGroupRequestedEvent event, Channel channel,
+                                                @Header(value = AmqpHeaders.MESSAGE_ID, required = false) String messageId,
+                                                @Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag) {
+        log.debug("단체 예약 좌석 감소 이벤트 수신: trainId={}, count={}", event.getTrainId(), event.getSeats().size());
+        seatDeltaBuffer.add(event.getTrainId(), -event.getSeats().size(), messageId, channel, deliveryTag);
+    }
+
+    @RabbitListener(queues = RabbitMQConfig.RESERVATION_CANCELLED_QUEUE,
+            containerFactory = RabbitMQConfig.SEAT_DELTA_CONTAINER_FACTORY)
+    public void handleReservationCancelled(ReservationCancelledEvent event, Channel channel,
+                                           @Header(value = AmqpHeaders.MESSAGE_ID, required = false) String messageId,
+                                           @Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag) {
+        log.debug("열차 좌석 복구 이벤트 수신: trainId={}", event.getTrainId());
+        seatDeltaBuffer.add(event.getTrainId(), 1, messageId, channel, deliveryTag);
+    }
+
+    // 좌석 확보에 실패한 예약은 요청 시 감소시킨 잔여 좌석을 복구
+    @RabbitListener(queues = RabbitMQConfig.SEAT_REJECTED_QUEUE,
+            containerFactory = RabbitMQConfig.SEAT_DELTA_CONTAINER_FACTORY)
+    public void handleSeatRejected(SeatRejectedEvent event, Channel channel,
+                                   @Header(value = AmqpHeaders.MESSAGE_ID, required = false) String messageId,
+                                   @Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag) {
+        log.debug("좌석 예약 거절 이벤트 수신: trainId={}, reservationId={}", event.getTrainId(), event.getReservationId());
+        seatDeltaBuffer.add(event.getTrainId(), 1, messageId, channel, deliveryTag);
     }
 }
@@ -0,0 +1,22 @@
+package com.ktcloudinfra.trainservice.repository;
+
+import com.ktcloudinfra.trainservice.entity.ProcessedMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProcessedMessageRepository extends JpaRepository<ProcessedMessage, String> {
+
+    // messageIds 중 이미 반영한 id
+    @Query("SELECT p.messageId FROM ProcessedMessage p WHERE p.messageId IN :messageIds")
+    List<String> findProcessedIds(@Param("messageIds") Collection<String> messageIds);
+
+    @Modifying
+    @Query("DELETE FROM ProcessedMessage p WHERE p.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,7 +1,34 @@
 package com.ktcloudinfra.trainservice.repository;
 
 import com.ktcloudinfra.trainservice.entity.Train;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface TrainRepository extends JpaRepository<Train, Long> {
+
+    // 잔여 좌석이 count 이상일 때만 감소 (0 = 열차 없음, 잔여 좌석 부족 또는 분할 카운터 사용 중)
+    @Modifying
+    @Query("UPDATE Train t SET t.availableSeats = t.availableSeats - :count " +
+            "WHERE t.id = :trainId AND t.seatStripes = 0 AND t.availableSeats >= :count")
+    int decrementAvailableSeats(@Param("trainId") Long trainId, @Param("count") int count);
+
+    // 0 = 열차 없음 또는 분할 카운터 사용 중
+    @Modifying
+    @Query("UPDATE Train t SET t.availableSeats = t.availableSeats + :count " +
+            "WHERE t.id = :trainId AND t.seatStripes = 0")
+    int incrementAvailableSeats(@Param("trainId") Long trainId, @Param("count") int count);
+
+    @Query("SELECT t.seatStripes FROM Train t WHERE t.id = :trainId")
+    Optional<Integer> findSeatStripesById(@Param("trainId") Long trainId);
+
+    // 분할 카운터 전환용: 진행 중인 한 행 갱신이 끝난 뒤 잔여 좌석을 옮기도록 열차 행을 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Train t WHERE t.id = :trainId")
+    Optional<Train> findByIdForUpdate(@Param("trainId") Long trainId);
 }
@@ -0,0 +1,43 @@
+package com.ktcloudinfra.trainservice.repository;
+
+import com.ktcloudinfra.trainservice.entity.TrainSeatStripe;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TrainSeatStripeRepository extends JpaRepository<TrainSeatStripe, Long> {
+
+    // 감소 계획용: 잠그지 않고 stripe 순서로 잔여 좌석만 읽음
+    // (엔티티로 읽으면 이어서 잠가 읽을 때 영속성 컨텍스트의 읽은 값이 그대로 쓰이므로 값만 조회)
+    @Query("SELECT s.availableSeats FROM TrainSeatStripe s WHERE s.trainId = :trainId ORDER BY s.stripe")
+    List<Integer> findAvailableSeatsByTrainId(@Param("trainId") Long trainId);
+
+    // 여러 stripe를 잠글 때: 교착을 피하려고 항상 stripe 순서로, 다른 stripe를 잠그기 전에 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TrainSeatStripe s WHERE s.trainId = :trainId ORDER BY s.stripe")
+    List<TrainSeatStripe> findAllByTrainIdForUpdate(@Param("trainId") Long trainId);
+
+    // stripe의 잔여 좌석이 count 이상일 때만 감소 (0 = stripe 없음 또는 잔여 좌석 부족)
+    // 같은 트랜잭션에서 재분배가 이어질 때 갱신 전 값의 엔티티를 다시 쓰지 않도록 영속성 컨텍스트를 비움
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TrainSeatStripe s SET s.availableSeats = s.availableSeats - :count " +
+            "WHERE s.trainId = :trainId AND s.stripe = :stripe AND s.availableSeats >= :count")
+    int decrementAvailableSeats(@Param("trainId") Long trainId, @Param("stripe") int stripe,
+                                @Param("count") int count);
+
+    // 0 = stripe 없음
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TrainSeatStripe s SET s.availableSeats = s.availableSeats + :count " +
+            "WHERE s.trainId = :trainId AND s.stripe = :stripe")
+    int incrementAvailableSeats(@Param("trainId") Long trainId, @Param("stripe") int stripe,
+                                @Param("count") int count);
+
+    @Modifying
+    @Query("DELETE FROM TrainSeatStripe s WHERE s.trainId = :trainId")
+    void deleteAllByTrainId(@Param("trainId") Long trainId);
+}
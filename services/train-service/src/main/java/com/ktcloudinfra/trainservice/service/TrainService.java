@@ -1,5 +1,6 @@
 package com.ktcloudinfra.trainservice.service;
 
+import com.ktcloudinfra.trainservice.dto.request.TrainUpdateRequestDTO;
 import com.ktcloudinfra.trainservice.entity.Train;
 
 import java.util.List;
@@ -9,10 +10,24 @@ public interface TrainService {
 
     Train getTrain(Long trainId);
 
+    List<Train> getTrains(List<Long> trainIds);
+
+    Train updateTrain(Long trainId, TrainUpdateRequestDTO request);
+
     void updateAvailableSeats(Long trainId, int availableSeats);
 
     // Event-based methods
-    void decrementAvailableSeats(Long trainId);
+    // 잔여 좌석이 부족하면 감소하지 않고 false
+    boolean decrementAvailableSeats(Long trainId);
+
+    boolean decrementAvailableSeats(Long trainId, int count);
 
     void incrementAvailableSeats(Long trainId);
+
+    void incrementAvailableSeats(Long trainId, int count);
+
+    // 인기 열차: 잔여 좌석을 stripes개 행에 나눠, 동시에 처리되는 증감이 서로 다른 행을 갱신하도록 함
+    void enableSeatStripes(Long trainId, int stripes);
+
+    void disableSeatStripes(Long trainId);
 }
@@ -1,19 +1,46 @@
 package com.ktcloudinfra.trainservice.service;
 
+import com.ktcloudinfra.trainservice.config.RabbitMQConfig;
+import com.ktcloudinfra.trainservice.dto.event.TrainUpdatedEvent;
+import com.ktcloudinfra.trainservice.dto.request.TrainUpdateRequestDTO;
 import com.ktcloudinfra.trainservice.entity.Train;
+import com.ktcloudinfra.trainservice.entity.TrainSeatStripe;
 import com.ktcloudinfra.trainservice.repository.TrainRepository;
+import com.ktcloudinfra.trainservice.repository.TrainSeatStripeRepository;
 import com.ktcloudinfra.trainservice.global.exception.ApiException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
 public class TrainServiceImpl implements TrainService {
 
+    private static final int MAX_SEAT_STRIPES = 64;
+    // 재분배는 모든 stripe 행을 다시 쓰므로 열차마다 이 간격에 한 번까지만
+    private static final long REBALANCE_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
     private final TrainRepository trainRepository;
+    private final TrainSeatStripeRepository trainSeatStripeRepository;
+    private final RabbitTemplate rabbitTemplate;
+
+    // 열차별 stripe 수 (모르는 열차는 한 행으로 가정). 갱신이 빗나가면 DB에서 다시 읽으므로
+    // 다른 인스턴스에서 전환한 열차도 첫 빗나감 이후 따라감
+    private final Map<Long, Integer> seatStripes = new ConcurrentHashMap<>();
+    // 열차별 마지막 재분배 시각 (System.nanoTime)
+    private final Map<Long, Long> rebalancedAt = new ConcurrentHashMap<>();
 
     @Override
     @Transactional(readOnly = true)
@@ -28,27 +55,267 @@ public class TrainServiceImpl implements TrainService {
                 .orElseThrow(() -> new ApiException("열차가 존재하지 않습니다."));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Train> getTrains(List<Long> trainIds) {
+        if (trainIds == null || trainIds.isEmpty()) {
+            return List.of();
+        }
+        return trainRepository.findAllById(trainIds);
+    }
+
     @Override
     @Transactional
-    public void updateAvailableSeats(Long trainId, int availableSeats) {
+    public Train updateTrain(Long trainId, TrainUpdateRequestDTO request) {
         Train train = trainRepository.findById(trainId)
                 .orElseThrow(() -> new ApiException("열차가 존재하지 않습니다."));
-        train.updateAvailableSeats(availableSeats);
+        train.updateDetails(request.getName(), request.getPrice(),
+                request.getDepartureStation(), request.getArrivalStation(),
+                request.getDepartureTime(), request.getArrivalTime());
+
+        // 열차 정보를 복제해 두는 서비스에 변경 전파
+        TrainUpdatedEvent event = new TrainUpdatedEvent(
+                train.getId(),
+                train.getName(),
+                train.getPrice(),
+                train.getDepartureStation(),
+                train.getArrivalStation(),
+                train.getDepartureTime(),
+                train.getArrivalTime(),
+                LocalDateTime.now()
+        );
+        publishAfterCommit(event);
+
+        return train;
     }
 
     @Override
     @Transactional
-    public void decrementAvailableSeats(Long trainId) {
+    public void updateAvailableSeats(Long trainId, int availableSeats) {
         Train train = trainRepository.findById(trainId)
                 .orElseThrow(() -> new ApiException("열차가 존재하지 않습니다."));
-        train.decrementAvailableSeats();
+        if (train.getSeatStripes() > 0) {
+            distribute(trainSeatStripeRepository.findAllByTrainIdForUpdate(trainId), availableSeats);
+        } else {
+            train.updateAvailableSeats(availableSeats);
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean decrementAvailableSeats(Long trainId) {
+        return decrementAvailableSeats(trainId, 1);
+    }
+
+    // 읽고 고쳐 쓰지 않고 한 문장으로 감소시켜, 동시에 처리되는 이벤트끼리 감소분을 잃지 않음
+    @Override
+    @Transactional
+    public boolean decrementAvailableSeats(Long trainId, int count) {
+        int stripes = seatStripes.getOrDefault(trainId, 0);
+        if (tryDecrement(trainId, stripes, count)) {
+            return true;
+        }
+        // 갱신된 행이 없을 때만 원인 확인: 열차 없음, 잔여 좌석 부족, 또는 카운터 방식이 바뀜
+        int current = currentSeatStripes(trainId);
+        return current != stripes && tryDecrement(trainId, current, count);
     }
 
     @Override
     @Transactional
     public void incrementAvailableSeats(Long trainId) {
-        Train train = trainRepository.findById(trainId)
+        incrementAvailableSeats(trainId, 1);
+    }
+
+    @Override
+    @Transactional
+    public void incrementAvailableSeats(Long trainId, int count) {
+        if (tryIncrement(trainId, seatStripes.getOrDefault(trainId, 0), count)) {
+            return;
+        }
+        if (!tryIncrement(trainId, currentSeatStripes(trainId), count)) {
+            // 전환이 겹친 경우: 재시도하면 반영됨
+            throw new IllegalStateException("잔여 좌석 카운터 갱신 실패: trainId=" + trainId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void enableSeatStripes(Long trainId, int stripes) {
+        if (stripes < 2 || stripes > MAX_SEAT_STRIPES) {
+            throw new ApiException("분할 카운터 수는 2~" + MAX_SEAT_STRIPES + " 사이여야 합니다.");
+        }
+        Train train = trainRepository.findByIdForUpdate(trainId)
                 .orElseThrow(() -> new ApiException("열차가 존재하지 않습니다."));
-        train.incrementAvailableSeats();
+        if (train.getSeatStripes() > 0) {
+            throw new ApiException("이미 분할 카운터를 사용하는 열차입니다.");
+        }
+        List<TrainSeatStripe> rows = IntStream.range(0, stripes)
+                .mapToObj(stripe -> new TrainSeatStripe(trainId, stripe, 0))
+                .toList();
+        distribute(rows, train.getAvailableSeats());
+        trainSeatStripeRepository.saveAll(rows);
+        train.enableSeatStripes(stripes);
+        seatStripes.put(trainId, stripes);
+    }
+
+    @Override
+    @Transactional
+    public void disableSeatStripes(Long trainId) {
+        Train train = trainRepository.findByIdForUpdate(trainId)
+                .orElseThrow(() -> new ApiException("열차가 존재하지 않습니다."));
+        if (train.getSeatStripes() == 0) {
+            throw new ApiException("분할 카운터를 사용하지 않는 열차입니다.");
+        }
+        int availableSeats = trainSeatStripeRepository.findAllByTrainIdForUpdate(trainId).stream()
+                .mapToInt(TrainSeatStripe::getAvailableSeats)
+                .sum();
+        trainSeatStripeRepository.deleteAllByTrainId(trainId);
+        train.disableSeatStripes(availableSeats);
+        seatStripes.put(trainId, 0);
+    }
+
+    // 롤백된 수정이 복제본에 퍼지지 않도록 커밋 후 발행
+    private void publishAfterCommit(TrainUpdatedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(event);
+            }
+        });
+    }
+
+    private void publish(TrainUpdatedEvent event) {
+        rabbitTemplate.convertAndSend(RabbitMQConfig.TRAIN_EXCHANGE, "train.updated", event);
+    }
+
+    private boolean tryDecrement(Long trainId, int stripes, int count) {
+        if (stripes == 0) {
+            return trainRepository.decrementAvailableSeats(trainId, count) == 1;
+        }
+        return decrementStriped(trainId, count);
+    }
+
+    private boolean tryIncrement(Long trainId, int stripes, int count) {
+        if (stripes == 0) {
+            return trainRepository.incrementAvailableSeats(trainId, count) == 1;
+        }
+        return trainSeatStripeRepository.incrementAvailableSeats(trainId, stripeOf(stripes), count) == 1;
+    }
+
+    private int currentSeatStripes(Long trainId) {
+        int stripes = trainRepository.findSeatStripesById(trainId)
+                .orElseThrow(() -> new ApiException("열차가 존재하지 않습니다."));
+        seatStripes.put(trainId, stripes);
+        return stripes;
+    }
+
+    // 호출마다 무작위로 골라, 한 스레드(SeatDeltaBuffer의 반영 스레드 등)가 모든 증감을 처리해도 stripe가 고르게 갱신되게 함
+    private int stripeOf(int stripes) {
+        return ThreadLocalRandom.current().nextInt(stripes);
+    }
+
+    // 잠그지 않고 읽은 값으로 어느 stripe에서 얼마씩 뺄지 정함. 한 stripe로 모자라면 여러 stripe에 나누고,
+    // 감소 후 빈 stripe가 생기거나 이미 있으면(한 석 감소가 빈 stripe를 건너뛰어 이웃 stripe로 몰리기 전에) 재분배.
+    // 합계가 모자라거나 재분배할 때는 어떤 stripe도 갱신하기 전에 모든 stripe를 stripe 순서로 잠금.
+    // 조건부 UPDATE가 빗나간 stripe는 잠긴 채 남으므로 그 뒤로는 stripe 순서로만 잠그고, 끝까지 모자라면
+    // 모든 stripe를 잠그는 대신 롤백 후 재시도하게 함 (SeatDeltaBuffer는 nack 해 다시 배달받음)
+    private boolean decrementStriped(Long trainId, int count) {
+        // stripe 번호는 0부터 차례로 만들므로 목록의 위치가 곧 stripe 번호
+        List<Integer> stripes = trainSeatStripeRepository.findAvailableSeatsByTrainId(trainId);
+        if (stripes.isEmpty()) {
+            return false;
+        }
+        int[] plan = plan(stripes, count);
+        if (plan == null) {
+            return decrementLocked(trainId, count, false);
+        }
+        if (leavesEmpty(stripes, plan) && rebalanceDue(trainId)) {
+            return decrementLocked(trainId, count, true);
+        }
+        // stripe 순서로 감소. 그 사이 다른 트랜잭션이 가져가 빗나간 몫은 뒤 stripe의 여유분에서 가져옴
+        int missed = 0;
+        for (int i = 0; i < plan.length; i++) {
+            int amount = plan[i] + Math.min(missed, stripes.get(i) - plan[i]);
+            if (amount == 0) {
+                continue;
+            }
+            if (trainSeatStripeRepository.decrementAvailableSeats(trainId, i, amount) == 1) {
+                missed -= amount - plan[i];
+            } else {
+                missed += plan[i];
+            }
+        }
+        if (missed > 0) {
+            throw new ConcurrencyFailureException("잔여 좌석 stripe 경합, 다시 시도 필요: trainId=" + trainId);
+        }
+        return true;
+    }
+
+    // stripe별 감소량 (합계가 모자라면 null). 무작위로 고른 stripe부터 보며 한 stripe로 되면 그 stripe만 사용
+    private int[] plan(List<Integer> stripes, int count) {
+        int size = stripes.size();
+        int start = stripeOf(size);
+        int[] plan = new int[size];
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            if (stripes.get(index) >= count) {
+                plan[index] = count;
+                return plan;
+            }
+        }
+        int remaining = count;
+        for (int i = 0; i < size && remaining > 0; i++) {
+            int index = (start + i) % size;
+            plan[index] = Math.min(remaining, stripes.get(index));
+            remaining -= plan[index];
+        }
+        return remaining > 0 ? null : plan;
+    }
+
+    // 감소 후 빈 stripe가 남는지 (여러 stripe에 나눈 감소는 앞 stripe를 비우므로 항상 해당)
+    private static boolean leavesEmpty(List<Integer> stripes, int[] plan) {
+        for (int i = 0; i < plan.length; i++) {
+            if (stripes.get(i) - plan[i] == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 모든 stripe를 잠그고 현재 값으로 다시 판단. 재분배하면 합계에서 count를 뺀 나머지를 고르게 다시 나눔
+    private boolean decrementLocked(Long trainId, int count, boolean rebalance) {
+        List<TrainSeatStripe> stripes = trainSeatStripeRepository.findAllByTrainIdForUpdate(trainId);
+        int total = stripes.stream().mapToInt(TrainSeatStripe::getAvailableSeats).sum();
+        if (stripes.isEmpty() || total < count) {
+            return false;
+        }
+        if (rebalance) {
+            distribute(stripes, total - count);
+            return true;
+        }
+        int remaining = count;
+        for (TrainSeatStripe stripe : stripes) {
+            int taken = Math.min(remaining, stripe.getAvailableSeats());
+            stripe.updateAvailableSeats(stripe.getAvailableSeats() - taken);
+            remaining -= taken;
+        }
+        return true;
+    }
+
+    private boolean rebalanceDue(Long trainId) {
+        long now = System.nanoTime();
+        return rebalancedAt.compute(trainId, (id, last) ->
+                last == null || now - last >= REBALANCE_INTERVAL_NANOS ? now : last) == now;
+    }
+
+    private static void distribute(List<TrainSeatStripe> stripes, int availableSeats) {
+        int size = stripes.size();
+        for (int i = 0; i < size; i++) {
+            stripes.get(i).updateAvailableSeats(availableSeats / size + (i < availableSeats % size ? 1 : 0));
+        }
     }
 }
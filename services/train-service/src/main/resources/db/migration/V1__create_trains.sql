@@ -0,0 +1,12 @@
+-- 초기 스키마 (ddl-auto: update로 만들어지던 스키마와 동일)
+CREATE TABLE trains (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    train_name        VARCHAR(255) NOT NULL,
+    price             INTEGER      NOT NULL,
+    arrival_station   VARCHAR(255) NOT NULL,
+    departure_station VARCHAR(255) NOT NULL,
+    arrival_time      DATETIME(6)  NOT NULL,
+    departure_time    DATETIME(6)  NOT NULL,
+    available_seats   INTEGER      NOT NULL,
+    PRIMARY KEY (id)
+);
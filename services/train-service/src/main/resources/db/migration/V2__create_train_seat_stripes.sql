@@ -0,0 +1,13 @@
+-- 인기 열차용 분할 잔여 좌석 카운터: seat_stripes = 0 이면 trains.available_seats 한 행,
+-- N(> 0)이면 잔여 좌석을 train_seat_stripes 의 N행에 나눠 두고 합계를 잔여 좌석으로 본다
+ALTER TABLE trains ADD COLUMN seat_stripes INTEGER NOT NULL DEFAULT 0;
+
+CREATE TABLE train_seat_stripes (
+    id              BIGINT  NOT NULL AUTO_INCREMENT,
+    train_id        BIGINT  NOT NULL,
+    stripe          INTEGER NOT NULL,
+    available_seats INTEGER NOT NULL,
+    PRIMARY KEY (id),
+    -- 열차별 stripe 조회(train_id), stripe 갱신(train_id, stripe)
+    CONSTRAINT uk_train_seat_stripes_train_id_stripe UNIQUE (train_id, stripe)
+);
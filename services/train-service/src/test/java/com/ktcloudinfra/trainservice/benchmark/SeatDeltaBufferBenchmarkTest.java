@@ -0,0 +1,233 @@
+package com.ktcloudinfra.trainservice.benchmark;
+
+import com.ktcloudinfra.trainservice.dto.request.TrainUpdateRequestDTO;
+import com.ktcloudinfra.trainservice.entity.Train;
+import com.ktcloudinfra.trainservice.listener.SeatDeltaBuffer;
+import com.ktcloudinfra.trainservice.repository.ProcessedMessageRepository;
+import com.ktcloudinfra.trainservice.repository.TrainRepository;
+import com.ktcloudinfra.trainservice.service.TrainService;
+import com.ktcloudinfra.trainservice.service.TrainServiceImpl;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 판매 개시 직후 인기 열차 한 편에 예약 이벤트 10,000건(10건 중 2건은 취소)이 리스너 스레드 16개로 몰릴 때,
+ * 이벤트마다 UPDATE 하는 방식과 50ms 주기로 순증감을 모아 UPDATE 하는 버퍼의 같은 행 UPDATE 횟수와 처리량 비교.
+ * {@code gradle benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@Import(TrainServiceImpl.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.ktcloudinfra.trainservice=INFO"
+})
+class SeatDeltaBufferBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final int EVENTS = 10_000;
+    private static final int SEATS = 20_000;
+    private static final Duration WINDOW = Duration.ofMillis(50);
+    private static final int MAX_EVENTS = 200;
+
+    @Autowired
+    private TrainService trainService;
+
+    @Autowired
+    private TrainRepository trainRepository;
+
+    @Autowired
+    private ProcessedMessageRepository processedMessageRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private RabbitTemplate rabbitTemplate;
+
+    @AfterEach
+    void tearDown() {
+        processedMessageRepository.deleteAllInBatch();
+        trainRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("인기 열차 이벤트 10,000건: 이벤트별 UPDATE vs 순증감 버퍼")
+    void perEventVersusBuffered() throws Exception {
+        // 이벤트별: 이벤트 하나가 트랜잭션 하나 (조건부 UPDATE)
+        Long perEventTrain = saveTrain();
+        AtomicInteger perEventUpdates = new AtomicInteger();
+        double perEventMillis = run((event, tag) -> {
+            if (event % 10 < 2) {
+                trainService.incrementAvailableSeats(perEventTrain);
+            } else {
+                trainService.decrementAvailableSeats(perEventTrain);
+            }
+            perEventUpdates.incrementAndGet();
+        });
+
+        // 버퍼: 리스너는 버퍼에 넣기만 하고, 주기/건수 기준으로 순증감을 UPDATE 한 뒤 ack
+        Long bufferedTrain = saveTrain();
+        AtomicInteger bufferedUpdates = new AtomicInteger();
+        AtomicInteger acked = new AtomicInteger();
+        Channel channel = mock(Channel.class, withSettings().stubOnly());
+        doAnswer(invocation -> acked.incrementAndGet()).when(channel).basicAck(anyLong(), anyBoolean());
+        SeatDeltaBuffer buffer = new SeatDeltaBuffer(new CountingTrainService(trainService, bufferedUpdates),
+                processedMessageRepository, transactionManager, MAX_EVENTS, Duration.ofDays(1));
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.scheduleWithFixedDelay(buffer::flush, WINDOW.toMillis(), WINDOW.toMillis(), TimeUnit.MILLISECONDS);
+        long begin = System.nanoTime();
+        run((event, tag) -> buffer.add(bufferedTrain, event % 10 < 2 ? 1 : -1, String.valueOf(tag), channel, tag));
+        while (acked.get() < EVENTS && System.nanoTime() - begin < TimeUnit.MINUTES.toNanos(1)) {
+            Thread.sleep(1);
+        }
+        double bufferedMillis = (System.nanoTime() - begin) / 1e6;
+        scheduler.shutdownNow();
+
+        int expected = SEATS - EVENTS * 8 / 10 + EVENTS * 2 / 10;
+        int perEventRemaining = trainRepository.findById(perEventTrain).orElseThrow().getAvailableSeats();
+        int bufferedRemaining = trainRepository.findById(bufferedTrain).orElseThrow().getAvailableSeats();
+        System.out.printf("[train-delta] events=%,d threads=%d window=%dms max-events=%d%n",
+                EVENTS, THREADS, WINDOW.toMillis(), MAX_EVENTS);
+        System.out.printf("[train-delta] per-event %,8.0f ms (%,6.0f events/s) hot-row UPDATEs=%,d remaining=%,d%n",
+                perEventMillis, EVENTS * 1e3 / perEventMillis, perEventUpdates.get(), perEventRemaining);
+        System.out.printf("[train-delta] buffered  %,8.0f ms (%,6.0f events/s incl. last ack) hot-row UPDATEs=%,d remaining=%,d acked=%,d%n",
+                bufferedMillis, EVENTS * 1e3 / bufferedMillis, bufferedUpdates.get(), bufferedRemaining, acked.get());
+
+        assertThat(perEventRemaining).isEqualTo(expected);
+        assertThat(bufferedRemaining).isEqualTo(expected);
+        assertThat(acked.get()).isEqualTo(EVENTS);
+        assertThat(bufferedUpdates.get()).isLessThan(perEventUpdates.get() / 20);
+    }
+
+    private double run(EventHandler handler) throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = next.getAndIncrement(); i < EVENTS; i = next.getAndIncrement()) {
+                    handler.handle(i, i + 1);
+                }
+                return null;
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        return (System.nanoTime() - begin) / 1e6;
+    }
+
+    private Long saveTrain() {
+        LocalDateTime now = LocalDateTime.now();
+        return trainRepository.save(Train.builder()
+                .name("KTX-101")
+                .price(50000)
+                .departureStation("서울")
+                .arrivalStation("부산")
+                .departureTime(now)
+                .arrivalTime(now.plusHours(3))
+                .availableSeats(SEATS)
+                .build()).getId();
+    }
+
+    @FunctionalInterface
+    private interface EventHandler {
+        void handle(int event, long deliveryTag);
+    }
+
+    // 잔여 좌석 UPDATE 횟수를 세는 TrainService
+    private record CountingTrainService(TrainService delegate, AtomicInteger updates) implements TrainService {
+        @Override
+        public List<Train> getAllTrains() {
+            return delegate.getAllTrains();
+        }
+
+        @Override
+        public Train getTrain(Long trainId) {
+            return delegate.getTrain(trainId);
+        }
+
+        @Override
+        public List<Train> getTrains(List<Long> trainIds) {
+            return delegate.getTrains(trainIds);
+        }
+
+        @Override
+        public Train updateTrain(Long trainId, TrainUpdateRequestDTO request) {
+            return delegate.updateTrain(trainId, request);
+        }
+
+        @Override
+        public void updateAvailableSeats(Long trainId, int availableSeats) {
+            delegate.updateAvailableSeats(trainId, availableSeats);
+        }
+
+        @Override
+        public boolean decrementAvailableSeats(Long trainId) {
+            return decrementAvailableSeats(trainId, 1);
+        }
+
+        @Override
+        public boolean decrementAvailableSeats(Long trainId, int count) {
+            updates.incrementAndGet();
+            return delegate.decrementAvailableSeats(trainId, count);
+        }
+
+        @Override
+        public void incrementAvailableSeats(Long trainId) {
+            incrementAvailableSeats(trainId, 1);
+        }
+
+        @Override
+        public void incrementAvailableSeats(Long trainId, int count) {
+            updates.incrementAndGet();
+            delegate.incrementAvailableSeats(trainId, count);
+        }
+
+        @Override
+        public void enableSeatStripes(Long trainId, int stripes) {
+            delegate.enableSeatStripes(trainId, stripes);
+        }
+
+        @Override
+        public void disableSeatStripes(Long trainId) {
+            delegate.disableSeatStripes(trainId);
+        }
+    }
+}
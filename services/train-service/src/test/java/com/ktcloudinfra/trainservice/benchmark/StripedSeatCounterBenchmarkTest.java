@@ -0,0 +1,194 @@
+package com.ktcloudinfra.trainservice.benchmark;
+
+import com.ktcloudinfra.trainservice.entity.Train;
+import com.ktcloudinfra.trainservice.entity.TrainSeatStripe;
+import com.ktcloudinfra.trainservice.listener.SeatDeltaBuffer;
+import com.ktcloudinfra.trainservice.repository.ProcessedMessageRepository;
+import com.ktcloudinfra.trainservice.repository.TrainRepository;
+import com.ktcloudinfra.trainservice.repository.TrainSeatStripeRepository;
+import com.ktcloudinfra.trainservice.service.TrainService;
+import com.ktcloudinfra.trainservice.service.TrainServiceImpl;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 인스턴스 4개(각자 SeatDeltaBuffer와 반영 스레드 하나, 리스너 스레드 4개)가 인기 열차 한 편의 잔여 좌석을
+ * 매진될 때까지 감소시킬 때, 열차 행 하나를 갱신하는 방식과 stripe 16행에 나눠 갱신하는 방식
+ * (모자라면 모든 stripe를 잠그고 나눠 감소, 재분배는 간격을 둠)의 처리량 비교.
+ * 실제 운영 경로처럼 증감은 모두 버퍼의 반영 스레드에서 순증감으로 들어간다. {@code gradle benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@Import(TrainServiceImpl.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.ktcloudinfra.trainservice=INFO"
+})
+class StripedSeatCounterBenchmarkTest {
+
+    private static final int INSTANCES = 4;
+    private static final int THREADS = 16;
+    private static final int STRIPES = 16;
+    private static final int EVENTS = 10_000;
+    private static final int WARMUP = 1_000;
+    private static final Duration WINDOW = Duration.ofMillis(50);
+    private static final int MAX_EVENTS = 200;
+
+    @Autowired
+    private TrainService trainService;
+
+    @Autowired
+    private TrainRepository trainRepository;
+
+    @Autowired
+    private TrainSeatStripeRepository trainSeatStripeRepository;
+
+    @Autowired
+    private ProcessedMessageRepository processedMessageRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private RabbitTemplate rabbitTemplate;
+
+    @AfterEach
+    void tearDown() {
+        processedMessageRepository.deleteAllInBatch();
+        trainSeatStripeRepository.deleteAllInBatch();
+        trainRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("매진까지 감소 10,000건: 열차 행 하나 vs stripe 16행")
+    void singleRowVersusStriped() throws Exception {
+        run(saveTrain(WARMUP, 0), WARMUP);
+        run(saveTrain(WARMUP, STRIPES), WARMUP);
+        // 좌석 수와 이벤트 수가 같아 마지막에는 stripe가 차례로 바닥나며 여러 stripe에서 나눠 감소
+        Result single = run(saveTrain(EVENTS, 0), EVENTS);
+        Result striped = run(saveTrain(EVENTS, STRIPES), EVENTS);
+
+        System.out.printf("[train-stripes] events=%,d instances=%d threads=%d stripes=%d window=%dms max-events=%d%n",
+                EVENTS, INSTANCES, THREADS, STRIPES, WINDOW.toMillis(), MAX_EVENTS);
+        System.out.printf("[train-stripes] single row %,8.0f events/s (incl. last ack), acked=%,d, redelivered=%,d, remaining=%,d%n",
+                single.throughput(), single.acked(), single.redelivered(), single.remaining());
+        System.out.printf("[train-stripes] striped    %,8.0f events/s (incl. last ack), acked=%,d, redelivered=%,d, remaining=%,d, stripes=%s%n",
+                striped.throughput(), striped.acked(), striped.redelivered(), striped.remaining(), striped.stripes());
+
+        assertThat(single.acked()).isEqualTo(EVENTS);
+        assertThat(single.remaining()).isZero();
+        assertThat(striped.acked()).isEqualTo(EVENTS);
+        assertThat(striped.remaining()).isZero();
+    }
+
+    private Result run(Long trainId, int events) throws Exception {
+        AtomicInteger acked = new AtomicInteger();
+        AtomicInteger redelivered = new AtomicInteger();
+        List<SeatDeltaBuffer> buffers = new ArrayList<>();
+        Channel channel = mock(Channel.class, withSettings().stubOnly());
+        doAnswer(invocation -> acked.incrementAndGet()).when(channel).basicAck(anyLong(), anyBoolean());
+        // 경합으로 롤백된 반영은 nack(requeue) → 브로커가 다른 인스턴스로 다시 배달
+        doAnswer(invocation -> {
+            redelivered.incrementAndGet();
+            long tag = invocation.getArgument(0);
+            buffers.get((int) (tag % INSTANCES)).add(trainId, -1, trainId + "-" + tag, (Channel) invocation.getMock(), tag);
+            return null;
+        }).when(channel).basicNack(anyLong(), anyBoolean(), eq(true));
+        List<ScheduledExecutorService> schedulers = new ArrayList<>();
+        for (int i = 0; i < INSTANCES; i++) {
+            SeatDeltaBuffer buffer = new SeatDeltaBuffer(trainService, processedMessageRepository, transactionManager, MAX_EVENTS,
+                    Duration.ofDays(1));
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+            scheduler.scheduleWithFixedDelay(buffer::flush, WINDOW.toMillis(), WINDOW.toMillis(), TimeUnit.MILLISECONDS);
+            buffers.add(buffer);
+            schedulers.add(scheduler);
+        }
+
+        // 리스너 스레드는 자기 인스턴스의 버퍼에 넣기만 함
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            SeatDeltaBuffer buffer = buffers.get(t % INSTANCES);
+            executor.submit(() -> {
+                start.await();
+                for (int i = next.getAndIncrement(); i < events; i = next.getAndIncrement()) {
+                    buffer.add(trainId, -1, trainId + "-" + (i + 1), channel, i + 1);
+                }
+                return null;
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        while (acked.get() < events && System.nanoTime() - begin < TimeUnit.MINUTES.toNanos(1)) {
+            Thread.sleep(1);
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        schedulers.forEach(ScheduledExecutorService::shutdownNow);
+
+        int remaining = trainRepository.findById(trainId).orElseThrow().getAvailableSeats();
+        List<Integer> stripes = trainSeatStripeRepository.findAll().stream()
+                .filter(stripe -> stripe.getTrainId().equals(trainId))
+                .map(TrainSeatStripe::getAvailableSeats)
+                .toList();
+        return new Result(events / seconds, acked.get(), redelivered.get(), remaining, stripes);
+    }
+
+    private Long saveTrain(int availableSeats, int stripes) {
+        LocalDateTime now = LocalDateTime.now();
+        Long trainId = trainRepository.save(Train.builder()
+                .name("KTX-101")
+                .price(50000)
+                .departureStation("서울")
+                .arrivalStation("부산")
+                .departureTime(now)
+                .arrivalTime(now.plusHours(3))
+                .availableSeats(availableSeats)
+                .build()).getId();
+        if (stripes > 0) {
+            trainService.enableSeatStripes(trainId, stripes);
+        }
+        return trainId;
+    }
+
+    private record Result(double throughput, int acked, int redelivered, int remaining, List<Integer> stripes) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.ktcloudinfra.trainservice.benchmark;
+
+import com.ktcloudinfra.trainservice.entity.Train;
+import com.ktcloudinfra.trainservice.repository.TrainRepository;
+import com.ktcloudinfra.trainservice.service.TrainService;
+import com.ktcloudinfra.trainservice.service.TrainServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리스너 스레드 16개가 한 열차의 예약 이벤트 10,000건을 동시에 처리할 때,
+ * 엔티티를 읽어 고쳐 쓰는 방식(SELECT + UPDATE)과 조건부 UPDATE 한 문장의 처리량과 정확도 비교.
+ * {@code gradle benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@Import(TrainServiceImpl.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.ktcloudinfra.trainservice=INFO"
+})
+class TrainSeatCounterBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final int EVENTS = 10_000;
+    private static final int WARMUP = 1_000;
+
+    @Autowired
+    private TrainService trainService;
+
+    @Autowired
+    private TrainRepository trainRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private RabbitTemplate rabbitTemplate;
+
+    @AfterEach
+    void tearDown() {
+        trainRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("예약 이벤트 10,000건: 읽고 고쳐 쓰기 vs 조건부 UPDATE")
+    void readModifyWriteVersusAtomic() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        // 이전 구현: 엔티티를 읽어 Java에서 1 감소 후 더티 체킹으로 UPDATE
+        EventHandler readModifyWrite = trainId -> transaction.executeWithoutResult(status -> {
+            Train train = trainRepository.findById(trainId).orElseThrow();
+            train.updateAvailableSeats(train.getAvailableSeats() - 1);
+        });
+        EventHandler atomic = trainService::decrementAvailableSeats;
+
+        run(saveTrain(WARMUP), WARMUP, readModifyWrite);
+        run(saveTrain(WARMUP), WARMUP, atomic);
+        Result before = run(saveTrain(EVENTS), EVENTS, readModifyWrite);
+        Result after = run(saveTrain(EVENTS), EVENTS, atomic);
+
+        System.out.printf("[train-seats] events=%,d threads=%d%n", EVENTS, THREADS);
+        System.out.printf("[train-seats] read-modify-write %,8.0f events/s, remaining=%,d (lost updates=%,d), failed=%,d%n",
+                before.throughput(), before.remaining(), before.remaining() - before.failed(), before.failed());
+        System.out.printf("[train-seats] atomic UPDATE     %,8.0f events/s, remaining=%,d (lost updates=%,d), failed=%,d%n",
+                after.throughput(), after.remaining(), after.remaining() - after.failed(), after.failed());
+
+        assertThat(after.remaining()).isZero();
+        assertThat(after.failed()).isZero();
+        assertThat(after.throughput()).isGreaterThan(before.throughput());
+    }
+
+    private Result run(Long trainId, int events, EventHandler handler) throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                start.await();
+                while (next.getAndIncrement() < events) {
+                    try {
+                        handler.handle(trainId);
+                    } catch (RuntimeException e) {
+                        // 잠금 대기 시간 초과 등
+                        failed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        int remaining = trainRepository.findById(trainId).orElseThrow().getAvailableSeats();
+        return new Result(events / seconds, remaining, failed.get());
+    }
+
+    private Long saveTrain(int availableSeats) {
+        LocalDateTime now = LocalDateTime.now();
+        return trainRepository.save(Train.builder()
+                .name("KTX-101")
+                .price(50000)
+                .departureStation("서울")
+                .arrivalStation("부산")
+                .departureTime(now)
+                .arrivalTime(now.plusHours(3))
+                .availableSeats(availableSeats)
+                .build()).getId();
+    }
+
+    // 처리 후 남은 좌석 수: 모든 이벤트가 반영되면 0, 실패한 이벤트만큼은 남는 것이 정상
+    private record Result(double throughput, int remaining, int failed) {
+    }
+
+    @FunctionalInterface
+    private interface EventHandler {
+        void handle(Long trainId);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ktcloudinfra.trainservice.controller;
 
+import com.ktcloudinfra.trainservice.dto.request.TrainUpdateRequestDTO;
 import com.ktcloudinfra.trainservice.entity.Train;
 import com.ktcloudinfra.trainservice.global.exception.ApiException;
 import com.ktcloudinfra.trainservice.service.TrainService;
@@ -9,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -16,6 +18,8 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -69,6 +73,27 @@ class TrainControllerTest {
         verify(trainService).getAllTrains();
     }
 
+    @Test
+    @DisplayName("GET /api/v1/trains/bulk?ids=1,2 - 열차 일괄 조회 성공")
+    void getTrains_Success() throws Exception {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Train train1 = createTrain(1L, "KTX-101", 50000, 100, now);
+        Train train2 = createTrain(2L, "KTX-102", 45000, 80, now);
+
+        when(trainService.getTrains(List.of(1L, 2L))).thenReturn(Arrays.asList(train1, train2));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/trains/bulk")
+                        .param("ids", "1", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[1].name").value("KTX-102"));
+
+        verify(trainService).getTrains(List.of(1L, 2L));
+    }
+
     @Test
     @DisplayName("GET /api/v1/trains/{trainId} - 열차 조회 성공")
     void getTrain_Success() throws Exception {
@@ -87,11 +112,36 @@ class TrainControllerTest {
                 .andExpect(jsonPath("$.price").value(50000))
                 .andExpect(jsonPath("$.departureStation").value("서울"))
                 .andExpect(jsonPath("$.arrivalStation").value("부산"))
-                .andExpect(jsonPath("$.availableSeats").value(100));
+                .andExpect(jsonPath("$.availableSeats").value(100))
+                .andExpect(jsonPath("$.seatStripes").doesNotExist());
 
         verify(trainService).getTrain(trainId);
     }
 
+    @Test
+    @DisplayName("PUT /api/v1/trains/{trainId} - 열차 정보 수정 성공")
+    void updateTrain_Success() throws Exception {
+        // Given
+        Long trainId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+        Train train = createTrain(trainId, "KTX-101", 52000, 100, now);
+
+        when(trainService.updateTrain(eq(trainId), any(TrainUpdateRequestDTO.class))).thenReturn(train);
+
+        // When & Then
+        mockMvc.perform(put("/api/v1/trains/{trainId}", trainId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"KTX-101","price":52000,"departureStation":"서울","arrivalStation":"부산",
+                                 "departureTime":"2026-01-01T09:00:00","arrivalTime":"2026-01-01T12:00:00"}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.price").value(52000));
+
+        verify(trainService).updateTrain(eq(trainId), any(TrainUpdateRequestDTO.class));
+    }
+
     @Test
     @DisplayName("GET /api/v1/trains/{trainId} - 열차 조회 실패 (존재하지 않음)")
     void getTrain_Fail_NotFound() throws Exception {
@@ -161,6 +211,42 @@ class TrainControllerTest {
         verify(trainService).updateAvailableSeats(trainId, newSeats);
     }
 
+    @Test
+    @DisplayName("PUT /api/v1/trains/{trainId}/seat-stripes - 분할 카운터 사용 설정 성공")
+    void enableSeatStripes_Success() throws Exception {
+        // When & Then
+        mockMvc.perform(put("/api/v1/trains/{trainId}/seat-stripes", 1L)
+                        .param("stripes", "8"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("분할 카운터 사용 설정 완료"));
+
+        verify(trainService).enableSeatStripes(1L, 8);
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/trains/{trainId}/seat-stripes - 이미 사용 중이면 400")
+    void enableSeatStripes_Fail_AlreadyEnabled() throws Exception {
+        // Given
+        doThrow(new ApiException("이미 분할 카운터를 사용하는 열차입니다."))
+                .when(trainService).enableSeatStripes(1L, 8);
+
+        // When & Then
+        mockMvc.perform(put("/api/v1/trains/{trainId}/seat-stripes", 1L)
+                        .param("stripes", "8"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/trains/{trainId}/seat-stripes - 분할 카운터 사용 해제 성공")
+    void disableSeatStripes_Success() throws Exception {
+        // When & Then
+        mockMvc.perform(delete("/api/v1/trains/{trainId}/seat-stripes", 1L))
+                .andExpect(status().isOk())
+                .andExpect(content().string("분할 카운터 사용 해제 완료"));
+
+        verify(trainService).disableSeatStripes(1L);
+    }
+
     private Train createTrain(Long id, String name, int price, int availableSeats, LocalDateTime time) {
         Train train = Train.builder()
                 .name(name)
@@ -0,0 +1,327 @@
+package com.ktcloudinfra.trainservice.listener;
+
+import com.ktcloudinfra.trainservice.entity.ProcessedMessage;
+import com.ktcloudinfra.trainservice.global.exception.ApiException;
+import com.ktcloudinfra.trainservice.repository.ProcessedMessageRepository;
+import com.ktcloudinfra.trainservice.service.TrainService;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatDeltaBufferTest {
+
+    @Mock
+    private TrainService trainService;
+
+    @Mock
+    private ProcessedMessageRepository processedMessageRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Channel channel;
+
+    private SeatDeltaBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new SeatDeltaBuffer(trainService, processedMessageRepository, transactionManager, 200, Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("주기 안의 증감을 열차별 순증감으로 모아 UPDATE 한 번, 반영 후 모든 메시지 ack")
+    void flush_AppliesNetDeltaPerTrain() throws Exception {
+        // Given
+        givenTransaction();
+        when(trainService.decrementAvailableSeats(100L, 2)).thenReturn(true);
+        buffer.add(100L, -1, null, channel, 1L);
+        buffer.add(100L, -1, null, channel, 2L);
+        buffer.add(101L, 1, null, channel, 3L);
+        buffer.add(100L, 1, null, channel, 4L);
+        buffer.add(100L, -1, null, channel, 5L);
+        assertThat(buffer.pending()).isEqualTo(5);
+        verifyNoInteractions(trainService, channel);
+
+        // When
+        buffer.flush();
+
+        // Then
+        verify(trainService).decrementAvailableSeats(100L, 2);
+        verify(trainService).incrementAvailableSeats(101L, 1);
+        verifyNoMoreInteractions(trainService);
+        for (long tag = 1; tag <= 5; tag++) {
+            verify(channel).basicAck(tag, false);
+        }
+        assertThat(buffer.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("누적 증감이 음수로 내려가지 않으면(증가가 먼저) 순증감만 반영, 0이면 UPDATE 없이 ack")
+    void flush_NetZero() throws Exception {
+        // Given
+        givenTransaction();
+        buffer.add(100L, 1, null, channel, 1L);
+        buffer.add(100L, -1, null, channel, 2L);
+
+        // When
+        buffer.flush();
+
+        // Then
+        verifyNoInteractions(trainService);
+        verify(channel).basicAck(1L, false);
+        verify(channel).basicAck(2L, false);
+    }
+
+    @Test
+    @DisplayName("감소가 먼저 오면 누적 최저치만큼 잔여 좌석을 조건부로 감소한 뒤 나머지를 증가")
+    void flush_DecrementFirst_ChecksLowestRunningTotal() throws Exception {
+        // Given - 누적 -2 → +1 (순증가지만 앞의 감소 2석은 잔여 좌석이 있어야 성공)
+        givenTransaction();
+        when(trainService.decrementAvailableSeats(100L, 2)).thenReturn(true);
+        buffer.add(100L, -1, null, channel, 1L);
+        buffer.add(100L, -1, null, channel, 2L);
+        buffer.add(100L, 3, null, channel, 3L);
+
+        // When
+        buffer.flush();
+
+        // Then
+        InOrder inOrder = inOrder(trainService);
+        inOrder.verify(trainService).decrementAvailableSeats(100L, 2);
+        inOrder.verify(trainService).incrementAvailableSeats(100L, 3);
+        verifyNoMoreInteractions(trainService);
+        for (long tag = 1; tag <= 3; tag++) {
+            verify(channel).basicAck(tag, false);
+        }
+    }
+
+    @Test
+    @DisplayName("누적 최저치만큼 잔여 좌석이 없으면 순증가여도 도착 순서대로 하나씩 반영")
+    void flush_DecrementFirst_SoldOut_AppliesEach() throws Exception {
+        // Given - 매진: 앞의 감소는 실패하고 뒤의 취소만 반영되어야 함 (순증감 +1을 그대로 더하면 1석이 사라짐)
+        givenTransaction();
+        when(trainService.decrementAvailableSeats(100L, 2)).thenReturn(false);
+        when(trainService.decrementAvailableSeats(100L, 1)).thenReturn(false);
+        buffer.add(100L, -1, null, channel, 1L);
+        buffer.add(100L, -1, null, channel, 2L);
+        buffer.add(100L, 3, null, channel, 3L);
+
+        // When
+        buffer.flush();
+
+        // Then
+        InOrder inOrder = inOrder(trainService);
+        inOrder.verify(trainService).decrementAvailableSeats(100L, 2);
+        inOrder.verify(trainService, times(2)).decrementAvailableSeats(100L, 1);
+        inOrder.verify(trainService).incrementAvailableSeats(100L, 3);
+        verifyNoMoreInteractions(trainService);
+    }
+
+    @Test
+    @DisplayName("한 열차에 max-events건이 쌓이면 주기를 기다리지 않고 반영")
+    void add_FlushesWhenFull() throws Exception {
+        // Given
+        givenTransaction();
+        buffer = new SeatDeltaBuffer(trainService, processedMessageRepository, transactionManager, 3, Duration.ofDays(1));
+        when(trainService.decrementAvailableSeats(100L, 3)).thenReturn(true);
+
+        // When
+        buffer.add(100L, -1, null, channel, 1L);
+        buffer.add(101L, -1, null, channel, 2L);
+        buffer.add(100L, -1, null, channel, 3L);
+        buffer.add(100L, -1, null, channel, 4L);
+
+        // Then
+        verify(trainService).decrementAvailableSeats(100L, 3);
+        verify(channel).basicAck(4L, false);
+        verify(channel, never()).basicAck(2L, false);
+        assertThat(buffer.pending()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("순감소분만큼 잔여 좌석이 없으면 도착 순서대로 하나씩 반영하고 모두 ack")
+    void flush_SoldOut_AppliesEachInOrder() throws Exception {
+        // Given - 잔여 1석: 감소 성공, 감소 실패(매진), 취소로 1석 복구, 단체 2석 감소 실패
+        givenTransaction();
+        when(trainService.decrementAvailableSeats(100L, 3)).thenReturn(false);
+        when(trainService.decrementAvailableSeats(100L, 1)).thenReturn(true, false);
+        when(trainService.decrementAvailableSeats(100L, 2)).thenReturn(false);
+        buffer.add(100L, -1, null, channel, 1L);
+        buffer.add(100L, -1, null, channel, 2L);
+        buffer.add(100L, 1, null, channel, 3L);
+        buffer.add(100L, -2, null, channel, 4L);
+
+        // When
+        buffer.flush();
+
+        // Then
+        InOrder inOrder = inOrder(trainService);
+        inOrder.verify(trainService).decrementAvailableSeats(100L, 3);
+        inOrder.verify(trainService, times(2)).decrementAvailableSeats(100L, 1);
+        inOrder.verify(trainService).incrementAvailableSeats(100L, 1);
+        inOrder.verify(trainService).decrementAvailableSeats(100L, 2);
+        for (long tag = 1; tag <= 4; tag++) {
+            verify(channel).basicAck(tag, false);
+        }
+    }
+
+    @Test
+    @DisplayName("없는 열차의 메시지는 재배달 없이 nack")
+    void flush_TrainNotFound_Rejects() throws Exception {
+        // Given
+        givenTransaction();
+        when(trainService.decrementAvailableSeats(999L, 1)).thenThrow(new ApiException("열차가 존재하지 않습니다."));
+        buffer.add(999L, -1, null, channel, 1L);
+
+        // When
+        buffer.flush();
+
+        // Then
+        verify(channel).basicNack(1L, false, false);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 ack 하지 않고 재배달 요청")
+    void flush_Failure_Requeues() throws Exception {
+        // Given
+        givenTransaction();
+        doThrow(new DataAccessResourceFailureException("db down"))
+                .when(trainService).incrementAvailableSeats(100L, 2);
+        buffer.add(100L, 1, null, channel, 1L);
+        buffer.add(100L, 1, null, channel, 2L);
+
+        // When
+        buffer.flush();
+
+        // Then
+        verify(channel).basicNack(1L, false, true);
+        verify(channel).basicNack(2L, false, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        assertThat(buffer.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("ack/nack 전송 실패는 다른 메시지 처리에 영향 없음")
+    void ackFailure_Ignored() throws Exception {
+        // Given
+        givenTransaction();
+        doThrow(new IOException("channel closed")).when(channel).basicAck(anyLong(), anyBoolean());
+        doThrow(new IOException("channel closed")).when(channel).basicNack(anyLong(), anyBoolean(), anyBoolean());
+        when(trainService.decrementAvailableSeats(999L, 1)).thenThrow(new ApiException("열차가 존재하지 않습니다."));
+        buffer.add(100L, 1, null, channel, 1L);
+        buffer.add(999L, -1, null, channel, 2L);
+
+        // When
+        buffer.flush();
+
+        // Then
+        verify(trainService).incrementAvailableSeats(100L, 1);
+        verify(channel).basicAck(1L, false);
+        verify(channel).basicNack(2L, false, false);
+    }
+
+    @Test
+    @DisplayName("종료 시 반영 전 증감은 버림 (ack 되지 않은 메시지는 다시 배달됨)")
+    void discard() {
+        // Given
+        buffer.add(100L, -1, null, channel, 1L);
+        buffer.add(101L, 1, null, channel, 2L);
+
+        // When
+        buffer.discard();
+        buffer.flush();
+
+        // Then
+        assertThat(buffer.pending()).isZero();
+        verifyNoInteractions(trainService, channel);
+    }
+
+    @Test
+    @DisplayName("이미 반영한 메시지와 같은 배치 안의 중복 메시지는 반영하지 않고 ack, 새 메시지 id만 기록")
+    @SuppressWarnings("unchecked")
+    void flush_SkipsProcessedMessages() throws Exception {
+        // Given - "1"은 이전 배치에서 반영됨(아웃박스 재발행), "2"는 이 배치에 두 번 배달됨
+        givenTransaction();
+        when(processedMessageRepository.findProcessedIds(Set.of("1", "2", "3"))).thenReturn(List.of("1"));
+        buffer.add(100L, 1, "1", channel, 1L);
+        buffer.add(100L, 1, "2", channel, 2L);
+        buffer.add(100L, 1, "2", channel, 3L);
+        buffer.add(100L, 1, "3", channel, 4L);
+        buffer.add(100L, 1, null, channel, 5L);
+
+        // When
+        buffer.flush();
+
+        // Then
+        verify(trainService).incrementAvailableSeats(100L, 3);
+        verifyNoMoreInteractions(trainService);
+        ArgumentCaptor<List<ProcessedMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(processedMessageRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(ProcessedMessage::getMessageId).containsExactly("2", "3");
+        for (long tag = 1; tag <= 5; tag++) {
+            verify(channel).basicAck(tag, false);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 취소 메시지가 다시 배달되면 잔여 좌석을 한 번만 증가")
+    void flush_RedeliveredCancel_AppliedOnce() throws Exception {
+        // Given
+        givenTransaction();
+        when(processedMessageRepository.findProcessedIds(Set.of("7"))).thenReturn(List.of(), List.of("7"));
+        buffer.add(100L, 1, "7", channel, 1L);
+        buffer.flush();
+
+        // When
+        buffer.add(100L, 1, "7", channel, 2L);
+        buffer.flush();
+
+        // Then
+        verify(trainService, times(1)).incrementAvailableSeats(100L, 1);
+        verify(channel).basicAck(1L, false);
+        verify(channel).basicAck(2L, false);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 처리 메시지 id 삭제")
+    void purgeProcessed() {
+        // Given
+        givenTransaction();
+        when(processedMessageRepository.deleteProcessedBefore(any())).thenReturn(3, 0);
+
+        // When
+        buffer.purgeProcessed();
+        buffer.purgeProcessed();
+
+        // Then
+        ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(processedMessageRepository, times(2)).deleteProcessedBefore(captor.capture());
+        assertThat(captor.getValue()).isBefore(LocalDateTime.now().minusHours(23));
+    }
+
+    private void givenTransaction() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+}
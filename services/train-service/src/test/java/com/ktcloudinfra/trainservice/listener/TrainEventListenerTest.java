@@ -1,8 +1,10 @@
 package com.ktcloudinfra.trainservice.listener;
 
 import com.ktcloudinfra.trainservice.dto.event.ReservationCancelledEvent;
+import com.ktcloudinfra.trainservice.dto.event.ReservationGroupRequestedEvent;
 import com.ktcloudinfra.trainservice.dto.event.ReservationRequestedEvent;
-import com.ktcloudinfra.trainservice.service.TrainService;
+import com.ktcloudinfra.trainservice.dto.event.SeatRejectedEvent;
+import com.rabbitmq.client.Channel;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.Mockito.*;
 
@@ -18,13 +21,16 @@ import static org.mockito.Mockito.*;
 class TrainEventListenerTest {
 
     @Mock
-    private TrainService trainService;
+    private SeatDeltaBuffer seatDeltaBuffer;
+
+    @Mock
+    private Channel channel;
 
     @InjectMocks
     private TrainEventListener trainEventListener;
 
     @Test
-    @DisplayName("예약 요청 이벤트 처리 - 좌석 감소")
+    @DisplayName("예약 요청 이벤트 처리 - 좌석 1석 감소를 버퍼에 추가")
     void handleReservationRequested() {
         // Given
         ReservationRequestedEvent event = new ReservationRequestedEvent(
@@ -34,17 +40,16 @@ class TrainEventListenerTest {
                 LocalDateTime.now()
         );
 
-        doNothing().when(trainService).decrementAvailableSeats(100L);
-
         // When
-        trainEventListener.handleReservationRequested(event);
+        trainEventListener.handleReservationRequested(event, channel, "7", 7L);
 
         // Then
-        verify(trainService).decrementAvailableSeats(100L);
+        verify(seatDeltaBuffer).add(100L, -1, "7", channel, 7L);
+        verifyNoInteractions(channel);
     }
 
     @Test
-    @DisplayName("예약 취소 이벤트 처리 - 좌석 증가")
+    @DisplayName("예약 취소 이벤트 처리 - 좌석 1석 증가를 버퍼에 추가")
     void handleReservationCancelled() {
         // Given
         ReservationCancelledEvent event = new ReservationCancelledEvent(
@@ -54,13 +59,41 @@ class TrainEventListenerTest {
                 LocalDateTime.now()
         );
 
-        doNothing().when(trainService).incrementAvailableSeats(100L);
+        // When
+        trainEventListener.handleReservationCancelled(event, channel, "8", 8L);
+
+        // Then
+        verify(seatDeltaBuffer).add(100L, 1, "8", channel, 8L);
+    }
+
+    @Test
+    @DisplayName("단체 예약 이벤트 처리 - 좌석 수만큼 감소")
+    void handleReservationGroupRequested() {
+        // Given
+        ReservationGroupRequestedEvent event = new ReservationGroupRequestedEvent(100L, List.of(
+                new ReservationGroupRequestedEvent.GroupSeat(1L, "1A"),
+                new ReservationGroupRequestedEvent.GroupSeat(2L, "1B")), LocalDateTime.now());
 
         // When
-        trainEventListener.handleReservationCancelled(event);
+        trainEventListener.handleReservationGroupRequested(event, channel, "9", 9L);
 
         // Then
-        verify(trainService).incrementAvailableSeats(100L);
+        verify(seatDeltaBuffer).add(100L, -2, "9", channel, 9L);
+    }
+
+    @Test
+    @DisplayName("좌석 예약 거절 이벤트 처리 - 좌석 복구")
+    void handleSeatRejected() {
+        // Given
+        SeatRejectedEvent event = new SeatRejectedEvent(
+                1L, 100L, "1A", "이미 예약된 좌석입니다.", LocalDateTime.now()
+        );
+
+        // When
+        trainEventListener.handleSeatRejected(event, channel, null, 10L);
+
+        // Then
+        verify(seatDeltaBuffer).add(100L, 1, null, channel, 10L);
     }
 
     @Test
@@ -71,16 +104,14 @@ class TrainEventListenerTest {
         ReservationRequestedEvent event2 = new ReservationRequestedEvent(2L, 100L, "1B", LocalDateTime.now());
         ReservationRequestedEvent event3 = new ReservationRequestedEvent(3L, 101L, "2A", LocalDateTime.now());
 
-        doNothing().when(trainService).decrementAvailableSeats(anyLong());
-
         // When
-        trainEventListener.handleReservationRequested(event1);
-        trainEventListener.handleReservationRequested(event2);
-        trainEventListener.handleReservationRequested(event3);
+        trainEventListener.handleReservationRequested(event1, channel, "1", 1L);
+        trainEventListener.handleReservationRequested(event2, channel, "2", 2L);
+        trainEventListener.handleReservationRequested(event3, channel, "3", 3L);
 
         // Then
-        verify(trainService, times(2)).decrementAvailableSeats(100L);
-        verify(trainService, times(1)).decrementAvailableSeats(101L);
+        verify(seatDeltaBuffer, times(2)).add(eq(100L), eq(-1), anyString(), eq(channel), anyLong());
+        verify(seatDeltaBuffer).add(101L, -1, "3", channel, 3L);
     }
 
     @Test
@@ -94,15 +125,12 @@ class TrainEventListenerTest {
                 1L, 100L, "1A", LocalDateTime.now()
         );
 
-        doNothing().when(trainService).decrementAvailableSeats(100L);
-        doNothing().when(trainService).incrementAvailableSeats(100L);
-
         // When
-        trainEventListener.handleReservationRequested(requestEvent);
-        trainEventListener.handleReservationCancelled(cancelEvent);
+        trainEventListener.handleReservationRequested(requestEvent, channel, "1", 1L);
+        trainEventListener.handleReservationCancelled(cancelEvent, channel, "2", 2L);
 
         // Then
-        verify(trainService).decrementAvailableSeats(100L);
-        verify(trainService).incrementAvailableSeats(100L);
+        verify(seatDeltaBuffer).add(100L, -1, "1", channel, 1L);
+        verify(seatDeltaBuffer).add(100L, 1, "2", channel, 2L);
     }
 }
@@ -0,0 +1,72 @@
+package com.ktcloudinfra.trainservice.repository;
+
+import com.ktcloudinfra.trainservice.entity.ProcessedMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ProcessedMessageRepositoryTest {
+
+    @Autowired
+    private ProcessedMessageRepository processedMessageRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("이미 반영한 메시지 id만 조회")
+    void findProcessedIds() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        processedMessageRepository.saveAll(List.of(new ProcessedMessage("1", now), new ProcessedMessage("2", now)));
+        entityManager.flush();
+
+        // When
+        List<String> processed = processedMessageRepository.findProcessedIds(List.of("2", "3"));
+
+        // Then
+        assertThat(processed).containsExactly("2");
+    }
+
+    @Test
+    @DisplayName("같은 메시지 id를 다시 기록하면 키 충돌 (동시에 반영한 다른 인스턴스의 트랜잭션을 롤백)")
+    void save_Duplicate_Fails() {
+        // Given
+        processedMessageRepository.save(new ProcessedMessage("1", LocalDateTime.now()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When & Then
+        assertThatThrownBy(() -> processedMessageRepository.saveAndFlush(new ProcessedMessage("1", LocalDateTime.now())))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 메시지 id만 삭제")
+    void deleteProcessedBefore() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        processedMessageRepository.saveAll(List.of(
+                new ProcessedMessage("1", now.minusDays(2)), new ProcessedMessage("2", now)));
+        entityManager.flush();
+
+        // When
+        int deleted = processedMessageRepository.deleteProcessedBefore(now.minusDays(1));
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(processedMessageRepository.findProcessedIds(List.of("1", "2"))).containsExactly("2");
+    }
+}
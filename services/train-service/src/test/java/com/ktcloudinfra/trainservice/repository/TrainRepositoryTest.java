@@ -123,4 +123,55 @@ class TrainRepositoryTest {
         Train updated = trainRepository.findById(saved.getId()).orElseThrow();
         assertThat(updated.getAvailableSeats()).isEqualTo(90);
     }
+
+    @Test
+    @DisplayName("잔여 좌석 감소 - 잔여 좌석이 요청 수 이상일 때만 한 행 갱신")
+    void decrementAvailableSeats() {
+        // Given
+        Train saved = entityManager.persist(createTrain(3));
+        entityManager.flush();
+
+        // When
+        int first = trainRepository.decrementAvailableSeats(saved.getId(), 2);
+        int second = trainRepository.decrementAvailableSeats(saved.getId(), 2);
+        int missing = trainRepository.decrementAvailableSeats(999L, 1);
+        entityManager.clear();
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(missing).isZero();
+        assertThat(trainRepository.findById(saved.getId()).orElseThrow().getAvailableSeats()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잔여 좌석 증가 - 없는 열차는 갱신 행 0")
+    void incrementAvailableSeats() {
+        // Given
+        Train saved = entityManager.persist(createTrain(0));
+        entityManager.flush();
+
+        // When
+        int updated = trainRepository.incrementAvailableSeats(saved.getId(), 1);
+        int missing = trainRepository.incrementAvailableSeats(999L, 1);
+        entityManager.clear();
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(missing).isZero();
+        assertThat(trainRepository.findById(saved.getId()).orElseThrow().getAvailableSeats()).isEqualTo(1);
+    }
+
+    private Train createTrain(int availableSeats) {
+        LocalDateTime now = LocalDateTime.now();
+        return Train.builder()
+                .name("KTX-101")
+                .price(50000)
+                .departureStation("서울")
+                .arrivalStation("부산")
+                .departureTime(now)
+                .arrivalTime(now.plusHours(3))
+                .availableSeats(availableSeats)
+                .build();
+    }
 }
@@ -0,0 +1,122 @@
+package com.ktcloudinfra.trainservice.repository;
+
+import com.ktcloudinfra.trainservice.entity.Train;
+import com.ktcloudinfra.trainservice.entity.TrainSeatStripe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class TrainSeatStripeRepositoryTest {
+
+    @Autowired
+    private TrainSeatStripeRepository trainSeatStripeRepository;
+
+    @Autowired
+    private TrainRepository trainRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long trainId;
+
+    @BeforeEach
+    void setUp() {
+        // Given - 잔여 좌석 7석을 stripe 3개(3, 2, 2)로 나눈 열차
+        LocalDateTime now = LocalDateTime.now();
+        Train train = Train.builder()
+                .name("KTX-101")
+                .price(50000)
+                .departureStation("서울")
+                .arrivalStation("부산")
+                .departureTime(now)
+                .arrivalTime(now.plusHours(3))
+                .availableSeats(0)
+                .build();
+        train.enableSeatStripes(3);
+        trainId = entityManager.persist(train).getId();
+        entityManager.persist(new TrainSeatStripe(trainId, 2, 2));
+        entityManager.persist(new TrainSeatStripe(trainId, 0, 3));
+        entityManager.persist(new TrainSeatStripe(trainId, 1, 2));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("분할 카운터 열차의 잔여 좌석은 stripe 합계")
+    void train_AvailableSeats_SumOfStripes() {
+        // When
+        Train train = trainRepository.findById(trainId).orElseThrow();
+
+        // Then
+        assertThat(train.getSeatStripes()).isEqualTo(3);
+        assertThat(train.getAvailableSeats()).isEqualTo(7);
+        assertThat(trainRepository.findSeatStripesById(trainId)).contains(3);
+    }
+
+    @Test
+    @DisplayName("stripe 감소 - 그 stripe의 잔여 좌석이 요청 수 이상일 때만 갱신")
+    void decrementAvailableSeats() {
+        // When
+        int first = trainSeatStripeRepository.decrementAvailableSeats(trainId, 0, 2);
+        int second = trainSeatStripeRepository.decrementAvailableSeats(trainId, 0, 2);
+        int missing = trainSeatStripeRepository.decrementAvailableSeats(trainId, 3, 1);
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(missing).isZero();
+        assertThat(trainSeatStripeRepository.findAllByTrainIdForUpdate(trainId))
+                .extracting(TrainSeatStripe::getAvailableSeats)
+                .containsExactly(1, 2, 2);
+    }
+
+    @Test
+    @DisplayName("stripe 증가와 stripe 순서 잠금 조회")
+    void incrementAvailableSeats() {
+        // When
+        int updated = trainSeatStripeRepository.incrementAvailableSeats(trainId, 1, 5);
+        int missing = trainSeatStripeRepository.incrementAvailableSeats(trainId, 3, 1);
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(missing).isZero();
+        List<TrainSeatStripe> stripes = trainSeatStripeRepository.findAllByTrainIdForUpdate(trainId);
+        assertThat(stripes).extracting(TrainSeatStripe::getStripe).containsExactly(0, 1, 2);
+        assertThat(stripes).extracting(TrainSeatStripe::getAvailableSeats).containsExactly(3, 7, 2);
+    }
+
+    @Test
+    @DisplayName("감소 계획용 조회 - 잠그지 않고 stripe 순서로 잔여 좌석만 읽어, 이어서 잠가 읽으면 현재 값")
+    void findAvailableSeatsByTrainId() {
+        // When
+        List<Integer> planned = trainSeatStripeRepository.findAvailableSeatsByTrainId(trainId);
+        trainSeatStripeRepository.decrementAvailableSeats(trainId, 2, 2);
+
+        // Then
+        assertThat(planned).containsExactly(3, 2, 2);
+        assertThat(trainSeatStripeRepository.findAllByTrainIdForUpdate(trainId))
+                .extracting(TrainSeatStripe::getAvailableSeats)
+                .containsExactly(3, 2, 0);
+    }
+
+    @Test
+    @DisplayName("열차의 stripe 일괄 삭제")
+    void deleteAllByTrainId() {
+        // When
+        trainSeatStripeRepository.deleteAllByTrainId(trainId);
+
+        // Then
+        assertThat(trainSeatStripeRepository.findAllByTrainIdForUpdate(trainId)).isEmpty();
+    }
+}
@@ -0,0 +1,238 @@
+package com.ktcloudinfra.trainservice.service;
+
+import com.ktcloudinfra.trainservice.entity.Train;
+import com.ktcloudinfra.trainservice.repository.TrainRepository;
+import com.ktcloudinfra.trainservice.repository.TrainSeatStripeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 잔여 좌석 증감(조건부 UPDATE)의 동시성 검증. 리스너 스레드 여러 개가 같은 열차의 이벤트를 동시에 처리하는 상황.
+ */
+@DataJpaTest(showSql = false)
+@Import(TrainServiceImpl.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class TrainServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private TrainService trainService;
+
+    @Autowired
+    private TrainRepository trainRepository;
+
+    @Autowired
+    private TrainSeatStripeRepository trainSeatStripeRepository;
+
+    @MockBean
+    private RabbitTemplate rabbitTemplate;
+
+    @AfterEach
+    void tearDown() {
+        trainSeatStripeRepository.deleteAllInBatch();
+        trainRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("예약 6,000건과 취소 4,000건을 동시에 처리해도 잔여 좌석 수가 정확함")
+    void mixedEvents_Exact() throws Exception {
+        // Given
+        Long trainId = saveTrain(10_000);
+
+        // When - 이벤트 10,000건, 10건 중 4건은 취소
+        run(10_000, i -> {
+            if (i % 10 < 4) {
+                trainService.incrementAvailableSeats(trainId);
+            } else {
+                trainService.decrementAvailableSeats(trainId);
+            }
+        });
+
+        // Then
+        assertThat(trainRepository.findById(trainId).orElseThrow().getAvailableSeats())
+                .isEqualTo(10_000 - 6_000 + 4_000);
+    }
+
+    @Test
+    @DisplayName("잔여 좌석보다 많은 예약 요청이 동시에 와도 잔여 좌석만큼만 감소하고 음수가 되지 않음")
+    void decrement_StopsAtZero() throws Exception {
+        // Given
+        Long trainId = saveTrain(100);
+        AtomicInteger decremented = new AtomicInteger();
+
+        // When
+        run(1_000, i -> {
+            if (trainService.decrementAvailableSeats(trainId)) {
+                decremented.incrementAndGet();
+            }
+        });
+
+        // Then
+        assertThat(decremented.get()).isEqualTo(100);
+        assertThat(trainRepository.findById(trainId).orElseThrow().getAvailableSeats()).isZero();
+    }
+
+    @Test
+    @DisplayName("분할 카운터 열차 - 예약 6,000건과 취소 4,000건을 동시에 처리해도 stripe 합계가 정확함")
+    void striped_MixedEvents_Exact() throws Exception {
+        // Given
+        Long trainId = saveTrain(10_000);
+        trainService.enableSeatStripes(trainId, 8);
+
+        // When
+        run(10_000, i -> {
+            if (i % 10 < 4) {
+                trainService.incrementAvailableSeats(trainId);
+            } else {
+                trainService.decrementAvailableSeats(trainId);
+            }
+        });
+
+        // Then
+        assertThat(trainRepository.findById(trainId).orElseThrow().getAvailableSeats())
+                .isEqualTo(10_000 - 6_000 + 4_000);
+    }
+
+    @Test
+    @DisplayName("분할 카운터 열차 - stripe가 바닥나면 여러 stripe에 나누거나 재분배해 전체 잔여 좌석만큼 정확히 감소")
+    void striped_Decrement_RebalancesAndStopsAtZero() throws Exception {
+        // Given - stripe 8개에 100석, 스레드마다 고르는 stripe가 먼저 바닥남
+        Long trainId = saveTrain(100);
+        trainService.enableSeatStripes(trainId, 8);
+        AtomicInteger decremented = new AtomicInteger();
+
+        // When
+        run(1_000, i -> {
+            if (trainService.decrementAvailableSeats(trainId)) {
+                decremented.incrementAndGet();
+            }
+        });
+
+        // Then
+        assertThat(decremented.get()).isEqualTo(100);
+        assertThat(trainRepository.findById(trainId).orElseThrow().getAvailableSeats()).isZero();
+    }
+
+    @Test
+    @DisplayName("분할 카운터 열차 - 한 석씩 감소하다 stripe 하나가 바닥나면 남은 좌석을 모든 stripe에 다시 나눔")
+    void striped_SingleSeatDecrements_RebalanceDrainedStripe() throws Exception {
+        // Given - stripe 4개에 40석 (10석씩)
+        Long trainId = saveTrain(40);
+        trainService.enableSeatStripes(trainId, 4);
+
+        // When - 한 석씩 감소: stripe가 바닥날 때마다 재분배 (재분배 간격이 지나 있어야 하므로 첫 재분배 뒤로는 간격을 기다림)
+        int decremented = 0;
+        while (stripeSeats(trainId).stream().noneMatch(seats -> seats == 0)) {
+            assertThat(trainService.decrementAvailableSeats(trainId)).isTrue();
+            decremented++;
+        }
+        Thread.sleep(1_100);
+        assertThat(trainService.decrementAvailableSeats(trainId)).isTrue();
+        decremented++;
+
+        // Then - 바닥난 stripe도 다시 채워지고 stripe 간 차이는 1석 이하
+        List<Integer> stripes = stripeSeats(trainId);
+        assertThat(stripes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(40 - decremented);
+        assertThat(Collections.max(stripes) - Collections.min(stripes)).isLessThanOrEqualTo(1);
+        assertThat(stripes).doesNotContain(0);
+    }
+
+    @Test
+    @DisplayName("분할 카운터 사용 해제 후에는 stripe 합계가 열차 행으로 돌아가 한 행으로 계속 증감")
+    void striped_Disable_FoldsBack() throws Exception {
+        // Given
+        Long trainId = saveTrain(1_000);
+        trainService.enableSeatStripes(trainId, 4);
+        run(300, i -> trainService.decrementAvailableSeats(trainId));
+
+        // When
+        trainService.disableSeatStripes(trainId);
+        run(200, i -> trainService.decrementAvailableSeats(trainId));
+
+        // Then
+        assertThat(trainSeatStripeRepository.findAll()).isEmpty();
+        Train train = trainRepository.findById(trainId).orElseThrow();
+        assertThat(train.getSeatStripes()).isZero();
+        assertThat(train.getAvailableSeats()).isEqualTo(500);
+    }
+
+    private void run(int events, EventHandler handler) throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = next.getAndIncrement(); i < events; i = next.getAndIncrement()) {
+                    handleWithRetry(handler, i);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+    }
+
+    // stripe 경합으로 롤백된 이벤트는 다시 처리 (운영에서는 SeatDeltaBuffer가 nack 해 다시 배달됨)
+    private void handleWithRetry(EventHandler handler, int event) {
+        while (true) {
+            try {
+                handler.handle(event);
+                return;
+            } catch (ConcurrencyFailureException e) {
+                // 롤백되었으므로 다시 처리
+            }
+        }
+    }
+
+    private List<Integer> stripeSeats(Long trainId) {
+        return trainSeatStripeRepository.findAvailableSeatsByTrainId(trainId);
+    }
+
+    private Long saveTrain(int availableSeats) {
+        LocalDateTime now = LocalDateTime.now();
+        return trainRepository.save(Train.builder()
+                .name("KTX-101")
+                .price(50000)
+                .departureStation("서울")
+                .arrivalStation("부산")
+                .departureTime(now)
+                .arrivalTime(now.plusHours(3))
+                .availableSeats(availableSeats)
+                .build()).getId();
+    }
+
+    @FunctionalInterface
+    private interface EventHandler {
+        void handle(int event);
+    }
+}
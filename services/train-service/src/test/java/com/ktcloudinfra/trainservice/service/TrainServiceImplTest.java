@@ -1,23 +1,36 @@
 package com.ktcloudinfra.trainservice.service;
 
+import com.ktcloudinfra.trainservice.config.RabbitMQConfig;
+import com.ktcloudinfra.trainservice.dto.event.TrainUpdatedEvent;
+import com.ktcloudinfra.trainservice.dto.request.TrainUpdateRequestDTO;
 import com.ktcloudinfra.trainservice.entity.Train;
+import com.ktcloudinfra.trainservice.entity.TrainSeatStripe;
 import com.ktcloudinfra.trainservice.global.exception.ApiException;
 import com.ktcloudinfra.trainservice.repository.TrainRepository;
+import com.ktcloudinfra.trainservice.repository.TrainSeatStripeRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +39,12 @@ class TrainServiceImplTest {
     @Mock
     private TrainRepository trainRepository;
 
+    @Mock
+    private TrainSeatStripeRepository trainSeatStripeRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
     @InjectMocks
     private TrainServiceImpl trainService;
 
@@ -82,6 +101,118 @@ class TrainServiceImplTest {
                 .hasMessage("열차가 존재하지 않습니다.");
     }
 
+    @Test
+    @DisplayName("열차 ID 목록으로 일괄 조회 성공")
+    void getTrains_Success() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> trainIds = List.of(1L, 2L);
+        Train train1 = createTrain(1L, "KTX-101", 50000, 100, now);
+        Train train2 = createTrain(2L, "KTX-102", 45000, 80, now);
+
+        when(trainRepository.findAllById(trainIds)).thenReturn(Arrays.asList(train1, train2));
+
+        // When
+        List<Train> trains = trainService.getTrains(trainIds);
+
+        // Then
+        assertThat(trains).extracting(Train::getName).containsExactly("KTX-101", "KTX-102");
+        verify(trainRepository).findAllById(trainIds);
+    }
+
+    @Test
+    @DisplayName("열차 ID 목록이 비어 있으면 조회하지 않음")
+    void getTrains_EmptyIds() {
+        // When
+        List<Train> trains = trainService.getTrains(List.of());
+
+        // Then
+        assertThat(trains).isEmpty();
+        verify(trainRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("열차 정보 수정 성공 - 변경 이벤트 발행")
+    void updateTrain_Success() {
+        // Given
+        Long trainId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+        Train train = createTrain(trainId, "KTX-101", 50000, 100, now);
+        TrainUpdateRequestDTO request = new TrainUpdateRequestDTO();
+        ReflectionTestUtils.setField(request, "name", "KTX-101");
+        ReflectionTestUtils.setField(request, "price", 52000);
+        ReflectionTestUtils.setField(request, "departureStation", "서울");
+        ReflectionTestUtils.setField(request, "arrivalStation", "부산");
+        ReflectionTestUtils.setField(request, "departureTime", now.plusMinutes(10));
+        ReflectionTestUtils.setField(request, "arrivalTime", now.plusHours(3));
+
+        when(trainRepository.findById(trainId)).thenReturn(Optional.of(train));
+
+        // When
+        Train updated = trainService.updateTrain(trainId, request);
+
+        // Then
+        assertThat(updated.getPrice()).isEqualTo(52000);
+        assertThat(updated.getDepartureTime()).isEqualTo(now.plusMinutes(10));
+        assertThat(updated.getAvailableSeats()).isEqualTo(100);
+
+        ArgumentCaptor<TrainUpdatedEvent> captor = ArgumentCaptor.forClass(TrainUpdatedEvent.class);
+        verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.TRAIN_EXCHANGE), eq("train.updated"), captor.capture());
+        assertThat(captor.getValue().getTrainId()).isEqualTo(trainId);
+        assertThat(captor.getValue().getPrice()).isEqualTo(52000);
+    }
+
+    @Test
+    @DisplayName("열차 정보 수정 - 트랜잭션 안에서는 커밋된 뒤에만 변경 이벤트 발행")
+    void updateTrain_PublishesAfterCommit() {
+        // Given
+        when(trainRepository.findById(1L)).thenReturn(Optional.of(createTrain(1L, "KTX-101", 50000, 100, LocalDateTime.now())));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            trainService.updateTrain(1L, new TrainUpdateRequestDTO());
+
+            // Then - 커밋 전에는 발행하지 않음
+            verifyNoInteractions(rabbitTemplate);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.TRAIN_EXCHANGE), eq("train.updated"), any(TrainUpdatedEvent.class));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("열차 정보 수정 - 롤백되면 변경 이벤트를 발행하지 않음")
+    void updateTrain_RolledBack_NotPublished() {
+        // Given
+        when(trainRepository.findById(1L)).thenReturn(Optional.of(createTrain(1L, "KTX-101", 50000, 100, LocalDateTime.now())));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            trainService.updateTrain(1L, new TrainUpdateRequestDTO());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            verifyNoInteractions(rabbitTemplate);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("열차 정보 수정 실패 - 열차 없음")
+    void updateTrain_Fail_TrainNotFound() {
+        // Given
+        when(trainRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> trainService.updateTrain(999L, new TrainUpdateRequestDTO()))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("열차가 존재하지 않습니다.");
+        verifyNoInteractions(rabbitTemplate);
+    }
+
     @Test
     @DisplayName("가용 좌석 수 업데이트 성공")
     void updateAvailableSeats_Success() {
@@ -114,21 +245,34 @@ class TrainServiceImplTest {
     }
 
     @Test
-    @DisplayName("가용 좌석 수 감소 성공")
+    @DisplayName("가용 좌석 수 감소 성공 - 조회 없이 조건부 UPDATE 한 번")
     void decrementAvailableSeats_Success() {
         // Given
         Long trainId = 1L;
-        LocalDateTime now = LocalDateTime.now();
-        Train train = createTrain(trainId, "KTX-101", 50000, 100, now);
+        when(trainRepository.decrementAvailableSeats(trainId, 1)).thenReturn(1);
 
-        when(trainRepository.findById(trainId)).thenReturn(Optional.of(train));
+        // When
+        boolean decremented = trainService.decrementAvailableSeats(trainId);
+
+        // Then
+        assertThat(decremented).isTrue();
+        verify(trainRepository, never()).findById(any());
+        verify(trainRepository, never()).findSeatStripesById(any());
+    }
+
+    @Test
+    @DisplayName("가용 좌석 수 감소 - 잔여 좌석이 없으면 감소하지 않고 false")
+    void decrementAvailableSeats_SoldOut() {
+        // Given
+        Long trainId = 1L;
+        when(trainRepository.decrementAvailableSeats(trainId, 1)).thenReturn(0);
+        when(trainRepository.findSeatStripesById(trainId)).thenReturn(Optional.of(0));
 
         // When
-        trainService.decrementAvailableSeats(trainId);
+        boolean decremented = trainService.decrementAvailableSeats(trainId);
 
         // Then
-        assertThat(train.getAvailableSeats()).isEqualTo(99);
-        verify(trainRepository).findById(trainId);
+        assertThat(decremented).isFalse();
     }
 
     @Test
@@ -136,7 +280,8 @@ class TrainServiceImplTest {
     void decrementAvailableSeats_Fail_TrainNotFound() {
         // Given
         Long trainId = 999L;
-        when(trainRepository.findById(trainId)).thenReturn(Optional.empty());
+        when(trainRepository.decrementAvailableSeats(trainId, 1)).thenReturn(0);
+        when(trainRepository.findSeatStripesById(trainId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> trainService.decrementAvailableSeats(trainId))
@@ -144,22 +289,71 @@ class TrainServiceImplTest {
                 .hasMessage("열차가 존재하지 않습니다.");
     }
 
+    @Test
+    @DisplayName("가용 좌석 수 일괄 감소 성공")
+    void decrementAvailableSeats_Count_Success() {
+        // Given
+        Long trainId = 1L;
+        when(trainRepository.decrementAvailableSeats(trainId, 3)).thenReturn(1);
+
+        // When
+        boolean decremented = trainService.decrementAvailableSeats(trainId, 3);
+
+        // Then
+        assertThat(decremented).isTrue();
+        verify(trainRepository).decrementAvailableSeats(trainId, 3);
+    }
+
+    @Test
+    @DisplayName("가용 좌석 수 일괄 감소 - 잔여 좌석이 요청 수보다 적으면 감소하지 않음")
+    void decrementAvailableSeats_Count_SoldOut() {
+        // Given
+        when(trainRepository.decrementAvailableSeats(1L, 3)).thenReturn(0);
+        when(trainRepository.findSeatStripesById(1L)).thenReturn(Optional.of(0));
+
+        // When & Then
+        assertThat(trainService.decrementAvailableSeats(1L, 3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("가용 좌석 수 일괄 감소 실패 - 열차 없음")
+    void decrementAvailableSeats_Count_Fail_TrainNotFound() {
+        // Given
+        when(trainRepository.decrementAvailableSeats(999L, 3)).thenReturn(0);
+        when(trainRepository.findSeatStripesById(999L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> trainService.decrementAvailableSeats(999L, 3))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("열차가 존재하지 않습니다.");
+    }
+
     @Test
     @DisplayName("가용 좌석 수 증가 성공")
     void incrementAvailableSeats_Success() {
         // Given
         Long trainId = 1L;
-        LocalDateTime now = LocalDateTime.now();
-        Train train = createTrain(trainId, "KTX-101", 50000, 50, now);
-
-        when(trainRepository.findById(trainId)).thenReturn(Optional.of(train));
+        when(trainRepository.incrementAvailableSeats(trainId, 1)).thenReturn(1);
 
         // When
         trainService.incrementAvailableSeats(trainId);
 
         // Then
-        assertThat(train.getAvailableSeats()).isEqualTo(51);
-        verify(trainRepository).findById(trainId);
+        verify(trainRepository).incrementAvailableSeats(trainId, 1);
+        verify(trainRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("가용 좌석 수 일괄 증가 성공")
+    void incrementAvailableSeats_Count_Success() {
+        // Given
+        when(trainRepository.incrementAvailableSeats(1L, 5)).thenReturn(1);
+
+        // When
+        trainService.incrementAvailableSeats(1L, 5);
+
+        // Then
+        verify(trainRepository).incrementAvailableSeats(1L, 5);
     }
 
     @Test
@@ -167,7 +361,8 @@ class TrainServiceImplTest {
     void incrementAvailableSeats_Fail_TrainNotFound() {
         // Given
         Long trainId = 999L;
-        when(trainRepository.findById(trainId)).thenReturn(Optional.empty());
+        when(trainRepository.incrementAvailableSeats(trainId, 1)).thenReturn(0);
+        when(trainRepository.findSeatStripesById(trainId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> trainService.incrementAvailableSeats(trainId))
@@ -176,27 +371,346 @@ class TrainServiceImplTest {
     }
 
     @Test
-    @DisplayName("여러 번 좌석 증감 테스트")
+    @DisplayName("여러 번 좌석 증감 - 이벤트마다 UPDATE 한 문장")
     void multipleIncrementAndDecrement() {
         // Given
         Long trainId = 1L;
-        LocalDateTime now = LocalDateTime.now();
-        Train train = createTrain(trainId, "KTX-101", 50000, 100, now);
-
-        when(trainRepository.findById(trainId)).thenReturn(Optional.of(train));
+        when(trainRepository.decrementAvailableSeats(trainId, 1)).thenReturn(1);
+        when(trainRepository.incrementAvailableSeats(trainId, 1)).thenReturn(1);
 
-        // When - 2번 감소
+        // When - 2번 감소, 1번 증가
         trainService.decrementAvailableSeats(trainId);
         trainService.decrementAvailableSeats(trainId);
+        trainService.incrementAvailableSeats(trainId);
 
         // Then
-        assertThat(train.getAvailableSeats()).isEqualTo(98);
+        verify(trainRepository, times(2)).decrementAvailableSeats(trainId, 1);
+        verify(trainRepository).incrementAvailableSeats(trainId, 1);
+        verifyNoMoreInteractions(trainRepository);
+    }
 
-        // When - 1번 증가
-        trainService.incrementAvailableSeats(trainId);
+    @Test
+    @DisplayName("분할 카운터 열차 - 한 행 갱신이 빗나가면 stripe 수를 다시 읽고, 이후에는 바로 stripe 갱신")
+    void decrementAvailableSeats_Striped() {
+        // Given
+        when(trainRepository.decrementAvailableSeats(1L, 1)).thenReturn(0);
+        when(trainRepository.findSeatStripesById(1L)).thenReturn(Optional.of(4));
+        when(trainSeatStripeRepository.findAvailableSeatsByTrainId(1L)).thenReturn(List.of(5, 5, 5, 5));
+        when(trainSeatStripeRepository.decrementAvailableSeats(eq(1L), anyInt(), eq(1))).thenReturn(1);
+
+        // When
+        boolean first = trainService.decrementAvailableSeats(1L);
+        boolean second = trainService.decrementAvailableSeats(1L);
+
+        // Then - stripe 한 행씩, 전체 잠금 없음
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(trainRepository, times(1)).decrementAvailableSeats(1L, 1);
+        verify(trainRepository, times(1)).findSeatStripesById(1L);
+        verify(trainSeatStripeRepository, times(2)).decrementAvailableSeats(eq(1L), anyInt(), eq(1));
+        verify(trainSeatStripeRepository, never()).findAllByTrainIdForUpdate(any());
+    }
+
+    @Test
+    @DisplayName("분할 카운터 열차 - 한 stripe로 모자라면 잠그지 않고 여러 stripe에 나눠 stripe 순서로 감소")
+    void decrementAvailableSeats_Striped_Split() {
+        // Given - 직전에 재분배한 열차
+        givenStriped(1L, 4);
+        givenRebalancedAt(1L, System.nanoTime());
+        when(trainSeatStripeRepository.findAvailableSeatsByTrainId(1L)).thenReturn(List.of(2, 0, 3, 1));
+        when(trainSeatStripeRepository.decrementAvailableSeats(eq(1L), anyInt(), anyInt())).thenReturn(1);
+
+        // When
+        boolean decremented = trainService.decrementAvailableSeats(1L, 5);
+
+        // Then - 어느 stripe부터 가져왔든 합계 5석, stripe마다 가진 만큼만, stripe 순서로
+        assertThat(decremented).isTrue();
+        ArgumentCaptor<Integer> stripe = ArgumentCaptor.forClass(Integer.class);
+        ArgumentCaptor<Integer> count = ArgumentCaptor.forClass(Integer.class);
+        verify(trainSeatStripeRepository, atLeast(2)).decrementAvailableSeats(eq(1L), stripe.capture(), count.capture());
+        assertThat(stripe.getAllValues()).isSorted().doesNotHaveDuplicates().doesNotContain(1);
+        assertThat(count.getAllValues().stream().mapToInt(Integer::intValue).sum()).isEqualTo(5);
+        verify(trainSeatStripeRepository, never()).findAllByTrainIdForUpdate(any());
+    }
+
+    @Test
+    @DisplayName("분할 카운터 열차 - 고른 stripe를 그 사이 다른 요청이 가져가면 뒤 stripe의 여유분에서 감소")
+    void decrementAvailableSeats_Striped_Contention_CarriesForward() {
+        // Given - 0번 stripe는 읽은 뒤 바닥남 (직전에 재분배한 열차)
+        givenStriped(1L, 2);
+        givenRebalancedAt(1L, System.nanoTime());
+        when(trainSeatStripeRepository.findAvailableSeatsByTrainId(1L)).thenReturn(List.of(1, 1));
+        lenient().when(trainSeatStripeRepository.decrementAvailableSeats(1L, 0, 1)).thenReturn(0);
+        when(trainSeatStripeRepository.decrementAvailableSeats(1L, 1, 1)).thenReturn(1);
+
+        // When & Then
+        assertThat(trainService.decrementAvailableSeats(1L)).isTrue();
+        verify(trainSeatStripeRepository).decrementAvailableSeats(1L, 1, 1);
+        verify(trainSeatStripeRepository, never()).findAllByTrainIdForUpdate(any());
+    }
+
+    @Test
+    @DisplayName("분할 카운터 열차 - 뒤 stripe에도 여유가 없으면 모든 stripe를 잠그지 않고 재시도하도록 예외")
+    void decrementAvailableSeats_Striped_Contention() {
+        // Given - 읽은 값으로는 0번 stripe만 남았는데 그 사이 바닥남 (직전에 재분배한 열차)
+        givenStriped(1L, 4);
+        givenRebalancedAt(1L, System.nanoTime());
+        when(trainSeatStripeRepository.findAvailableSeatsByTrainId(1L)).thenReturn(List.of(1, 0, 0, 0));
+        when(trainSeatStripeRepository.decrementAvailableSeats(1L, 0, 1)).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> trainService.decrementAvailableSeats(1L))
+                .isInstanceOf(ConcurrencyFailureException.class);
+        verify(trainSeatStripeRepository, times(1)).decrementAvailableSeats(any(), anyInt(), anyInt());
+        verify(trainSeatStripeRepository, never()).findAllByTrainIdForUpdate(any());
+    }
+
+    @Test
+    @DisplayName("분할 카운터 열차 - 여러 stripe에 나눠야 하고 재분배할 때가 되면 먼저 전체를 잠그고 남은 좌석을 고르게 재분배")
+    void decrementAvailableSeats_Striped_Rebalance() {
+        // Given
+        givenStriped(1L, 4);
+        when(trainSeatStripeRepository.findAvailableSeatsByTrainId(1L)).thenReturn(List.of(0, 1, 1, 0));
+        List<TrainSeatStripe> stripes = stripes(1L, 0, 1, 5, 0);
+        when(trainSeatStripeRepository.findAllByTrainIdForUpdate(1L)).thenReturn(stripes);
+
+        // When
+        boolean decremented = trainService.decrementAvailableSeats(1L, 2);
+
+        // Then - 6석에서 2석 감소, 4석을 1석씩 (stripe별 UPDATE 없음)
+        assertThat(decremented).isTrue();
+        assertThat(stripes).extracting(TrainSeatStripe::getAvailableSeats).containsExactly(1, 1, 1, 1);
+        verify(trainSeatStripeRepository, never()).decrementAvailableSeats(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("분할 카운터 열차 - 한 석 감소라도 빈 stripe가 있으면 재분배할 때 전체를 잠그고 빈 stripe까지 고르게 채움")
+    void decrementAvailableSeats_Striped_SingleSeat_RebalancesEmptyStripe() {
+        // Given - 1번 stripe가 바닥나 한 석 감소가 이웃 stripe로 몰리는 중
+        givenStriped(1L, 4);
+        when(trainSeatStripeRepository.findAvailableSeatsByTrainId(1L)).thenReturn(List.of(1, 0, 4, 5));
+        List<TrainSeatStripe> stripes = stripes(1L, 1, 0, 4, 5);
+        when(trainSeatStripeRepository.findAllByTrainIdForUpdate(1L)).thenReturn(stripes);
+
+        // When
+        boolean decremented = trainService.decrementAvailableSeats(1L);
+
+        // Then - 10석에서 1석 감소, 9석을 3/2/2/2로
+        assertThat(decremented).isTrue();
+        assertThat(stripes).extracting(TrainSeatStripe::getAvailableSeats).containsExactly(3, 2, 2, 2);
+        verify(trainSeatStripeRepository, never()).decrementAvailableSeats(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("분할 카운터 열차 - 빈 stripe가 있어도 재분배한 지 얼마 안 됐으면 잠그지 않고 한 stripe만 감소")
+    void decrementAvailableSeats_Striped_SingleSeat_RebalanceNotDue() {
+        // Given
+        givenStriped(1L, 4);
+        givenRebalancedAt(1L, System.nanoTime());
+        when(trainSeatStripeRepository.findAvailableSeatsByTrainId(1L)).thenReturn(List.of(0, 5, 5, 5));
+        when(trainSeatStripeRepository.decrementAvailableSeats(eq(1L), anyInt(), eq(1))).thenReturn(1);
+
+        // When & Then
+        assertThat(trainService.decrementAvailableSeats(1L)).isTrue();
+        verify(trainSeatStripeRepository, times(1)).decrementAvailableSeats(eq(1L), intThat(stripe -> stripe > 0), eq(1));
+        verify(trainSeatStripeRepository, never()).findAllByTrainIdForUpdate(any());
+    }
+
+    @Test
+    @DisplayName("분할 카운터 열차 - 읽은 합계가 요청 수보다 적으면 전체를 잠가 확인하고 모자라면 감소하지 않고 false")
+    void decrementAvailableSeats_Striped_SoldOut() {
+        // Given
+        givenStriped(1L, 4);
+        when(trainSeatStripeRepository.findAvailableSeatsByTrainId(1L)).thenReturn(List.of(0, 1, 0, 0));
+        List<TrainSeatStripe> stripes = stripes(1L, 0, 1, 0, 0);
+        when(trainSeatStripeRepository.findAllByTrainIdForUpdate(1L)).thenReturn(stripes);
+        when(trainRepository.findSeatStripesById(1L)).thenReturn(Optional.of(4));
+
+        // When
+        boolean decremented = trainService.decrementAvailableSeats(1L, 2);
+
+        // Then
+        assertThat(decremented).isFalse();
+        assertThat(stripes).extracting(TrainSeatStripe::getAvailableSeats).containsExactly(0, 1, 0, 0);
+        verify(trainSeatStripeRepository, never()).decrementAvailableSeats(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("분할 카운터 열차 - 읽은 값이 오래되어 잠근 뒤 현재 값으로는 충분하면 stripe 순서로 감소")
+    void decrementAvailableSeats_Striped_LockedTakes() {
+        // Given
+        givenStriped(1L, 4);
+        when(trainSeatStripeRepository.findAvailableSeatsByTrainId(1L)).thenReturn(List.of(0, 1, 0, 0));
+        List<TrainSeatStripe> stripes = stripes(1L, 0, 1, 3, 0);
+        when(trainSeatStripeRepository.findAllByTrainIdForUpdate(1L)).thenReturn(stripes);
+
+        // When
+        boolean decremented = trainService.decrementAvailableSeats(1L, 2);
+
+        // Then
+        assertThat(decremented).isTrue();
+        assertThat(stripes).extracting(TrainSeatStripe::getAvailableSeats).containsExactly(0, 0, 2, 0);
+    }
+
+    @Test
+    @DisplayName("분할 카운터를 해제한 열차 - stripe가 없으면 한 행 갱신으로 돌아감")
+    void decrementAvailableSeats_StripesDisabled() {
+        // Given
+        givenStriped(1L, 4);
+        when(trainSeatStripeRepository.findAvailableSeatsByTrainId(1L)).thenReturn(List.of());
+        when(trainRepository.findSeatStripesById(1L)).thenReturn(Optional.of(0));
+        when(trainRepository.decrementAvailableSeats(1L, 1)).thenReturn(1);
+
+        // When & Then
+        assertThat(trainService.decrementAvailableSeats(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("분할 카운터 열차 - 증가는 무작위로 고른 stripe 한 행에 반영")
+    void incrementAvailableSeats_Striped() {
+        // Given
+        givenStriped(1L, 4);
+        when(trainSeatStripeRepository.incrementAvailableSeats(eq(1L), anyInt(), eq(3))).thenReturn(1);
+
+        // When
+        trainService.incrementAvailableSeats(1L, 3);
 
         // Then
-        assertThat(train.getAvailableSeats()).isEqualTo(99);
+        verify(trainSeatStripeRepository).incrementAvailableSeats(eq(1L), anyInt(), eq(3));
+        verify(trainRepository, never()).incrementAvailableSeats(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("분할 카운터 전환과 겹쳐 증가가 반영되지 않으면 재시도하도록 예외")
+    void incrementAvailableSeats_Striped_Conflict() {
+        // Given
+        when(trainRepository.incrementAvailableSeats(1L, 1)).thenReturn(0);
+        when(trainRepository.findSeatStripesById(1L)).thenReturn(Optional.of(4));
+        when(trainSeatStripeRepository.incrementAvailableSeats(eq(1L), anyInt(), eq(1))).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> trainService.incrementAvailableSeats(1L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("분할 카운터 사용 설정 - 잔여 좌석을 stripe 행에 고르게 나누고 열차 행은 0")
+    void enableSeatStripes_Success() {
+        // Given
+        Train train = createTrain(1L, "KTX-101", 50000, 10, LocalDateTime.now());
+        when(trainRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(train));
+
+        // When
+        trainService.enableSeatStripes(1L, 4);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TrainSeatStripe>> captor = ArgumentCaptor.forClass(List.class);
+        verify(trainSeatStripeRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(TrainSeatStripe::getStripe).containsExactly(0, 1, 2, 3);
+        assertThat(captor.getValue()).extracting(TrainSeatStripe::getAvailableSeats).containsExactly(3, 3, 2, 2);
+        assertThat(train.getSeatStripes()).isEqualTo(4);
+        assertThat(train.getAvailableSeats()).isZero();
+
+        // 이후 증감은 바로 stripe 갱신
+        when(trainSeatStripeRepository.findAvailableSeatsByTrainId(1L)).thenReturn(List.of(3, 3, 2, 2));
+        when(trainSeatStripeRepository.decrementAvailableSeats(eq(1L), anyInt(), eq(1))).thenReturn(1);
+        assertThat(trainService.decrementAvailableSeats(1L)).isTrue();
+        verify(trainRepository, never()).decrementAvailableSeats(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("분할 카운터 사용 설정 실패 - stripe 수 범위 밖, 열차 없음, 이미 사용 중")
+    void enableSeatStripes_Fail() {
+        // Given
+        Train striped = createTrain(2L, "KTX-102", 50000, 0, LocalDateTime.now());
+        striped.enableSeatStripes(4);
+        when(trainRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
+        when(trainRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(striped));
+
+        // When & Then
+        assertThatThrownBy(() -> trainService.enableSeatStripes(1L, 1))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("분할 카운터 수는 2~64 사이여야 합니다.");
+        assertThatThrownBy(() -> trainService.enableSeatStripes(1L, 65))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> trainService.enableSeatStripes(999L, 4))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("열차가 존재하지 않습니다.");
+        assertThatThrownBy(() -> trainService.enableSeatStripes(2L, 4))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("이미 분할 카운터를 사용하는 열차입니다.");
+        verify(trainSeatStripeRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("분할 카운터 사용 해제 - stripe 합계를 열차 행으로 되돌리고 stripe 삭제")
+    void disableSeatStripes_Success() {
+        // Given
+        Train train = createTrain(1L, "KTX-101", 50000, 0, LocalDateTime.now());
+        train.enableSeatStripes(4);
+        when(trainRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(train));
+        when(trainSeatStripeRepository.findAllByTrainIdForUpdate(1L)).thenReturn(stripes(1L, 3, 0, 2, 2));
+
+        // When
+        trainService.disableSeatStripes(1L);
+
+        // Then
+        verify(trainSeatStripeRepository).deleteAllByTrainId(1L);
+        assertThat(train.getSeatStripes()).isZero();
+        assertThat(train.getAvailableSeats()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("분할 카운터 사용 해제 실패 - 열차 없음, 사용 중이 아님")
+    void disableSeatStripes_Fail() {
+        // Given
+        when(trainRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
+        when(trainRepository.findByIdForUpdate(1L))
+                .thenReturn(Optional.of(createTrain(1L, "KTX-101", 50000, 10, LocalDateTime.now())));
+
+        // When & Then
+        assertThatThrownBy(() -> trainService.disableSeatStripes(999L))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("열차가 존재하지 않습니다.");
+        assertThatThrownBy(() -> trainService.disableSeatStripes(1L))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("분할 카운터를 사용하지 않는 열차입니다.");
+        verify(trainSeatStripeRepository, never()).deleteAllByTrainId(any());
+    }
+
+    @Test
+    @DisplayName("분할 카운터 열차의 가용 좌석 수 업데이트 - stripe 행에 고르게 나눔")
+    void updateAvailableSeats_Striped() {
+        // Given
+        Train train = createTrain(1L, "KTX-101", 50000, 0, LocalDateTime.now());
+        train.enableSeatStripes(3);
+        List<TrainSeatStripe> stripes = stripes(1L, 0, 0, 0);
+        when(trainRepository.findById(1L)).thenReturn(Optional.of(train));
+        when(trainSeatStripeRepository.findAllByTrainIdForUpdate(1L)).thenReturn(stripes);
+
+        // When
+        trainService.updateAvailableSeats(1L, 80);
+
+        // Then
+        assertThat(stripes).extracting(TrainSeatStripe::getAvailableSeats).containsExactly(27, 27, 26);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRebalancedAt(Long trainId, long nanoTime) {
+        ((Map<Long, Long>) ReflectionTestUtils.getField(trainService, "rebalancedAt")).put(trainId, nanoTime);
+    }
+
+    // 분할 카운터 사용 중인 것을 이미 알고 있는 열차
+    @SuppressWarnings("unchecked")
+    private void givenStriped(Long trainId, int stripes) {
+        ((Map<Long, Integer>) ReflectionTestUtils.getField(trainService, "seatStripes")).put(trainId, stripes);
+    }
+
+    private List<TrainSeatStripe> stripes(Long trainId, int... availableSeats) {
+        return IntStream.range(0, availableSeats.length)
+                .mapToObj(stripe -> new TrainSeatStripe(trainId, stripe, availableSeats[stripe]))
+                .toList();
     }
 
     private Train createTrain(Long id, String name, int price, int availableSeats, LocalDateTime time) {
@@ -6,6 +6,7 @@ import com.ktcloudinfra.userservice.entity.User;
 import com.ktcloudinfra.userservice.repository.UserRepository;
 import com.ktcloudinfra.userservice.global.exception.ApiException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,7 +32,12 @@ public class UserServiceImpl implements UserService{
                 .email(request.getEmail())
                 .build();
 
-        userRepository.save(user);
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자명으로 동시에 가입: uk_users_username 위반
+            throw new ApiException("이미 존재하는 사용자입니다.");
+        }
     }
 
     @Override
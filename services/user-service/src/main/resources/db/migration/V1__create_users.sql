@@ -0,0 +1,9 @@
+-- 초기 스키마 (ddl-auto: update로 만들어지던 스키마와 동일)
+CREATE TABLE users (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    name     VARCHAR(255) NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,2 @@
+-- 로그인/가입 중복 확인(findByUsername)이 전체 스캔하지 않도록 하고, 동시 가입으로 같은 사용자명이 생기는 것을 막음
+ALTER TABLE users ADD CONSTRAINT uk_users_username UNIQUE (username);
@@ -6,11 +6,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -22,6 +25,9 @@ class UserRepositoryTest {
     @Autowired
     private TestEntityManager entityManager;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("사용자명으로 사용자 조회 - 성공")
     void findByUsername_Success() {
@@ -104,4 +110,31 @@ class UserRepositoryTest {
         assertThat(users).extracting(User::getUsername)
                 .containsExactlyInAnyOrder("user1", "user2");
     }
+
+    @Test
+    @DisplayName("같은 사용자명은 저장 불가 (uk_users_username)")
+    void username_Unique() {
+        // Given
+        userRepository.saveAndFlush(User.builder()
+                .username("dup").password("p").name("사용자").email("a@example.com").build());
+
+        // When & Then
+        assertThatThrownBy(() -> userRepository.saveAndFlush(User.builder()
+                .username("dup").password("p").name("사용자").email("b@example.com").build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("실행 계획 - 사용자명 조회는 유니크 인덱스 사용")
+    void findByUsername_UsesIndex() {
+        // When
+        String plan = explain("SELECT * FROM users WHERE username = 'testuser'");
+
+        // Then
+        assertThat(plan).contains("UK_USERS_USERNAME").doesNotContain("tableScan");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
 }
@@ -14,6 +14,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
@@ -95,6 +96,26 @@ class UserServiceImplTest {
         verify(userRepository, never()).save(any(User.class));
     }
 
+    @Test
+    @DisplayName("회원가입 실패 - 같은 사용자명으로 동시에 가입 (유니크 제약 위반)")
+    void signUp_Fail_ConcurrentDuplicate() {
+        // Given
+        CreateUserRequestDTO request = new CreateUserRequestDTO();
+        ReflectionTestUtils.setField(request, "username", "testuser");
+        ReflectionTestUtils.setField(request, "password", "password123");
+        ReflectionTestUtils.setField(request, "name", "홍길동");
+        ReflectionTestUtils.setField(request, "email", "test@example.com");
+
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.empty());
+        when(userRepository.save(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_users_username"));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.signUp(request))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("이미 존재하는 사용자입니다.");
+    }
+
     @Test
     @DisplayName("로그인 성공")
     void login_Success() {